@@ -0,0 +1,118 @@
+package com.activityforecastbackend.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거리 계산 벤치마크: 기존 BigDecimal 구현(LegacyDistanceCalculator로 고정)과 primitive/일괄 API 비교
+ * 한 기준점에서 서울 일대 N개 좌표까지의 거리 계산 및 반경 선별 비용을 측정합니다.
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DistanceCalculatorBenchmark {
+
+    private static final double ORIGIN_LAT = 37.5665;
+    private static final double ORIGIN_LON = 126.9780;
+    private static final double RADIUS_METERS = 3_000;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private BigDecimal originLat;
+    private BigDecimal originLon;
+    private BigDecimal radiusKm;
+    private BigDecimal[] bigLatitudes;
+    private BigDecimal[] bigLongitudes;
+    private double[] latitudes;
+    private double[] longitudes;
+    private double[] distances;
+    private int[] indexes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        originLat = BigDecimal.valueOf(ORIGIN_LAT);
+        originLon = BigDecimal.valueOf(ORIGIN_LON);
+        radiusKm = BigDecimal.valueOf(RADIUS_METERS / 1000);
+        bigLatitudes = new BigDecimal[size];
+        bigLongitudes = new BigDecimal[size];
+        latitudes = new double[size];
+        longitudes = new double[size];
+        distances = new double[size];
+        indexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            latitudes[i] = ORIGIN_LAT + (random.nextDouble() - 0.5) * 0.2;
+            longitudes[i] = ORIGIN_LON + (random.nextDouble() - 0.5) * 0.25;
+            bigLatitudes[i] = BigDecimal.valueOf(latitudes[i]);
+            bigLongitudes[i] = BigDecimal.valueOf(longitudes[i]);
+        }
+    }
+
+    @Benchmark
+    public void legacyBigDecimalDistance(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(LegacyDistanceCalculator.calculateDistance(originLat, originLon, bigLatitudes[i], bigLongitudes[i]));
+        }
+    }
+
+    @Benchmark
+    public void primitiveDistance(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(DistanceCalculator.distanceMeters(ORIGIN_LAT, ORIGIN_LON, latitudes[i], longitudes[i]));
+        }
+    }
+
+    @Benchmark
+    public double[] batchDistance() {
+        DistanceCalculator.distancesMeters(ORIGIN_LAT, ORIGIN_LON, latitudes, longitudes, distances);
+        return distances;
+    }
+
+    @Benchmark
+    public int legacyBigDecimalRadiusFilter() {
+        int matched = 0;
+        for (int i = 0; i < size; i++) {
+            if (LegacyDistanceCalculator.isWithinRadius(originLat, originLon, bigLatitudes[i], bigLongitudes[i], radiusKm)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int primitiveHaversineRadiusFilter() {
+        int matched = 0;
+        for (int i = 0; i < size; i++) {
+            if (DistanceCalculator.distanceMeters(ORIGIN_LAT, ORIGIN_LON, latitudes[i], longitudes[i]) <= RADIUS_METERS) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int batchPrefilteredRadiusFilter() {
+        return DistanceCalculator.filterWithinRadius(ORIGIN_LAT, ORIGIN_LON, latitudes, longitudes, RADIUS_METERS, indexes);
+    }
+}
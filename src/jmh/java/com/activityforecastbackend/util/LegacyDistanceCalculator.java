@@ -0,0 +1,58 @@
+package com.activityforecastbackend.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 벤치마크 기준선용으로 고정해 둔 기존 DistanceCalculator 구현 (BigDecimal 입출력, atan2 하버사인)
+ * 운영 코드의 DistanceCalculator가 바뀌어도 비교 기준이 따라 바뀌지 않도록 수정하지 않습니다.
+ */
+final class LegacyDistanceCalculator {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    private LegacyDistanceCalculator() {
+    }
+
+    /**
+     * 두 지점 간의 거리 (km, 소수점 셋째 자리 반올림)
+     */
+    static BigDecimal calculateDistance(BigDecimal lat1, BigDecimal lon1, BigDecimal lat2, BigDecimal lon2) {
+        try {
+            double latitude1 = lat1.doubleValue();
+            double longitude1 = lon1.doubleValue();
+            double latitude2 = lat2.doubleValue();
+            double longitude2 = lon2.doubleValue();
+
+            double lat1Rad = Math.toRadians(latitude1);
+            double lon1Rad = Math.toRadians(longitude1);
+            double lat2Rad = Math.toRadians(latitude2);
+            double lon2Rad = Math.toRadians(longitude2);
+
+            double deltaLat = lat2Rad - lat1Rad;
+            double deltaLon = lon2Rad - lon1Rad;
+
+            double a = Math.sin(deltaLat / 2) * Math.sin(deltaLat / 2) +
+                      Math.cos(lat1Rad) * Math.cos(lat2Rad) *
+                      Math.sin(deltaLon / 2) * Math.sin(deltaLon / 2);
+
+            double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+            double distance = EARTH_RADIUS_KM * c;
+
+            return BigDecimal.valueOf(distance).setScale(3, RoundingMode.HALF_UP);
+
+        } catch (Exception e) {
+            return BigDecimal.ZERO;
+        }
+    }
+
+    /**
+     * 중심점에서 반경(km) 내에 있는지 확인
+     */
+    static boolean isWithinRadius(BigDecimal centerLat, BigDecimal centerLon,
+                                  BigDecimal pointLat, BigDecimal pointLon,
+                                  BigDecimal radiusKm) {
+        BigDecimal distance = calculateDistance(centerLat, centerLon, pointLat, pointLon);
+        return distance.compareTo(radiusKm) <= 0;
+    }
+}
@@ -0,0 +1,86 @@
+package com.activityforecastbackend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * 카카오 지하철역 병렬 검색용 스레드 풀
+     * 요청 하나가 검색어 5개를 동시에 제출하므로 기본 크기(20)는 동시 요청 4건을 대기 없이 처리합니다.
+     * 동시 호출 수를 제한하고, 대기열이 가득 차면 호출 스레드에서 직접 실행합니다.
+     */
+    @Bean("kakaoSearchExecutor")
+    public ThreadPoolTaskExecutor kakaoSearchExecutor(
+            @Value("${kakao.search.parallelism:20}") int parallelism,
+            @Value("${kakao.search.queue-capacity:100}") int queueCapacity) {
+        return kakaoExecutor("kakao-search-", parallelism, queueCapacity);
+    }
+
+    /**
+     * 카카오 장소 검색 다음 페이지 선요청 전용 스레드 풀
+     * 요청 처리용 풀과 분리하여 선요청이 지하철역 병렬 검색의 스레드/대기열을 차지하지 않도록 합니다.
+     * 검색 한 건당 선요청은 최대 1개이므로 풀 크기가 동시에 페이지를 넘기는 검색 수의 상한입니다.
+     */
+    @Bean("kakaoPrefetchExecutor")
+    public ThreadPoolTaskExecutor kakaoPrefetchExecutor(
+            @Value("${kakao.search.prefetch-parallelism:8}") int parallelism,
+            @Value("${kakao.search.prefetch-queue-capacity:32}") int queueCapacity) {
+        return kakaoExecutor("kakao-prefetch-", parallelism, queueCapacity);
+    }
+
+    private static ThreadPoolTaskExecutor kakaoExecutor(String threadNamePrefix, int parallelism, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 알림 저장/푸시 전용 스레드 풀 (커밋 후 비동기 처리)
+     * 대기열이 가득 차면 작업을 거절하며, NotificationDispatcher가 호출 스레드에서 직접 처리하여 요청 속도를 늦춥니다.
+     * 종료 시 대기 중인 알림을 최대 shutdown-timeout-seconds 동안 마저 처리합니다.
+     */
+    @Bean("notificationDispatchExecutor")
+    public ThreadPoolTaskExecutor notificationDispatchExecutor(
+            @Value("${notification.dispatch.workers:4}") int workers,
+            @Value("${notification.dispatch.queue-capacity:1000}") int queueCapacity,
+            @Value("${notification.dispatch.shutdown-timeout-seconds:10}") int shutdownTimeoutSeconds) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("notification-dispatch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(shutdownTimeoutSeconds);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * SSE 전송 전용 스레드 풀
+     * 연결마다 동시에 최대 하나의 전송 작업만 예약되므로 대기 작업 수는 연결 수를 넘지 않습니다.
+     */
+    @Bean("sseSendExecutor")
+    public ThreadPoolTaskExecutor sseSendExecutor(
+            @Value("${notification.sse.send-workers:8}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setThreadNamePrefix("sse-send-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
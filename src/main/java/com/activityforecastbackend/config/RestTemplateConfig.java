@@ -4,9 +4,13 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
 @Configuration
 public class RestTemplateConfig {
 
@@ -25,11 +29,18 @@ public class RestTemplateConfig {
         return restTemplate;
     }
 
+    /**
+     * 기본 요청 팩토리 (JDK HttpClient)
+     * 요청 스레드가 인터럽트되면 진행 중인 요청이 중단되므로, 카카오 병렬 검색에서 취소한 요청이 읽기 타임아웃까지 스레드를 붙잡지 않습니다.
+     */
     @Bean
     public ClientHttpRequestFactory clientHttpRequestFactory() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(5000);  // 연결 타임아웃 5초
-        factory.setReadTimeout(10000);    // 읽기 타임아웃 10초
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))  // 연결 타임아웃 5초
+                .build();
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(Duration.ofSeconds(10));  // 읽기 타임아웃 10초
         return factory;
     }
 
@@ -0,0 +1,76 @@
+package com.activityforecastbackend.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 활동 장소 공간 컬럼/인덱스 마이그레이션 (MySQL 전용, 멱등)
+ * Hibernate ddl-auto는 POINT SRID 컬럼과 SPATIAL INDEX를 만들지 못하므로 시작 시 직접 생성합니다.
+ * location_point는 위도/경도로부터 계산되는 STORED 생성 컬럼이라 기존 데이터가 즉시 채워지고(backfill),
+ * 이후 JPA의 INSERT/UPDATE에도 별도 매핑 없이 자동으로 유지됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpatialSchemaInitializer {
+
+    private static final String COLUMN_EXISTS_SQL =
+            "SELECT COUNT(*) FROM information_schema.COLUMNS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'activity_locations' AND COLUMN_NAME = 'location_point'";
+
+    private static final String INDEX_EXISTS_SQL =
+            "SELECT COUNT(*) FROM information_schema.STATISTICS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'activity_locations' " +
+            "AND INDEX_NAME = 'idx_activity_location_point'";
+
+    private static final String ADD_COLUMN_SQL =
+            "ALTER TABLE activity_locations ADD COLUMN location_point POINT SRID 4326 " +
+            "GENERATED ALWAYS AS (ST_SRID(POINT(longitude, latitude), 4326)) STORED NOT NULL";
+
+    private static final String ADD_INDEX_SQL =
+            "ALTER TABLE activity_locations ADD SPATIAL INDEX idx_activity_location_point (location_point)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${location.spatial-column.enabled:true}")
+    private boolean enabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            if (!"MySQL".equalsIgnoreCase(product)) {
+                log.info("공간 컬럼 마이그레이션 건너뜀 (DB: {}), 위도/경도 범위 검색을 사용합니다.", product);
+                return;
+            }
+
+            if (count(COLUMN_EXISTS_SQL) == 0) {
+                log.info("activity_locations.location_point 공간 컬럼 생성 및 기존 데이터 채우기 시작");
+                jdbcTemplate.execute(ADD_COLUMN_SQL);
+            }
+            if (count(INDEX_EXISTS_SQL) == 0) {
+                log.info("activity_locations 공간 인덱스(idx_activity_location_point) 생성 시작");
+                jdbcTemplate.execute(ADD_INDEX_SQL);
+            }
+            log.info("활동 장소 공간 컬럼/인덱스 준비 완료");
+        } catch (Exception e) {
+            // 실패해도 반경 검색은 위도/경도 범위 검색으로 동작함
+            log.warn("공간 컬럼 마이그레이션 실패: {}", e.getMessage());
+        }
+    }
+
+    private int count(String sql) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class);
+        return count != null ? count : 0;
+    }
+}
@@ -3,15 +3,24 @@ package com.activityforecastbackend.controller;
 import com.activityforecastbackend.dto.activity.ActivityCategoryDto;
 import com.activityforecastbackend.dto.activity.ActivityDto;
 import com.activityforecastbackend.dto.activity.ActivityLocationDto;
+import com.activityforecastbackend.service.ActivityCatalogResponseCache;
+import com.activityforecastbackend.service.ActivityCatalogSnapshot;
 import com.activityforecastbackend.service.ActivityService;
 import com.activityforecastbackend.service.ActivityLocationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -24,38 +33,64 @@ public class ActivityController {
 
     private final ActivityService activityService;
     private final ActivityLocationService activityLocationService;
+    private final ActivityCatalogResponseCache activityCatalogResponseCache;
+
+    // 카탈로그 API는 스냅샷 버전을 ETag로 사용 (If-None-Match 일치 시 304)
+    // 목록 본문은 버전별로 미리 직렬화된 JSON/gzip 바이트를 그대로 응답하며, ETag는 응답 인코딩별로 구분
 
     @GetMapping
     @Operation(summary = "모든 활동 조회", description = "시스템에 등록된 모든 활동을 조회합니다.")
-    public ResponseEntity<List<ActivityDto>> getAllActivities() {
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = ActivityDto.class))))
+    public ResponseEntity<byte[]> getAllActivities(WebRequest request) {
         log.info("Request to get all activities");
-        List<ActivityDto> activities = activityService.getAllActivities();
-        log.info("Retrieved {} activities", activities.size());
-        return ResponseEntity.ok(activities);
+        ActivityCatalogSnapshot snapshot = activityService.getCatalogSnapshot();
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (request.checkNotModified(ActivityCatalogResponseCache.etag(snapshot.getVersion(), acceptEncoding))) {
+            return null;
+        }
+        return activityCatalogResponseCache.get(snapshot, "activities", snapshot::getActivities)
+                .toResponse(acceptEncoding);
     }
 
     @GetMapping("/categories")
     @Operation(summary = "활동 카테고리별 조회", description = "활동을 카테고리별로 그룹화하여 조회합니다.")
-    public ResponseEntity<List<ActivityCategoryDto>> getActivitiesByCategories() {
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = ActivityCategoryDto.class))))
+    public ResponseEntity<byte[]> getActivitiesByCategories(WebRequest request) {
         log.info("Request to get activities by categories");
-        List<ActivityCategoryDto> categories = activityService.getActivitiesByCategories();
-        log.info("Retrieved {} categories with activities", categories.size());
-        return ResponseEntity.ok(categories);
+        ActivityCatalogSnapshot snapshot = activityService.getCatalogSnapshot();
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (request.checkNotModified(ActivityCatalogResponseCache.etag(snapshot.getVersion(), acceptEncoding))) {
+            return null;
+        }
+        return activityCatalogResponseCache.get(snapshot, "categories", snapshot::getCategories)
+                .toResponse(acceptEncoding);
     }
 
     @GetMapping("/category/{categoryId}")
     @Operation(summary = "특정 카테고리 활동 조회", description = "특정 카테고리에 속한 활동들을 조회합니다.")
-    public ResponseEntity<List<ActivityDto>> getActivitiesByCategory(@PathVariable Long categoryId) {
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = ActivityDto.class))))
+    public ResponseEntity<byte[]> getActivitiesByCategory(@PathVariable Long categoryId, WebRequest request) {
         log.info("Request to get activities for category: {}", categoryId);
-        List<ActivityDto> activities = activityService.getActivitiesByCategory(categoryId);
-        log.info("Retrieved {} activities for category: {}", activities.size(), categoryId);
-        return ResponseEntity.ok(activities);
+        ActivityCatalogSnapshot snapshot = activityService.getCatalogSnapshot();
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (request.checkNotModified(ActivityCatalogResponseCache.etag(snapshot.getVersion(), acceptEncoding))) {
+            return null;
+        }
+        return activityCatalogResponseCache.get(snapshot, "category:" + categoryId,
+                        () -> activityService.getActivitiesByCategory(snapshot, categoryId))
+                .toResponse(acceptEncoding);
     }
 
     @GetMapping("/{activityId}")
     @Operation(summary = "활동 상세 조회", description = "특정 활동의 상세 정보를 조회합니다.")
-    public ResponseEntity<ActivityDto> getActivity(@PathVariable Long activityId) {
+    public ResponseEntity<ActivityDto> getActivity(@PathVariable Long activityId, WebRequest request) {
         log.info("Request to get activity: {}", activityId);
+        if (request.checkNotModified(activityService.getCatalogSnapshot().getVersion())) {
+            return null;
+        }
         ActivityDto activity = activityService.getActivity(activityId);
         return ResponseEntity.ok(activity);
     }
@@ -1,12 +1,16 @@
 package com.activityforecastbackend.controller;
 
 import com.activityforecastbackend.dto.ApiResponse;
+import com.activityforecastbackend.dto.PageResponse;
 import com.activityforecastbackend.dto.activity.ActivityLocationCreateRequest;
 import com.activityforecastbackend.dto.activity.ActivityLocationDto;
 import com.activityforecastbackend.dto.activity.LocationSearchRequest;
 import com.activityforecastbackend.dto.activity.GeocodeRequest;
 import com.activityforecastbackend.dto.activity.CoordinateDto;
+import com.activityforecastbackend.dto.activity.GazetteerPlaceDto;
+import com.activityforecastbackend.dto.activity.NearbyLocationPageResponse;
 import com.activityforecastbackend.service.ActivityLocationService;
+import com.activityforecastbackend.service.GazetteerService;
 import com.activityforecastbackend.service.KakaoLocationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -30,6 +34,7 @@ public class ActivityLocationController {
 
     private final ActivityLocationService activityLocationService;
     private final KakaoLocationService kakaoLocationService;
+    private final GazetteerService gazetteerService;
 
     @Operation(summary = "모든 활동 장소 조회", description = "등록된 모든 활동 장소를 조회합니다.")
     @GetMapping
@@ -60,7 +65,7 @@ public class ActivityLocationController {
     }
 
 
-    @Operation(summary = "키워드로 장소 검색", description = "장소명이나 주소에 포함된 키워드로 활동 장소를 검색합니다.")
+    @Operation(summary = "키워드로 장소 검색", description = "장소명이나 주소에 포함된 키워드로 활동 장소를 관련도순으로 최대 100개 검색합니다. 전체 결과는 /search/text 페이지 조회를 사용하세요.")
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<List<ActivityLocationDto>>> searchLocationsByKeyword(
             @Parameter(description = "검색 키워드", example = "축구장")
@@ -76,6 +81,71 @@ public class ActivityLocationController {
         ));
     }
 
+    @Operation(summary = "장소 텍스트 검색 (관련도순 페이지)", description = "장소명과 주소를 n-gram 색인으로 검색하여 관련도순으로 페이지 단위 조회합니다. 공백은 무시됩니다.")
+    @GetMapping("/search/text")
+    public ResponseEntity<ApiResponse<PageResponse<ActivityLocationDto>>> searchLocationsByText(
+            @Parameter(description = "검색어", required = true, example = "올림픽공원")
+            @RequestParam String keyword,
+            @Parameter(description = "페이지 번호 (1부터)", example = "1")
+            @RequestParam(defaultValue = "1") int page,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("Request to search locations by text: {} (page={}, size={})", keyword, page, size);
+        
+        PageResponse<ActivityLocationDto> result = activityLocationService.searchLocationsByText(keyword, page, size);
+        
+        return ResponseEntity.ok(ApiResponse.success(
+            String.format("'%s' 검색 결과 총 %d개 중 %d개를 조회했습니다.", keyword, result.getTotalElements(), result.getItems().size()),
+            result
+        ));
+    }
+
+    @Operation(summary = "반경 내 활동 장소 조회", description = "중심 좌표에서 반경(km) 내에 등록된 활동 장소를 가까운 순으로 조회합니다.")
+    @GetMapping("/radius")
+    public ResponseEntity<ApiResponse<List<ActivityLocationDto>>> getLocationsWithinRadius(
+            @Parameter(description = "중심 위도", required = true, example = "37.5196")
+            @RequestParam BigDecimal latitude,
+            @Parameter(description = "중심 경도", required = true, example = "127.1281")
+            @RequestParam BigDecimal longitude,
+            @Parameter(description = "검색 반경 (km)", example = "3")
+            @RequestParam(defaultValue = "3") BigDecimal radiusKm) {
+        log.info("Request to get locations within {}km of ({}, {})", radiusKm, latitude, longitude);
+        
+        List<ActivityLocationDto> locations = activityLocationService.getLocationsWithinRadius(latitude, longitude, radiusKm);
+        
+        return ResponseEntity.ok(ApiResponse.success(
+            String.format("반경 %skm 내 활동 장소 %d개를 찾았습니다.", radiusKm.toPlainString(), locations.size()),
+            locations
+        ));
+    }
+
+    @Operation(summary = "주변 활동 장소 조회 (거리순 페이지)",
+            description = "중심 좌표에서 가까운 순으로 활동 장소를 조회합니다. 응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회합니다.")
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<NearbyLocationPageResponse>> getNearbyLocations(
+            @Parameter(description = "중심 위도", required = true, example = "37.5196")
+            @RequestParam BigDecimal latitude,
+            @Parameter(description = "중심 경도", required = true, example = "127.1281")
+            @RequestParam BigDecimal longitude,
+            @Parameter(description = "활동 ID (지정 시 해당 활동 장소만)", example = "25")
+            @RequestParam(required = false) Long activityId,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "최대 검색 반경 (km, 최대 50)", example = "20")
+            @RequestParam(defaultValue = "20") BigDecimal maxRadiusKm,
+            @Parameter(description = "이전 응답의 nextCursor")
+            @RequestParam(required = false) String cursor) {
+        log.info("Request to get nearby locations of ({}, {}), activityId={}, size={}", latitude, longitude, activityId, size);
+        
+        NearbyLocationPageResponse page = activityLocationService.getNearbyLocations(
+                latitude, longitude, activityId, size, maxRadiusKm, cursor);
+        
+        return ResponseEntity.ok(ApiResponse.success(
+            String.format("주변 활동 장소 %d개를 조회했습니다.", page.getItems().size()),
+            page
+        ));
+    }
+
     @Operation(summary = "새 활동 장소 등록", description = "새로운 활동 장소를 등록합니다.")
     @PostMapping
     public ResponseEntity<ApiResponse<ActivityLocationDto>> createLocation(
@@ -172,4 +242,19 @@ public class ActivityLocationController {
             coordinate
         ));
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "지하철역/랜드마크 자동완성", description = "오프라인 지명 사전(주요 역/랜드마크 선별 목록)에서 접두사로 시작하는 지하철역과 랜드마크를 조회합니다. 사전에 없는 지명은 결과에 포함되지 않습니다.")
+    @GetMapping("/gazetteer/suggest")
+    public ResponseEntity<ApiResponse<List<GazetteerPlaceDto>>> suggestGazetteerPlaces(
+            @Parameter(description = "검색 접두사", required = true, example = "강남")
+            @RequestParam String prefix,
+            @Parameter(description = "최대 결과 수", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        List<GazetteerPlaceDto> places = gazetteerService.suggest(prefix, Math.min(Math.max(limit, 1), 50));
+
+        return ResponseEntity.ok(ApiResponse.success(
+            String.format("'%s' 자동완성 결과 %d개를 찾았습니다.", prefix, places.size()),
+            places
+        ));
+    }
+}
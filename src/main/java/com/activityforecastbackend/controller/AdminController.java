@@ -0,0 +1,249 @@
+package com.activityforecastbackend.controller;
+
+import com.activityforecastbackend.dto.ApiResponse;
+import com.activityforecastbackend.dto.admin.ActivityCatalogStatusResponse;
+import com.activityforecastbackend.dto.admin.CacheStatsResponse;
+import com.activityforecastbackend.dto.admin.GazetteerStatusResponse;
+import com.activityforecastbackend.dto.admin.NotificationBusStatsResponse;
+import com.activityforecastbackend.dto.admin.NotificationDispatchStatsResponse;
+import com.activityforecastbackend.dto.admin.SseStatsResponse;
+import com.activityforecastbackend.dto.admin.TrainingDataStatisticsResponse;
+import com.activityforecastbackend.service.ActivityCatalogResponseCache;
+import com.activityforecastbackend.service.ActivityCatalogService;
+import com.activityforecastbackend.service.AiTrainingStatisticsService;
+import com.activityforecastbackend.service.CrewActivityStatisticsService;
+import com.activityforecastbackend.service.CrewCalendarCacheService;
+import com.activityforecastbackend.service.CrewLookupCacheService;
+import com.activityforecastbackend.service.CrewService;
+import com.activityforecastbackend.service.GazetteerService;
+import com.activityforecastbackend.service.GeocodeCacheService;
+import com.activityforecastbackend.service.NotificationBus;
+import com.activityforecastbackend.service.NotificationDispatcher;
+import com.activityforecastbackend.service.PlaceHarvestService;
+import com.activityforecastbackend.service.PlaceSearchCacheService;
+import com.activityforecastbackend.service.SseNotificationService;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+@Tag(name = "Admin", description = "관리자 전용 API")
+public class AdminController {
+
+    private final AiTrainingStatisticsService aiTrainingStatisticsService;
+    private final GeocodeCacheService geocodeCacheService;
+    private final GazetteerService gazetteerService;
+    private final PlaceSearchCacheService placeSearchCacheService;
+    private final PlaceHarvestService placeHarvestService;
+    private final ActivityCatalogService activityCatalogService;
+    private final ActivityCatalogResponseCache activityCatalogResponseCache;
+    private final CrewActivityStatisticsService crewActivityStatisticsService;
+    private final CrewCalendarCacheService crewCalendarCacheService;
+    private final CrewLookupCacheService crewLookupCacheService;
+    private final CrewService crewService;
+    private final NotificationDispatcher notificationDispatcher;
+    private final SseNotificationService sseNotificationService;
+    private final NotificationBus notificationBus;
+
+    @Operation(summary = "AI 학습 데이터 통계 조회", description = "증분 유지되는 학습 데이터 집계를 조회합니다.")
+    @GetMapping("/ai-training/statistics")
+    public ResponseEntity<ApiResponse<TrainingDataStatisticsResponse>> getTrainingDataStatistics() {
+        return ResponseEntity.ok(ApiResponse.success(
+                "AI 학습 데이터 통계를 조회했습니다.",
+                aiTrainingStatisticsService.getStatistics()
+        ));
+    }
+
+    @Operation(summary = "AI 학습 데이터 통계 대사", description = "원본 테이블 전체 집계로 요약 통계를 재계산합니다.")
+    @PostMapping("/ai-training/statistics/reconcile")
+    public ResponseEntity<ApiResponse<TrainingDataStatisticsResponse>> reconcileTrainingDataStatistics() {
+        log.info("AI 학습 데이터 통계 수동 대사 요청");
+        boolean reconciled = aiTrainingStatisticsService.reconcile();
+        return ResponseEntity.ok(ApiResponse.success(
+                reconciled ? "AI 학습 데이터 통계를 재계산했습니다."
+                        : "다른 노드에서 AI 학습 데이터 통계를 재계산 중이거나 방금 재계산하여 건너뛰었습니다.",
+                aiTrainingStatisticsService.getStatistics()
+        ));
+    }
+
+    @Operation(summary = "크루 활동 통계 대사", description = "원본 크루 일정 전체 집계로 크루별 활동 통계 요약 테이블을 재계산합니다.")
+    @PostMapping("/crew-activity-statistics/reconcile")
+    public ResponseEntity<ApiResponse<Void>> reconcileCrewActivityStatistics() {
+        log.info("크루 활동 통계 수동 대사 요청");
+        if (!crewActivityStatisticsService.reconcile()) {
+            return ResponseEntity.ok(ApiResponse.success("다른 노드에서 크루 활동 통계를 재계산 중이거나 방금 재계산하여 건너뛰었습니다."));
+        }
+        return ResponseEntity.ok(ApiResponse.success("크루 활동 통계를 재계산했습니다."));
+    }
+
+    @Operation(summary = "크루 활성 멤버 수 카운터 보정",
+            description = "crews.active_member_count를 실제 활성 멤버 수로 맞춥니다. 카운터 도입 직후 등 필요할 때 한 번 실행합니다.")
+    @PostMapping("/crews/member-counts/recount")
+    public ResponseEntity<ApiResponse<Void>> recountCrewMemberCounts() {
+        log.info("크루 활성 멤버 수 카운터 보정 요청");
+        int updated = crewService.recountActiveMemberCounts();
+        log.info("크루 활성 멤버 수 카운터 보정 완료: {}개 크루", updated);
+        return ResponseEntity.ok(ApiResponse.success("크루 활성 멤버 수 카운터를 보정했습니다: " + updated + "개 크루"));
+    }
+
+    @Operation(summary = "지오코딩 캐시 통계 조회", description = "메모리/DB 지오코딩 캐시의 적중률을 조회합니다.")
+    @GetMapping("/cache/geocode")
+    public ResponseEntity<ApiResponse<List<CacheStatsResponse>>> getGeocodeCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(
+                "지오코딩 캐시 통계를 조회했습니다.",
+                geocodeCacheService.getStats()
+        ));
+    }
+
+    @Operation(summary = "지오코딩 캐시 제거", description = "주소를 지정하면 해당 항목만, 생략하면 전체 캐시를 제거합니다.")
+    @DeleteMapping("/cache/geocode")
+    public ResponseEntity<ApiResponse<Void>> evictGeocodeCache(
+            @Parameter(description = "제거할 주소", example = "강남역")
+            @RequestParam(required = false) String address) {
+        log.info("지오코딩 캐시 제거 요청: {}", address != null ? address : "전체");
+
+        if (address == null || address.isBlank()) {
+            geocodeCacheService.evictAll();
+            return ResponseEntity.ok(ApiResponse.success("지오코딩 캐시를 모두 제거했습니다."));
+        }
+
+        boolean removed = geocodeCacheService.evict(address);
+        return ResponseEntity.ok(ApiResponse.success(removed
+                ? "지오코딩 캐시 항목을 제거했습니다: " + address
+                : "제거할 지오코딩 캐시 항목이 없습니다: " + address));
+    }
+
+    @Operation(summary = "오프라인 지명 사전 상태 조회", description = "적재된 지명 사전의 버전, 항목 수, 적중률을 조회합니다.")
+    @GetMapping("/gazetteer")
+    public ResponseEntity<ApiResponse<GazetteerStatusResponse>> getGazetteerStatus() {
+        return ResponseEntity.ok(ApiResponse.success(
+                "지명 사전 상태를 조회했습니다.",
+                gazetteerService.getStatus()
+        ));
+    }
+
+    @Operation(summary = "장소 검색 타일 캐시 통계 조회", description = "카카오 장소 검색 타일 캐시의 적중률을 조회합니다.")
+    @GetMapping("/cache/place-search")
+    public ResponseEntity<ApiResponse<CacheStatsResponse>> getPlaceSearchCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(
+                "장소 검색 캐시 통계를 조회했습니다.",
+                placeSearchCacheService.getStats()
+        ));
+    }
+
+    @Operation(summary = "장소 검색 타일 캐시 제거", description = "카카오 장소 검색 타일 캐시를 모두 제거합니다.")
+    @DeleteMapping("/cache/place-search")
+    public ResponseEntity<ApiResponse<Void>> evictPlaceSearchCache() {
+        log.info("장소 검색 타일 캐시 제거 요청");
+        placeSearchCacheService.evictAll();
+        return ResponseEntity.ok(ApiResponse.success("장소 검색 캐시를 모두 제거했습니다."));
+    }
+
+    @Operation(summary = "로컬 장소 카탈로그 통계 조회", description = "외부 장소 검색 중 수집된 로컬 카탈로그로 응답한 비율을 조회합니다.")
+    @GetMapping("/place-harvest/stats")
+    public ResponseEntity<ApiResponse<CacheStatsResponse>> getPlaceHarvestStats() {
+        return ResponseEntity.ok(ApiResponse.success(
+                "로컬 장소 카탈로그 통계를 조회했습니다.",
+                placeHarvestService.getStats()
+        ));
+    }
+
+    @Operation(summary = "활동 카탈로그 스냅샷 상태 조회", description = "메모리에 보관된 활동 카탈로그 스냅샷의 버전과 항목 수를 조회합니다.")
+    @GetMapping("/activity-catalog")
+    public ResponseEntity<ApiResponse<ActivityCatalogStatusResponse>> getActivityCatalogStatus() {
+        return ResponseEntity.ok(ApiResponse.success(
+                "활동 카탈로그 상태를 조회했습니다.",
+                activityCatalogService.getStatus()
+        ));
+    }
+
+    @Operation(summary = "활동 카탈로그 스냅샷 재생성", description = "DB에서 활동 카탈로그를 다시 읽어 변경된 경우 스냅샷을 교체합니다.")
+    @PostMapping("/activity-catalog/refresh")
+    public ResponseEntity<ApiResponse<ActivityCatalogStatusResponse>> refreshActivityCatalog() {
+        log.info("활동 카탈로그 스냅샷 재생성 요청");
+        activityCatalogService.refresh();
+        return ResponseEntity.ok(ApiResponse.success(
+                "활동 카탈로그를 다시 읽었습니다.",
+                activityCatalogService.getStatus()
+        ));
+    }
+
+    @Operation(summary = "활동 카탈로그 응답 캐시 통계 조회", description = "미리 직렬화된 활동 카탈로그 응답 본문 캐시의 적중률을 조회합니다.")
+    @GetMapping("/cache/activity-catalog")
+    public ResponseEntity<ApiResponse<CacheStatsResponse>> getActivityCatalogResponseCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(
+                "활동 카탈로그 응답 캐시 통계를 조회했습니다.",
+                activityCatalogResponseCache.getStats()
+        ));
+    }
+
+    @Operation(summary = "활동 카탈로그 응답 캐시 제거", description = "미리 직렬화된 활동 카탈로그 응답 본문을 모두 제거합니다.")
+    @DeleteMapping("/cache/activity-catalog")
+    public ResponseEntity<ApiResponse<Void>> evictActivityCatalogResponseCache() {
+        log.info("활동 카탈로그 응답 캐시 제거 요청");
+        activityCatalogResponseCache.evictAll();
+        return ResponseEntity.ok(ApiResponse.success("활동 카탈로그 응답 캐시를 모두 제거했습니다."));
+    }
+
+    @Operation(summary = "크루 달력 캐시 통계 조회", description = "크루 월별 달력 캐시의 적중률을 조회합니다.")
+    @GetMapping("/cache/crew-calendar")
+    public ResponseEntity<ApiResponse<CacheStatsResponse>> getCrewCalendarCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(
+                "크루 달력 캐시 통계를 조회했습니다.",
+                crewCalendarCacheService.getStats()
+        ));
+    }
+
+    @Operation(summary = "크루 달력 캐시 제거", description = "크루 월별 달력 캐시를 모두 제거합니다.")
+    @DeleteMapping("/cache/crew-calendar")
+    public ResponseEntity<ApiResponse<Void>> evictCrewCalendarCache() {
+        log.info("크루 달력 캐시 제거 요청");
+        crewCalendarCacheService.evictAll();
+        return ResponseEntity.ok(ApiResponse.success("크루 달력 캐시를 모두 제거했습니다."));
+    }
+
+    @Operation(summary = "크루 가입 조회 캐시 통계 조회", description = "초대 코드/멤버십 조회 캐시의 적중률을 조회합니다.")
+    @GetMapping("/cache/crew-lookup")
+    public ResponseEntity<ApiResponse<List<CacheStatsResponse>>> getCrewLookupCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(
+                "크루 가입 조회 캐시 통계를 조회했습니다.",
+                crewLookupCacheService.getStats()
+        ));
+    }
+
+    @Operation(summary = "알림 발송 파이프라인 통계 조회", description = "비동기 알림 발송 대기열 깊이, 처리/재시도/실패 건수를 조회합니다.")
+    @GetMapping("/notification-dispatch")
+    public ResponseEntity<ApiResponse<NotificationDispatchStatsResponse>> getNotificationDispatchStats() {
+        return ResponseEntity.ok(ApiResponse.success(
+                "알림 발송 파이프라인 통계를 조회했습니다.",
+                notificationDispatcher.getStats()
+        ));
+    }
+
+    @Operation(summary = "SSE 연결 통계 조회", description = "실시간 알림 SSE 연결 수, 송신 대기열, 전송/누락/정리 건수를 조회합니다.")
+    @GetMapping("/sse")
+    public ResponseEntity<ApiResponse<SseStatsResponse>> getSseStats() {
+        return ResponseEntity.ok(ApiResponse.success(
+                "SSE 연결 통계를 조회했습니다.",
+                sseNotificationService.getStats()
+        ));
+    }
+
+    @Operation(summary = "알림 메시지 버스 통계 조회", description = "인스턴스 간 실시간 알림 전달 버스의 발행/수신 건수를 조회합니다.")
+    @GetMapping("/notification-bus")
+    public ResponseEntity<ApiResponse<NotificationBusStatsResponse>> getNotificationBusStats() {
+        return ResponseEntity.ok(ApiResponse.success(
+                "알림 메시지 버스 통계를 조회했습니다.",
+                notificationBus.getStats()
+        ));
+    }
+}
@@ -1,5 +1,6 @@
 package com.activityforecastbackend.controller;
 
+import com.activityforecastbackend.dto.PageResponse;
 import com.activityforecastbackend.dto.crew.*;
 import com.activityforecastbackend.entity.CrewMember;
 import com.activityforecastbackend.entity.CrewSchedule;
@@ -13,7 +14,6 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal; //
 
 import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/crews")
@@ -87,12 +87,8 @@ public class CrewController {
             @RequestParam int year,
             @RequestParam int month) {
 
-        List<CrewSchedule> schedules = crewService.getMonthlySchedules(crewId, year, month);
-
-        // 엔티티 리스트를 DTO 리스트로 변환하여 반환
-        List<CrewScheduleResponse> responseList = schedules.stream()
-                .map(CrewScheduleResponse::from)
-                .collect(Collectors.toList());
+        // 서비스에서 DTO 리스트로 변환 및 캐싱하여 반환
+        List<CrewScheduleResponse> responseList = crewService.getMonthlySchedules(crewId, year, month);
 
         return ResponseEntity.ok(responseList);
     }
@@ -173,4 +169,14 @@ public class CrewController {
         CrewScheduleResponse updatedSchedule = crewService.updateCrewSchedule(crewId, crewScheduleId, request, currentUserId);
         return ResponseEntity.ok(updatedSchedule); // 200 OK
     }
+
+    // 13. 크루명 검색 (GET /api/crews/search?keyword=...&page=1&size=20) - 관련도순 페이지
+    @GetMapping("/search")
+    public ResponseEntity<PageResponse<CrewSearchResponse>> searchCrews(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(crewService.searchCrews(keyword, page, size));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.activityforecastbackend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "페이지 응답")
+public class PageResponse<T> {
+
+    @Schema(description = "현재 페이지 항목")
+    private List<T> items;
+
+    @Schema(description = "페이지 번호 (1부터 시작)", example = "1")
+    private int page;
+
+    @Schema(description = "페이지 크기", example = "20")
+    private int size;
+
+    @Schema(description = "전체 항목 수", example = "42")
+    private long totalElements;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    public static <T> PageResponse<T> of(List<T> items, int page, int size, long totalElements) {
+        return PageResponse.<T>builder()
+                .items(items)
+                .page(page)
+                .size(size)
+                .totalElements(totalElements)
+                .hasNext((long) page * size < totalElements)
+                .build();
+    }
+}
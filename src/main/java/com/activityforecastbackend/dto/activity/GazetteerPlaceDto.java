@@ -0,0 +1,46 @@
+package com.activityforecastbackend.dto.activity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "오프라인 지명 사전 항목 DTO")
+public class GazetteerPlaceDto {
+
+    @Schema(description = "대표 명칭", example = "강남역")
+    private String name;
+
+    @Schema(description = "유형 (STATION: 지하철역, LANDMARK: 랜드마크)", example = "STATION")
+    private String type;
+
+    @Schema(description = "위도", example = "37.497942")
+    private BigDecimal latitude;
+
+    @Schema(description = "경도", example = "127.027621")
+    private BigDecimal longitude;
+
+    @Schema(description = "지번 주소", example = "서울 강남구 역삼동 858")
+    private String address;
+
+    @JsonIgnore
+    public boolean isStation() {
+        return "STATION".equals(type);
+    }
+
+    public CoordinateDto toCoordinate() {
+        return CoordinateDto.builder()
+                .latitude(latitude)
+                .longitude(longitude)
+                .address(address)
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.activityforecastbackend.dto.activity;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Schema(description = "카카오 좌표→주소 변환(coord2address) 응답 DTO")
+public class KakaoAddressResponse {
+
+    @Schema(description = "변환 결과")
+    @JsonProperty("documents")
+    private List<Document> documents;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Document {
+
+        @Schema(description = "지번 주소 정보")
+        @JsonProperty("address")
+        private AddressName address;
+
+        @Schema(description = "도로명 주소 정보")
+        @JsonProperty("road_address")
+        private AddressName roadAddress;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class AddressName {
+
+        @Schema(description = "전체 주소", example = "서울 송파구 방이동 88")
+        @JsonProperty("address_name")
+        private String addressName;
+    }
+}
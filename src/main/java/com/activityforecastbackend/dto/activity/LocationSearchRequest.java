@@ -3,6 +3,8 @@ package com.activityforecastbackend.dto.activity;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
@@ -42,4 +44,13 @@ public class LocationSearchRequest {
     
     @Schema(description = "장소명 키워드", example = "축구장")
     private String keyword;
+    
+    @Schema(description = "페이지 번호 (1부터 시작, 기본 1)", example = "1")
+    @Min(value = 1, message = "페이지 번호는 1 이상이어야 합니다")
+    private Integer page;
+    
+    @Schema(description = "페이지 크기 (기본 15)", example = "15")
+    @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다")
+    @Max(value = 50, message = "페이지 크기는 50 이하여야 합니다")
+    private Integer size;
 }
\ No newline at end of file
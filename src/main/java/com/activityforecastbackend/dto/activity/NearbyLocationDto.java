@@ -0,0 +1,21 @@
+package com.activityforecastbackend.dto.activity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "주변 활동 장소 DTO (중심 좌표로부터의 거리 포함)")
+public class NearbyLocationDto {
+
+    @Schema(description = "활동 장소 정보")
+    private ActivityLocationDto location;
+
+    @Schema(description = "중심 좌표로부터의 거리 (m)", example = "412.5")
+    private Double distanceMeters;
+}
@@ -0,0 +1,27 @@
+package com.activityforecastbackend.dto.activity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "주변 활동 장소 페이지 응답 (거리순, 키셋 페이지네이션)")
+public class NearbyLocationPageResponse {
+
+    @Schema(description = "가까운 순으로 정렬된 장소 목록")
+    private List<NearbyLocationDto> items;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "다음 페이지 요청 시 전달할 커서 (마지막 항목의 거리와 ID, 다음 페이지가 없으면 null)",
+            example = "NDA3OWMwMDAwMDAwMDAwMDoxMg")
+    private String nextCursor;
+}
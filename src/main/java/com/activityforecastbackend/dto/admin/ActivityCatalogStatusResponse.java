@@ -0,0 +1,30 @@
+package com.activityforecastbackend.dto.admin;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@Schema(description = "활동 카탈로그 스냅샷 상태 DTO")
+public class ActivityCatalogStatusResponse {
+
+    @Schema(description = "스냅샷 버전 (ETag)", example = "3f9a1c0b7e2d4a15")
+    private String version;
+
+    @Schema(description = "스냅샷 생성 일시")
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime builtAt;
+
+    @Schema(description = "카테고리 수", example = "8")
+    private int categoryCount;
+
+    @Schema(description = "활동 수", example = "42")
+    private int activityCount;
+
+    @Schema(description = "스냅샷 재생성 횟수 (버전이 바뀐 경우만)", example = "3")
+    private long swapCount;
+}
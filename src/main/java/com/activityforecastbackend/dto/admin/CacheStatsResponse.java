@@ -0,0 +1,55 @@
+package com.activityforecastbackend.dto.admin;
+
+import com.activityforecastbackend.util.LruCache;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "캐시 적중률 통계 DTO")
+public class CacheStatsResponse {
+
+    @Schema(description = "캐시 이름", example = "geocode.memory")
+    private String cacheName;
+
+    @Schema(description = "현재 항목 수 (영속 캐시는 null)", example = "1532")
+    private Integer size;
+
+    @Schema(description = "최대 항목 수 (영속 캐시는 null)", example = "10000")
+    private Integer maxSize;
+
+    @Schema(description = "적중 횟수", example = "48210")
+    private long hitCount;
+
+    @Schema(description = "미적중 횟수", example = "1822")
+    private long missCount;
+
+    @Schema(description = "제거(만료/용량 초과) 횟수", example = "12")
+    private long evictionCount;
+
+    @Schema(description = "적중률 (0.0 ~ 1.0)", example = "0.96")
+    private double hitRatio;
+
+    public static CacheStatsResponse from(String cacheName, LruCache<?, ?> cache) {
+        return CacheStatsResponse.builder()
+                .cacheName(cacheName)
+                .size(cache.size())
+                .maxSize(cache.getMaxSize())
+                .hitCount(cache.getHitCount())
+                .missCount(cache.getMissCount())
+                .evictionCount(cache.getEvictionCount())
+                .hitRatio(cache.getHitRatio())
+                .build();
+    }
+
+    public static CacheStatsResponse of(String cacheName, long hitCount, long missCount) {
+        long total = hitCount + missCount;
+        return CacheStatsResponse.builder()
+                .cacheName(cacheName)
+                .hitCount(hitCount)
+                .missCount(missCount)
+                .hitRatio(total == 0 ? 0.0 : (double) hitCount / total)
+                .build();
+    }
+}
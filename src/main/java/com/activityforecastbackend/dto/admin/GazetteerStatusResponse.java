@@ -0,0 +1,23 @@
+package com.activityforecastbackend.dto.admin;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "오프라인 지명 사전 상태 DTO")
+public class GazetteerStatusResponse {
+
+    @Schema(description = "데이터셋 버전", example = "2025.1")
+    private String version;
+
+    @Schema(description = "등록된 장소 수", example = "37")
+    private int placeCount;
+
+    @Schema(description = "조회 키(별칭 포함) 수", example = "41")
+    private int keyCount;
+
+    @Schema(description = "조회 적중 통계")
+    private CacheStatsResponse lookupStats;
+}
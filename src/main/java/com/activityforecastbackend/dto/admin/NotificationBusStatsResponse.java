@@ -0,0 +1,38 @@
+package com.activityforecastbackend.dto.admin;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "알림 메시지 버스 통계 DTO")
+public class NotificationBusStatsResponse {
+
+    @Schema(description = "버스 구현 (memory, db)", example = "db")
+    private String type;
+
+    @Schema(description = "이 인스턴스가 발행한 배치 수", example = "1520")
+    private long publishedBatchCount;
+
+    @Schema(description = "이 인스턴스가 발행한 메시지 수", example = "48210")
+    private long publishedMessageCount;
+
+    @Schema(description = "이 인스턴스가 수신한 배치 수 (다른 인스턴스 발행분 포함)", example = "3010")
+    private long receivedBatchCount;
+
+    @Schema(description = "이 인스턴스가 수신한 메시지 수", example = "95420")
+    private long receivedMessageCount;
+
+    @Schema(description = "커밋되지 않은 ID를 기다리다 건너뛴 횟수 (db)", example = "0")
+    private long skippedGapCount;
+
+    @Schema(description = "건너뛴 뒤 늦게 커밋되어 다시 조회로 전달한 배치 수 (db)", example = "0")
+    private long lateDeliveredCount;
+
+    @Schema(description = "다시 조회 기간 동안 나타나지 않아 롤백으로 본 ID 수 (db)", example = "0")
+    private long expiredGapIdCount;
+
+    @Schema(description = "마지막으로 처리한 메시지 ID (db)", example = "88123")
+    private Long lastSeenId;
+}
@@ -0,0 +1,38 @@
+package com.activityforecastbackend.dto.admin;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "알림 비동기 발송 파이프라인 통계 DTO")
+public class NotificationDispatchStatsResponse {
+
+    @Schema(description = "대기열에 쌓인 알림 요청 수", example = "3")
+    private int queueDepth;
+
+    @Schema(description = "대기열 최대 크기", example = "1000")
+    private int queueCapacity;
+
+    @Schema(description = "처리 중인 작업자 스레드 수", example = "2")
+    private int activeWorkers;
+
+    @Schema(description = "접수된 알림 요청 수", example = "1520")
+    private long requestedCount;
+
+    @Schema(description = "저장/푸시를 마친 알림 요청 수", example = "1515")
+    private long completedCount;
+
+    @Schema(description = "저장된 알림 수 (수신자 단위)", example = "48210")
+    private long notificationCount;
+
+    @Schema(description = "재시도 횟수", example = "4")
+    private long retryCount;
+
+    @Schema(description = "재시도 후에도 실패하여 버려진 알림 요청 수", example = "0")
+    private long failedCount;
+
+    @Schema(description = "대기열이 가득 차 요청 스레드에서 직접 처리한 횟수 (역압)", example = "0")
+    private long callerRunsCount;
+}
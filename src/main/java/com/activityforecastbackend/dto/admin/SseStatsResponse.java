@@ -0,0 +1,35 @@
+package com.activityforecastbackend.dto.admin;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "SSE 실시간 알림 연결 통계 DTO")
+public class SseStatsResponse {
+
+    @Schema(description = "연결된 사용자 수", example = "1240")
+    private int connectedUsers;
+
+    @Schema(description = "열린 SSE 연결 수 (사용자당 여러 개 가능)", example = "1580")
+    private int connections;
+
+    @Schema(description = "송신 대기열에 쌓인 메시지 수 (전체 연결 합계)", example = "12")
+    private long queuedMessages;
+
+    @Schema(description = "전송한 메시지 수 (heartbeat 포함)", example = "482100")
+    private long sentCount;
+
+    @Schema(description = "송신 대기열 포화로 버려진 알림 수", example = "0")
+    private long droppedCount;
+
+    @Schema(description = "전송 실패로 정리된 연결 수", example = "35")
+    private long reapedCount;
+
+    @Schema(description = "사용자당 최대 연결 수 초과로 종료된 연결 수", example = "2")
+    private long evictedCount;
+
+    @Schema(description = "전송 지연(send-timeout 초과)으로 정리된 연결 수", example = "1")
+    private long stalledCount;
+}
@@ -0,0 +1,22 @@
+package com.activityforecastbackend.dto.admin;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@Builder
+@Schema(description = "AI 학습 데이터 통계 DTO")
+public class TrainingDataStatisticsResponse {
+
+    @Schema(description = "학습에 사용된 데이터 건수", example = "1200")
+    private long usedCount;
+
+    @Schema(description = "학습에 사용되지 않은 데이터 건수", example = "35")
+    private long unusedCount;
+
+    @Schema(description = "활동 유형별 학습 사용 데이터 건수")
+    private Map<String, Long> usedCountByActivityType;
+}
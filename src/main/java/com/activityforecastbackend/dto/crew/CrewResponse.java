@@ -30,8 +30,14 @@ public class CrewResponse {
     private int activeMemberCount;
 
     public static CrewResponse from(Crew crew) {
-        List<CrewMemberResponse> memberResponses = crew.getMembers().stream()
+        return from(crew, crew.getMembers().stream()
                 .filter(CrewMember::isActiveMember)
+                .collect(Collectors.toList()));
+    }
+
+    // 활성 멤버를 사용자와 함께 따로 조회한 경우 (crew.getMembers() 지연 로딩 없음)
+    public static CrewResponse from(Crew crew, List<CrewMember> activeMembers) {
+        List<CrewMemberResponse> memberResponses = activeMembers.stream()
                 .map(CrewMemberResponse::from)
                 .collect(Collectors.toList());
 
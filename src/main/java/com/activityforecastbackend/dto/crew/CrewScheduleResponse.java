@@ -57,4 +57,21 @@ public class CrewScheduleResponse {
                 .activityId(activity != null ? activity.getActivityId() : null)
                 .build();
     }
+
+    // 프로젝션 조회 결과와 참가자 집계로 변환 (엔티티 로딩 없음)
+    public static CrewScheduleResponse from(CrewScheduleRow row, int totalParticipantCount, int confirmedParticipantCount) {
+        return CrewScheduleResponse.builder()
+                .crewScheduleId(row.crewScheduleId())
+                .crewId(row.crewId())
+                .scheduleId(row.scheduleId())
+                .equipmentList(row.equipmentList())
+                .scheduleDate(row.scheduleDate().atTime(row.scheduleTime()))
+                .locationAddress(row.locationAddress())
+                .locationLatitude(row.locationLatitude())
+                .locationLongitude(row.locationLongitude())
+                .totalParticipantCount(totalParticipantCount)
+                .confirmedParticipantCount(confirmedParticipantCount)
+                .activityId(row.activityId())
+                .build();
+    }
 }
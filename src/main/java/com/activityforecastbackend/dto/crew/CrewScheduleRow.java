@@ -0,0 +1,21 @@
+package com.activityforecastbackend.dto.crew;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 크루 일정 달력 조회용 프로젝션 (엔티티/지연 로딩 없이 필요한 컬럼만 조회)
+ */
+public record CrewScheduleRow(
+        Long crewScheduleId,
+        Long crewId,
+        Long scheduleId,
+        String equipmentList,
+        LocalDate scheduleDate,
+        LocalTime scheduleTime,
+        String locationAddress,
+        BigDecimal locationLatitude,
+        BigDecimal locationLongitude,
+        Long activityId) {
+}
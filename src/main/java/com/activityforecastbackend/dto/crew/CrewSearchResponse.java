@@ -0,0 +1,32 @@
+package com.activityforecastbackend.dto.crew;
+
+import com.activityforecastbackend.entity.Crew;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 크루 검색 결과 (초대 코드와 멤버 목록은 노출하지 않음)
+@Getter
+@Setter
+@Builder
+public class CrewSearchResponse {
+    private Long crewId;
+    private String crewName;
+    private String description;
+    private String colorCode;
+    private Integer maxCapacity;
+    private LocalDateTime createdAt;
+
+    public static CrewSearchResponse from(Crew crew) {
+        return CrewSearchResponse.builder()
+                .crewId(crew.getCrewId())
+                .crewName(crew.getCrewName())
+                .description(crew.getDescription())
+                .colorCode(crew.getColorCode())
+                .maxCapacity(crew.getMaxCapacity())
+                .createdAt(crew.getCreatedAt())
+                .build();
+    }
+}
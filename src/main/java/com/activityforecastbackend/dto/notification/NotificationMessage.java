@@ -0,0 +1,7 @@
+package com.activityforecastbackend.dto.notification;
+
+/**
+ * 메시지 버스로 전달되는 알림 (수신자 + 한 번만 직렬화한 NotificationResponse JSON)
+ */
+public record NotificationMessage(Long userId, Long notificationId, String payload) {
+}
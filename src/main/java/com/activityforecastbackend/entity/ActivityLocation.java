@@ -15,7 +15,8 @@ import java.util.List;
 @Entity
 @Table(name = "activity_locations", indexes = {
         @Index(name = "idx_activity_location_activity_id", columnList = "activity_id"),
-        @Index(name = "idx_activity_location_coordinates", columnList = "latitude, longitude")
+        @Index(name = "idx_activity_location_coordinates", columnList = "latitude, longitude"),
+        @Index(name = "idx_activity_location_created_at", columnList = "created_at")
 })
 @Getter
 @Setter
@@ -0,0 +1,50 @@
+package com.activityforecastbackend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 활동 유형별 AI 학습 데이터 집계 요약
+ * ai_training_data 전체 집계 대신 증분으로 유지되는 카운터 (주기적으로 원본과 대사)
+ */
+@Entity
+@Table(name = "ai_training_data_summary", indexes = {
+        @Index(name = "idx_ai_training_summary_activity_type", columnList = "activity_type", unique = true)
+})
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AiTrainingDataSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "summary_id")
+    private Long summaryId;
+
+    @Column(name = "activity_type", nullable = false, unique = true, length = 50)
+    private String activityType;
+
+    @Column(name = "used_count", nullable = false)
+    private Long usedCount = 0L;
+
+    @Column(name = "unused_count", nullable = false)
+    private Long unusedCount = 0L;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static AiTrainingDataSummary createSummary(String activityType, long usedCount, long unusedCount) {
+        AiTrainingDataSummary summary = new AiTrainingDataSummary();
+        summary.setActivityType(activityType);
+        summary.setUsedCount(usedCount);
+        summary.setUnusedCount(unusedCount);
+        return summary;
+    }
+}
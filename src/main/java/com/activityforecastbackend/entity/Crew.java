@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -16,11 +17,13 @@ import java.util.UUID;
 @Entity
 @Table(name = "crews", indexes = {
         @Index(name = "idx_crew_invite_code", columnList = "invite_code", unique = true),
-        @Index(name = "idx_crew_created_by", columnList = "created_by")
+        @Index(name = "idx_crew_created_by", columnList = "created_by"),
+        @Index(name = "idx_crew_updated_at", columnList = "updated_at")
 })
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@DynamicUpdate // 변경된 컬럼만 UPDATE (조건부 UPDATE로 관리되는 active_member_count를 덮어쓰지 않도록)
 public class Crew {
 
     @Id
@@ -43,6 +46,10 @@ public class Crew {
     @Column(name = "max_capacity", nullable = false)
     private Integer maxCapacity; // 최대 인원 제한 필드
 
+    // 활성 멤버 수 카운터 (가입 시 정원 확인용, CrewRepository의 조건부 UPDATE로만 증감)
+    @Column(name = "active_member_count", nullable = false, columnDefinition = "integer default 0")
+    private Integer activeMemberCount = 0;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by", nullable = false)
     private User createdBy;
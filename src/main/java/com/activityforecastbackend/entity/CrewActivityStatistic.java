@@ -0,0 +1,54 @@
+package com.activityforecastbackend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 크루별·활동별 완료(일정 날짜가 지난) 일정 수 요약
+ * 크루 일정 전체 GROUP BY 대신 일정 생성/수정/삭제 시 증분으로, 날짜 경과분은 일일 롤포워드로 유지되는 카운터
+ */
+@Entity
+@Table(name = "crew_activity_statistics", indexes = {
+        @Index(name = "idx_crew_activity_statistic_unique", columnList = "crew_id, activity_id", unique = true)
+})
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CrewActivityStatistic {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "statistic_id")
+    private Long statisticId;
+
+    @Column(name = "crew_id", nullable = false)
+    private Long crewId;
+
+    @Column(name = "activity_id", nullable = false)
+    private Long activityId;
+
+    @Column(name = "completed_count", nullable = false)
+    private Long completedCount = 0L;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static CrewActivityStatistic createStatistic(Long crewId, Long activityId, long completedCount) {
+        CrewActivityStatistic statistic = new CrewActivityStatistic();
+        statistic.setCrewId(crewId);
+        statistic.setActivityId(activityId);
+        statistic.setCompletedCount(completedCount);
+        return statistic;
+    }
+
+    public void updateCompletedCount(long completedCount) {
+        this.completedCount = completedCount;
+    }
+}
@@ -0,0 +1,118 @@
+package com.activityforecastbackend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 카카오 장소 검색 결과를 수집한 로컬 장소 카탈로그
+ * 근접한 활동 장소(ActivityLocation)가 있으면 연결하여 외부 검색 결과를 로컬 장소로 응답합니다.
+ */
+@Entity
+@Table(name = "external_places", indexes = {
+        @Index(name = "idx_external_place_kakao_id", columnList = "kakao_place_id", unique = true),
+        @Index(name = "idx_external_place_coordinates", columnList = "latitude, longitude"),
+        @Index(name = "idx_external_place_location_id", columnList = "location_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ExternalPlace {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "external_place_id")
+    private Long externalPlaceId;
+
+    @Column(name = "kakao_place_id", nullable = false, unique = true, length = 32)
+    private String kakaoPlaceId;
+
+    @Column(name = "place_name", nullable = false, length = 255)
+    private String placeName;
+
+    @Column(name = "category_group_code", length = 10)
+    private String categoryGroupCode;
+
+    @Column(name = "category_group_name", length = 50)
+    private String categoryGroupName;
+
+    @Column(name = "category_name", length = 255)
+    private String categoryName;
+
+    @Column(name = "address", length = 500)
+    private String address;
+
+    @Column(name = "road_address", length = 500)
+    private String roadAddress;
+
+    @Column(name = "phone", length = 50)
+    private String phone;
+
+    @Column(name = "place_url", length = 500)
+    private String placeUrl;
+
+    @Column(name = "latitude", nullable = false, precision = 10, scale = 8)
+    private BigDecimal latitude;
+
+    @Column(name = "longitude", nullable = false, precision = 11, scale = 8)
+    private BigDecimal longitude;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "location_id")
+    private ActivityLocation location;
+
+    @Column(name = "harvested_at", nullable = false)
+    private LocalDateTime harvestedAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public static ExternalPlace createPlace(String kakaoPlaceId) {
+        ExternalPlace place = new ExternalPlace();
+        place.setKakaoPlaceId(kakaoPlaceId);
+        return place;
+    }
+
+    /**
+     * 카카오 장소 ID 기준 upsert에 넘길 값 복사본 (영속 상태가 아니며, 연결된 활동 장소는 활성 상태일 때만 유지)
+     */
+    public static ExternalPlace copyForUpsert(ExternalPlace place) {
+        ExternalPlace copy = createPlace(place.getKakaoPlaceId());
+        copy.updateDetails(place.getPlaceName(), place.getCategoryGroupCode(), place.getCategoryGroupName(),
+                place.getCategoryName(), place.getAddress(), place.getRoadAddress(), place.getPhone(),
+                place.getPlaceUrl(), place.getLatitude(), place.getLongitude(), place.getHarvestedAt());
+        copy.linkLocation(place.isLinked() ? place.getLocation() : null);
+        return copy;
+    }
+
+    public void updateDetails(String placeName, String categoryGroupCode, String categoryGroupName, String categoryName,
+                              String address, String roadAddress, String phone, String placeUrl,
+                              BigDecimal latitude, BigDecimal longitude, LocalDateTime harvestedAt) {
+        this.placeName = placeName;
+        this.categoryGroupCode = categoryGroupCode;
+        this.categoryGroupName = categoryGroupName;
+        this.categoryName = categoryName;
+        this.address = address;
+        this.roadAddress = roadAddress;
+        this.phone = phone;
+        this.placeUrl = placeUrl;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.harvestedAt = harvestedAt;
+    }
+
+    public void linkLocation(ActivityLocation location) {
+        this.location = location;
+    }
+
+    public boolean isLinked() {
+        return this.location != null && this.location.isActive();
+    }
+}
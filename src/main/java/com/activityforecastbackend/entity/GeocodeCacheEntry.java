@@ -0,0 +1,81 @@
+package com.activityforecastbackend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 지오코딩 결과 영속 캐시 (정규화된 주소 기준)
+ * 좌표가 없는 항목은 "검색 결과 없음"을 의미하는 부정 캐시입니다.
+ */
+@Entity
+@Table(name = "geocode_cache", indexes = {
+        @Index(name = "idx_geocode_cache_address", columnList = "normalized_address", unique = true),
+        @Index(name = "idx_geocode_cache_expires_at", columnList = "expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GeocodeCacheEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "cache_id")
+    private Long cacheId;
+
+    @Column(name = "normalized_address", nullable = false, unique = true, length = 255)
+    private String normalizedAddress;
+
+    @Column(name = "latitude", precision = 10, scale = 8)
+    private BigDecimal latitude;
+
+    @Column(name = "longitude", precision = 11, scale = 8)
+    private BigDecimal longitude;
+
+    @Column(name = "address", length = 500)
+    private String address;
+
+    @Column(name = "road_address", length = 500)
+    private String roadAddress;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static GeocodeCacheEntry createEntry(String normalizedAddress) {
+        GeocodeCacheEntry entry = new GeocodeCacheEntry();
+        entry.setNormalizedAddress(normalizedAddress);
+        return entry;
+    }
+
+    public void updateResult(BigDecimal latitude, BigDecimal longitude, String address,
+                             String roadAddress, LocalDateTime expiresAt) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.address = address;
+        this.roadAddress = roadAddress;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isNegative() {
+        return this.latitude == null || this.longitude == null;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !this.expiresAt.isAfter(now);
+    }
+}
@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 @Table(name = "notifications", indexes = {
         @Index(name = "idx_notification_user_id", columnList = "user_id"),
         @Index(name = "idx_notification_user_read", columnList = "user_id, is_read"),
-        @Index(name = "idx_notification_created_at", columnList = "created_at")
+        @Index(name = "idx_notification_created_at", columnList = "created_at"),
+        @Index(name = "idx_notification_batch_id", columnList = "batch_id")
 })
 @Getter
 @Setter
@@ -53,6 +54,10 @@ public class Notification {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    // 일괄 생성 배치 식별자 (INSERT ... SELECT로 만든 알림을 다시 조회할 때 사용, 개별 생성 알림은 null)
+    @Column(name = "batch_id", length = 36)
+    private String batchId;
+
     public enum NotificationType {
         CREW_INVITE,
         SCHEDULE_REMINDER,
@@ -122,13 +127,13 @@ public class Notification {
     }
 
     // [크루 이름] 크루해체, 크루해제 추가
-    public static Notification createCrewDisbandedNotification(User user, String crewName) {
+    public static Notification createCrewDisbandedNotification(User user, String crewName, Long crewId) {
         Notification notification = new Notification();
         notification.setUser(user);
         notification.setNotificationType(NotificationType.CREW_DISBANDED);
         notification.setTitle(String.format("[%s] 크루 해체", crewName));
         notification.setContent("크루가 해체되어 활동이 종료되었습니다.");
-        notification.setRelatedId(null);
+        notification.setRelatedId(crewId);
         notification.setRelatedType(RelatedType.CREW);
         return notification;
     }
@@ -0,0 +1,47 @@
+package com.activityforecastbackend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인스턴스 간 알림 전달용 메시지 (DB 폴링 메시지 버스)
+ * 한 행이 한 배치이며, payload는 NotificationMessage 목록을 한 번 직렬화한 JSON입니다.
+ * 각 인스턴스가 ID 순으로 읽어 가며, 보관 기간이 지나면 삭제됩니다.
+ */
+@Entity
+@Table(name = "notification_bus_messages", indexes = {
+        @Index(name = "idx_notification_bus_created_at", columnList = "created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationBusMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "message_id")
+    private Long messageId;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String payload;
+
+    @Column(name = "message_count", nullable = false)
+    private Integer messageCount;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public static NotificationBusMessage createMessage(String payload, int messageCount) {
+        NotificationBusMessage message = new NotificationBusMessage();
+        message.setPayload(payload);
+        message.setMessageCount(messageCount);
+        return message;
+    }
+}
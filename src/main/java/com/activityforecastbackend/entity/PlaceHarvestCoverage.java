@@ -0,0 +1,82 @@
+package com.activityforecastbackend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 장소 수집 범위 기록 (검색 조건 + geohash 타일 + 반경 구간)
+ * 타일 검색을 마지막 페이지까지 수집한 경우에만 기록되며, 그때 카카오가 돌려준 장소 목록(place_ids)을 함께 보관합니다.
+ * 수집 시각이 신선한 범위의 검색은 이 목록으로 로컬 카탈로그(external_places)에서 응답합니다.
+ */
+@Entity
+@Table(name = "place_harvest_coverage", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_place_harvest_coverage", columnNames = {"query_key", "tile", "radius_bucket"})
+})
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PlaceHarvestCoverage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "coverage_id")
+    private Long coverageId;
+
+    @Column(name = "query_key", nullable = false, length = 200)
+    private String queryKey;
+
+    @Column(name = "tile", nullable = false, length = 12)
+    private String tile;
+
+    @Column(name = "radius_bucket", nullable = false)
+    private Integer radiusBucket;
+
+    @Column(name = "result_count", nullable = false)
+    private Integer resultCount;
+
+    // 수집된 로컬 장소 ID (쉼표 구분)
+    @Column(name = "place_ids", nullable = false, columnDefinition = "TEXT")
+    private String placeIds;
+
+    @Column(name = "harvested_at", nullable = false)
+    private LocalDateTime harvestedAt;
+
+    public static PlaceHarvestCoverage createCoverage(String queryKey, String tile, int radiusBucket) {
+        PlaceHarvestCoverage coverage = new PlaceHarvestCoverage();
+        coverage.setQueryKey(queryKey);
+        coverage.setTile(tile);
+        coverage.setRadiusBucket(radiusBucket);
+        return coverage;
+    }
+
+    public void markHarvested(Collection<Long> externalPlaceIds, LocalDateTime harvestedAt) {
+        this.resultCount = externalPlaceIds.size();
+        this.placeIds = externalPlaceIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+        this.harvestedAt = harvestedAt;
+    }
+
+    public List<Long> getExternalPlaceIds() {
+        if (placeIds == null || placeIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(placeIds.split(","))
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    public boolean isFresh(LocalDateTime staleBefore) {
+        return this.harvestedAt.isAfter(staleBefore);
+    }
+}
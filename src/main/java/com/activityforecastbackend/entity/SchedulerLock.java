@@ -0,0 +1,35 @@
+package com.activityforecastbackend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 작업 잠금 (다중 인스턴스에서 같은 예약 작업이 한 노드에서만 실행되도록 함)
+ * 작업 이름마다 한 행이며, locked_until이 지나기 전에는 다른 노드가 같은 작업을 건너뜁니다.
+ * 행은 처음 실행될 때 SchedulerLockRepository.insertLock으로 생성됩니다. (노드 간 동시 생성은 기본 키로 한 번만 성공)
+ */
+@Entity
+@Table(name = "scheduler_locks")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLock {
+
+    @Id
+    @Column(name = "lock_name", length = 64)
+    private String lockName;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+}
@@ -0,0 +1,14 @@
+package com.activityforecastbackend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 활동/카테고리 변경 (커밋 후 카탈로그 스냅샷 재생성용)
+ */
+@Getter
+@AllArgsConstructor
+public class ActivityCatalogChangedEvent {
+
+    private final String reason;
+}
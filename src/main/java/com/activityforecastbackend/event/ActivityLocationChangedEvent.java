@@ -0,0 +1,22 @@
+package com.activityforecastbackend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 활동 장소 생성/수정/삭제 (커밋 후 공간 색인/텍스트 색인 동기화용)
+ */
+@Getter
+@AllArgsConstructor
+public class ActivityLocationChangedEvent {
+
+    private final Long locationId;
+    private final Long activityId;
+    private final String locationName;
+    private final String address;
+    private final BigDecimal latitude;
+    private final BigDecimal longitude;
+    private final boolean deleted;
+}
@@ -0,0 +1,16 @@
+package com.activityforecastbackend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * AI 학습 데이터 생성/사용 처리로 인한 집계 카운터 변화량
+ */
+@Getter
+@AllArgsConstructor
+public class AiTrainingDataCountChangedEvent {
+
+    private final String activityType;
+    private final long usedDelta;
+    private final long unusedDelta;
+}
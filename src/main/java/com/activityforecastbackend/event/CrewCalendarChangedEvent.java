@@ -0,0 +1,42 @@
+package com.activityforecastbackend.event;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 크루 달력에 영향을 주는 변경 (커밋 후 달력 캐시 무효화용)
+ * dates가 비어 있으면 크루의 모든 월이 무효화 대상입니다.
+ */
+@Getter
+public class CrewCalendarChangedEvent {
+
+    private final Long crewId;
+    private final List<LocalDate> dates;
+
+    private CrewCalendarChangedEvent(Long crewId, List<LocalDate> dates) {
+        this.crewId = crewId;
+        this.dates = dates;
+    }
+
+    /**
+     * 특정 날짜의 일정 변경 (해당 날짜가 표시되는 월만 무효화, 날짜를 알 수 없으면 크루 전체)
+     */
+    public static CrewCalendarChangedEvent ofDates(Long crewId, LocalDate... dates) {
+        return new CrewCalendarChangedEvent(crewId, Arrays.stream(dates).filter(Objects::nonNull).distinct().toList());
+    }
+
+    /**
+     * 크루 전체 변경 (멤버 변경, 해체 등)
+     */
+    public static CrewCalendarChangedEvent ofCrew(Long crewId) {
+        return new CrewCalendarChangedEvent(crewId, List.of());
+    }
+
+    public boolean isWholeCrew() {
+        return dates.isEmpty();
+    }
+}
@@ -0,0 +1,16 @@
+package com.activityforecastbackend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 크루 생성/해체 (커밋 후 검색 색인 동기화용)
+ */
+@Getter
+@AllArgsConstructor
+public class CrewChangedEvent {
+
+    private final Long crewId;
+    private final String crewName;
+    private final boolean deleted;
+}
@@ -0,0 +1,17 @@
+package com.activityforecastbackend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 크루 멤버십 변경 (커밋 후 멤버십 캐시 갱신용)
+ * userId가 null이면 크루 전체 멤버십이 변경된 것입니다. (크루 해체)
+ */
+@Getter
+@AllArgsConstructor
+public class CrewMembershipChangedEvent {
+
+    private final Long crewId;
+    private final Long userId;
+    private final boolean active;
+}
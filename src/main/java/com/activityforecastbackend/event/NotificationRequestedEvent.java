@@ -0,0 +1,41 @@
+package com.activityforecastbackend.event;
+
+import com.activityforecastbackend.entity.Notification;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 알림 발송 요청 (커밋 후 비동기 알림 저장/푸시용)
+ * 수신자는 발행 시점(트랜잭션 안)의 기준으로 확정되며, 알림 문구는 Notification 팩토리 메서드로 만든 템플릿에서 가져옵니다.
+ */
+@Getter
+public class NotificationRequestedEvent {
+
+    private final List<Long> recipientUserIds;
+    private final Notification.NotificationType notificationType;
+    private final String title;
+    private final String content;
+    private final Long relatedId;
+    private final Notification.RelatedType relatedType;
+
+    private NotificationRequestedEvent(List<Long> recipientUserIds, Notification template) {
+        this.recipientUserIds = List.copyOf(recipientUserIds);
+        this.notificationType = template.getNotificationType();
+        this.title = template.getTitle();
+        this.content = template.getContent();
+        this.relatedId = template.getRelatedId();
+        this.relatedType = template.getRelatedType();
+    }
+
+    /**
+     * 템플릿(수신자 없이 팩토리 메서드로 생성한 알림)과 같은 알림을 여러 사용자에게 요청
+     */
+    public static NotificationRequestedEvent of(Notification template, List<Long> recipientUserIds) {
+        return new NotificationRequestedEvent(recipientUserIds, template);
+    }
+
+    public static NotificationRequestedEvent of(Notification template, Long recipientUserId) {
+        return new NotificationRequestedEvent(List.of(recipientUserId), template);
+    }
+}
@@ -17,6 +17,12 @@ public interface ActivityCategoryRepository extends JpaRepository<ActivityCatego
     
     List<ActivityCategory> findAllByOrderByCategoryNameAsc();
     
+    /**
+     * 활동 카탈로그 스냅샷용: 모든 카테고리와 활동(삭제 포함)을 한 번의 쿼리로 조회
+     */
+    @Query("SELECT DISTINCT ac FROM ActivityCategory ac LEFT JOIN FETCH ac.activities ORDER BY ac.categoryName")
+    List<ActivityCategory> findAllWithActivities();
+    
     @Query("SELECT ac FROM ActivityCategory ac JOIN ac.activities a WHERE a.isDeleted = false GROUP BY ac ORDER BY COUNT(a) DESC")
     List<ActivityCategory> findCategoriesOrderByActivityCount();
 }
\ No newline at end of file
@@ -8,11 +8,13 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ActivityLocationRepository extends JpaRepository<ActivityLocation, Long> {
+public interface ActivityLocationRepository extends JpaRepository<ActivityLocation, Long>, ActivityLocationRepositoryCustom {
 
     List<ActivityLocation> findByIsDeletedFalse();
     
@@ -26,19 +28,38 @@ public interface ActivityLocationRepository extends JpaRepository<ActivityLocati
     @Query("SELECT al FROM ActivityLocation al WHERE al.isDeleted = false AND al.address LIKE %:address%")
     List<ActivityLocation> findByAddressContainingAndIsDeletedFalse(@Param("address") String address);
     
-    @Query(value = "SELECT * FROM activity_locations al " +
-           "WHERE al.is_deleted = false " +
-           "AND (6371 * acos(cos(radians(:latitude)) * cos(radians(al.latitude)) * " +
-           "cos(radians(al.longitude) - radians(:longitude)) + sin(radians(:latitude)) * " +
-           "sin(radians(al.latitude)))) <= :radiusKm " +
-           "ORDER BY (6371 * acos(cos(radians(:latitude)) * cos(radians(al.latitude)) * " +
-           "cos(radians(al.longitude) - radians(:longitude)) + sin(radians(:latitude)) * " +
-           "sin(radians(al.latitude))))", 
-           nativeQuery = true)
-    List<ActivityLocation> findLocationsByDistanceAndIsDeletedFalse(
-            @Param("latitude") BigDecimal latitude, 
-            @Param("longitude") BigDecimal longitude, 
-            @Param("radiusKm") Double radiusKm);
+    @Query("SELECT al FROM ActivityLocation al JOIN FETCH al.activity a JOIN FETCH a.category " +
+           "WHERE al.isDeleted = false " +
+           "AND al.latitude BETWEEN :minLat AND :maxLat AND al.longitude BETWEEN :minLon AND :maxLon")
+    List<ActivityLocation> findInBoundingBoxAndIsDeletedFalse(
+            @Param("minLat") BigDecimal minLat,
+            @Param("maxLat") BigDecimal maxLat,
+            @Param("minLon") BigDecimal minLon,
+            @Param("maxLon") BigDecimal maxLon);
+    
+    @Query("SELECT al FROM ActivityLocation al JOIN FETCH al.activity a JOIN FETCH a.category " +
+           "WHERE al.locationId IN :locationIds AND al.isDeleted = false")
+    List<ActivityLocation> findWithActivityByLocationIdInAndIsDeletedFalse(@Param("locationIds") Collection<Long> locationIds);
+    
+    /**
+     * 공간 색인 적재용 경량 조회: [locationId, latitude, longitude, activityId]
+     */
+    @Query("SELECT al.locationId, al.latitude, al.longitude, al.activity.activityId " +
+           "FROM ActivityLocation al WHERE al.isDeleted = false")
+    List<Object[]> findActiveCoordinates();
+    
+    /**
+     * 텍스트 색인 적재용 경량 조회: [locationId, locationName, address]
+     */
+    @Query("SELECT al.locationId, al.locationName, al.address FROM ActivityLocation al WHERE al.isDeleted = false")
+    List<Object[]> findActiveTextFields();
+
+    /**
+     * 텍스트 색인 증분 동기화용 조회: since 이후 생성된 장소의 [locationId, locationName, address, isDeleted]
+     */
+    @Query("SELECT al.locationId, al.locationName, al.address, al.isDeleted FROM ActivityLocation al " +
+           "WHERE al.createdAt > :since")
+    List<Object[]> findTextFieldsCreatedAfter(@Param("since") LocalDateTime since);
     
     @Query("SELECT COUNT(al) FROM ActivityLocation al WHERE al.activity = :activity AND al.isDeleted = false")
     long countByActivityAndIsDeletedFalse(@Param("activity") Activity activity);
@@ -0,0 +1,31 @@
+package com.activityforecastbackend.repository;
+
+import com.activityforecastbackend.entity.ActivityLocation;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 활동 장소 반경 검색 (DB 방언별 구현)
+ */
+public interface ActivityLocationRepositoryCustom {
+
+    /**
+     * 중심 좌표에서 반경(km) 내의 삭제되지 않은 장소를 가까운 순으로 조회
+     */
+    List<ActivityLocation> findLocationsByDistanceAndIsDeletedFalse(BigDecimal latitude, BigDecimal longitude,
+                                                                    Double radiusKm);
+
+    /**
+     * 중심 좌표에서 maxRadiusMeters 이내의 삭제되지 않은 장소를 (거리, ID) 순으로 최대 limit개 조회
+     * after가 있으면 그 위치 이후(키셋)부터, activityId가 있으면 해당 활동 장소만 조회합니다.
+     */
+    List<NearbyLocation> findNearestLocations(BigDecimal latitude, BigDecimal longitude, double maxRadiusMeters,
+                                              Long activityId, NearbyLocation after, int limit);
+
+    /**
+     * 주변 장소 조회 결과 및 키셋 커서 (장소 ID, 중심에서의 거리 m)
+     */
+    record NearbyLocation(long locationId, double distanceMeters) {
+    }
+}
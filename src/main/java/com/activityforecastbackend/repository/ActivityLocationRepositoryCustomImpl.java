@@ -0,0 +1,291 @@
+package com.activityforecastbackend.repository;
+
+import com.activityforecastbackend.entity.ActivityLocation;
+import com.activityforecastbackend.util.DistanceCalculator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 활동 장소 반경 검색 구현
+ * MySQL에서는 location_point(POINT SRID 4326) 공간 인덱스로 MBRContains 사전 필터 후 ST_Distance_Sphere로 정밀 필터링하고,
+ * 그 외 DB(H2 등)나 공간 컬럼이 아직 없는 경우에는 위도/경도 인덱스 범위 조회 후 애플리케이션에서 하버사인 거리로 필터링합니다.
+ * 두 경로 모두 같은 경계 상자와 같은 지구 반경(6371km)을 사용하므로 결과가 동일합니다.
+ */
+@Slf4j
+public class ActivityLocationRepositoryCustomImpl implements ActivityLocationRepositoryCustom {
+
+    // 공간 컬럼이 없을 때 다시 확인하기까지의 간격
+    private static final long SPATIAL_RECHECK_INTERVAL_NANOS = 60_000_000_000L;
+    // DECIMAL(scale 8) 반올림 오차를 흡수하기 위한 경계 상자 여유 (도)
+    private static final double BOUNDING_BOX_MARGIN_DEGREES = 1e-6;
+
+    private static final String SPATIAL_COLUMN_EXISTS_SQL =
+            "SELECT COUNT(*) FROM information_schema.COLUMNS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'activity_locations' AND COLUMN_NAME = 'location_point'";
+
+    // 주변 장소 조회에서 처음 검색하는 반경 (m, 커서가 있으면 커서 거리에 더함), 결과가 모자라면 최대 반경까지 두 배씩 넓힘
+    private static final double INITIAL_RING_METERS = 1_000.0;
+
+    private static final String SPATIAL_DISTANCE =
+            "ST_Distance_Sphere(al.location_point, ST_SRID(POINT(:longitude, :latitude), 4326), :earthRadius)";
+
+    private static final String SPATIAL_RADIUS_SQL =
+            "SELECT al.location_id, " + SPATIAL_DISTANCE + " AS distance " +
+            "FROM activity_locations al " +
+            "WHERE al.is_deleted = false " +
+            "AND MBRContains(ST_PolygonFromText(:boundingBox, 4326, 'axis-order=long-lat'), al.location_point) " +
+            "AND " + SPATIAL_DISTANCE + " <= :radiusMeters";
+
+    private static final String BOUNDING_BOX_SQL =
+            "SELECT al.location_id, al.latitude, al.longitude FROM activity_locations al " +
+            "WHERE al.is_deleted = false " +
+            "AND al.latitude BETWEEN :minLat AND :maxLat AND al.longitude BETWEEN :minLon AND :maxLon";
+
+    private static final String ACTIVITY_FILTER = " AND al.activity_id = :activityId";
+
+    private static final Comparator<NearbyLocation> NEARBY_ORDER =
+            Comparator.comparingDouble(NearbyLocation::distanceMeters).thenComparingLong(NearbyLocation::locationId);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean mysqlDialect;
+    private volatile boolean spatialColumnReady;
+    private volatile long spatialCheckedAtNanos;
+
+    @Override
+    public List<ActivityLocation> findLocationsByDistanceAndIsDeletedFalse(BigDecimal latitude, BigDecimal longitude,
+                                                                           Double radiusKm) {
+        List<NearbyLocation> ranked = findWithin(latitude.doubleValue(), longitude.doubleValue(), radiusKm * 1000.0,
+                null, null, Integer.MAX_VALUE);
+
+        List<Long> rankedIds = new ArrayList<>(ranked.size());
+        for (NearbyLocation location : ranked) {
+            rankedIds.add(location.locationId());
+        }
+        return loadInOrder(rankedIds);
+    }
+
+    /**
+     * 커서 거리 바깥의 작은 반경부터 찾고, limit개가 모자라면 최대 반경까지 반경을 두 배씩 넓혀 다시 찾습니다.
+     * 반경 r 안의 장소는 모두 반경 밖의 장소보다 가까우므로 r 안에서 limit개를 찾으면 그것이 곧 가장 가까운 limit개입니다.
+     */
+    @Override
+    public List<NearbyLocation> findNearestLocations(BigDecimal latitude, BigDecimal longitude, double maxRadiusMeters,
+                                                     Long activityId, NearbyLocation after, int limit) {
+        double lat = latitude.doubleValue();
+        double lon = longitude.doubleValue();
+        double radiusMeters = Math.min(maxRadiusMeters,
+                (after != null ? after.distanceMeters() : 0.0) + INITIAL_RING_METERS);
+
+        while (true) {
+            List<NearbyLocation> found = findWithin(lat, lon, radiusMeters, activityId, after, limit);
+            if (found.size() >= limit || radiusMeters >= maxRadiusMeters) {
+                return found;
+            }
+            radiusMeters = Math.min(maxRadiusMeters, radiusMeters * 2);
+        }
+    }
+
+    /**
+     * 반경 내 장소를 (거리, ID) 순으로 최대 limit개 조회 (after 이후, activityId가 있으면 해당 활동 장소만)
+     */
+    private List<NearbyLocation> findWithin(double lat, double lon, double radiusMeters, Long activityId,
+                                            NearbyLocation after, int limit) {
+        BoundingBox box = BoundingBox.around(lat, lon, radiusMeters);
+        return isSpatialAvailable()
+                ? findWithSpatialIndex(lat, lon, radiusMeters, box, activityId, after, limit)
+                : findWithBoundingBox(lat, lon, radiusMeters, box, activityId, after, limit);
+    }
+
+    /**
+     * MySQL 공간 인덱스 경로: 거리 계산과 키셋 비교, 정렬, LIMIT까지 DB에서 처리
+     */
+    @SuppressWarnings("unchecked")
+    private List<NearbyLocation> findWithSpatialIndex(double lat, double lon, double radiusMeters, BoundingBox box,
+                                                      Long activityId, NearbyLocation after, int limit) {
+        StringBuilder sql = new StringBuilder(SPATIAL_RADIUS_SQL);
+        if (activityId != null) {
+            sql.append(ACTIVITY_FILTER);
+        }
+        if (after != null) {
+            sql.append(" AND (").append(SPATIAL_DISTANCE).append(" > :afterDistance OR (")
+                    .append(SPATIAL_DISTANCE).append(" = :afterDistance AND al.location_id > :afterId))");
+        }
+        sql.append(" ORDER BY distance, al.location_id");
+
+        Query query = entityManager.createNativeQuery(sql.toString())
+                .setParameter("latitude", lat)
+                .setParameter("longitude", lon)
+                .setParameter("earthRadius", DistanceCalculator.EARTH_RADIUS_METERS)
+                .setParameter("boundingBox", box.toWkt())
+                .setParameter("radiusMeters", radiusMeters);
+        if (activityId != null) {
+            query.setParameter("activityId", activityId);
+        }
+        if (after != null) {
+            query.setParameter("afterDistance", after.distanceMeters())
+                    .setParameter("afterId", after.locationId());
+        }
+        if (limit != Integer.MAX_VALUE) {
+            query.setMaxResults(limit);
+        }
+
+        List<Object[]> rows = query.getResultList();
+        List<NearbyLocation> ranked = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            ranked.add(new NearbyLocation(((Number) row[0]).longValue(), ((Number) row[1]).doubleValue()));
+        }
+        return ranked;
+    }
+
+    /**
+     * 이식 가능한 경로: 위도/경도 인덱스 범위 조회 후 하버사인 거리로 필터링하고 키셋/정렬/limit 적용
+     */
+    @SuppressWarnings("unchecked")
+    private List<NearbyLocation> findWithBoundingBox(double lat, double lon, double radiusMeters, BoundingBox box,
+                                                     Long activityId, NearbyLocation after, int limit) {
+        String sql = activityId != null ? BOUNDING_BOX_SQL + ACTIVITY_FILTER : BOUNDING_BOX_SQL;
+        Query query = entityManager.createNativeQuery(sql)
+                .setParameter("minLat", box.minLat)
+                .setParameter("maxLat", box.maxLat)
+                .setParameter("minLon", box.minLon)
+                .setParameter("maxLon", box.maxLon);
+        if (activityId != null) {
+            query.setParameter("activityId", activityId);
+        }
+        List<Object[]> rows = query.getResultList();
+
+        int count = rows.size();
+        long[] ids = new long[count];
+        double[] latitudes = new double[count];
+        double[] longitudes = new double[count];
+        for (int i = 0; i < count; i++) {
+            Object[] row = rows.get(i);
+            ids[i] = ((Number) row[0]).longValue();
+            latitudes[i] = ((Number) row[1]).doubleValue();
+            longitudes[i] = ((Number) row[2]).doubleValue();
+        }
+
+        int[] matched = new int[count];
+        int matchedCount = DistanceCalculator.filterWithinRadius(lat, lon, latitudes, longitudes, radiusMeters, matched);
+        List<NearbyLocation> ranked = new ArrayList<>(matchedCount);
+        for (int m = 0; m < matchedCount; m++) {
+            int i = matched[m];
+            NearbyLocation location = new NearbyLocation(ids[i],
+                    DistanceCalculator.distanceMeters(lat, lon, latitudes[i], longitudes[i]));
+            if (after == null || NEARBY_ORDER.compare(location, after) > 0) {
+                ranked.add(location);
+            }
+        }
+        ranked.sort(NEARBY_ORDER);
+        return ranked.size() > limit ? new ArrayList<>(ranked.subList(0, limit)) : ranked;
+    }
+
+    /**
+     * ID 목록을 활동/카테고리와 함께 한 번에 조회하고 거리 순서를 유지
+     */
+    private List<ActivityLocation> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<ActivityLocation> loaded = entityManager.createQuery(
+                        "SELECT al FROM ActivityLocation al JOIN FETCH al.activity a JOIN FETCH a.category " +
+                        "WHERE al.locationId IN :ids", ActivityLocation.class)
+                .setParameter("ids", ids)
+                .getResultList();
+
+        Map<Long, ActivityLocation> byId = new HashMap<>();
+        for (ActivityLocation location : loaded) {
+            byId.put(location.getLocationId(), location);
+        }
+        List<ActivityLocation> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            ActivityLocation location = byId.get(id);
+            if (location != null) {
+                ordered.add(location);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * MySQL 방언이고 location_point 컬럼이 생성되어 있는지 확인
+     * 컬럼이 없으면 스키마 초기화 이후 반영되도록 일정 간격으로 다시 확인합니다.
+     */
+    private boolean isSpatialAvailable() {
+        if (!isMySqlDialect()) {
+            return false;
+        }
+        if (spatialColumnReady) {
+            return true;
+        }
+        long now = System.nanoTime();
+        if (spatialCheckedAtNanos != 0 && now - spatialCheckedAtNanos < SPATIAL_RECHECK_INTERVAL_NANOS) {
+            return false;
+        }
+        try {
+            Number count = (Number) entityManager.createNativeQuery(SPATIAL_COLUMN_EXISTS_SQL).getSingleResult();
+            spatialColumnReady = count.intValue() > 0;
+        } catch (Exception e) {
+            log.warn("공간 컬럼 확인 실패, 위도/경도 범위 검색을 사용합니다: {}", e.getMessage());
+        }
+        spatialCheckedAtNanos = now;
+        return spatialColumnReady;
+    }
+
+    private boolean isMySqlDialect() {
+        Boolean cached = mysqlDialect;
+        if (cached == null) {
+            cached = MySqlDialects.isMySql(entityManager);
+            mysqlDialect = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * 반경 원을 완전히 포함하는 위도/경도 경계 상자
+     */
+    static final class BoundingBox {
+        final double minLat;
+        final double maxLat;
+        final double minLon;
+        final double maxLon;
+
+        private BoundingBox(double minLat, double maxLat, double minLon, double maxLon) {
+            this.minLat = minLat;
+            this.maxLat = maxLat;
+            this.minLon = minLon;
+            this.maxLon = maxLon;
+        }
+
+        static BoundingBox around(double lat, double lon, double radiusMeters) {
+            double angular = radiusMeters / DistanceCalculator.EARTH_RADIUS_METERS;
+            double latDelta = Math.toDegrees(angular) + BOUNDING_BOX_MARGIN_DEGREES;
+
+            // 구면에서 반경 원의 최대 경도 폭: asin(sin(d) / cos(lat))
+            double ratio = Math.sin(angular) / Math.cos(Math.toRadians(lat));
+            double lonDelta = ratio >= 1.0 ? 180.0 : Math.toDegrees(Math.asin(ratio)) + BOUNDING_BOX_MARGIN_DEGREES;
+
+            return new BoundingBox(
+                    Math.max(lat - latDelta, -90.0), Math.min(lat + latDelta, 90.0),
+                    Math.max(lon - lonDelta, -180.0), Math.min(lon + lonDelta, 180.0));
+        }
+
+        String toWkt() {
+            return String.format(Locale.ROOT, "POLYGON((%.8f %.8f, %.8f %.8f, %.8f %.8f, %.8f %.8f, %.8f %.8f))",
+                    minLon, minLat, maxLon, minLat, maxLon, maxLat, minLon, maxLat, minLon, minLat);
+        }
+    }
+}
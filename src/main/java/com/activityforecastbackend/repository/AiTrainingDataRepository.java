@@ -52,4 +52,8 @@ public interface AiTrainingDataRepository extends JpaRepository<AiTrainingData,
     
     @Query("SELECT atd.activityType, COUNT(atd) FROM AiTrainingData atd WHERE atd.isUsedForTraining = true GROUP BY atd.activityType")
     List<Object[]> getTrainingDataStatisticsByActivityType();
+
+    // 요약 테이블 대사(reconcile)용: 활동 유형 × 학습 사용 여부별 건수
+    @Query("SELECT atd.activityType, atd.isUsedForTraining, COUNT(atd) FROM AiTrainingData atd GROUP BY atd.activityType, atd.isUsedForTraining")
+    List<Object[]> countByActivityTypeAndUsage();
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.activityforecastbackend.repository;
+
+import com.activityforecastbackend.entity.AiTrainingDataSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AiTrainingDataSummaryRepository extends JpaRepository<AiTrainingDataSummary, Long> {
+
+    @Query("SELECT s.activityType FROM AiTrainingDataSummary s")
+    List<String> findActivityTypes();
+
+    // 카운터 증분 반영 (행이 없으면 생성, 동시에 첫 행을 만드는 트랜잭션끼리도 유니크 키 충돌 없이 합산) - MySQL 전용
+    @Modifying
+    @Query(value = "INSERT INTO ai_training_data_summary (activity_type, used_count, unused_count, updated_at) " +
+            "VALUES (:activityType, GREATEST(:usedDelta, 0), GREATEST(:unusedDelta, 0), CURRENT_TIMESTAMP) " +
+            "ON DUPLICATE KEY UPDATE used_count = used_count + :usedDelta, " +
+            "unused_count = unused_count + :unusedDelta, updated_at = CURRENT_TIMESTAMP",
+            nativeQuery = true)
+    int upsertDelta(@Param("activityType") String activityType,
+                    @Param("usedDelta") long usedDelta,
+                    @Param("unusedDelta") long unusedDelta);
+
+    // 대사 결과 반영 (행이 없으면 생성, 있으면 덮어씀) - MySQL 전용
+    @Modifying
+    @Query(value = "INSERT INTO ai_training_data_summary (activity_type, used_count, unused_count, updated_at) " +
+            "VALUES (:activityType, :usedCount, :unusedCount, CURRENT_TIMESTAMP) " +
+            "ON DUPLICATE KEY UPDATE used_count = :usedCount, unused_count = :unusedCount, updated_at = CURRENT_TIMESTAMP",
+            nativeQuery = true)
+    int upsertCounts(@Param("activityType") String activityType,
+                     @Param("usedCount") long usedCount,
+                     @Param("unusedCount") long unusedCount);
+
+    @Modifying
+    @Query("DELETE FROM AiTrainingDataSummary s WHERE s.activityType IN :activityTypes")
+    int deleteByActivityTypeIn(@Param("activityTypes") Collection<String> activityTypes);
+}
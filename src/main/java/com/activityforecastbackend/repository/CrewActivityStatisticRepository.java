@@ -0,0 +1,50 @@
+package com.activityforecastbackend.repository;
+
+import com.activityforecastbackend.entity.CrewActivityStatistic;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CrewActivityStatisticRepository extends JpaRepository<CrewActivityStatistic, Long> {
+
+    // 재계산 대상 크루의 요약 행 잠금 (재계산 중 같은 행의 증분 반영은 커밋까지 대기)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM CrewActivityStatistic s WHERE s.crewId IN :crewIds")
+    List<CrewActivityStatistic> findByCrewIdInForUpdate(@Param("crewIds") Collection<Long> crewIds);
+
+    @Query("SELECT DISTINCT s.crewId FROM CrewActivityStatistic s")
+    List<Long> findDistinctCrewIds();
+
+    // 크루 통계 조회: [활동명, 완료 수] (crew_id 인덱스 조회 1회)
+    @Query("SELECT a.activityName, s.completedCount FROM CrewActivityStatistic s " +
+            "JOIN Activity a ON a.activityId = s.activityId " +
+            "WHERE s.crewId = :crewId AND s.completedCount > 0")
+    List<Object[]> findActivityCountsByCrewId(@Param("crewId") Long crewId);
+
+    // 카운터 감소 반영 (행이 없으면 0 반환 - 롤포워드/대사에서 보정)
+    @Modifying
+    @Query("UPDATE CrewActivityStatistic s SET s.completedCount = s.completedCount + :delta, " +
+            "s.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE s.crewId = :crewId AND s.activityId = :activityId")
+    int applyDelta(@Param("crewId") Long crewId,
+                   @Param("activityId") Long activityId,
+                   @Param("delta") long delta);
+
+    // 카운터 증가 반영 (행이 없으면 생성, 동시에 첫 행을 만드는 트랜잭션끼리도 유니크 키 충돌 없이 합산) - MySQL 전용
+    @Modifying
+    @Query(value = "INSERT INTO crew_activity_statistics (crew_id, activity_id, completed_count, updated_at) " +
+            "VALUES (:crewId, :activityId, :delta, CURRENT_TIMESTAMP) " +
+            "ON DUPLICATE KEY UPDATE completed_count = completed_count + :delta, updated_at = CURRENT_TIMESTAMP",
+            nativeQuery = true)
+    int upsertDelta(@Param("crewId") Long crewId,
+                    @Param("activityId") Long activityId,
+                    @Param("delta") long delta);
+}
@@ -4,10 +4,12 @@ import com.activityforecastbackend.entity.Crew;
 import com.activityforecastbackend.entity.CrewMember;
 import com.activityforecastbackend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +25,8 @@ public interface CrewMemberRepository extends JpaRepository<CrewMember, Long> {
     Optional<CrewMember> findByCrewAndUserAndIsActiveTrue(Crew crew, User user);
     
     boolean existsByCrewAndUserAndIsActiveTrue(Crew crew, User user);
+
+    boolean existsByCrew_CrewIdAndUser_UserIdAndIsActiveTrue(Long crewId, Long userId);
     
     List<CrewMember> findByCrewAndRoleAndIsActiveTrue(Crew crew, CrewMember.CrewRole role);
     
@@ -32,6 +36,21 @@ public interface CrewMemberRepository extends JpaRepository<CrewMember, Long> {
     @Query("SELECT cm FROM CrewMember cm WHERE cm.crew = :crew AND cm.role = 'MEMBER' AND cm.isActive = true")
     List<CrewMember> findMembersByCrew(@Param("crew") Crew crew);
     
+    // 여러 크루의 활성 멤버를 사용자와 함께 한 번에 조회 (크루 목록/상세 DTO 변환용)
+    @Query("SELECT cm FROM CrewMember cm JOIN FETCH cm.user " +
+            "WHERE cm.crew.crewId IN :crewIds AND cm.isActive = true " +
+            "ORDER BY cm.crew.crewId, cm.memberId")
+    List<CrewMember> findActiveWithUserByCrewIdIn(@Param("crewIds") Collection<Long> crewIds);
+    
+    // 크루 활성 멤버의 사용자 ID (알림 수신자 확정용)
+    @Query("SELECT cm.user.userId FROM CrewMember cm WHERE cm.crew.crewId = :crewId AND cm.isActive = true")
+    List<Long> findActiveUserIdsByCrewId(@Param("crewId") Long crewId);
+    
+    // 크루의 모든 활성 멤버십을 한 번에 비활성화 (크루 해체용)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CrewMember cm SET cm.isActive = false WHERE cm.crew.crewId = :crewId AND cm.isActive = true")
+    int deactivateAllByCrewId(@Param("crewId") Long crewId);
+    
     @Query("SELECT COUNT(cm) FROM CrewMember cm WHERE cm.crew = :crew AND cm.isActive = true")
     long countActiveMembers(@Param("crew") Crew crew);
     
@@ -2,11 +2,15 @@ package com.activityforecastbackend.repository;
 
 import com.activityforecastbackend.entity.Crew;
 import com.activityforecastbackend.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +21,10 @@ public interface CrewRepository extends JpaRepository<Crew, Long> {
 
     Optional<Crew> findByCrewIdAndIsDeletedFalse(Long crewId);
 
+    // 크루 상세용: 생성자(리더)를 함께 조회
+    @EntityGraph(attributePaths = "createdBy")
+    Optional<Crew> findDetailByCrewIdAndIsDeletedFalse(Long crewId);
+
     Optional<Crew> findByInviteCodeAndIsDeletedFalse(String inviteCode);
 
     List<Crew> findByCreatedByAndIsDeletedFalse(User createdBy);
@@ -24,19 +32,51 @@ public interface CrewRepository extends JpaRepository<Crew, Long> {
     @Query("SELECT c FROM Crew c WHERE c.isDeleted = false AND c.crewName LIKE %:keyword%")
     List<Crew> findByCrewNameContainingAndIsDeletedFalse(@Param("keyword") String keyword);
 
-    @Query("SELECT c FROM Crew c JOIN c.members cm WHERE cm.user = :user AND cm.isActive = true AND c.isDeleted = false")
-    List<Crew> findCrewsByMember(@Param("user") User user);
+    List<Crew> findByCrewIdInAndIsDeletedFalse(Collection<Long> crewIds);
+
+    // 텍스트 색인 적재용 경량 조회: [crewId, crewName]
+    @Query("SELECT c.crewId, c.crewName FROM Crew c WHERE c.isDeleted = false")
+    List<Object[]> findActiveCrewNames();
+
+    // 텍스트 색인 증분 동기화용 조회: since 이후 생성/수정/삭제된 크루의 [crewId, crewName, isDeleted]
+    @Query("SELECT c.crewId, c.crewName, c.isDeleted FROM Crew c WHERE c.updatedAt > :since")
+    List<Object[]> findCrewNamesUpdatedAfter(@Param("since") LocalDateTime since);
+
+    // 크루 목록용: 사용자가 활성 멤버인 크루를 생성자와 함께 한 번에 조회 (멤버 조인으로 인한 중복 없음)
+    @Query("SELECT c FROM Crew c JOIN FETCH c.createdBy " +
+            "WHERE c.isDeleted = false " +
+            "AND EXISTS (SELECT cm.memberId FROM CrewMember cm WHERE cm.crew = c AND cm.user.userId = :userId AND cm.isActive = true) " +
+            "ORDER BY c.crewId")
+    List<Crew> findCrewsWithCreatedByByMemberUserId(@Param("userId") Long userId);
 
     @Query("SELECT c FROM Crew c JOIN c.members cm WHERE cm.user = :user AND cm.role = 'LEADER' AND cm.isActive = true AND c.isDeleted = false")
     List<Crew> findCrewsByLeader(@Param("user") User user);
 
-    @Query("SELECT COUNT(cm) FROM CrewMember cm WHERE cm.crew = :crew AND cm.isActive = true")
-    long countActiveMembersByCrew(@Param("crew") Crew crew);
-
     // FETCH JOIN 쿼리에서 'cm.isActive = true' 조건을 제거하고,
     // CrewId와 isDeleted만으로 Crew와 모든 멤버십을 가져옴
     @Query("SELECT c FROM Crew c JOIN FETCH c.members cm JOIN FETCH c.createdBy WHERE c.crewId = :crewId AND c.isDeleted = false")
     Optional<Crew> findByIdWithMembers(@Param("crewId") Long crewId);
 
     boolean existsByInviteCodeAndIsDeletedFalse(String inviteCode);
+
+    boolean existsByCrewIdAndIsDeletedFalse(Long crewId);
+
+    // 정원 이내일 때만 활성 멤버 수 증가 (0이면 정원 초과 또는 해체된 크루) - 동시 가입에도 초과 불가
+    @Modifying
+    @Query("UPDATE Crew c SET c.activeMemberCount = c.activeMemberCount + 1 " +
+            "WHERE c.crewId = :crewId AND c.isDeleted = false AND c.activeMemberCount < c.maxCapacity")
+    int reserveMemberSeat(@Param("crewId") Long crewId);
+
+    // 탈퇴/제명 시 활성 멤버 수 감소
+    @Modifying
+    @Query("UPDATE Crew c SET c.activeMemberCount = c.activeMemberCount - 1 " +
+            "WHERE c.crewId = :crewId AND c.activeMemberCount > 0")
+    int releaseMemberSeat(@Param("crewId") Long crewId);
+
+    // 활성 멤버 수 카운터를 실제 멤버십과 맞춤 (어긋난 크루만 갱신)
+    @Modifying
+    @Query("UPDATE Crew c SET c.activeMemberCount = " +
+            "(SELECT COUNT(cm) FROM CrewMember cm WHERE cm.crew = c AND cm.isActive = true) " +
+            "WHERE c.activeMemberCount <> (SELECT COUNT(cm2) FROM CrewMember cm2 WHERE cm2.crew = c AND cm2.isActive = true)")
+    int recountActiveMembers();
 }
\ No newline at end of file
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +33,14 @@ public interface CrewScheduleParticipantRepository extends JpaRepository<CrewSch
     @Query("SELECT COUNT(csp) FROM CrewScheduleParticipant csp WHERE csp.crewSchedule = :crewSchedule")
     long countTotalParticipants(@Param("crewSchedule") CrewSchedule crewSchedule);
     
+    // 일정별 참가자 집계: [crewScheduleId, 전체 수, 확정 수]
+    @Query("SELECT csp.crewSchedule.crewScheduleId, COUNT(csp), " +
+            "SUM(CASE WHEN csp.isConfirmed = true THEN 1 ELSE 0 END) " +
+            "FROM CrewScheduleParticipant csp " +
+            "WHERE csp.crewSchedule.crewScheduleId IN :crewScheduleIds " +
+            "GROUP BY csp.crewSchedule.crewScheduleId")
+    List<Object[]> countParticipantsByCrewScheduleIds(@Param("crewScheduleIds") Collection<Long> crewScheduleIds);
+    
     @Query("SELECT csp FROM CrewScheduleParticipant csp WHERE csp.user = :user AND csp.isConfirmed = true")
     List<CrewScheduleParticipant> findConfirmedParticipationsByUser(@Param("user") User user);
 }
\ No newline at end of file
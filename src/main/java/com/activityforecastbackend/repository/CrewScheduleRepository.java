@@ -1,5 +1,6 @@
 package com.activityforecastbackend.repository;
 
+import com.activityforecastbackend.dto.crew.CrewScheduleRow;
 import com.activityforecastbackend.entity.Crew;
 import com.activityforecastbackend.entity.CrewSchedule;
 import com.activityforecastbackend.entity.Schedule;
@@ -36,6 +37,44 @@ public interface CrewScheduleRepository extends JpaRepository<CrewSchedule, Long
             @Param("endDate") LocalDate endDate
     );
     
+    // 사용자가 활성 멤버인 모든 크루의 기간 내 일정을 한 번에 조회 (DTO 프로젝션)
+    @Query("SELECT new com.activityforecastbackend.dto.crew.CrewScheduleRow(" +
+            "cs.crewScheduleId, c.crewId, s.scheduleId, cs.equipmentList, s.scheduleDate, s.scheduleTime, " +
+            "s.locationAddress, s.locationLatitude, s.locationLongitude, a.activityId) " +
+            "FROM CrewSchedule cs " +
+            "JOIN cs.crew c " +
+            "JOIN cs.schedule s " +
+            "LEFT JOIN s.activity a " +
+            "WHERE c.isDeleted = false " +
+            "AND s.isDeleted = false " +
+            "AND s.scheduleDate BETWEEN :startDate AND :endDate " +
+            "AND EXISTS (SELECT cm.memberId FROM CrewMember cm " +
+            "WHERE cm.crew = c AND cm.user.userId = :userId AND cm.isActive = true) " +
+            "ORDER BY s.scheduleDate, s.scheduleTime, cs.crewScheduleId")
+    List<CrewScheduleRow> findScheduleRowsForMember(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    // 크루 한 곳의 기간 내 일정 (DTO 프로젝션)
+    @Query("SELECT new com.activityforecastbackend.dto.crew.CrewScheduleRow(" +
+            "cs.crewScheduleId, c.crewId, s.scheduleId, cs.equipmentList, s.scheduleDate, s.scheduleTime, " +
+            "s.locationAddress, s.locationLatitude, s.locationLongitude, a.activityId) " +
+            "FROM CrewSchedule cs " +
+            "JOIN cs.crew c " +
+            "JOIN cs.schedule s " +
+            "LEFT JOIN s.activity a " +
+            "WHERE c.crewId = :crewId " +
+            "AND s.isDeleted = false " +
+            "AND s.scheduleDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY s.scheduleDate, s.scheduleTime, cs.crewScheduleId")
+    List<CrewScheduleRow> findScheduleRowsByCrewId(
+            @Param("crewId") Long crewId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+    
     @Query("SELECT COUNT(cs) FROM CrewSchedule cs WHERE cs.crew = :crew AND cs.schedule.isDeleted = false")
     long countByCrewAndScheduleIsDeletedFalse(@Param("crew") Crew crew);
     
@@ -0,0 +1,33 @@
+package com.activityforecastbackend.repository;
+
+import com.activityforecastbackend.entity.ExternalPlace;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ExternalPlaceRepository extends JpaRepository<ExternalPlace, Long>, ExternalPlaceRepositoryCustom {
+
+    @Query("SELECT p FROM ExternalPlace p " +
+           "LEFT JOIN FETCH p.location l LEFT JOIN FETCH l.activity a LEFT JOIN FETCH a.category " +
+           "WHERE p.kakaoPlaceId IN :kakaoPlaceIds")
+    List<ExternalPlace> findByKakaoPlaceIdIn(@Param("kakaoPlaceIds") Collection<String> kakaoPlaceIds);
+
+    @Query("SELECT p FROM ExternalPlace p " +
+           "LEFT JOIN FETCH p.location l LEFT JOIN FETCH l.activity a LEFT JOIN FETCH a.category " +
+           "WHERE p.externalPlaceId IN :externalPlaceIds")
+    List<ExternalPlace> findByExternalPlaceIdIn(@Param("externalPlaceIds") Collection<Long> externalPlaceIds);
+
+    @Query("SELECT p FROM ExternalPlace p " +
+           "LEFT JOIN FETCH p.location l LEFT JOIN FETCH l.activity a LEFT JOIN FETCH a.category " +
+           "WHERE p.latitude BETWEEN :minLat AND :maxLat AND p.longitude BETWEEN :minLon AND :maxLon")
+    List<ExternalPlace> findInBoundingBox(@Param("minLat") BigDecimal minLat,
+                                          @Param("maxLat") BigDecimal maxLat,
+                                          @Param("minLon") BigDecimal minLon,
+                                          @Param("maxLon") BigDecimal maxLon);
+}
@@ -0,0 +1,19 @@
+package com.activityforecastbackend.repository;
+
+import com.activityforecastbackend.entity.ExternalPlace;
+
+import java.util.Collection;
+
+/**
+ * 수집 장소 일괄 반영 (DB 방언별 구현)
+ */
+public interface ExternalPlaceRepositoryCustom {
+
+    /**
+     * 카카오 장소 ID 기준으로 일괄 upsert (없으면 추가, 있으면 장소 정보/연결 장소/수집 시각 갱신)
+     * 전달한 엔티티는 값만 읽으며, 영속 상태로 만들지 않습니다.
+     *
+     * @return 반영한 장소 수
+     */
+    int upsertByKakaoPlaceId(Collection<ExternalPlace> places);
+}
@@ -0,0 +1,140 @@
+package com.activityforecastbackend.repository;
+
+import com.activityforecastbackend.entity.ExternalPlace;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.query.TypedParameterValue;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 수집 장소 일괄 upsert 구현
+ * MySQL에서는 카카오 장소 ID 유니크 키에 대한 다중 행 INSERT ... ON DUPLICATE KEY UPDATE 한 번으로 반영하여
+ * 행마다 INSERT(IDENTITY 키라 JDBC 배치 불가)하지 않고, 동시에 같은 장소를 수집하는 요청끼리도 유니크 키 충돌이 나지 않습니다.
+ * 그 외 DB(H2 등)에서는 카카오 장소 ID로 조회한 뒤 JPA로 갱신/추가합니다.
+ */
+public class ExternalPlaceRepositoryCustomImpl implements ExternalPlaceRepositoryCustom {
+
+    // 한 문장에 담는 최대 행 수 (행당 파라미터 14개)
+    private static final int UPSERT_CHUNK_SIZE = 200;
+
+    private static final String UPSERT_COLUMNS =
+            "INSERT INTO external_places (kakao_place_id, place_name, category_group_code, category_group_name, " +
+            "category_name, address, road_address, phone, place_url, latitude, longitude, location_id, " +
+            "harvested_at, created_at) VALUES ";
+
+    private static final String UPSERT_UPDATE =
+            " ON DUPLICATE KEY UPDATE place_name = VALUES(place_name), " +
+            "category_group_code = VALUES(category_group_code), category_group_name = VALUES(category_group_name), " +
+            "category_name = VALUES(category_name), address = VALUES(address), road_address = VALUES(road_address), " +
+            "phone = VALUES(phone), place_url = VALUES(place_url), latitude = VALUES(latitude), " +
+            "longitude = VALUES(longitude), location_id = VALUES(location_id), harvested_at = VALUES(harvested_at)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean mysqlDialect;
+
+    @Override
+    public int upsertByKakaoPlaceId(Collection<ExternalPlace> places) {
+        if (places.isEmpty()) {
+            return 0;
+        }
+        return isMySqlDialect() ? upsertWithNativeQuery(places) : upsertWithEntities(places);
+    }
+
+    /**
+     * MySQL 경로: 다중 행 INSERT ... ON DUPLICATE KEY UPDATE
+     */
+    private int upsertWithNativeQuery(Collection<ExternalPlace> places) {
+        List<ExternalPlace> rows = new ArrayList<>(places);
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < rows.size(); from += UPSERT_CHUNK_SIZE) {
+            List<ExternalPlace> chunk = rows.subList(from, Math.min(from + UPSERT_CHUNK_SIZE, rows.size()));
+
+            StringBuilder sql = new StringBuilder(UPSERT_COLUMNS);
+            for (int i = 0; i < chunk.size(); i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+                sql.append("(:kakaoPlaceId").append(i).append(", :placeName").append(i)
+                        .append(", :categoryGroupCode").append(i).append(", :categoryGroupName").append(i)
+                        .append(", :categoryName").append(i).append(", :address").append(i)
+                        .append(", :roadAddress").append(i).append(", :phone").append(i)
+                        .append(", :placeUrl").append(i).append(", :latitude").append(i)
+                        .append(", :longitude").append(i).append(", :locationId").append(i)
+                        .append(", :harvestedAt").append(i).append(", :createdAt").append(i).append(')');
+            }
+            sql.append(UPSERT_UPDATE);
+
+            Query query = entityManager.createNativeQuery(sql.toString());
+            for (int i = 0; i < chunk.size(); i++) {
+                ExternalPlace place = chunk.get(i);
+                query.setParameter("kakaoPlaceId" + i, place.getKakaoPlaceId())
+                        .setParameter("placeName" + i, place.getPlaceName())
+                        .setParameter("categoryGroupCode" + i, new TypedParameterValue<>(StandardBasicTypes.STRING, place.getCategoryGroupCode()))
+                        .setParameter("categoryGroupName" + i, new TypedParameterValue<>(StandardBasicTypes.STRING, place.getCategoryGroupName()))
+                        .setParameter("categoryName" + i, new TypedParameterValue<>(StandardBasicTypes.STRING, place.getCategoryName()))
+                        .setParameter("address" + i, new TypedParameterValue<>(StandardBasicTypes.STRING, place.getAddress()))
+                        .setParameter("roadAddress" + i, new TypedParameterValue<>(StandardBasicTypes.STRING, place.getRoadAddress()))
+                        .setParameter("phone" + i, new TypedParameterValue<>(StandardBasicTypes.STRING, place.getPhone()))
+                        .setParameter("placeUrl" + i, new TypedParameterValue<>(StandardBasicTypes.STRING, place.getPlaceUrl()))
+                        .setParameter("latitude" + i, place.getLatitude())
+                        .setParameter("longitude" + i, place.getLongitude())
+                        .setParameter("locationId" + i, new TypedParameterValue<>(StandardBasicTypes.LONG,
+                                place.getLocation() != null ? place.getLocation().getLocationId() : null))
+                        .setParameter("harvestedAt" + i, place.getHarvestedAt())
+                        .setParameter("createdAt" + i, now);
+            }
+            query.executeUpdate();
+        }
+        return rows.size();
+    }
+
+    /**
+     * 이식 가능한 경로: 카카오 장소 ID로 한 번에 조회한 뒤 기존 장소는 갱신, 없는 장소는 새 엔티티로 추가
+     */
+    private int upsertWithEntities(Collection<ExternalPlace> places) {
+        List<String> kakaoPlaceIds = places.stream().map(ExternalPlace::getKakaoPlaceId).toList();
+        Map<String, ExternalPlace> existing = new HashMap<>();
+        for (ExternalPlace place : entityManager.createQuery(
+                        "SELECT p FROM ExternalPlace p WHERE p.kakaoPlaceId IN :kakaoPlaceIds", ExternalPlace.class)
+                .setParameter("kakaoPlaceIds", kakaoPlaceIds)
+                .getResultList()) {
+            existing.put(place.getKakaoPlaceId(), place);
+        }
+
+        for (ExternalPlace place : places) {
+            ExternalPlace target = existing.get(place.getKakaoPlaceId());
+            boolean created = target == null;
+            if (created) {
+                target = ExternalPlace.createPlace(place.getKakaoPlaceId());
+                existing.put(place.getKakaoPlaceId(), target);
+            }
+            target.updateDetails(place.getPlaceName(), place.getCategoryGroupCode(), place.getCategoryGroupName(),
+                    place.getCategoryName(), place.getAddress(), place.getRoadAddress(), place.getPhone(),
+                    place.getPlaceUrl(), place.getLatitude(), place.getLongitude(), place.getHarvestedAt());
+            target.linkLocation(place.getLocation());
+            if (created) {
+                entityManager.persist(target);
+            }
+        }
+        return places.size();
+    }
+
+    private boolean isMySqlDialect() {
+        Boolean cached = mysqlDialect;
+        if (cached == null) {
+            cached = MySqlDialects.isMySql(entityManager);
+            mysqlDialect = cached;
+        }
+        return cached;
+    }
+}
@@ -0,0 +1,28 @@
+package com.activityforecastbackend.repository;
+
+import com.activityforecastbackend.entity.GeocodeCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface GeocodeCacheRepository extends JpaRepository<GeocodeCacheEntry, Long> {
+
+    Optional<GeocodeCacheEntry> findByNormalizedAddress(String normalizedAddress);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM GeocodeCacheEntry g WHERE g.normalizedAddress = :normalizedAddress")
+    int deleteByNormalizedAddress(@Param("normalizedAddress") String normalizedAddress);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM GeocodeCacheEntry g WHERE g.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
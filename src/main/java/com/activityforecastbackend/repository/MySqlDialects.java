@@ -0,0 +1,25 @@
+package com.activityforecastbackend.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MariaDBDialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * MySQL 전용 네이티브 쿼리 경로를 사용할 수 있는 방언인지 판정
+ */
+final class MySqlDialects {
+
+    private MySqlDialects() {
+    }
+
+    static boolean isMySql(EntityManager entityManager) {
+        Dialect dialect = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect();
+        // MariaDB는 SRID 컬럼 속성과 axis-order 옵션을 지원하지 않음
+        return dialect instanceof MySQLDialect && !(dialect instanceof MariaDBDialect);
+    }
+}
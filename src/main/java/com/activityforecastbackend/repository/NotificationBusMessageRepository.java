@@ -0,0 +1,30 @@
+package com.activityforecastbackend.repository;
+
+import com.activityforecastbackend.entity.NotificationBusMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationBusMessageRepository extends JpaRepository<NotificationBusMessage, Long> {
+
+    List<NotificationBusMessage> findByMessageIdGreaterThanOrderByMessageIdAsc(Long messageId, Pageable pageable);
+
+    List<NotificationBusMessage> findByMessageIdInOrderByMessageIdAsc(Collection<Long> messageIds);
+
+    @Query("SELECT MAX(m.messageId) FROM NotificationBusMessage m")
+    Long findMaxMessageId();
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM NotificationBusMessage m WHERE m.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
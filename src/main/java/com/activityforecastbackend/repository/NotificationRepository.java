@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -39,6 +40,23 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("DELETE FROM Notification n WHERE n.notificationId = :notificationId AND n.user.userId = :userId")
     void deleteByNotificationIdAndUserId(@Param("notificationId") Long notificationId, @Param("userId") Long userId);
     
+    // 여러 사용자에게 같은 알림을 INSERT ... SELECT 한 문장으로 생성 (수신자 수와 무관, 없는 사용자는 제외)
+    @Modifying
+    @Query(value = "INSERT INTO notifications (user_id, notification_type, title, content, related_id, related_type, is_read, created_at, batch_id) " +
+            "SELECT u.user_id, :notificationType, :title, :content, :relatedId, :relatedType, false, :createdAt, :batchId " +
+            "FROM users u WHERE u.user_id IN (:userIds)", nativeQuery = true)
+    int insertForUsers(@Param("userIds") Collection<Long> userIds,
+                       @Param("notificationType") String notificationType,
+                       @Param("title") String title,
+                       @Param("content") String content,
+                       @Param("relatedId") Long relatedId,
+                       @Param("relatedType") String relatedType,
+                       @Param("createdAt") LocalDateTime createdAt,
+                       @Param("batchId") String batchId);
+
+    // 일괄 생성한 알림을 배치 식별자로 다시 조회 (SSE 푸시용, 사용자는 식별자만 사용)
+    List<Notification> findByBatchId(String batchId);
+    
     @Query("SELECT n FROM Notification n WHERE n.user = :user AND n.createdAt >= :since ORDER BY n.createdAt DESC")
     List<Notification> findRecentNotificationsByUser(@Param("user") User user, @Param("since") LocalDateTime since);
     
@@ -0,0 +1,13 @@
+package com.activityforecastbackend.repository;
+
+import com.activityforecastbackend.entity.PlaceHarvestCoverage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface PlaceHarvestCoverageRepository extends JpaRepository<PlaceHarvestCoverage, Long> {
+
+    Optional<PlaceHarvestCoverage> findByQueryKeyAndTileAndRadiusBucket(String queryKey, String tile, Integer radiusBucket);
+}
@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,17 +33,29 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
 
     List<Schedule> findByActivityAndIsDeletedFalse(Activity activity);
 
-    // 추가: 크루의 완료된 활동 통계를 계산
-    @Query("SELECT a.activityName, CAST(COUNT(s) AS long) FROM Schedule s JOIN s.activity a " + // ⭐ COUNT 결과를 long으로 명시적 CAST
-            "WHERE s.crew.crewId = :crewId AND s.isDeleted = false " +
+    // 크루 활동 통계 전체 재계산 대상: 완료 일정이 있는 크루 ID
+    @Query("SELECT DISTINCT s.crew.crewId FROM Schedule s " +
+            "WHERE s.crew IS NOT NULL AND s.activity IS NOT NULL AND s.isDeleted = false " +
+            "AND s.scheduleDate < :currentDate")
+    List<Long> findCrewIdsWithCompletedSchedules(@Param("currentDate") LocalDate currentDate);
+
+    // 크루 활동 통계 부분 재계산용: [crewId, activityId, 완료 수]
+    @Query("SELECT s.crew.crewId, s.activity.activityId, COUNT(s) FROM Schedule s " +
+            "WHERE s.crew.crewId IN :crewIds AND s.activity IS NOT NULL AND s.isDeleted = false " +
             "AND s.scheduleDate < :currentDate " +
-            "GROUP BY a.activityName " +
-            "ORDER BY COUNT(s) DESC")
-    List<Object[]> findCrewActivityStatistics(
-            @Param("crewId") Long crewId,
+            "GROUP BY s.crew.crewId, s.activity.activityId")
+    List<Object[]> countCompletedCrewSchedulesByCrewIdIn(
+            @Param("crewIds") Collection<Long> crewIds,
             @Param("currentDate") LocalDate currentDate
     );
 
+    // 기간 내(시작일 포함, 종료일 제외) 일정이 있는 크루 ID
+    @Query("SELECT DISTINCT s.crew.crewId FROM Schedule s " +
+            "WHERE s.crew IS NOT NULL AND s.scheduleDate >= :startDate AND s.scheduleDate < :endDate")
+    List<Long> findCrewIdsWithSchedulesBetween(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
 
     @Query("SELECT s FROM Schedule s WHERE s.user = :user AND s.isDeleted = false AND s.crew IS NULL")
     List<Schedule> findPersonalSchedulesByUser(@Param("user") User user);
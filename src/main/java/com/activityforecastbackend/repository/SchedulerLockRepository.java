@@ -0,0 +1,37 @@
+package com.activityforecastbackend.repository;
+
+import com.activityforecastbackend.entity.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    // 잠금 획득 (만료된 경우만 갱신 - 동시에 시도한 노드 중 한 노드만 1 반환)
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :lockedUntil, l.lockedAt = :now, l.lockedBy = :lockedBy " +
+            "WHERE l.lockName = :lockName AND l.lockedUntil <= :now")
+    int acquire(@Param("lockName") String lockName,
+                @Param("now") LocalDateTime now,
+                @Param("lockedUntil") LocalDateTime lockedUntil,
+                @Param("lockedBy") String lockedBy);
+
+    // 처음 실행되는 작업의 잠금 행 생성 (이미 있으면 기본 키 충돌 - merge로 다른 노드의 잠금을 덮어쓰지 않도록 INSERT만 수행)
+    @Modifying
+    @Query(value = "INSERT INTO scheduler_locks (lock_name, locked_until) VALUES (:lockName, :lockedUntil)",
+            nativeQuery = true)
+    int insertLock(@Param("lockName") String lockName, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    // 잠금 해제 (획득한 노드만, lockedUntil까지는 다른 노드가 다시 실행하지 않음)
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :lockedUntil " +
+            "WHERE l.lockName = :lockName AND l.lockedBy = :lockedBy")
+    int release(@Param("lockName") String lockName,
+                @Param("lockedUntil") LocalDateTime lockedUntil,
+                @Param("lockedBy") String lockedBy);
+}
@@ -0,0 +1,181 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.admin.CacheStatsResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 활동 카탈로그 응답 본문 캐시
+ * 스냅샷 버전별로 직렬화된 JSON(UTF-8)과 gzip 바이트를 보관하여, 데이터가 바뀌지 않는 동안
+ * DTO 변환과 Jackson 직렬화 없이 같은 바이트 배열을 그대로 응답 스트림에 씁니다.
+ * 스냅샷 버전이 바뀌면 이전 버전의 항목은 통째로 버려집니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivityCatalogResponseCache {
+
+    private final ActivityCatalogService activityCatalogService;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicReference<VersionedBodies> bodies = new AtomicReference<>(new VersionedBodies(""));
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * 직렬화된 응답 본문 (배열은 공유되므로 수정 금지)
+     */
+    public record SerializedBody(byte[] json, byte[] gzip) {
+
+        /**
+         * 클라이언트가 gzip을 받으면 압축본을, 아니면 원본을 그대로 응답
+         */
+        public ResponseEntity<byte[]> toResponse(String acceptEncoding) {
+            boolean gzipped = acceptsGzip(acceptEncoding);
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (gzipped) {
+                builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            byte[] body = gzipped ? gzip : json;
+            return builder.contentLength(body.length).body(body);
+        }
+    }
+
+    /**
+     * 스냅샷 버전과 응답 인코딩별 ETag (gzip 본문과 원본은 바이트가 다르므로 서로 다른 강한 ETag 사용)
+     */
+    public static String etag(String version, String acceptEncoding) {
+        return acceptsGzip(acceptEncoding) ? version + "-gzip" : version;
+    }
+
+    private record VersionedBodies(String version, Map<String, SerializedBody> entries) {
+        VersionedBodies(String version) {
+            this(version, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * 스냅샷 버전과 키에 해당하는 직렬화 본문 조회 (없으면 body를 직렬화하여 저장)
+     * body에서 발생한 예외(404 등)는 그대로 전파되며 캐싱되지 않습니다.
+     */
+    public SerializedBody get(ActivityCatalogSnapshot snapshot, String key, Supplier<Object> body) {
+        VersionedBodies current = bodiesFor(snapshot);
+        if (current == null) {
+            // 요청 처리 중 스냅샷이 교체됨 - 이전 버전은 캐싱하지 않음
+            missCount.incrementAndGet();
+            return serialize(body.get());
+        }
+
+        SerializedBody cached = current.entries().get(key);
+        if (cached != null) {
+            hitCount.incrementAndGet();
+            return cached;
+        }
+        missCount.incrementAndGet();
+        return current.entries().computeIfAbsent(key, k -> serialize(body.get()));
+    }
+
+    public void evictAll() {
+        bodies.set(new VersionedBodies(""));
+        log.info("활동 카탈로그 응답 캐시 전체 제거 완료");
+    }
+
+    public CacheStatsResponse getStats() {
+        CacheStatsResponse stats = CacheStatsResponse.of("activity-catalog.response", hitCount.get(), missCount.get());
+        stats.setSize(bodies.get().entries().size());
+        return stats;
+    }
+
+    /**
+     * 스냅샷 버전의 본문 저장소 (버전이 바뀌었으면 새 저장소로 교체, 이미 지난 스냅샷이면 null)
+     */
+    private VersionedBodies bodiesFor(ActivityCatalogSnapshot snapshot) {
+        while (true) {
+            VersionedBodies current = bodies.get();
+            if (current.version().equals(snapshot.getVersion())) {
+                return current;
+            }
+            if (!activityCatalogService.getSnapshot().getVersion().equals(snapshot.getVersion())) {
+                return null;
+            }
+            VersionedBodies replaced = new VersionedBodies(snapshot.getVersion());
+            if (bodies.compareAndSet(current, replaced)) {
+                log.debug("활동 카탈로그 응답 캐시 교체: {} -> {}", current.version(), snapshot.getVersion());
+                return replaced;
+            }
+        }
+    }
+
+    private SerializedBody serialize(Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            return new SerializedBody(json, gzip(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("활동 카탈로그 응답 직렬화 실패", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Accept-Encoding에 gzip이 q=0 이 아닌 값으로 포함되어 있는지 확인
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (!coding.equals("gzip") && !coding.equals("*")) {
+                continue;
+            }
+            boolean disabled = false;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim().toLowerCase(Locale.ROOT);
+                if (param.startsWith("q=") && isZero(param.substring(2))) {
+                    disabled = true;
+                }
+            }
+            if (!disabled) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZero(String quality) {
+        try {
+            return Double.parseDouble(quality.trim()) == 0.0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.admin.ActivityCatalogStatusResponse;
+import com.activityforecastbackend.event.ActivityCatalogChangedEvent;
+import com.activityforecastbackend.repository.ActivityCategoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 활동 카탈로그 스냅샷 관리 서비스
+ * 거의 변하지 않는 카테고리/활동 목록을 fetch join 한 번으로 읽어 불변 스냅샷으로 보관하고,
+ * 조회 API는 DB 접근 없이 스냅샷을 그대로 반환합니다.
+ * 변경 이벤트(커밋 후) 또는 주기적 재생성 시 버전이 달라진 경우에만 스냅샷을 원자적으로 교체합니다.
+ * 스냅샷 조회는 getSnapshot()의 자기 호출이나 커밋 후 이벤트에서도 실행되므로 프록시(@Transactional)가 아닌
+ * 읽기 전용 새 트랜잭션 템플릿으로 감쌉니다.
+ */
+@Slf4j
+@Service
+public class ActivityCatalogService {
+
+    private final ActivityCategoryRepository activityCategoryRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final AtomicReference<ActivityCatalogSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong swapCount = new AtomicLong();
+
+    public ActivityCatalogService(ActivityCategoryRepository activityCategoryRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.activityCategoryRepository = activityCategoryRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 현재 스냅샷 (시작 적재 전 요청이면 즉시 적재)
+     */
+    public ActivityCatalogSnapshot getSnapshot() {
+        ActivityCatalogSnapshot current = snapshot.get();
+        return current != null ? current : refresh();
+    }
+
+    /**
+     * 스냅샷 재생성 - 버전이 같으면 기존 스냅샷 유지
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${activity.catalog.refresh-interval-ms:60000}",
+            initialDelayString = "${activity.catalog.refresh-interval-ms:60000}")
+    public ActivityCatalogSnapshot refresh() {
+        // 조회한 엔티티를 DTO로 변환할 때까지 같은 트랜잭션(영속성 컨텍스트) 안에서 처리
+        ActivityCatalogSnapshot built = readOnlyTransaction.execute(status ->
+                ActivityCatalogSnapshot.build(activityCategoryRepository.findAllWithActivities()));
+        ActivityCatalogSnapshot result = snapshot.accumulateAndGet(built, (previous, candidate) ->
+                previous != null && previous.getVersion().equals(candidate.getVersion()) ? previous : candidate);
+        if (result == built) {
+            swapCount.incrementAndGet();
+            log.info("활동 카탈로그 스냅샷 교체: version={}, 카테고리 {}개, 활동 {}개",
+                    built.getVersion(), built.getCategoryCount(), built.getActivityCount());
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(ActivityCatalogChangedEvent event) {
+        log.info("활동 카탈로그 변경 감지: {}", event.getReason());
+        refresh();
+    }
+
+    public ActivityCatalogStatusResponse getStatus() {
+        ActivityCatalogSnapshot current = getSnapshot();
+        return ActivityCatalogStatusResponse.builder()
+                .version(current.getVersion())
+                .builtAt(current.getBuiltAt())
+                .categoryCount(current.getCategoryCount())
+                .activityCount(current.getActivityCount())
+                .swapCount(swapCount.get())
+                .build();
+    }
+}
@@ -0,0 +1,146 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.activity.ActivityCategoryDto;
+import com.activityforecastbackend.dto.activity.ActivityDto;
+import com.activityforecastbackend.entity.Activity;
+import com.activityforecastbackend.entity.ActivityCategory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 활동 카탈로그 불변 스냅샷
+ * 카테고리/활동 DTO 트리를 한 번 만들어 두고 교체 전까지 그대로 공유합니다. (반환된 DTO를 수정하면 안 됨)
+ * version은 내용(ID, 이름, 수정 시각 등)의 해시라 인스턴스가 달라도 같은 데이터면 같은 값이며 ETag로 사용합니다.
+ */
+public final class ActivityCatalogSnapshot {
+
+    private final String version;
+    private final LocalDateTime builtAt;
+    private final List<ActivityDto> activities;
+    private final List<ActivityCategoryDto> categories;
+    private final Map<Long, List<ActivityDto>> activitiesByCategory;
+    private final Map<Long, ActivityDto> activitiesById;
+
+    private ActivityCatalogSnapshot(String version, List<ActivityDto> activities, List<ActivityCategoryDto> categories,
+                                    Map<Long, List<ActivityDto>> activitiesByCategory, Map<Long, ActivityDto> activitiesById) {
+        this.version = version;
+        this.builtAt = LocalDateTime.now();
+        this.activities = activities;
+        this.categories = categories;
+        this.activitiesByCategory = activitiesByCategory;
+        this.activitiesById = activitiesById;
+    }
+
+    /**
+     * 카테고리명순 카테고리(활동 fetch join 완료)로 스냅샷 생성 - 삭제된 활동은 제외
+     */
+    public static ActivityCatalogSnapshot build(List<ActivityCategory> categories) {
+        List<ActivityDto> allActivities = new ArrayList<>();
+        List<ActivityCategoryDto> categoryDtos = new ArrayList<>(categories.size());
+        Map<Long, List<ActivityDto>> byCategory = new LinkedHashMap<>();
+        Map<Long, ActivityDto> byId = new HashMap<>();
+        MessageDigest digest = sha256();
+
+        for (ActivityCategory category : categories) {
+            List<ActivityDto> categoryActivities = new ArrayList<>();
+            for (Activity activity : category.getActivities()) {
+                if (Boolean.TRUE.equals(activity.getIsDeleted())) {
+                    continue;
+                }
+                categoryActivities.add(ActivityDto.from(activity));
+            }
+            categoryActivities.sort(Comparator.comparing(ActivityDto::getActivityName)
+                    .thenComparing(ActivityDto::getActivityId));
+            List<ActivityDto> unmodifiableActivities = Collections.unmodifiableList(categoryActivities);
+
+            categoryDtos.add(ActivityCategoryDto.from(category, unmodifiableActivities));
+            byCategory.put(category.getCategoryId(), unmodifiableActivities);
+            allActivities.addAll(categoryActivities);
+            for (ActivityDto activity : categoryActivities) {
+                byId.put(activity.getActivityId(), activity);
+            }
+
+            update(digest, "C", category.getCategoryId(), category.getCategoryName(), category.getDescription());
+            for (ActivityDto activity : categoryActivities) {
+                update(digest, "A", activity.getActivityId(), activity.getActivityName(), activity.getUpdatedAt());
+            }
+        }
+        allActivities.sort(Comparator.comparing(ActivityDto::getActivityName).thenComparing(ActivityDto::getActivityId));
+
+        String version = HexFormat.of().formatHex(digest.digest(), 0, 8);
+        return new ActivityCatalogSnapshot(version,
+                Collections.unmodifiableList(allActivities),
+                Collections.unmodifiableList(categoryDtos),
+                Collections.unmodifiableMap(byCategory),
+                Collections.unmodifiableMap(byId));
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getBuiltAt() {
+        return builtAt;
+    }
+
+    /**
+     * 전체 활동 (활동명순)
+     */
+    public List<ActivityDto> getActivities() {
+        return activities;
+    }
+
+    /**
+     * 카테고리별 활동 트리 (카테고리명순)
+     */
+    public List<ActivityCategoryDto> getCategories() {
+        return categories;
+    }
+
+    /**
+     * 카테고리의 활동 목록 (카테고리가 없으면 null)
+     */
+    public List<ActivityDto> getActivitiesByCategory(Long categoryId) {
+        return activitiesByCategory.get(categoryId);
+    }
+
+    public ActivityDto getActivity(Long activityId) {
+        return activitiesById.get(activityId);
+    }
+
+    public int getCategoryCount() {
+        return categories.size();
+    }
+
+    public int getActivityCount() {
+        return activities.size();
+    }
+
+    private static void update(MessageDigest digest, String type, Object... values) {
+        StringBuilder line = new StringBuilder(type);
+        for (Object value : values) {
+            line.append('\u001f').append(value);
+        }
+        line.append('\n');
+        digest.update(line.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -1,25 +1,38 @@
 package com.activityforecastbackend.service;
 
+import com.activityforecastbackend.dto.PageResponse;
 import com.activityforecastbackend.dto.activity.ActivityLocationCreateRequest;
 import com.activityforecastbackend.dto.activity.ActivityLocationDto;
 import com.activityforecastbackend.dto.activity.LocationSearchRequest;
 import com.activityforecastbackend.dto.activity.KakaoPlaceDto;
+import com.activityforecastbackend.dto.activity.NearbyLocationDto;
+import com.activityforecastbackend.dto.activity.NearbyLocationPageResponse;
 import com.activityforecastbackend.entity.Activity;
 import com.activityforecastbackend.entity.ActivityLocation;
+import com.activityforecastbackend.event.ActivityLocationChangedEvent;
 import com.activityforecastbackend.exception.BadRequestException;
 import com.activityforecastbackend.exception.ResourceNotFoundException;
 import com.activityforecastbackend.repository.ActivityLocationRepository;
+import com.activityforecastbackend.repository.ActivityLocationRepositoryCustom.NearbyLocation;
 import com.activityforecastbackend.repository.ActivityRepository;
 import com.activityforecastbackend.util.DistanceCalculator;
+import com.activityforecastbackend.util.NgramIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -31,6 +44,24 @@ public class ActivityLocationService {
     private final ActivityLocationRepository activityLocationRepository;
     private final ActivityRepository activityRepository;
     private final KakaoLocationService kakaoLocationService;
+    private final PlaceHarvestService placeHarvestService;
+    private final TextSearchIndexService textSearchIndexService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 같은 장소로 간주하는 거리 (m)
+    private static final double DUPLICATE_RADIUS_METERS = 100.0;
+    // 위도 1도당 거리 (m)
+    private static final double METERS_PER_DEGREE = 111_320.0;
+    // 외부 장소 검색 기본 페이지 크기 (카카오 API 1페이지 크기와 동일)
+    private static final int DEFAULT_EXTERNAL_PAGE_SIZE = 15;
+    // 스포츠시설 카테고리 코드
+    private static final String SPORTS_FACILITY_CATEGORY = "SW8";
+    // 등록 장소 반경 검색 최대 반경 (km)
+    private static final double MAX_RADIUS_KM = 50.0;
+    // 주변 장소/텍스트 검색 페이지 최대 크기
+    private static final int MAX_PAGE_SIZE = 100;
+    // 비페이지 키워드 검색 최대 결과 수 (관련도순 상위, 전체는 텍스트 검색 페이지 조회)
+    private static final int MAX_KEYWORD_RESULTS = 100;
 
     /**
      * 모든 활동 장소 조회
@@ -75,7 +106,8 @@ public class ActivityLocationService {
 
 
     /**
-     * 키워드로 장소 검색
+     * 키워드로 장소 검색 (장소명/주소 텍스트 색인, 관련도순 상위 MAX_KEYWORD_RESULTS개)
+     * 기존 장소명 LIKE 검색과 달리 주소에 키워드가 포함된 장소도 반환합니다. (API 설명의 "장소명이나 주소"와 일치)
      */
     public List<ActivityLocationDto> searchLocationsByKeyword(String keyword) {
         log.info("Searching locations by keyword: {}", keyword);
@@ -84,13 +116,144 @@ public class ActivityLocationService {
             return getAllLocations();
         }
         
-        List<ActivityLocation> locations = activityLocationRepository.findByLocationNameContainingAndIsDeletedFalse(keyword);
-        
+        NgramIndex.Result result = textSearchIndexService.searchLocations(keyword, 0, MAX_KEYWORD_RESULTS);
+        if (result.total() > MAX_KEYWORD_RESULTS) {
+            log.info("Keyword search '{}' matched {} locations, returning top {}", keyword, result.total(), MAX_KEYWORD_RESULTS);
+        }
+        return loadLocationsInOrder(result.hits(), keyword);
+    }
+
+    /**
+     * 장소명/주소 텍스트 검색 (관련도순 페이지, page는 1부터)
+     */
+    public PageResponse<ActivityLocationDto> searchLocationsByText(String keyword, int page, int size) {
+        log.info("Searching locations by text: {} (page={}, size={})", keyword, page, size);
+
+        if (page < 1 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("페이지는 1 이상, 페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        if (!StringUtils.hasText(keyword)) {
+            throw new BadRequestException("검색어를 입력해주세요.");
+        }
+
+        NgramIndex.Result result = textSearchIndexService.searchLocations(
+                keyword, (int) Math.min((long) (page - 1) * size, Integer.MAX_VALUE), size);
+        return PageResponse.of(loadLocationsInOrder(result.hits(), keyword), page, size, result.total());
+    }
+
+    /**
+     * 검색 결과 ID를 활동/카테고리와 함께 한 번에 조회하고 관련도 순서를 유지
+     * 색인이 다른 인스턴스의 변경을 아직 모를 수 있으므로, 삭제되었거나 이름/주소가 바뀌어 더 이상 일치하지 않는 장소는 제외합니다.
+     */
+    private List<ActivityLocationDto> loadLocationsInOrder(List<NgramIndex.Hit> hits, String keyword) {
+        if (hits.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> ids = hits.stream().map(NgramIndex.Hit::id).collect(Collectors.toList());
+        Map<Long, ActivityLocation> locations = new HashMap<>();
+        for (ActivityLocation location : activityLocationRepository.findWithActivityByLocationIdInAndIsDeletedFalse(ids)) {
+            locations.put(location.getLocationId(), location);
+        }
+        String normalizedKeyword = NgramIndex.normalize(keyword);
+        return ids.stream()
+                .map(locations::get)
+                .filter(Objects::nonNull)
+                .filter(location -> NgramIndex.normalize(location.getLocationName()).contains(normalizedKeyword)
+                        || NgramIndex.normalize(location.getAddress()).contains(normalizedKeyword))
+                .map(ActivityLocationDto::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 중심 좌표 반경 내 등록 장소를 가까운 순으로 조회 (MySQL에서는 공간 인덱스 사용)
+     */
+    public List<ActivityLocationDto> getLocationsWithinRadius(BigDecimal latitude, BigDecimal longitude, BigDecimal radiusKm) {
+        log.info("Fetching locations within {}km of ({}, {})", radiusKm, latitude, longitude);
+
+        if (radiusKm.signum() <= 0 || radiusKm.doubleValue() > MAX_RADIUS_KM) {
+            throw new BadRequestException("검색 반경은 0km 초과 " + (int) MAX_RADIUS_KM + "km 이하여야 합니다.");
+        }
+
+        List<ActivityLocation> locations = activityLocationRepository.findLocationsByDistanceAndIsDeletedFalse(
+                latitude, longitude, radiusKm.doubleValue());
+
         return locations.stream()
                 .map(ActivityLocationDto::from)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 주변 활동 장소를 가까운 순으로 페이지 단위 조회 (DB 공간 인덱스 k-최근접 + (거리, ID) 키셋 커서)
+     * 페이지마다 DB에서 size + 1개만 찾고 해당 ID만 엔티티로 조회하므로 밀집 지역에서도 작업량이 일정하며,
+     * 다른 인스턴스에서 등록/삭제한 장소도 바로 반영됩니다.
+     */
+    public NearbyLocationPageResponse getNearbyLocations(BigDecimal latitude, BigDecimal longitude, Long activityId,
+                                                         int size, BigDecimal maxRadiusKm, String cursor) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        if (maxRadiusKm.signum() <= 0 || maxRadiusKm.doubleValue() > MAX_RADIUS_KM) {
+            throw new BadRequestException("검색 반경은 0km 초과 " + (int) MAX_RADIUS_KM + "km 이하여야 합니다.");
+        }
+
+        List<NearbyLocation> nearest = activityLocationRepository.findNearestLocations(latitude, longitude,
+                maxRadiusKm.doubleValue() * 1000, activityId, decodeNearbyCursor(cursor), size + 1);
+        boolean hasNext = nearest.size() > size;
+        List<NearbyLocation> page = hasNext ? nearest.subList(0, size) : nearest;
+
+        Map<Long, ActivityLocation> locations = new HashMap<>();
+        if (!page.isEmpty()) {
+            List<Long> ids = page.stream().map(NearbyLocation::locationId).collect(Collectors.toList());
+            for (ActivityLocation location : activityLocationRepository.findWithActivityByLocationIdInAndIsDeletedFalse(ids)) {
+                locations.put(location.getLocationId(), location);
+            }
+        }
+
+        // 두 조회 사이에 삭제된 장소는 건너뛰되, 커서는 거리 순서 기준으로 유지
+        List<NearbyLocationDto> items = new ArrayList<>(page.size());
+        for (NearbyLocation nearby : page) {
+            ActivityLocation location = locations.get(nearby.locationId());
+            if (location != null) {
+                items.add(NearbyLocationDto.builder()
+                        .location(ActivityLocationDto.from(location))
+                        .distanceMeters(Math.round(nearby.distanceMeters() * 10) / 10.0)
+                        .build());
+            }
+        }
+
+        return NearbyLocationPageResponse.builder()
+                .items(items)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? encodeNearbyCursor(page.get(page.size() - 1)) : null)
+                .build();
+    }
+
+    /**
+     * 커서 형식: Base64URL("거리(double 비트, 16진수):장소 ID") - 거리 비교가 정확히 재현되도록 비트 그대로 보관
+     */
+    private static String encodeNearbyCursor(NearbyLocation cursor) {
+        String raw = Long.toHexString(Double.doubleToLongBits(cursor.distanceMeters())) + ":" + cursor.locationId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static NearbyLocation decodeNearbyCursor(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            double distance = Double.longBitsToDouble(Long.parseUnsignedLong(raw.substring(0, separator), 16));
+            long id = Long.parseLong(raw.substring(separator + 1));
+            if (Double.isNaN(distance) || distance < 0) {
+                throw new IllegalArgumentException("invalid distance");
+            }
+            return new NearbyLocation(id, distance);
+        } catch (RuntimeException e) {
+            throw new BadRequestException("유효하지 않은 커서입니다: " + cursor);
+        }
+    }
+
     /**
      * 새 활동 장소 생성
      */
@@ -115,6 +278,7 @@ public class ActivityLocationService {
         );
         
         ActivityLocation savedLocation = activityLocationRepository.save(location);
+        publishLocationChanged(savedLocation);
         
         log.info("Created location: {} (ID: {})", savedLocation.getLocationName(), savedLocation.getLocationId());
         
@@ -143,6 +307,7 @@ public class ActivityLocationService {
         );
         
         ActivityLocation updatedLocation = activityLocationRepository.save(location);
+        publishLocationChanged(updatedLocation);
         
         log.info("Updated location: {} (ID: {})", updatedLocation.getLocationName(), updatedLocation.getLocationId());
         
@@ -166,96 +331,99 @@ public class ActivityLocationService {
         
         location.softDelete();
         activityLocationRepository.save(location);
+        publishLocationChanged(location);
         
         log.info("Deleted location: {} (ID: {})", location.getLocationName(), location.getLocationId());
     }
 
 
+    /**
+     * 커밋 후 공간 색인/텍스트 색인 동기화
+     */
+    private void publishLocationChanged(ActivityLocation location) {
+        eventPublisher.publishEvent(new ActivityLocationChangedEvent(
+                location.getLocationId(),
+                location.getActivity().getActivityId(),
+                location.getLocationName(),
+                location.getAddress(),
+                location.getLatitude(),
+                location.getLongitude(),
+                !location.isActive()
+        ));
+    }
+
     /**
      * 중복 위치 검증 (신규 생성 시)
      */
     private void validateDuplicateLocation(BigDecimal latitude, BigDecimal longitude) {
-        List<ActivityLocation> allLocations = activityLocationRepository.findByIsDeletedFalse();
-        
-        for (ActivityLocation location : allLocations) {
-            BigDecimal distance = DistanceCalculator.calculateDistance(
-                    latitude, longitude,
-                    location.getLatitude(), location.getLongitude()
-            );
-            
-            // 100m 이내에 같은 장소가 있으면 중복으로 간주
-            if (distance.compareTo(new BigDecimal("0.1")) < 0) {
-                throw new BadRequestException("이미 같은 위치에 장소가 등록되어 있습니다: " + location.getLocationName());
-            }
-        }
+        validateDuplicateLocationExcluding(null, latitude, longitude);
     }
 
     /**
      * 중복 위치 검증 (수정 시)
      */
     private void validateDuplicateLocationForUpdate(Long locationId, BigDecimal latitude, BigDecimal longitude) {
-        List<ActivityLocation> allLocations = activityLocationRepository.findByIsDeletedFalse();
-        
-        for (ActivityLocation location : allLocations) {
-            // 자기 자신은 제외
-            if (location.getLocationId().equals(locationId)) {
-                continue;
-            }
-            
-            BigDecimal distance = DistanceCalculator.calculateDistance(
-                    latitude, longitude,
-                    location.getLatitude(), location.getLongitude()
-            );
-            
-            // 100m 이내에 같은 장소가 있으면 중복으로 간주
-            if (distance.compareTo(new BigDecimal("0.1")) < 0) {
-                throw new BadRequestException("이미 같은 위치에 장소가 등록되어 있습니다: " + location.getLocationName());
-            }
-        }
+        // 자기 자신은 제외
+        validateDuplicateLocationExcluding(locationId, latitude, longitude);
+    }
+
+    /**
+     * 100m 이내의 다른 활동 장소를 DB에서 찾아 중복 여부 판정 (좌표 인덱스 범위 조회 후 하버사인 거리 확인)
+     * 메모리 공간 색인은 다른 인스턴스의 변경을 재적재 전까지 모르므로 중복 판정에는 사용하지 않습니다.
+     */
+    private void validateDuplicateLocationExcluding(Long excludeLocationId, BigDecimal latitude, BigDecimal longitude) {
+        double lat = latitude.doubleValue();
+        double lon = longitude.doubleValue();
+        double latDelta = DUPLICATE_RADIUS_METERS / METERS_PER_DEGREE;
+        double lonDelta = DUPLICATE_RADIUS_METERS / (METERS_PER_DEGREE * Math.max(Math.cos(Math.toRadians(lat)), 0.01));
+
+        activityLocationRepository.findInBoundingBoxAndIsDeletedFalse(
+                        BigDecimal.valueOf(lat - latDelta), BigDecimal.valueOf(lat + latDelta),
+                        BigDecimal.valueOf(lon - lonDelta), BigDecimal.valueOf(lon + lonDelta)).stream()
+                .filter(location -> !location.getLocationId().equals(excludeLocationId))
+                .filter(location -> DistanceCalculator.distanceMeters(lat, lon,
+                        location.getLatitude().doubleValue(), location.getLongitude().doubleValue()) <= DUPLICATE_RADIUS_METERS)
+                .findFirst()
+                .ifPresent(location -> {
+                    throw new BadRequestException("이미 같은 위치에 장소가 등록되어 있습니다: " + location.getLocationName());
+                });
     }
 
 
     /**
      * 카카오 API로 외부 장소 검색
+     * 모든 페이지는 같은 출처의 거리순 목록을 잘라 응답합니다. (수집 범위가 신선하면 로컬 카탈로그, 아니면 타일 캐시 검색 결과)
+     * 두 출처 모두 요청한 페이지까지(offset + size건)만 조회하며, 타일 캐시 검색은 카카오 최대 페이지(45 x 15건)를 넘는 페이지에 빈 목록을 응답합니다.
+     * 카카오 응답은 로컬 카탈로그에 수집되어 이후 같은 타일/반경 구간의 검색은 로컬에서 응답합니다.
      */
     public List<ActivityLocationDto> searchExternalLocations(LocationSearchRequest searchRequest) {
+        int page = searchRequest.getPage() != null ? searchRequest.getPage() : 1;
+        int size = searchRequest.getSize() != null ? searchRequest.getSize() : DEFAULT_EXTERNAL_PAGE_SIZE;
+        int offset = (page - 1) * size;
+        int radiusMeters = searchRequest.getRadiusKm().multiply(new BigDecimal("1000")).intValue(); // km → m 변환
+        
         try {
-            List<KakaoPlaceDto> kakaoPlaces;
-            
-            // 특정 활동 검색인 경우
+            // 특정 활동 검색인 경우 활동 존재 여부 먼저 확인
+            Activity activity = null;
             if (searchRequest.getActivityId() != null) {
-                Activity activity = activityRepository.findByActivityIdAndIsDeletedFalse(searchRequest.getActivityId())
+                activity = activityRepository.findByActivityIdAndIsDeletedFalse(searchRequest.getActivityId())
                         .orElseThrow(() -> new ResourceNotFoundException("Activity", "id", searchRequest.getActivityId()));
-                
-                kakaoPlaces = kakaoLocationService.searchPlacesByActivity(
-                        activity.getActivityName(),
-                        searchRequest.getLatitude(),
-                        searchRequest.getLongitude(),
-                        searchRequest.getRadiusKm().multiply(new BigDecimal("1000")).intValue() // km → m 변환
-                );
-            }
-            // 키워드 검색인 경우
-            else if (StringUtils.hasText(searchRequest.getKeyword())) {
-                kakaoPlaces = kakaoLocationService.searchPlacesByKeyword(
-                        searchRequest.getKeyword(),
-                        searchRequest.getLatitude(),
-                        searchRequest.getLongitude(),
-                        searchRequest.getRadiusKm().multiply(new BigDecimal("1000")).intValue()
-                );
             }
-            // 일반적인 스포츠 시설 검색
-            else {
-                kakaoPlaces = kakaoLocationService.searchPlacesByCategory(
-                        "SW8", // 스포츠시설 카테고리
-                        searchRequest.getLatitude(),
-                        searchRequest.getLongitude(),
-                        searchRequest.getRadiusKm().multiply(new BigDecimal("1000")).intValue()
-                );
+            
+            // 신선한 수집 범위면 카카오 호출 없이 로컬 카탈로그로 응답
+            List<ActivityLocationDto> localResults = searchHarvestedPlaces(searchRequest, activity, radiusMeters, offset + size);
+            if (localResults != null) {
+                return slice(localResults, offset, size);
             }
             
-            // KakaoPlaceDto를 ActivityLocationDto로 변환
+            // 타일 캐시 검색 - 요청한 페이지를 채우는 데 필요한 카카오 페이지만 조회 (조회 결과는 로컬 카탈로그로 수집됨)
+            List<KakaoPlaceDto> kakaoPlaces = slice(searchExternalPlaces(searchRequest, activity, radiusMeters, offset + size), offset, size);
+            Map<String, ActivityLocationDto> linkedLocations = placeHarvestService.findLinkedLocations(
+                    kakaoPlaces.stream().map(KakaoPlaceDto::getId).filter(Objects::nonNull).toList());
+            
+            // KakaoPlaceDto를 ActivityLocationDto로 변환 (활동 장소와 연결된 장소는 활동 장소 정보로 응답)
             return kakaoPlaces.stream()
-                    .map(this::convertKakaoPlaceToActivityLocationDto)
+                    .map(place -> linkedLocations.getOrDefault(place.getId(), convertKakaoPlaceToActivityLocationDto(place)))
                     .collect(Collectors.toList());
                     
         } catch (Exception e) {
@@ -264,6 +432,64 @@ public class ActivityLocationService {
         }
     }
 
+    private static <T> List<T> slice(List<T> items, int offset, int size) {
+        if (offset >= items.size()) {
+            return Collections.emptyList();
+        }
+        return items.subList(offset, Math.min(offset + size, items.size()));
+    }
+
+    private List<KakaoPlaceDto> searchExternalPlaces(LocationSearchRequest searchRequest, Activity activity,
+                                                     int radiusMeters, int limit) {
+        // 특정 활동 검색인 경우
+        if (activity != null) {
+            return kakaoLocationService.searchPlacesByActivity(
+                    activity.getActivityName(), searchRequest.getLatitude(), searchRequest.getLongitude(), radiusMeters, limit);
+        }
+        // 키워드 검색인 경우
+        if (StringUtils.hasText(searchRequest.getKeyword())) {
+            return kakaoLocationService.searchPlacesByKeyword(
+                    searchRequest.getKeyword(), searchRequest.getLatitude(), searchRequest.getLongitude(), radiusMeters, limit);
+        }
+        // 일반적인 스포츠 시설 검색
+        return kakaoLocationService.searchPlacesByCategory(
+                SPORTS_FACILITY_CATEGORY, searchRequest.getLatitude(), searchRequest.getLongitude(), radiusMeters, limit);
+    }
+
+    /**
+     * 검색 조건에 해당하는 수집 키 (활동 검색은 매핑된 카테고리 → 활동명 키워드 순)
+     */
+    private List<String> harvestQueryKeys(LocationSearchRequest searchRequest, Activity activity) {
+        if (activity != null) {
+            String categoryCode = kakaoLocationService.getActivityCategoryCode(activity.getActivityName());
+            return categoryCode != null
+                    ? List.of(PlaceSearchCacheService.categoryKey(categoryCode), PlaceSearchCacheService.keywordKey(activity.getActivityName()))
+                    : List.of(PlaceSearchCacheService.keywordKey(activity.getActivityName()));
+        }
+        if (StringUtils.hasText(searchRequest.getKeyword())) {
+            return List.of(PlaceSearchCacheService.keywordKey(searchRequest.getKeyword()));
+        }
+        return List.of(PlaceSearchCacheService.categoryKey(SPORTS_FACILITY_CATEGORY));
+    }
+
+    /**
+     * 로컬 카탈로그 우선 조회 (수집 범위가 없거나 오래된 키가 있으면 null → 카카오 조회)
+     */
+    private List<ActivityLocationDto> searchHarvestedPlaces(LocationSearchRequest searchRequest, Activity activity,
+                                                            int radiusMeters, int limit) {
+        for (String queryKey : harvestQueryKeys(searchRequest, activity)) {
+            List<ActivityLocationDto> localResults = placeHarvestService.findLocal(
+                    queryKey, searchRequest.getLatitude(), searchRequest.getLongitude(), radiusMeters, limit);
+            if (localResults == null) {
+                return null;
+            }
+            // 카테고리 결과가 비어 있으면 카카오와 동일하게 다음(키워드) 키로 대체
+            if (!localResults.isEmpty()) {
+                return localResults;
+            }
+        }
+        return Collections.emptyList();
+    }
 
     /**
      * KakaoPlaceDto를 ActivityLocationDto로 변환
@@ -1,74 +1,49 @@
 package com.activityforecastbackend.service;
 
-import com.activityforecastbackend.dto.activity.ActivityCategoryDto;
 import com.activityforecastbackend.dto.activity.ActivityDto;
-import com.activityforecastbackend.entity.Activity;
-import com.activityforecastbackend.entity.ActivityCategory;
 import com.activityforecastbackend.exception.ResourceNotFoundException;
-import com.activityforecastbackend.repository.ActivityCategoryRepository;
-import com.activityforecastbackend.repository.ActivityRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
+/**
+ * 활동 카탈로그 조회 서비스
+ * 모든 조회는 ActivityCatalogService의 불변 스냅샷에서 처리하며 DB 쿼리를 실행하지 않습니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class ActivityService {
 
-    private final ActivityRepository activityRepository;
-    private final ActivityCategoryRepository activityCategoryRepository;
+    private final ActivityCatalogService activityCatalogService;
 
-    public List<ActivityDto> getAllActivities() {
-        log.info("Fetching all activities");
-        List<Activity> activities = activityRepository.findAllByIsDeletedFalseOrderByActivityName();
-        return activities.stream()
-                .map(ActivityDto::from)
-                .collect(Collectors.toList());
+    /**
+     * 현재 카탈로그 스냅샷 (버전은 ETag로 사용)
+     */
+    public ActivityCatalogSnapshot getCatalogSnapshot() {
+        return activityCatalogService.getSnapshot();
     }
 
-    public List<ActivityCategoryDto> getActivitiesByCategories() {
-        log.info("Fetching activities grouped by categories");
-        List<ActivityCategory> categories = activityCategoryRepository.findAllByOrderByCategoryNameAsc();
-        
-        return categories.stream()
-                .map(category -> {
-                    List<ActivityDto> activities = activityRepository
-                            .findByCategoryAndIsDeletedFalseOrderByActivityName(category)
-                            .stream()
-                            .map(ActivityDto::from)
-                            .collect(Collectors.toList());
-                    
-                    return ActivityCategoryDto.from(category, activities);
-                })
-                .collect(Collectors.toList());
-    }
-
-    public List<ActivityDto> getActivitiesByCategory(Long categoryId) {
-        log.info("Fetching activities for category: {}", categoryId);
-        
-        ActivityCategory category = activityCategoryRepository.findById(categoryId)
-                .orElseThrow(() -> new ResourceNotFoundException("ActivityCategory", "id", categoryId));
-        
-        List<Activity> activities = activityRepository
-                .findByCategoryAndIsDeletedFalseOrderByActivityName(category);
-        
-        return activities.stream()
-                .map(ActivityDto::from)
-                .collect(Collectors.toList());
+    /**
+     * 지정한 스냅샷에서 카테고리 활동 조회 (ETag와 본문을 같은 스냅샷에서 만들 때 사용)
+     */
+    public List<ActivityDto> getActivitiesByCategory(ActivityCatalogSnapshot snapshot, Long categoryId) {
+        List<ActivityDto> activities = snapshot.getActivitiesByCategory(categoryId);
+        if (activities == null) {
+            throw new ResourceNotFoundException("ActivityCategory", "id", categoryId);
+        }
+        return activities;
     }
 
     public ActivityDto getActivity(Long activityId) {
         log.info("Fetching activity: {}", activityId);
         
-        Activity activity = activityRepository.findByActivityIdAndIsDeletedFalse(activityId)
-                .orElseThrow(() -> new ResourceNotFoundException("Activity", "id", activityId));
-        
-        return ActivityDto.from(activity);
+        ActivityDto activity = activityCatalogService.getSnapshot().getActivity(activityId);
+        if (activity == null) {
+            throw new ResourceNotFoundException("Activity", "id", activityId);
+        }
+        return activity;
     }
-}
\ No newline at end of file
+}
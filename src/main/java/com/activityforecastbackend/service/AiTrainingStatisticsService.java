@@ -0,0 +1,160 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.admin.TrainingDataStatisticsResponse;
+import com.activityforecastbackend.entity.AiTrainingData;
+import com.activityforecastbackend.entity.AiTrainingDataSummary;
+import com.activityforecastbackend.event.AiTrainingDataCountChangedEvent;
+import com.activityforecastbackend.repository.AiTrainingDataRepository;
+import com.activityforecastbackend.repository.AiTrainingDataSummaryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * AI 학습 데이터 통계 서비스
+ * 전체 집계 쿼리 대신 요약 테이블(ai_training_data_summary)을 증분으로 유지하고, 주기적으로 원본 테이블과 대사하여 오차를 보정합니다.
+ * 조회도 요약 테이블(활동 유형 수만큼의 행)에서 하므로 모든 노드가 같은 값을 봅니다.
+ */
+@Slf4j
+@Service
+public class AiTrainingStatisticsService {
+
+    // activity_type이 없는 학습 데이터를 집계할 때 사용하는 키
+    static final String UNSPECIFIED_ACTIVITY_TYPE = "UNSPECIFIED";
+
+    // 대사 작업 잠금 (다중 인스턴스에서 한 노드만 실행)
+    private static final String RECONCILE_LOCK = "ai-training-statistics.reconcile";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(30);
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(1);
+
+    private final AiTrainingDataRepository aiTrainingDataRepository;
+    private final AiTrainingDataSummaryRepository summaryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SchedulerLockService schedulerLockService;
+    private final TransactionTemplate newTransaction;
+
+    public AiTrainingStatisticsService(AiTrainingDataRepository aiTrainingDataRepository,
+                                       AiTrainingDataSummaryRepository summaryRepository,
+                                       ApplicationEventPublisher eventPublisher,
+                                       SchedulerLockService schedulerLockService,
+                                       PlatformTransactionManager transactionManager) {
+        this.aiTrainingDataRepository = aiTrainingDataRepository;
+        this.summaryRepository = summaryRepository;
+        this.eventPublisher = eventPublisher;
+        this.schedulerLockService = schedulerLockService;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // --- 1. 카운터 갱신 ---
+
+    /**
+     * 학습 데이터 생성 시 호출 (트랜잭션 커밋 후 카운터에 반영)
+     */
+    public void recordCreated(AiTrainingData trainingData) {
+        boolean used = Boolean.TRUE.equals(trainingData.getIsUsedForTraining());
+        eventPublisher.publishEvent(new AiTrainingDataCountChangedEvent(
+                trainingData.getActivityType(), used ? 1 : 0, used ? 0 : 1));
+    }
+
+    /**
+     * 커밋 후 새 트랜잭션에서 한 문장(upsert)으로 반영
+     * 같은 활동 유형의 첫 행을 여러 노드가 동시에 만들어도 유니크 키 충돌 없이 합산되며,
+     * 실패해도 원래 작업(이미 커밋됨)에는 영향을 주지 않고 다음 대사(reconcile) 때 보정됩니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCountChanged(AiTrainingDataCountChangedEvent event) {
+        String key = toKey(event.getActivityType());
+        try {
+            newTransaction.executeWithoutResult(status ->
+                    summaryRepository.upsertDelta(key, event.getUsedDelta(), event.getUnusedDelta()));
+        } catch (Exception e) {
+            log.warn("AI 학습 데이터 요약 테이블 갱신 실패: activityType={}, error={}", key, e.getMessage());
+        }
+    }
+
+    // --- 2. 통계 조회 (요약 테이블, 활동 유형 수만큼의 행) ---
+
+    @Transactional(readOnly = true)
+    public TrainingDataStatisticsResponse getStatistics() {
+        long used = 0;
+        long unused = 0;
+        Map<String, Long> usedByActivityType = new HashMap<>();
+        for (AiTrainingDataSummary summary : summaryRepository.findAll()) {
+            used += summary.getUsedCount();
+            unused += summary.getUnusedCount();
+            if (summary.getUsedCount() > 0) {
+                usedByActivityType.put(summary.getActivityType(), summary.getUsedCount());
+            }
+        }
+        return TrainingDataStatisticsResponse.builder()
+                .usedCount(used)
+                .unusedCount(unused)
+                .usedCountByActivityType(usedByActivityType)
+                .build();
+    }
+
+    // --- 3. 초기 적재 및 주기적 대사 ---
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (summaryRepository.count() == 0) {
+            log.info("AI 학습 데이터 요약 테이블이 비어 있어 전체 집계로 초기화합니다.");
+            reconcile();
+        }
+    }
+
+    @Scheduled(cron = "${ai.training.statistics.reconcile-cron:0 30 3 * * *}")
+    public void scheduledReconcile() {
+        runReconcile(LOCK_AT_LEAST_FOR);
+    }
+
+    /**
+     * 원본 테이블 전체 집계로 요약 테이블 재계산 (다른 노드가 실행 중이면 건너뛰고 false)
+     */
+    public boolean reconcile() {
+        return runReconcile(Duration.ZERO);
+    }
+
+    private boolean runReconcile(Duration lockAtLeastFor) {
+        return schedulerLockService.runExclusively(RECONCILE_LOCK, LOCK_AT_MOST_FOR, lockAtLeastFor, () ->
+                newTransaction.executeWithoutResult(status -> {
+                    Map<String, long[]> actual = new HashMap<>();
+                    for (Object[] row : aiTrainingDataRepository.countByActivityTypeAndUsage()) {
+                        String key = toKey((String) row[0]);
+                        boolean used = Boolean.TRUE.equals(row[1]);
+                        long count = ((Number) row[2]).longValue();
+                        long[] counts = actual.computeIfAbsent(key, k -> new long[2]);
+                        counts[used ? 0 : 1] += count;
+                    }
+
+                    // 행마다 한 문장(upsert)으로 덮어써 증분 반영이 만든 첫 행과 충돌하지 않음
+                    actual.forEach((key, counts) -> summaryRepository.upsertCounts(key, counts[0], counts[1]));
+                    // 원본에 더 이상 존재하지 않는 활동 유형 정리
+                    Set<String> stale = new HashSet<>(summaryRepository.findActivityTypes());
+                    stale.removeAll(actual.keySet());
+                    if (!stale.isEmpty()) {
+                        summaryRepository.deleteByActivityTypeIn(stale);
+                    }
+                    log.info("AI 학습 데이터 통계 대사 완료: 활동 유형 {}개", actual.size());
+                }));
+    }
+
+    private static String toKey(String activityType) {
+        return activityType != null ? activityType : UNSPECIFIED_ACTIVITY_TYPE;
+    }
+}
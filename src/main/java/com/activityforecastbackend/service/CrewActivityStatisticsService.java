@@ -0,0 +1,254 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.crew.ActivityStatisticsResponse;
+import com.activityforecastbackend.entity.CrewActivityStatistic;
+import com.activityforecastbackend.repository.CrewActivityStatisticRepository;
+import com.activityforecastbackend.repository.ScheduleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 크루 활동 통계 서비스
+ * 크루 일정 전체 GROUP BY 대신 요약 테이블(crew_activity_statistics)에 크루별·활동별 완료 일정 수를 유지합니다.
+ * - 과거 날짜 일정의 생성/수정/삭제: 같은 트랜잭션에서 카운터 증감
+ * - 날짜가 지나 완료된 일정: 매일 최근 기간에 일정이 있던 크루만 원본으로 재계산 (롤포워드)
+ * 롤포워드와 대사는 SchedulerLockService로 한 노드에서만 실행되며, 재계산 중인 행을 잠가 동시에 기록된 증분을 잃지 않습니다.
+ * 조회는 크루 ID 인덱스 조회 1회로, 일정 이력 길이와 무관합니다.
+ */
+@Slf4j
+@Service
+public class CrewActivityStatisticsService {
+
+    // 롤포워드 재계산 기간 (작업이 며칠 누락되어도 이 기간 안이면 보정됨)
+    private static final int ROLL_FORWARD_LOOKBACK_DAYS = 7;
+
+    // 부분 재계산 시 IN 절 크기
+    private static final int RECOMPUTE_CHUNK_SIZE = 500;
+
+    // 예약 작업 잠금 (다중 인스턴스에서 한 노드만 실행)
+    private static final String ROLL_FORWARD_LOCK = "crew-activity-statistics.roll-forward";
+    private static final String RECONCILE_LOCK = "crew-activity-statistics.reconcile";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(30);
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(1);
+
+    private final CrewActivityStatisticRepository statisticRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final SchedulerLockService schedulerLockService;
+    private final TransactionTemplate recomputeTransaction;
+
+    public CrewActivityStatisticsService(CrewActivityStatisticRepository statisticRepository,
+                                         ScheduleRepository scheduleRepository,
+                                         SchedulerLockService schedulerLockService,
+                                         PlatformTransactionManager transactionManager) {
+        this.statisticRepository = statisticRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.schedulerLockService = schedulerLockService;
+        this.recomputeTransaction = new TransactionTemplate(transactionManager);
+        this.recomputeTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+    }
+
+    // --- 1. 카운터 갱신 (호출 측 트랜잭션에 참여) ---
+
+    /**
+     * 크루 일정 생성 시 호출 (이미 지난 날짜의 일정만 즉시 반영, 나머지는 롤포워드에서 반영)
+     */
+    @Transactional
+    public void recordScheduleAdded(Long crewId, Long activityId, LocalDate scheduleDate) {
+        if (isCompleted(scheduleDate)) {
+            applyDelta(crewId, activityId, 1);
+        }
+    }
+
+    /**
+     * 크루 일정 삭제 시 호출
+     */
+    @Transactional
+    public void recordScheduleRemoved(Long crewId, Long activityId, LocalDate scheduleDate) {
+        if (isCompleted(scheduleDate)) {
+            applyDelta(crewId, activityId, -1);
+        }
+    }
+
+    /**
+     * 크루 일정의 활동/날짜 수정 시 호출 (완료 여부나 활동이 바뀐 경우만 반영)
+     */
+    @Transactional
+    public void recordScheduleChanged(Long crewId,
+                                      Long previousActivityId, LocalDate previousDate,
+                                      Long activityId, LocalDate scheduleDate) {
+        boolean wasCompleted = isCompleted(previousDate);
+        boolean completed = isCompleted(scheduleDate);
+        if (wasCompleted == completed && Objects.equals(previousActivityId, activityId)) {
+            return;
+        }
+        if (wasCompleted) {
+            applyDelta(crewId, previousActivityId, -1);
+        }
+        if (completed) {
+            applyDelta(crewId, activityId, 1);
+        }
+    }
+
+    private void applyDelta(Long crewId, Long activityId, long delta) {
+        if (crewId == null || activityId == null) {
+            return;
+        }
+        if (delta > 0) {
+            // UPDATE 후 INSERT는 같은 (크루, 활동)의 첫 행을 동시에 만들 때 유니크 키 충돌로 실패하므로 한 문장으로 처리
+            statisticRepository.upsertDelta(crewId, activityId, delta);
+        } else {
+            statisticRepository.applyDelta(crewId, activityId, delta);
+        }
+    }
+
+    // --- 2. 통계 조회 (파이 차트 데이터) ---
+
+    @Transactional(readOnly = true)
+    public ActivityStatisticsResponse getStatistics(Long crewId) {
+        long totalActivityCount = 0;
+        Map<String, Long> combinedStats = new HashMap<>();
+
+        for (Object[] row : statisticRepository.findActivityCountsByCrewId(crewId)) {
+            String activityName = row[0] != null ? (String) row[0] : "알 수 없는 활동";
+            long count = ((Number) row[1]).longValue();
+
+            totalActivityCount += count;
+            // 이름이 같은 활동은 합산 (기존 활동명 기준 집계와 동일)
+            combinedStats.merge(activityName, count, Long::sum);
+        }
+
+        Map<String, ActivityStatisticsResponse.ActivityStat> detailedStats = new HashMap<>();
+        for (Map.Entry<String, Long> entry : combinedStats.entrySet()) {
+            long count = entry.getValue();
+            double percentage = totalActivityCount > 0 ? (double) count * 100.0 / totalActivityCount : 0.0;
+
+            detailedStats.put(entry.getKey(), ActivityStatisticsResponse.ActivityStat.builder()
+                    .activityName(entry.getKey())
+                    .count(count)
+                    .percentage(percentage)
+                    .build());
+        }
+
+        return ActivityStatisticsResponse.builder()
+                .totalActivityCount(totalActivityCount)
+                .activityDetails(detailedStats)
+                .build();
+    }
+
+    // --- 3. 초기 적재, 일일 롤포워드, 전체 대사 ---
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (statisticRepository.count() == 0) {
+            log.info("크루 활동 통계 요약 테이블이 비어 있어 전체 집계로 초기화합니다.");
+            reconcile();
+        }
+    }
+
+    /**
+     * 최근 기간에 일정이 있던 크루의 카운터를 원본으로 재계산 (어제 날짜가 지난 일정 반영, 재실행해도 결과 동일)
+     * 모든 노드에서 같은 시각에 실행되므로 잠금을 얻은 한 노드만 실행합니다.
+     */
+    @Scheduled(cron = "${crew.activity-statistics.roll-forward-cron:0 5 0 * * *}")
+    public void rollForward() {
+        schedulerLockService.runExclusively(ROLL_FORWARD_LOCK, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR, () -> {
+            LocalDate today = LocalDate.now();
+            List<Long> crewIds = scheduleRepository.findCrewIdsWithSchedulesBetween(
+                    today.minusDays(ROLL_FORWARD_LOOKBACK_DAYS), today);
+            recomputeInChunks(crewIds, today);
+            log.info("크루 활동 통계 롤포워드 완료: 크루 {}개 재계산", crewIds.size());
+        });
+    }
+
+    @Scheduled(cron = "${crew.activity-statistics.reconcile-cron:0 45 3 * * SUN}")
+    public void scheduledReconcile() {
+        runReconcile(LOCK_AT_LEAST_FOR);
+    }
+
+    /**
+     * 원본 일정 전체 집계로 요약 테이블 재계산 (다른 노드가 실행 중이면 건너뛰고 false)
+     */
+    public boolean reconcile() {
+        return runReconcile(Duration.ZERO);
+    }
+
+    private boolean runReconcile(Duration lockAtLeastFor) {
+        return schedulerLockService.runExclusively(RECONCILE_LOCK, LOCK_AT_MOST_FOR, lockAtLeastFor, () -> {
+            LocalDate today = LocalDate.now();
+            // 완료 일정이 있는 크루 + 요약 행이 남아 있는 크루 (원본이 모두 삭제된 크루의 행 정리)
+            Set<Long> crewIds = new TreeSet<>(scheduleRepository.findCrewIdsWithCompletedSchedules(today));
+            crewIds.addAll(statisticRepository.findDistinctCrewIds());
+            int rows = recomputeInChunks(new ArrayList<>(crewIds), today);
+            log.info("크루 활동 통계 대사 완료: 크루 {}개, {}개 항목", crewIds.size(), rows);
+        });
+    }
+
+    /**
+     * 크루 묶음마다 짧은 트랜잭션으로 재계산
+     * 요약 행을 먼저 잠근(FOR UPDATE) 뒤 READ COMMITTED로 원본을 세므로, 그 사이 커밋된 일정은 집계에 포함되고
+     * 아직 커밋되지 않은 일정의 증분은 잠금이 풀린 뒤 재계산 결과 위에 더해집니다.
+     */
+    private int recomputeInChunks(List<Long> crewIds, LocalDate today) {
+        int rows = 0;
+        for (int from = 0; from < crewIds.size(); from += RECOMPUTE_CHUNK_SIZE) {
+            List<Long> chunk = crewIds.subList(from, Math.min(from + RECOMPUTE_CHUNK_SIZE, crewIds.size()));
+            Integer replaced = recomputeTransaction.execute(status -> {
+                List<CrewActivityStatistic> locked = statisticRepository.findByCrewIdInForUpdate(chunk);
+                return replaceCounts(scheduleRepository.countCompletedCrewSchedulesByCrewIdIn(chunk, today), locked);
+            });
+            rows += replaced != null ? replaced : 0;
+        }
+        return rows;
+    }
+
+    /**
+     * 집계 결과([crewId, activityId, count])로 잠근 기존 행을 갱신하고, 결과에 없는 기존 행은 삭제
+     * 기존 행이 없던 항목은 증분 upsert로 추가하여, 잠글 행이 없어 동시에 첫 행을 만든 일정 기록과 충돌하지 않고 합산되게 합니다.
+     */
+    private int replaceCounts(List<Object[]> actualRows, List<CrewActivityStatistic> lockedRows) {
+        Map<String, CrewActivityStatistic> existing = new HashMap<>();
+        for (CrewActivityStatistic statistic : lockedRows) {
+            existing.put(key(statistic.getCrewId(), statistic.getActivityId()), statistic);
+        }
+
+        for (Object[] row : actualRows) {
+            Long crewId = ((Number) row[0]).longValue();
+            Long activityId = ((Number) row[1]).longValue();
+            long count = ((Number) row[2]).longValue();
+
+            CrewActivityStatistic statistic = existing.remove(key(crewId, activityId));
+            if (statistic == null) {
+                statisticRepository.upsertDelta(crewId, activityId, count);
+            } else if (statistic.getCompletedCount() != count) {
+                statistic.updateCompletedCount(count);
+            }
+        }
+        statisticRepository.deleteAll(existing.values());
+        return actualRows.size();
+    }
+
+    private static boolean isCompleted(LocalDate scheduleDate) {
+        return scheduleDate != null && scheduleDate.isBefore(LocalDate.now());
+    }
+
+    private static String key(Long crewId, Long activityId) {
+        return crewId + ":" + activityId;
+    }
+}
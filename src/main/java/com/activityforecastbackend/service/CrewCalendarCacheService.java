@@ -0,0 +1,123 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.admin.CacheStatsResponse;
+import com.activityforecastbackend.dto.crew.CrewScheduleResponse;
+import com.activityforecastbackend.event.CrewCalendarChangedEvent;
+import com.activityforecastbackend.util.LruCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * 크루 월별 달력 캐시 ((crewId, year, month) → 일정 DTO 목록)
+ * 일정 생성/수정/삭제, 멤버 변경, 크루 해체 시 커밋 후 이벤트로 해당 월(또는 크루 전체)만 무효화하므로
+ * 롤백된 트랜잭션은 캐시를 건드리지 않습니다.
+ * 조회 중 같은 크루(세대 구간)에 무효화가 일어나면 그 조회 결과는 캐싱하지 않아 이전 데이터가 다시 채워지지 않습니다.
+ * 무효화는 이 인스턴스에만 적용되므로, 다른 인스턴스에서 커밋된 변경은 TTL(기본 1분)이 지나야 반영됩니다.
+ */
+@Slf4j
+@Service
+public class CrewCalendarCacheService {
+
+    private final LruCache<String, List<CrewScheduleResponse>> cache;
+
+    // 크루 ID 구간별 무효화 세대 수 (2의 거듭제곱)
+    private static final int GENERATION_STRIPES = 1024;
+
+    // 크루 ID 구간별 무효화 세대 (조회 시작 이후 같은 구간에 무효화가 있었으면 결과를 캐싱하지 않음)
+    // 크루별 맵 대신 고정 크기 배열을 사용하여 크루 수와 무관하게 메모리가 일정하며, 다른 구간 크루의 쓰기는 캐시 채우기를 막지 않음
+    private final AtomicLongArray invalidationGenerations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public CrewCalendarCacheService(
+            @Value("${crew.calendar-cache.max-size:5000}") int maxSize,
+            @Value("${crew.calendar-cache.ttl-minutes:1}") long ttlMinutes) {
+        this.cache = new LruCache<>(maxSize, Duration.ofMinutes(ttlMinutes));
+    }
+
+    /**
+     * 달력 표시 범위 (해당 월을 포함하는 일요일 ~ 토요일 주 단위)
+     */
+    static LocalDate[] displayWindow(int year, int month) {
+        LocalDate startDate = LocalDate.of(year, month, 1);
+        LocalDate endDate = startDate.with(TemporalAdjusters.lastDayOfMonth());
+
+        LocalDate displayStart = startDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY));
+        LocalDate displayEnd = endDate.with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
+        return new LocalDate[]{displayStart, displayEnd};
+    }
+
+    /**
+     * 캐시 조회 (없으면 loader 결과를 캐싱하여 반환, 반환 목록은 수정 불가)
+     */
+    public List<CrewScheduleResponse> get(Long crewId, int year, int month, Supplier<List<CrewScheduleResponse>> loader) {
+        String key = key(crewId, year, month);
+        List<CrewScheduleResponse> cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        int stripe = stripe(crewId);
+        long generation = invalidationGenerations.get(stripe);
+        List<CrewScheduleResponse> loaded = List.copyOf(loader.get());
+        if (invalidationGenerations.get(stripe) == generation) {
+            cache.put(key, loaded);
+            // 확인과 저장 사이에 무효화가 끝났으면 방금 저장한 항목을 되돌림
+            if (invalidationGenerations.get(stripe) != generation) {
+                cache.invalidate(key);
+            }
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCalendarChanged(CrewCalendarChangedEvent event) {
+        invalidationGenerations.incrementAndGet(stripe(event.getCrewId()));
+        if (event.isWholeCrew()) {
+            String prefix = event.getCrewId() + ":";
+            int removed = cache.invalidateIf(key -> key.startsWith(prefix));
+            log.debug("크루 달력 캐시 무효화: crewId={}, 전체 {}건", event.getCrewId(), removed);
+            return;
+        }
+
+        // 날짜가 표시되는 월: 해당 월과 앞뒤 주에 걸친 이전/다음 달
+        for (LocalDate date : event.getDates()) {
+            YearMonth yearMonth = YearMonth.from(date);
+            for (YearMonth candidate : List.of(yearMonth.minusMonths(1), yearMonth, yearMonth.plusMonths(1))) {
+                LocalDate[] window = displayWindow(candidate.getYear(), candidate.getMonthValue());
+                if (!date.isBefore(window[0]) && !date.isAfter(window[1])) {
+                    cache.invalidate(key(event.getCrewId(), candidate.getYear(), candidate.getMonthValue()));
+                }
+            }
+        }
+    }
+
+    public void evictAll() {
+        for (int i = 0; i < GENERATION_STRIPES; i++) {
+            invalidationGenerations.incrementAndGet(i);
+        }
+        cache.invalidateAll();
+        log.info("크루 달력 캐시 전체 제거 완료");
+    }
+
+    public CacheStatsResponse getStats() {
+        return CacheStatsResponse.from("crew.calendar", cache);
+    }
+
+    private static int stripe(Long crewId) {
+        return Long.hashCode(crewId) & (GENERATION_STRIPES - 1);
+    }
+
+    private static String key(Long crewId, int year, int month) {
+        return crewId + ":" + year + ":" + month;
+    }
+}
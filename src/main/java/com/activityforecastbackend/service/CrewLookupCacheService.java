@@ -0,0 +1,116 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.admin.CacheStatsResponse;
+import com.activityforecastbackend.event.CrewMembershipChangedEvent;
+import com.activityforecastbackend.repository.CrewMemberRepository;
+import com.activityforecastbackend.repository.CrewRepository;
+import com.activityforecastbackend.util.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 크루 가입 경로 조회 캐시 (초대 코드 → 크루, 크루·사용자 → 비멤버 여부)
+ * 초대 코드가 단체 채팅방에 공유되어 가입 요청이 몰릴 때 같은 크루/멤버십 조회가 DB로 반복되지 않도록 합니다.
+ * 정원 확인은 캐시가 아닌 DB 조건부 UPDATE로 하므로, 캐시가 오래되어도 정원을 넘겨 가입되지는 않습니다.
+ * 멤버십은 "멤버 아님" 결과만 캐싱합니다. 무효화가 이 인스턴스에만 적용되므로, 다른 인스턴스에서 탈퇴한 사용자의
+ * "멤버임"이 남아 있으면 재가입이 거절되기 때문입니다. (오래된 "멤버 아님"은 가입 시 DB 멤버십 조회와 유니크 제약이 걸러냄)
+ */
+@Service
+public class CrewLookupCacheService {
+
+    /**
+     * 초대 코드로 찾은 가입 대상 크루 (해체 여부는 가입 시 DB에서 다시 확인)
+     */
+    public record JoinTarget(Long crewId, int maxCapacity) {
+    }
+
+    private final CrewRepository crewRepository;
+    private final CrewMemberRepository crewMemberRepository;
+    private final LruCache<String, JoinTarget> inviteCodeCache;
+    // 활성 멤버가 아닌 것으로 확인된 (크루, 사용자) - 값은 항상 FALSE
+    private final LruCache<String, Boolean> membershipCache;
+
+    // 멤버십 변경 세대 (조회 도중 변경이 반영되면 그 조회 결과는 캐싱하지 않음)
+    private final AtomicLong membershipGeneration = new AtomicLong();
+
+    public CrewLookupCacheService(
+            CrewRepository crewRepository,
+            CrewMemberRepository crewMemberRepository,
+            @Value("${crew.lookup-cache.invite-code-max-size:2000}") int inviteCodeMaxSize,
+            @Value("${crew.lookup-cache.membership-max-size:20000}") int membershipMaxSize,
+            @Value("${crew.lookup-cache.ttl-minutes:10}") long ttlMinutes) {
+        this.crewRepository = crewRepository;
+        this.crewMemberRepository = crewMemberRepository;
+        this.inviteCodeCache = new LruCache<>(inviteCodeMaxSize, Duration.ofMinutes(ttlMinutes));
+        this.membershipCache = new LruCache<>(membershipMaxSize, Duration.ofMinutes(ttlMinutes));
+    }
+
+    /**
+     * 초대 코드의 가입 대상 크루 (없거나 해체된 크루면 null)
+     */
+    public JoinTarget findJoinTarget(String inviteCode) {
+        JoinTarget cached = inviteCodeCache.get(inviteCode);
+        if (cached != null) {
+            return cached;
+        }
+        JoinTarget target = crewRepository.findByInviteCodeAndIsDeletedFalse(inviteCode)
+                .map(crew -> new JoinTarget(crew.getCrewId(), crew.getMaxCapacity()))
+                .orElse(null);
+        if (target != null) {
+            inviteCodeCache.put(inviteCode, target);
+        }
+        return target;
+    }
+
+    public void evictInviteCode(String inviteCode) {
+        inviteCodeCache.invalidate(inviteCode);
+    }
+
+    /**
+     * 사용자가 크루의 활성 멤버인지 (멤버이면 항상 DB로 확인, 최종 판단은 가입 시 DB 유니크 제약)
+     */
+    public boolean isActiveMember(Long crewId, Long userId) {
+        String key = membershipKey(crewId, userId);
+        if (membershipCache.get(key) != null) {
+            return false;
+        }
+        long generation = membershipGeneration.get();
+        boolean active = crewMemberRepository.existsByCrew_CrewIdAndUser_UserIdAndIsActiveTrue(crewId, userId);
+        if (!active && membershipGeneration.get() == generation) {
+            membershipCache.put(key, Boolean.FALSE);
+        }
+        return active;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(CrewMembershipChangedEvent event) {
+        membershipGeneration.incrementAndGet();
+        if (event.getUserId() == null) {
+            String prefix = event.getCrewId() + ":";
+            membershipCache.invalidateIf(key -> key.startsWith(prefix));
+            return;
+        }
+        String key = membershipKey(event.getCrewId(), event.getUserId());
+        if (event.isActive()) {
+            membershipCache.invalidate(key);
+        } else {
+            membershipCache.put(key, Boolean.FALSE);
+        }
+    }
+
+    public List<CacheStatsResponse> getStats() {
+        return List.of(
+                CacheStatsResponse.from("crew.invite-code", inviteCodeCache),
+                CacheStatsResponse.from("crew.membership", membershipCache)
+        );
+    }
+
+    private static String membershipKey(Long crewId, Long userId) {
+        return crewId + ":" + userId;
+    }
+}
@@ -1,18 +1,24 @@
 package com.activityforecastbackend.service;
 
+import com.activityforecastbackend.dto.PageResponse;
 import com.activityforecastbackend.dto.crew.*;
 import com.activityforecastbackend.entity.*;
 import com.activityforecastbackend.entity.CrewMember.CrewRole;
+import com.activityforecastbackend.event.CrewCalendarChangedEvent;
+import com.activityforecastbackend.event.CrewChangedEvent;
+import com.activityforecastbackend.event.CrewMembershipChangedEvent;
+import com.activityforecastbackend.event.NotificationRequestedEvent;
 import com.activityforecastbackend.repository.*;
+import com.activityforecastbackend.util.NgramIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import jakarta.persistence.EntityManager; // EntityManager import
 import java.lang.Number;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.temporal.TemporalAdjusters;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -34,7 +40,15 @@ public class CrewService {
 
     private final EntityManager em; // EntityManager 주입
 
-    private final NotificationService notificationService; //알림
+
+    private final TextSearchIndexService textSearchIndexService; // 크루명 검색 색인
+    private final ApplicationEventPublisher eventPublisher; // 커밋 후 이벤트 발행
+
+    private final CrewActivityStatisticsService crewActivityStatisticsService; // 크루 활동 통계 요약
+
+    private final CrewCalendarCacheService crewCalendarCacheService; // 크루 월별 달력 캐시
+
+    private final CrewLookupCacheService crewLookupCacheService; // 초대 코드/멤버십 조회 캐시
 
     // 사용자 정의 예외
     public static class UnauthorizedException extends RuntimeException {
@@ -49,6 +63,9 @@ public class CrewService {
     // 기본값 5명 유지
     private static final int DEFAULT_MAX_CAPACITY = 5;
 
+    // 크루 검색 페이지 최대 크기
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
     // 헬퍼 메서드: 리더 권한 확인 (CrewMember.isLeader() 사용)
     private Crew checkLeaderAuthority(Long crewId, Long currentUserId) {
         // 1. User와 Crew 엔티티 조회
@@ -67,6 +84,12 @@ public class CrewService {
         return crew;
     }
 
+    // 크루의 현재 활성 멤버 전체에게 알림 요청 (수신자는 지금 확정, 저장/푸시는 커밋 후 NotificationDispatcher가 비동기로 처리)
+    private void publishCrewNotification(Long crewId, Notification template) {
+        List<Long> recipientUserIds = crewMemberRepository.findActiveUserIdsByCrewId(crewId);
+        eventPublisher.publishEvent(NotificationRequestedEvent.of(template, recipientUserIds));
+    }
+
     // --- 1. 크루 생성 (리더 지정 및 멤버로 자동 추가) ---
     @Transactional
     public CrewResponse createCrew(CrewCreationRequest request, Long currentUserId) {
@@ -90,6 +113,7 @@ public class CrewService {
                 request.getColorCode(),
                 creator,
                 finalCapacity); // 최종 검증된 Capacity 전달
+        newCrew.setActiveMemberCount(1); // 리더 1명
 
         Crew savedCrew = crewRepository.save(newCrew);
 
@@ -104,8 +128,14 @@ public class CrewService {
         Crew updatedCrew = crewRepository.findByIdWithMembers(savedCrew.getCrewId())
                 .orElseThrow(() -> new NoSuchElementException("생성된 크루를 찾을 수 없습니다."));
 
-        //크루 생성 알림 추가
-        notificationService.notifyCrewCreated(currentUserId, updatedCrew);
+        //크루 생성 알림 추가 (커밋 후 비동기 발송)
+        eventPublisher.publishEvent(NotificationRequestedEvent.of(
+                Notification.createCrewCreatedNotification(null, updatedCrew.getCrewName(), updatedCrew.getCrewId()),
+                currentUserId));
+
+        // 커밋 후 크루명 검색 색인 및 멤버십 캐시에 반영
+        eventPublisher.publishEvent(new CrewChangedEvent(updatedCrew.getCrewId(), updatedCrew.getCrewName(), false));
+        eventPublisher.publishEvent(new CrewMembershipChangedEvent(updatedCrew.getCrewId(), currentUserId, true));
 
         return CrewResponse.from(updatedCrew);
     }
@@ -157,9 +187,16 @@ public class CrewService {
         );
         participantRepository.save(leaderParticipant);
 
+        // 6. 크루 활동 통계 반영 (이미 지난 날짜의 일정인 경우)
+        crewActivityStatisticsService.recordScheduleAdded(crewId, activity.getActivityId(), newSchedule.getScheduleDate());
+
+        // 7. 커밋 후 해당 날짜가 표시되는 달력 캐시 무효화
+        eventPublisher.publishEvent(CrewCalendarChangedEvent.ofDates(crewId, newSchedule.getScheduleDate()));
+
         //알림 기능 추가
         String activityName = activity.getActivityName(); // 미리 로드한 activity 객체에서 이름 사용
-        notificationService.notifyScheduleCreated(crewId, newSchedule, activityName);
+        publishCrewNotification(crewId, Notification.createCrewScheduleNotification(
+                null, crew.getCrewName(), activityName, newSchedule.getScheduleId()));
 
         return newCrewSchedule;
     }
@@ -182,12 +219,18 @@ public class CrewService {
         Schedule scheduleToDelete = crewSchedule.getSchedule();
         String activityName = scheduleToDelete.getActivity().getActivityName();
 
-        // 4. 일정 삭제 알림 전송 (삭제 실행 전 알림부터 전송)
-        notificationService.notifyScheduleDeleted(crewSchedule, activityName);
+        // 4. 일정 삭제 알림 요청 (수신자는 지금 확정, 발송은 커밋 후)
+        publishCrewNotification(crewId, Notification.createCrewScheduleDeleteNotification(
+                null, crewSchedule.getCrew().getCrewName(), activityName, crewId));
 
-        // 5. 삭제
+        // 5. 크루 활동 통계 반영 후 삭제
+        crewActivityStatisticsService.recordScheduleRemoved(
+                crewId, scheduleToDelete.getActivity().getActivityId(), scheduleToDelete.getScheduleDate());
         scheduleToDelete.softDelete(); // Schedule soft delete
         crewScheduleRepository.delete(crewSchedule);
+
+        // 6. 커밋 후 해당 날짜가 표시되는 달력 캐시 무효화
+        eventPublisher.publishEvent(CrewCalendarChangedEvent.ofDates(crewId, scheduleToDelete.getScheduleDate()));
     }
 
     // --- 4. 멤버 초대 (ID로 초대하는 기능), 필요없는 기능 ---
@@ -204,42 +247,44 @@ public class CrewService {
             throw new IllegalStateException("이미 활성 크루 멤버입니다.");
         }
 
-        // 3. 인원 제한 검사 (하드코딩된 최대 인원 제한 가정)
-        // 3. Crew 엔티티의 maxCapacity를 사용하여 인원 제한 검사
-        if (crewRepository.countActiveMembersByCrew(crew) >= crew.getMaxCapacity()) {
+        // 3. 정원 좌석 확보 (조건부 UPDATE - 정원이 찼으면 0건, 동시 요청에도 초과 불가)
+        if (crewRepository.reserveMemberSeat(crewId) == 0) {
             throw new IllegalStateException("크루 인원 제한(" + crew.getMaxCapacity() + "명)을 초과하여 초대할 수 없습니다.");
         }
 
-        // 4. 새로운 멤버를 MEMBER 권한으로 추가
-        CrewMember newMember = CrewMember.createMember(crew, invitedUser, CrewRole.MEMBER);
-        return crewMemberRepository.save(newMember);
+        // 4. 새로운 멤버를 MEMBER 권한으로 추가 (탈퇴 이력이 있으면 재활성화)
+        CrewMember savedMember = addOrReactivateMember(crew, invitedUser);
+
+        // 5. 커밋 후 멤버십/크루 달력 캐시 반영 (멤버 변경)
+        eventPublisher.publishEvent(new CrewMembershipChangedEvent(crewId, invitedUser.getUserId(), true));
+        eventPublisher.publishEvent(CrewCalendarChangedEvent.ofCrew(crewId));
+        return savedMember;
     }
 
     // --- 5. 월별 일정 조회 ---
+    // (크루, 연, 월) 단위 캐시 - 일정/멤버 변경 및 해체 시 커밋 후 무효화
     @Transactional(readOnly = true)
-    public List<CrewSchedule> getMonthlySchedules(Long crewId, int year, int month) {
-        Crew crew = crewRepository.findByCrewIdAndIsDeletedFalse(crewId)
-                .orElseThrow(() -> new NoSuchElementException("크루를 찾을 수 없습니다. ID: " + crewId));
-
-        LocalDate startDate = LocalDate.of(year, month, 1);
-        LocalDate endDate = startDate.with(TemporalAdjusters.lastDayOfMonth());
-
-        LocalDate displayStart = startDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY));
-        LocalDate displayEnd = endDate.with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
-
-        return crewScheduleRepository.findByCrewAndScheduleDateBetween(crew, displayStart, displayEnd);
+    public List<CrewScheduleResponse> getMonthlySchedules(Long crewId, int year, int month) {
+        return crewCalendarCacheService.get(crewId, year, month, () -> {
+            Crew crew = crewRepository.findByCrewIdAndIsDeletedFalse(crewId)
+                    .orElseThrow(() -> new NoSuchElementException("크루를 찾을 수 없습니다. ID: " + crewId));
+
+            LocalDate[] window = CrewCalendarCacheService.displayWindow(year, month);
+            return toScheduleResponses(
+                    crewScheduleRepository.findScheduleRowsByCrewId(crew.getCrewId(), window[0], window[1]));
+        });
     }
 
     // --- 6. 크루 상세 정보 조회 ---
     @Transactional(readOnly = true)
     public CrewResponse getCrewDetails(Long crewId) {
-        Crew crew = crewRepository.findByCrewIdAndIsDeletedFalse(crewId)
+        // 크루 + 생성자 1회, 활성 멤버 + 사용자 1회 (멤버 수와 무관)
+        Crew crew = crewRepository.findDetailByCrewIdAndIsDeletedFalse(crewId)
                 .orElseThrow(() -> new NoSuchElementException("크루 ID를 찾을 수 없습니다: " + crewId));
 
-        // Lazy Loading 방지 및 DTO 변환 준비
-        crew.getMembers().forEach(m -> m.getUser().getName());
+        List<CrewMember> activeMembers = crewMemberRepository.findActiveWithUserByCrewIdIn(List.of(crewId));
 
-        return CrewResponse.from(crew);
+        return CrewResponse.from(crew, activeMembers);
     }
 
     // --- 7. 크루 활동 통계 계산 (파이 차트 데이터 생성) ---
@@ -248,65 +293,8 @@ public class CrewService {
         Crew crew = crewRepository.findByCrewIdAndIsDeletedFalse(crewId)
                 .orElseThrow(() -> new NoSuchElementException("크루 ID를 찾을 수 없습니다: " + crewId));
 
-        // 쿼리 호출 변경: Crew 객체 대신 ID와 현재 날짜를 전달
-        List<Object[]> crewStats = scheduleRepository.findCrewActivityStatistics(
-                crew.getCrewId(),
-                LocalDate.now() // Java에서 현재 날짜를 가져와 전달
-        );
-
-        long totalActivityCount = 0;
-        Map<String, Long> combinedStats = new java.util.HashMap<>();
-
-        for (Object[] stat : crewStats) {
-            String activityName = stat[0] != null ? (String) stat[0] : "알 수 없는 활동";
-
-            Long count = 0L;
-
-            // CAST를 사용하여 쿼리 결과를 Long으로 받았다고 가정하고 처리
-            try {
-                if (stat[1] != null) {
-                    // 쿼리에서 long으로 CAST했으므로 Long 또는 Number로 안전하게 처리 시도
-                    if (stat[1] instanceof Long) {
-                        count = (Long) stat[1];
-                    } else if (stat[1] instanceof Number) {
-                        count = ((Number) stat[1]).longValue();
-                    } else {
-                        // 예상치 못한 타입일 경우 디버깅 메시지를 통해 확인 가능
-                        System.err.println("Warning: Unexpected type for count: " + stat[1].getClass().getName() + " with value " + stat[1]);
-                    }
-                }
-            } catch (Exception e) {
-                // 캐스팅 오류 발생 시 로깅하고 0으로 처리
-                System.err.println("Error processing activity count for " + activityName + ": " + e.getMessage());
-                count = 0L;
-            }
-
-            totalActivityCount += count;
-            combinedStats.put(activityName, count);
-        }
-
-        Map<String, ActivityStatisticsResponse.ActivityStat> detailedStats = new java.util.HashMap<>();
-
-        for (Map.Entry<String, Long> entry : combinedStats.entrySet()) {
-            String activityName = entry.getKey();
-            long count = entry.getValue();
-
-            double percentage = 0.0;
-            if (totalActivityCount > 0) {
-                percentage = (double) count * 100.0 / totalActivityCount;
-            }
-
-            detailedStats.put(activityName, ActivityStatisticsResponse.ActivityStat.builder()
-                    .activityName(activityName)
-                    .count(count)
-                    .percentage(percentage)
-                    .build());
-        }
-
-        return ActivityStatisticsResponse.builder()
-                .totalActivityCount(totalActivityCount)
-                .activityDetails(detailedStats)
-                .build();
+        // 요약 테이블 조회 (크루 ID 인덱스 1회, 일정 이력 길이와 무관)
+        return crewActivityStatisticsService.getStatistics(crew.getCrewId());
     }
 
     // --- 9. 사용자별 크루 목록 조회 ---
@@ -315,14 +303,19 @@ public class CrewService {
         User user = userRepository.findById(currentUserId)
                 .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다."));
 
-        List<Crew> crews = crewRepository.findCrewsByMember(user);
+        // 크루 + 생성자 1회, 전체 크루의 활성 멤버 + 사용자 1회 (크루 수/멤버 수와 무관)
+        List<Crew> crews = crewRepository.findCrewsWithCreatedByByMemberUserId(user.getUserId());
+        if (crews.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<CrewMember>> membersByCrew = crewMemberRepository.findActiveWithUserByCrewIdIn(
+                        crews.stream().map(Crew::getCrewId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.groupingBy(m -> m.getCrew().getCrewId()));
 
-        // Lazy Loading 방지 및 DTO 변환
         return crews.stream()
-                .map(crew -> {
-                    crew.getMembers().forEach(m -> m.getUser().getName()); // 멤버 정보 강제 로드
-                    return CrewResponse.from(crew);
-                })
+                .map(crew -> CrewResponse.from(crew, membersByCrew.getOrDefault(crew.getCrewId(), List.of())))
                 .collect(Collectors.toList());
     }
 
@@ -368,86 +361,135 @@ public class CrewService {
         }
 
         crewMemberRepository.save(membership);
+        crewRepository.releaseMemberSeat(crewId); // 활성 멤버 수 감소
+
+        // 4. 커밋 후 멤버십/크루 달력 캐시 반영 (멤버 변경)
+        eventPublisher.publishEvent(new CrewMembershipChangedEvent(crewId, targetUserId, false));
+        eventPublisher.publishEvent(CrewCalendarChangedEvent.ofCrew(crewId));
     }
 
     // --- 11. 초대 코드를 통한 크루 가입 기능 ---
+    // 초대 코드/멤버십 조회는 캐시, 정원은 크루 행 조건부 UPDATE로 원자적으로 확인 (동시 가입 폭주에도 초과 가입 없음)
     @Transactional
     public CrewMember joinCrewByInviteCode(String inviteCode, Long currentUserId) {
-        // 1. 현재 사용자 조회
-        User user = userRepository.findById(currentUserId)
-                .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다."));
-
-        // 2. 초대 코드로 Crew 엔티티 조회 (findByInviteCodeAndIsDeletedFalse 활용)
-        Crew crew = crewRepository.findByInviteCodeAndIsDeletedFalse(inviteCode)
-                .orElseThrow(() -> new NoSuchElementException("유효하지 않거나 만료된 초대 코드입니다."));
+        // 1. 초대 코드로 가입 대상 크루 조회 (캐시)
+        CrewLookupCacheService.JoinTarget target = crewLookupCacheService.findJoinTarget(inviteCode);
+        if (target == null) {
+            throw new NoSuchElementException("유효하지 않거나 만료된 초대 코드입니다.");
+        }
 
-        // 3. 이미 활성 멤버인지 검사
-        if (crewMemberRepository.existsByCrewAndUserAndIsActiveTrue(crew, user)) {
+        // 2. 이미 활성 멤버인지 검사 (비멤버 결과만 캐시, 최종 판단은 아래 멤버십 조회와 유니크 제약)
+        if (crewLookupCacheService.isActiveMember(target.crewId(), currentUserId)) {
             throw new IllegalStateException("이미 크루의 멤버입니다.");
         }
 
-        // 4. 인원 제한 검사 (하드코딩된 최대 인원 제한)
-        // Crew 엔티티의 maxCapacity를 사용하여 인원 제한 검사
-        if (crewRepository.countActiveMembersByCrew(crew) >= crew.getMaxCapacity()) {
-            throw new IllegalStateException("크루 인원 제한(" + crew.getMaxCapacity() + "명)이 가득 찼습니다.");
+        // 3. 현재 사용자 조회
+        User user = userRepository.findById(currentUserId)
+                .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다."));
+
+        // 4. 정원 좌석 확보 (정원이 찼거나 해체된 크루면 0건)
+        if (crewRepository.reserveMemberSeat(target.crewId()) == 0) {
+            if (!crewRepository.existsByCrewIdAndIsDeletedFalse(target.crewId())) {
+                crewLookupCacheService.evictInviteCode(inviteCode);
+                throw new NoSuchElementException("유효하지 않거나 만료된 초대 코드입니다.");
+            }
+            throw new IllegalStateException("크루 인원 제한(" + target.maxCapacity() + "명)이 가득 찼습니다.");
         }
 
-        // 5. 멤버로 추가 (일반 멤버 권한)
-        CrewMember newMember = CrewMember.createMember(crew, user, CrewRole.MEMBER);
-        CrewMember newMembership = crewMemberRepository.save(newMember); // 저장 후 반환 객체 사용
+        // 5. 멤버로 추가 (일반 멤버 권한, 실패 시 트랜잭션 롤백으로 확보한 좌석도 반환됨)
+        Crew crew = crewRepository.getReferenceById(target.crewId());
+        CrewMember newMembership = addOrReactivateMember(crew, user);
 
         //가입한 사용자(currentUserId)와 가입한 크루(crew) 정보를 전달, 알림기능
-        notificationService.notifyCrewMemberJoin(currentUserId, crew);
+        eventPublisher.publishEvent(NotificationRequestedEvent.of(
+                Notification.createCrewMemberJoinNotification(null, crew.getCrewName(), target.crewId()),
+                currentUserId));
+
+        // 커밋 후 멤버십/크루 달력 캐시 반영 (멤버 변경)
+        eventPublisher.publishEvent(new CrewMembershipChangedEvent(target.crewId(), currentUserId, true));
+        eventPublisher.publishEvent(CrewCalendarChangedEvent.ofCrew(target.crewId()));
 
         return newMembership;
     }
 
+    // 헬퍼 메서드: 멤버십 추가 (탈퇴했던 사용자는 기존 행 재활성화, crew_id + user_id 유니크)
+    private CrewMember addOrReactivateMember(Crew crew, User user) {
+        CrewMember membership = crewMemberRepository.findByCrewAndUser(crew, user).orElse(null);
+        if (membership != null && membership.isActiveMember()) {
+            throw new IllegalStateException("이미 크루의 멤버입니다.");
+        }
+
+        if (membership == null) {
+            membership = CrewMember.createMember(crew, user, CrewRole.MEMBER);
+        } else {
+            membership.rejoinCrew();
+            membership.demoteToMember();
+        }
+
+        try {
+            return crewMemberRepository.saveAndFlush(membership);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 사용자의 동시 가입 요청이 먼저 저장된 경우
+            throw new IllegalStateException("이미 크루의 멤버입니다.");
+        }
+    }
+
     // --- 12. 사용자 전체 크루 월별 일정 조회 ---
     @Transactional(readOnly = true)
     public List<CrewScheduleResponse> getCombinedMonthlySchedulesForUser(Long currentUserId, int year, int month) {
-        // 1. 사용자가 속한 모든 크루 목록 조회 (getCrewsByUserId 재사용)
-        List<CrewResponse> userCrews = getCrewsByUserId(currentUserId);
-
-        List<CrewScheduleResponse> combinedSchedules = new java.util.ArrayList<>();
-
-        // 2. 각 크루별로 월별 일정 조회 메서드를 호출하여 데이터를 합침
-        for (CrewResponse crewResponse : userCrews) {
-            Long crewId = crewResponse.getCrewId();
+        // 1. 사용자가 활성 멤버인 모든 크루의 표시 기간 일정을 한 번에 조회 (크루 수와 무관하게 1회)
+        LocalDate[] window = CrewCalendarCacheService.displayWindow(year, month);
+        return toScheduleResponses(
+                crewScheduleRepository.findScheduleRowsForMember(currentUserId, window[0], window[1]));
+    }
 
-            // 3. 기존의 getMonthlySchedules(CrewSchedule 엔티티 리스트 반환)를 호출
-            List<CrewSchedule> schedules = getMonthlySchedules(crewId, year, month);
+    // 헬퍼 메서드: 일정 프로젝션을 DTO로 변환 (참가자 수 집계 쿼리 1회)
+    private List<CrewScheduleResponse> toScheduleResponses(List<CrewScheduleRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
 
-            // 4. 엔티티 리스트를 DTO로 변환 후 통합 리스트에 추가
-            combinedSchedules.addAll(
-                    schedules.stream()
-                            .map(CrewScheduleResponse::from)
-                            .collect(Collectors.toList())
-            );
+        // 참가자 수를 일정별로 한 번에 집계 (참가자 컬렉션 지연 로딩 방지)
+        List<Long> crewScheduleIds = rows.stream().map(CrewScheduleRow::crewScheduleId).collect(Collectors.toList());
+        Map<Long, long[]> participantCounts = new java.util.HashMap<>();
+        for (Object[] row : participantRepository.countParticipantsByCrewScheduleIds(crewScheduleIds)) {
+            participantCounts.put(((Number) row[0]).longValue(), new long[]{
+                    ((Number) row[1]).longValue(),
+                    row[2] != null ? ((Number) row[2]).longValue() : 0L});
         }
 
-        return combinedSchedules;
+        // DTO 변환 (참가자가 없는 일정은 0명)
+        return rows.stream()
+                .map(row -> {
+                    long[] counts = participantCounts.getOrDefault(row.crewScheduleId(), new long[]{0L, 0L});
+                    return CrewScheduleResponse.from(row, (int) counts[0], (int) counts[1]);
+                })
+                .collect(Collectors.toList());
     }
 
     // --- 13. 크루 해체 (리더만 가능 - Soft Delete) ---
+    // 멤버십 비활성화는 집합 단위 쿼리, 알림은 커밋 후 비동기 발송으로 처리하여 멤버 수와 무관하게 고정된 문장 수로 끝남
     @Transactional
     public void disbandCrew(Long crewId, Long currentUserId) {
         // 1. 리더 권한 확인 및 Crew 엔티티 조회
         Crew crew = checkLeaderAuthority(crewId, currentUserId);
 
 
-        // (멤버십이 비활성화되기 전에 호출하여 모든 멤버가 알림을 받을 수 있도록 함)
-        notificationService.notifyCrewDisbanded(crew);
+        // (멤버십이 비활성화되기 전에 수신자를 확정하여 모든 멤버가 알림을 받을 수 있도록 함)
+        publishCrewNotification(crewId, Notification.createCrewDisbandedNotification(null, crew.getCrewName(), crewId));
 
-        // 2. 크루를 Soft Delete 처리 (isDeleted = true)
+        // 2. 크루를 Soft Delete 처리 (isDeleted = true, 활성 멤버 0명)
         crew.softDelete();
+        crew.setActiveMemberCount(0);
         crewRepository.save(crew);
 
-        // 3. 해당 크루의 모든 멤버십을 비활성화 (isActive = false)
-        List<CrewMember> activeMembers = crewMemberRepository.findByCrewAndIsActiveTrue(crew);
-        for (CrewMember member : activeMembers) {
-            member.leaveCrew(); // isActive = false 처리
-        }
-        crewMemberRepository.saveAll(activeMembers); // 일괄 저장
+        // 3. 해당 크루의 모든 멤버십을 UPDATE 한 문장으로 비활성화 (isActive = false)
+        crewMemberRepository.deactivateAllByCrewId(crewId);
+
+        // 4. 커밋 후 크루명 검색 색인 제거 및 달력/멤버십 캐시 무효화
+        eventPublisher.publishEvent(new CrewChangedEvent(crew.getCrewId(), crew.getCrewName(), true));
+        eventPublisher.publishEvent(CrewCalendarChangedEvent.ofCrew(crew.getCrewId()));
+        eventPublisher.publishEvent(new CrewMembershipChangedEvent(crew.getCrewId(), null, false));
     }
 
     // --- 14. 크루 일정 수정 (리더만 가능) ---
@@ -475,7 +517,9 @@ public class CrewService {
         Activity activity = activityRepository.findById(request.getActivityId())
                 .orElseThrow(() -> new NoSuchElementException("활동을 찾을 수 없습니다. ID: " + request.getActivityId()));
 
-        // 5. Schedule 엔티티 업데이트 (날짜, 시간, 활동, 위치)
+        // 5. Schedule 엔티티 업데이트 (날짜, 시간, 활동, 위치) - 통계 반영을 위해 이전 값 보관
+        Long previousActivityId = schedule.getActivity() != null ? schedule.getActivity().getActivityId() : null;
+        LocalDate previousDate = schedule.getScheduleDate();
         schedule.setActivity(activity);
         schedule.setScheduleDate(request.getDate());
         schedule.setScheduleTime(request.getTime());
@@ -490,11 +534,53 @@ public class CrewService {
         // 6. CrewSchedule 엔티티 업데이트 (장비 목록)
         crewSchedule.setEquipmentList(request.getEquipmentList());
 
+        // 크루 활동 통계 반영 (활동 또는 완료 여부가 바뀐 경우)
+        crewActivityStatisticsService.recordScheduleChanged(
+                crewId, previousActivityId, previousDate, activity.getActivityId(), request.getDate());
+
+        // 커밋 후 이전/변경 날짜가 표시되는 달력 캐시 무효화
+        eventPublisher.publishEvent(CrewCalendarChangedEvent.ofDates(crewId, previousDate, request.getDate()));
+
         // 7. 일정 수정 알림
         String activityName = activity.getActivityName();
-        notificationService.notifyScheduleUpdated(crewSchedule, activityName);
+        publishCrewNotification(crewId, Notification.createCrewScheduleUpdateNotification(
+                null, crewSchedule.getCrew().getCrewName(), activityName, crewSchedule.getCrewScheduleId()));
 
         // 8. DTO로 변환하여 반환
         return CrewScheduleResponse.from(crewSchedule);
     }
+
+    // --- 15. 크루명 검색 (n-gram 색인, 관련도순 페이지) ---
+    @Transactional(readOnly = true)
+    public PageResponse<CrewSearchResponse> searchCrews(String keyword, int page, int size) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        if (page < 1 || size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지는 1 이상, 페이지 크기는 1 이상 " + MAX_SEARCH_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        NgramIndex.Result result = textSearchIndexService.searchCrews(
+                keyword, (int) Math.min((long) (page - 1) * size, Integer.MAX_VALUE), size);
+        List<Long> crewIds = result.hits().stream().map(NgramIndex.Hit::id).collect(Collectors.toList());
+
+        // 색인 순서(관련도순) 유지, 색인 반영 전에 해체된 크루는 제외
+        Map<Long, Crew> crews = crewIds.isEmpty() ? Map.of() : crewRepository.findByCrewIdInAndIsDeletedFalse(crewIds)
+                .stream()
+                .collect(Collectors.toMap(Crew::getCrewId, crew -> crew));
+        List<CrewSearchResponse> items = crewIds.stream()
+                .map(crews::get)
+                .filter(Objects::nonNull)
+                .map(CrewSearchResponse::from)
+                .collect(Collectors.toList());
+
+        return PageResponse.of(items, page, size, result.total());
+    }
+
+    // --- 16. 활성 멤버 수 카운터 보정 (관리자 작업) ---
+    // 카운터 컬럼 도입 직후나 카운터를 거치지 않은 데이터 수정 후 한 번 실행 (진행 중인 가입의 예약 좌석과 겹치지 않도록 시작 시 자동 실행하지 않음)
+    @Transactional
+    public int recountActiveMemberCounts() {
+        return crewRepository.recountActiveMembers();
+    }
 }
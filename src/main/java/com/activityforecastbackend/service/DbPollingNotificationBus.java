@@ -0,0 +1,224 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.admin.NotificationBusStatsResponse;
+import com.activityforecastbackend.dto.notification.NotificationMessage;
+import com.activityforecastbackend.entity.NotificationBusMessage;
+import com.activityforecastbackend.repository.NotificationBusMessageRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 다중 인스턴스용 메시지 버스 (DB 폴링)
+ * 발행은 배치마다 notification_bus_messages에 한 행(한 번 직렬화한 JSON)을 INSERT하고,
+ * 모든 인스턴스가 주기적으로 마지막으로 처리한 ID 이후의 행을 읽어 자기 구독자에게 전달합니다.
+ * IDENTITY ID는 커밋 순서와 다를 수 있으므로 ID 공백을 만나면 gap-timeout 동안 기다렸다가 건너뜁니다. (롤백된 INSERT)
+ * 건너뛴 ID는 gap-recheck-ms 동안 폴링마다 다시 조회하여, 늦게 커밋된 행도 (순서는 뒤바뀌지만) 전달합니다.
+ * 전달은 최대 폴링 주기만큼 늦어지며, 보관 기간이 지난 행은 주기적으로 삭제됩니다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "notification.bus.type", havingValue = "db")
+public class DbPollingNotificationBus implements NotificationBus {
+
+    private static final TypeReference<List<NotificationMessage>> MESSAGE_LIST = new TypeReference<>() {
+    };
+    // 한 번의 공백에서 다시 조회할 최대 ID 수 (대량 공백은 롤백으로 간주)
+    private static final int MAX_PENDING_GAP_IDS = 1000;
+
+    private final NotificationBusMessageRepository messageRepository;
+    private final ObjectMapper objectMapper;
+    private final int pollBatchSize;
+    private final Duration gapTimeout;
+    private final Duration gapRecheck;
+    private final Duration retention;
+
+    private final List<Consumer<List<NotificationMessage>>> subscribers = new CopyOnWriteArrayList<>();
+
+    // 폴링 스레드에서만 변경 (poll은 동기화)
+    private volatile Long lastSeenId;
+    private LocalDateTime gapDetectedAt;
+    // 건너뛴 ID와 건너뛴 시각 (다시 조회 대상)
+    private final Map<Long, LocalDateTime> pendingGapIds = new TreeMap<>();
+
+    private final AtomicLong publishedBatchCount = new AtomicLong();
+    private final AtomicLong publishedMessageCount = new AtomicLong();
+    private final AtomicLong receivedBatchCount = new AtomicLong();
+    private final AtomicLong receivedMessageCount = new AtomicLong();
+    private final AtomicLong skippedGapCount = new AtomicLong();
+    private final AtomicLong lateDeliveredCount = new AtomicLong();
+    private final AtomicLong expiredGapIdCount = new AtomicLong();
+
+    public DbPollingNotificationBus(
+            NotificationBusMessageRepository messageRepository,
+            ObjectMapper objectMapper,
+            @Value("${notification.bus.poll-batch-size:100}") int pollBatchSize,
+            @Value("${notification.bus.gap-timeout-ms:5000}") long gapTimeoutMs,
+            @Value("${notification.bus.gap-recheck-ms:60000}") long gapRecheckMs,
+            @Value("${notification.bus.retention-minutes:10}") long retentionMinutes) {
+        this.messageRepository = messageRepository;
+        this.objectMapper = objectMapper;
+        this.pollBatchSize = pollBatchSize;
+        this.gapTimeout = Duration.ofMillis(gapTimeoutMs);
+        this.gapRecheck = Duration.ofMillis(gapRecheckMs);
+        this.retention = Duration.ofMinutes(retentionMinutes);
+    }
+
+    @Override
+    public void publish(List<NotificationMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(messages);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("알림 메시지 직렬화 실패", e);
+        }
+        messageRepository.save(NotificationBusMessage.createMessage(payload, messages.size()));
+        publishedBatchCount.incrementAndGet();
+        publishedMessageCount.addAndGet(messages.size());
+    }
+
+    @Override
+    public void subscribe(Consumer<List<NotificationMessage>> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * 시작 시점 이후에 발행된 메시지부터 전달 (이전 메시지는 이미 다른 인스턴스/DB 조회로 처리됨)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        Long maxId = messageRepository.findMaxMessageId();
+        lastSeenId = maxId != null ? maxId : 0L;
+        log.info("알림 메시지 버스(DB) 폴링 시작: lastSeenId={}", lastSeenId);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.bus.poll-interval-ms:500}",
+            initialDelayString = "${notification.bus.poll-interval-ms:500}")
+    public synchronized void poll() {
+        if (lastSeenId == null) {
+            return;
+        }
+        recheckPendingGaps();
+
+        List<NotificationBusMessage> rows = messageRepository.findByMessageIdGreaterThanOrderByMessageIdAsc(
+                lastSeenId, PageRequest.of(0, pollBatchSize));
+        for (NotificationBusMessage row : rows) {
+            // 앞선 ID가 아직 커밋 전이면 잠시 기다리고, 시간이 지나면 롤백된 것으로 보고 건너뜀
+            // (시작 시 테이블이 비어 있었다면 첫 행은 공백 검사 없이 처리)
+            if (lastSeenId != 0L && row.getMessageId() != lastSeenId + 1) {
+                LocalDateTime now = LocalDateTime.now();
+                if (gapDetectedAt == null) {
+                    gapDetectedAt = now;
+                }
+                if (Duration.between(gapDetectedAt, now).compareTo(gapTimeout) < 0) {
+                    return;
+                }
+                skippedGapCount.incrementAndGet();
+                log.debug("알림 메시지 ID 공백 건너뜀: {} -> {}", lastSeenId, row.getMessageId());
+                long lastGapId = Math.min(row.getMessageId() - 1, lastSeenId + MAX_PENDING_GAP_IDS);
+                for (long gapId = lastSeenId + 1; gapId <= lastGapId; gapId++) {
+                    pendingGapIds.put(gapId, now);
+                }
+            }
+            gapDetectedAt = null;
+            lastSeenId = row.getMessageId();
+            deliver(row);
+        }
+    }
+
+    /**
+     * 건너뛴 ID 중 그 사이 커밋된 행을 전달하고, gap-recheck 기간이 지난 ID는 롤백된 것으로 보고 제외
+     */
+    private void recheckPendingGaps() {
+        if (pendingGapIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(gapRecheck);
+        Iterator<LocalDateTime> skippedAt = pendingGapIds.values().iterator();
+        while (skippedAt.hasNext()) {
+            if (skippedAt.next().isBefore(expiredBefore)) {
+                skippedAt.remove();
+                expiredGapIdCount.incrementAndGet();
+            }
+        }
+        if (pendingGapIds.isEmpty()) {
+            return;
+        }
+
+        List<NotificationBusMessage> lateRows =
+                messageRepository.findByMessageIdInOrderByMessageIdAsc(List.copyOf(pendingGapIds.keySet()));
+        for (NotificationBusMessage row : lateRows) {
+            pendingGapIds.remove(row.getMessageId());
+            lateDeliveredCount.incrementAndGet();
+            log.debug("건너뛴 알림 메시지 뒤늦게 전달: messageId={}", row.getMessageId());
+            deliver(row);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 메시지 삭제
+     */
+    @Scheduled(cron = "${notification.bus.purge-cron:0 */5 * * * *}")
+    public void purgeExpired() {
+        int deleted = messageRepository.deleteCreatedBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.debug("보관 기간이 지난 알림 메시지 {}건 삭제", deleted);
+        }
+    }
+
+    @Override
+    public NotificationBusStatsResponse getStats() {
+        return NotificationBusStatsResponse.builder()
+                .type("db")
+                .publishedBatchCount(publishedBatchCount.get())
+                .publishedMessageCount(publishedMessageCount.get())
+                .receivedBatchCount(receivedBatchCount.get())
+                .receivedMessageCount(receivedMessageCount.get())
+                .skippedGapCount(skippedGapCount.get())
+                .lateDeliveredCount(lateDeliveredCount.get())
+                .expiredGapIdCount(expiredGapIdCount.get())
+                .lastSeenId(lastSeenId)
+                .build();
+    }
+
+    private void deliver(NotificationBusMessage row) {
+        List<NotificationMessage> messages;
+        try {
+            messages = objectMapper.readValue(row.getPayload(), MESSAGE_LIST);
+        } catch (JsonProcessingException e) {
+            log.error("알림 메시지 역직렬화 실패: messageId={}", row.getMessageId(), e);
+            return;
+        }
+
+        receivedBatchCount.incrementAndGet();
+        receivedMessageCount.addAndGet(messages.size());
+        for (Consumer<List<NotificationMessage>> subscriber : subscribers) {
+            try {
+                subscriber.accept(messages);
+            } catch (Exception e) {
+                log.warn("알림 메시지 전달 실패: messageId={} - {}", row.getMessageId(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.activity.GazetteerPlaceDto;
+import com.activityforecastbackend.dto.admin.CacheStatsResponse;
+import com.activityforecastbackend.dto.admin.GazetteerStatusResponse;
+import com.activityforecastbackend.util.PrefixTrie;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 오프라인 지명 사전 (지하철역/주요 랜드마크)
+ * 번들된 버전별 데이터셋을 메모리 색인(정확 일치 맵 + 접두사 트라이)으로 적재하여
+ * 카카오 API 호출 없이 좌표를 조회합니다.
+ * 번들 데이터셋은 조회 빈도가 높은 주요 환승역/랜드마크만 수록한 선별 목록이며, 미수록 지명은 카카오 API 경로로 처리됩니다.
+ */
+@Slf4j
+@Service
+public class GazetteerService {
+
+    private static final String[] STATION_PREFIXES = {"서울지하철", "지하철", "전철"};
+    private static final String[] STATION_SUFFIXES = {"지하철역", "전철역", "역"};
+    private static final Pattern FILE_VERSION = Pattern.compile("-(v\\d+)\\.csv$");
+
+    private final Resource dataset;
+    private final boolean enabled;
+
+    // 로딩 완료 후 통째로 교체되는 읽기 전용 색인
+    private volatile Index index = Index.EMPTY;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public GazetteerService(
+            @Value("${kakao.gazetteer.location:classpath:gazetteer/gazetteer-v1.csv}") Resource dataset,
+            @Value("${kakao.gazetteer.enabled:true}") boolean enabled) {
+        this.dataset = dataset;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 정규화된 조회 키와 지하철역 의도 여부
+     */
+    record NormalizedQuery(String key, boolean stationIntent) {
+    }
+
+    /**
+     * 지명 정규화: 공백 제거, 소문자화, "지하철"/"전철" 접두어 및 "역"/"지하철역"/"전철역" 접미어 제거
+     * 접두어/접미어가 제거된 경우 지하철역을 찾는 질의로 간주합니다.
+     */
+    static NormalizedQuery normalize(String name) {
+        String key = name.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+        boolean stationIntent = false;
+
+        for (String prefix : STATION_PREFIXES) {
+            if (key.startsWith(prefix) && key.length() > prefix.length() + 1) {
+                key = key.substring(prefix.length());
+                stationIntent = true;
+                break;
+            }
+        }
+        for (String suffix : STATION_SUFFIXES) {
+            if (key.endsWith(suffix) && key.length() > suffix.length()) {
+                key = key.substring(0, key.length() - suffix.length());
+                stationIntent = true;
+                break;
+            }
+        }
+        return new NormalizedQuery(key, stationIntent);
+    }
+
+    @PostConstruct
+    public void load() {
+        if (!enabled) {
+            log.info("오프라인 지명 사전 비활성화됨");
+            return;
+        }
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(dataset.getInputStream(), StandardCharsets.UTF_8))) {
+            String version = "unknown";
+            // 같은 키로 정규화되는 지명(예: 시청역/시청, 다른 지역의 동명 역)은 모두 보관
+            Map<String, List<GazetteerPlaceDto>> exact = new HashMap<>();
+            int placeCount = 0;
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty()) {
+                    continue;
+                }
+                if (line.startsWith("#")) {
+                    if (line.startsWith("# version=")) {
+                        version = line.substring("# version=".length()).trim();
+                    }
+                    continue;
+                }
+
+                String[] columns = line.split(",", 5);
+                if (columns.length < 4) {
+                    log.warn("지명 사전 형식 오류로 건너뜀: {}", line);
+                    continue;
+                }
+
+                String[] names = columns[0].split("\\|");
+                GazetteerPlaceDto place = GazetteerPlaceDto.builder()
+                        .name(names[0].trim())
+                        .type(columns[1].trim())
+                        .latitude(new BigDecimal(columns[2].trim()))
+                        .longitude(new BigDecimal(columns[3].trim()))
+                        .address(columns.length > 4 ? columns[4].trim() : null)
+                        .build();
+                placeCount++;
+
+                for (String name : names) {
+                    String key = normalize(name.trim()).key();
+                    List<GazetteerPlaceDto> places = exact.computeIfAbsent(key, k -> new ArrayList<>(1));
+                    // 같은 장소의 별칭이 같은 키로 정규화되면 한 번만 보관
+                    if (!places.contains(place)) {
+                        places.add(place);
+                    }
+                }
+            }
+
+            PrefixTrie<List<GazetteerPlaceDto>> trie = new PrefixTrie<>();
+            for (Map.Entry<String, List<GazetteerPlaceDto>> entry : exact.entrySet()) {
+                List<GazetteerPlaceDto> places = List.copyOf(entry.getValue());
+                entry.setValue(places);
+                trie.put(entry.getKey(), places);
+            }
+
+            warnIfVersionMismatch(version);
+            index = new Index(version, placeCount, Collections.unmodifiableMap(exact), trie);
+            log.info("오프라인 지명 사전 로드 완료: version={}, 장소 {}개, 키 {}개", version, placeCount, exact.size());
+        } catch (Exception e) {
+            // 사전 로드 실패 시에도 카카오 API 경로로 정상 동작
+            log.error("오프라인 지명 사전 로드 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 데이터셋 파일명의 버전(gazetteer-v1.csv → v1)과 헤더의 version이 다르면 경고
+     */
+    private void warnIfVersionMismatch(String version) {
+        String filename = dataset.getFilename();
+        if (filename == null) {
+            return;
+        }
+        Matcher matcher = FILE_VERSION.matcher(filename);
+        if (matcher.find() && !matcher.group(1).equals(version)) {
+            log.warn("지명 사전 버전 불일치: 파일명={}, 헤더 version={}", filename, version);
+        }
+    }
+
+    /**
+     * 지명으로 좌표 조회 (정확 일치만 허용)
+     * 지하철역 항목은 "역" 등 지하철역 의도가 드러난 질의에만, 랜드마크는 그 외 질의에만 응답하여
+     * "서울" → 서울역, "경복궁역" → 경복궁 같은 오매칭을 방지합니다.
+     * 같은 종류의 후보가 둘 이상이면(다른 지역의 동명 역 등) 어느 쪽인지 판단할 수 없으므로 카카오 API 경로에 맡깁니다.
+     */
+    public Optional<GazetteerPlaceDto> lookup(String name) {
+        if (name == null || name.isBlank()) {
+            return Optional.empty();
+        }
+
+        NormalizedQuery query = normalize(name);
+        List<GazetteerPlaceDto> candidates = index.exact.getOrDefault(query.key(), Collections.emptyList()).stream()
+                .filter(place -> place.isStation() == query.stationIntent())
+                .toList();
+        if (candidates.size() != 1) {
+            if (candidates.size() > 1) {
+                log.debug("지명 사전 동명 후보 {}개로 조회 생략: {}", candidates.size(), name);
+            }
+            missCount.incrementAndGet();
+            return Optional.empty();
+        }
+
+        hitCount.incrementAndGet();
+        return Optional.of(candidates.get(0));
+    }
+
+    /**
+     * 접두사 자동완성 (정규화된 접두사 기준, 짧은 이름 우선)
+     */
+    public List<GazetteerPlaceDto> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return Collections.emptyList();
+        }
+        return index.trie.findByPrefix(normalize(prefix).key(), limit).stream()
+                .flatMap(List::stream)
+                .distinct()
+                .limit(limit)
+                .toList();
+    }
+
+    public GazetteerStatusResponse getStatus() {
+        Index current = index;
+        return GazetteerStatusResponse.builder()
+                .version(current.version)
+                .placeCount(current.placeCount)
+                .keyCount(current.exact.size())
+                .lookupStats(CacheStatsResponse.of("gazetteer", hitCount.get(), missCount.get()))
+                .build();
+    }
+
+    private static final class Index {
+        private static final Index EMPTY = new Index("none", 0, Collections.emptyMap(), new PrefixTrie<>());
+
+        private final String version;
+        private final int placeCount;
+        private final Map<String, List<GazetteerPlaceDto>> exact;
+        private final PrefixTrie<List<GazetteerPlaceDto>> trie;
+
+        private Index(String version, int placeCount, Map<String, List<GazetteerPlaceDto>> exact,
+                      PrefixTrie<List<GazetteerPlaceDto>> trie) {
+            this.version = version;
+            this.placeCount = placeCount;
+            this.exact = exact;
+            this.trie = trie;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.activity.CoordinateDto;
+import com.activityforecastbackend.dto.admin.CacheStatsResponse;
+import com.activityforecastbackend.entity.GeocodeCacheEntry;
+import com.activityforecastbackend.repository.GeocodeCacheRepository;
+import com.activityforecastbackend.util.LruCache;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지오코딩 2단계 캐시 (메모리 LRU → DB)
+ * 정규화된 주소를 키로 카카오 지오코딩 결과를 보관하며, 검색 결과 없음도 짧은 TTL로 캐싱합니다.
+ * 역지오코딩 결과는 설정된 정밀도(기본 50m) 격자로 양자화한 좌표를 키로 메모리에 보관합니다.
+ */
+@Slf4j
+@Service
+public class GeocodeCacheService {
+
+    // DB 키 컬럼 길이 제한 (초과하는 주소는 메모리에만 캐싱)
+    private static final int MAX_PERSISTED_KEY_LENGTH = 255;
+
+    // 위도 1도당 거리 (m)
+    private static final double METERS_PER_DEGREE = 111_320.0;
+
+    private final GeocodeCacheRepository geocodeCacheRepository;
+    private final LruCache<String, CachedGeocode> memoryCache;
+    private final Duration positiveTtl;
+    private final Duration negativeTtl;
+    private final LruCache<String, CoordinateDto> reverseCache;
+    private final double reversePrecisionMeters;
+
+    private final AtomicLong dbHitCount = new AtomicLong();
+    private final AtomicLong dbMissCount = new AtomicLong();
+
+    public GeocodeCacheService(
+            GeocodeCacheRepository geocodeCacheRepository,
+            @Value("${kakao.geocode-cache.max-size:10000}") int maxSize,
+            @Value("${kakao.geocode-cache.positive-ttl-hours:720}") long positiveTtlHours,
+            @Value("${kakao.geocode-cache.negative-ttl-minutes:60}") long negativeTtlMinutes,
+            @Value("${kakao.reverse-geocode-cache.max-size:20000}") int reverseMaxSize,
+            @Value("${kakao.reverse-geocode-cache.ttl-hours:720}") long reverseTtlHours,
+            @Value("${kakao.reverse-geocode-cache.precision-meters:50}") double reversePrecisionMeters) {
+        if (reversePrecisionMeters <= 0) {
+            throw new IllegalArgumentException("역지오코딩 캐시 정밀도는 0보다 커야 합니다: " + reversePrecisionMeters);
+        }
+        this.geocodeCacheRepository = geocodeCacheRepository;
+        this.positiveTtl = Duration.ofHours(positiveTtlHours);
+        this.negativeTtl = Duration.ofMinutes(negativeTtlMinutes);
+        this.memoryCache = new LruCache<>(maxSize, positiveTtl);
+        this.reverseCache = new LruCache<>(reverseMaxSize, Duration.ofHours(reverseTtlHours));
+        this.reversePrecisionMeters = reversePrecisionMeters;
+    }
+
+    /**
+     * 캐시된 지오코딩 결과 (coordinate가 null이면 부정 캐시)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class CachedGeocode {
+        private final CoordinateDto coordinate;
+
+        public boolean isNegative() {
+            return coordinate == null;
+        }
+    }
+
+    /**
+     * 주소 정규화: 앞뒤 공백 제거, 연속 공백 축약, 소문자화
+     */
+    public static String normalize(String address) {
+        return address.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 캐시 조회 (메모리 → DB 순). 캐시에 없으면 null
+     */
+    public CachedGeocode lookup(String address) {
+        String key = normalize(address);
+
+        CachedGeocode cached = memoryCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        if (key.length() > MAX_PERSISTED_KEY_LENGTH) {
+            return null;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            GeocodeCacheEntry entry = geocodeCacheRepository.findByNormalizedAddress(key)
+                    .filter(e -> !e.isExpired(now))
+                    .orElse(null);
+            if (entry == null) {
+                dbMissCount.incrementAndGet();
+                return null;
+            }
+
+            dbHitCount.incrementAndGet();
+            CachedGeocode fromDb = new CachedGeocode(entry.isNegative() ? null : CoordinateDto.builder()
+                    .latitude(entry.getLatitude())
+                    .longitude(entry.getLongitude())
+                    .address(entry.getAddress())
+                    .roadAddress(entry.getRoadAddress())
+                    .build());
+            // 남은 TTL만큼 메모리에 승격
+            memoryCache.put(key, fromDb, Duration.between(now, entry.getExpiresAt()));
+            return fromDb;
+        } catch (Exception e) {
+            log.warn("지오코딩 DB 캐시 조회 실패: {} - {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    public void putPositive(String address, CoordinateDto coordinate) {
+        put(normalize(address), new CachedGeocode(coordinate), positiveTtl);
+    }
+
+    public void putNegative(String address) {
+        put(normalize(address), new CachedGeocode(null), negativeTtl);
+    }
+
+    private void put(String key, CachedGeocode value, Duration ttl) {
+        memoryCache.put(key, value, ttl);
+
+        if (key.length() > MAX_PERSISTED_KEY_LENGTH) {
+            return;
+        }
+
+        CoordinateDto coordinate = value.getCoordinate();
+        LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+        try {
+            GeocodeCacheEntry entry = geocodeCacheRepository.findByNormalizedAddress(key)
+                    .orElseGet(() -> GeocodeCacheEntry.createEntry(key));
+            entry.updateResult(
+                    coordinate != null ? coordinate.getLatitude() : null,
+                    coordinate != null ? coordinate.getLongitude() : null,
+                    coordinate != null ? coordinate.getAddress() : null,
+                    coordinate != null ? coordinate.getRoadAddress() : null,
+                    expiresAt);
+            geocodeCacheRepository.save(entry);
+        } catch (DataIntegrityViolationException e) {
+            // 동시 요청이 먼저 저장한 경우 - 메모리 캐시만으로 충분
+            log.debug("지오코딩 캐시 동시 저장 감지: {}", key);
+        } catch (Exception e) {
+            log.warn("지오코딩 DB 캐시 저장 실패: {} - {}", key, e.getMessage());
+        }
+    }
+
+    // --- 역지오코딩 캐시 ---
+
+    /**
+     * 역지오코딩 캐시 조회. 같은 격자 셀의 결과가 있으면 요청 좌표로 채워 반환하고, 없으면 null
+     */
+    public CoordinateDto lookupReverse(BigDecimal latitude, BigDecimal longitude) {
+        CoordinateDto cached = reverseCache.get(quantize(latitude, longitude));
+        if (cached == null) {
+            return null;
+        }
+        return CoordinateDto.builder()
+                .latitude(latitude)
+                .longitude(longitude)
+                .address(cached.getAddress())
+                .roadAddress(cached.getRoadAddress())
+                .build();
+    }
+
+    public void putReverse(BigDecimal latitude, BigDecimal longitude, CoordinateDto coordinate) {
+        reverseCache.put(quantize(latitude, longitude), coordinate);
+    }
+
+    /**
+     * 좌표를 정밀도(m) 크기의 격자 셀 키로 변환
+     * 경도 간격은 셀 중심 위도의 cos 값으로 보정하여 남북/동서 셀 크기를 비슷하게 유지합니다.
+     */
+    String quantize(BigDecimal latitude, BigDecimal longitude) {
+        double latStep = reversePrecisionMeters / METERS_PER_DEGREE;
+        long latCell = Math.round(latitude.doubleValue() / latStep);
+
+        double cosLat = Math.max(Math.cos(Math.toRadians(latCell * latStep)), 0.01);
+        double lonStep = reversePrecisionMeters / (METERS_PER_DEGREE * cosLat);
+        long lonCell = Math.round(longitude.doubleValue() / lonStep);
+
+        return latCell + ":" + lonCell;
+    }
+
+    /**
+     * 특정 주소의 캐시 제거 (메모리 + DB)
+     */
+    public boolean evict(String address) {
+        String key = normalize(address);
+        boolean removedFromMemory = memoryCache.invalidate(key) != null;
+        int removedFromDb = geocodeCacheRepository.deleteByNormalizedAddress(key);
+        log.info("지오코딩 캐시 제거: {} (memory={}, db={})", key, removedFromMemory, removedFromDb);
+        return removedFromMemory || removedFromDb > 0;
+    }
+
+    /**
+     * 전체 캐시 제거 (메모리 + DB)
+     */
+    public void evictAll() {
+        memoryCache.invalidateAll();
+        reverseCache.invalidateAll();
+        geocodeCacheRepository.deleteAllInBatch();
+        log.info("지오코딩 캐시 전체 제거 완료");
+    }
+
+    /**
+     * 만료된 DB 캐시 정리 (매일 새벽)
+     */
+    @Scheduled(cron = "${kakao.geocode-cache.purge-cron:0 0 4 * * *}")
+    public void purgeExpired() {
+        int deleted = geocodeCacheRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 지오코딩 캐시 {}건 삭제", deleted);
+        }
+    }
+
+    public List<CacheStatsResponse> getStats() {
+        return List.of(
+                CacheStatsResponse.from("geocode.memory", memoryCache),
+                CacheStatsResponse.of("geocode.db", dbHitCount.get(), dbMissCount.get()),
+                CacheStatsResponse.from("reverse-geocode.memory", reverseCache)
+        );
+    }
+}
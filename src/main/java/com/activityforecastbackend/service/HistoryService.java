@@ -30,6 +30,7 @@ public class HistoryService {
     private final UserRepository userRepository;
     private final ActivityRepository activityRepository;
     private final RecommendationRepository recommendationRepository;
+    private final AiTrainingStatisticsService aiTrainingStatisticsService;
 
     //활동을 캘린더(Schedule)에 추가
     public ScheduleDto addSchedule(Long userId, AddScheduleRequestDto dto) {
@@ -150,6 +151,7 @@ public class HistoryService {
                 // AiTrainingData 엔티티의 static factory method 사용
                 AiTrainingData trainingData = AiTrainingData.createFromSchedule(updatedSchedule);
                 aiTrainingDataRepository.save(trainingData);
+                aiTrainingStatisticsService.recordCreated(trainingData); // 통계 카운터 증분 (커밋 후 반영)
                 log.info("AI 학습 데이터(피드백) 저장 완료: scheduleId={}", scheduleId);
             } catch (Exception e) {
                 // 피드백 저장이 실패해도 메인 로직(일정 수정)은 성공해야 함
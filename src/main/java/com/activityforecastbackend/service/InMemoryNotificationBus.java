@@ -0,0 +1,59 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.admin.NotificationBusStatsResponse;
+import com.activityforecastbackend.dto.notification.NotificationMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 단일 인스턴스용 메시지 버스 (기본값)
+ * 발행 스레드에서 같은 JVM의 구독자에게 바로 전달합니다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "notification.bus.type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryNotificationBus implements NotificationBus {
+
+    private final List<Consumer<List<NotificationMessage>>> subscribers = new CopyOnWriteArrayList<>();
+
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong messageCount = new AtomicLong();
+
+    @Override
+    public void publish(List<NotificationMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        batchCount.incrementAndGet();
+        messageCount.addAndGet(messages.size());
+        for (Consumer<List<NotificationMessage>> subscriber : subscribers) {
+            try {
+                subscriber.accept(messages);
+            } catch (Exception e) {
+                log.warn("알림 메시지 전달 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<List<NotificationMessage>> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @Override
+    public NotificationBusStatsResponse getStats() {
+        return NotificationBusStatsResponse.builder()
+                .type("memory")
+                .publishedBatchCount(batchCount.get())
+                .publishedMessageCount(messageCount.get())
+                .receivedBatchCount(batchCount.get())
+                .receivedMessageCount(messageCount.get())
+                .build();
+    }
+}
@@ -2,9 +2,11 @@ package com.activityforecastbackend.service;
 
 import com.activityforecastbackend.dto.activity.*;
 import com.activityforecastbackend.exception.BadRequestException;
+import com.activityforecastbackend.util.PrefetchingPageIterator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
@@ -14,6 +16,7 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -24,6 +27,11 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
@@ -31,14 +39,35 @@ import java.util.Map;
 public class KakaoLocationService {
 
     private final RestTemplate restTemplate;
+    private final GeocodeCacheService geocodeCacheService;
+    private final GazetteerService gazetteerService;
+    private final PlaceSearchCacheService placeSearchCacheService;
     
     @Autowired
     private Environment environment;
     
+    @Autowired
+    @Qualifier("kakaoSearchExecutor")
+    private ThreadPoolTaskExecutor kakaoSearchExecutor;
+    
+    // 장소 검색 다음 페이지 선요청 전용 (지하철역 병렬 검색과 스레드를 나눠 쓰지 않음)
+    @Autowired
+    @Qualifier("kakaoPrefetchExecutor")
+    private ThreadPoolTaskExecutor kakaoPrefetchExecutor;
+    
+    // 지하철역 병렬 검색 전체 대기 시간 (ms)
+    @Value("${kakao.search.subway-timeout-ms:8000}")
+    private long subwaySearchTimeoutMs;
+    
     private String kakaoApiKey;
     private String kakaoOrigin;
 
     private static final String KAKAO_API_BASE_URL = "https://dapi.kakao.com/v2/local";
+
+    // 카카오 장소 검색 페이지 제한 (size 최대 15, page 최대 45, radius 최대 20km)
+    private static final int KAKAO_PAGE_SIZE = 15;
+    private static final int KAKAO_MAX_PAGE = 45;
+    private static final int KAKAO_MAX_RADIUS = 20000;
     
     /**
      * 애플리케이션 시작 시 카카오 API 설정 초기화
@@ -97,6 +126,13 @@ public class KakaoLocationService {
             "스키", "SW8"
     );
     
+    /**
+     * 활동명에 매핑된 카카오 카테고리 코드 (없으면 null)
+     */
+    public String getActivityCategoryCode(String activityName) {
+        return ACTIVITY_CATEGORY_MAP.get(activityName);
+    }
+    
     // 지하철역 관련 카테고리 코드들 (카카오 API 기준)
     private static final String[] SUBWAY_CATEGORIES = {"SW8", "MT1", "CS2"};
 
@@ -145,7 +181,8 @@ public class KakaoLocationService {
                 return response.getBody().getDocuments();
             }
 
-            return Collections.emptyList();
+            // 본문/documents가 없는 응답은 "검색 결과 없음"과 구분하여 오류로 처리 (부정 캐시 방지)
+            throw new IllegalStateException("카카오 응답에 documents가 없습니다");
 
         } catch (Exception e) {
             log.error("전국 키워드 검색 중 오류 ({}): {}", analyzeTypeStr, e.getMessage(), e);
@@ -154,9 +191,9 @@ public class KakaoLocationService {
     }
 
     /**
-     * 키워드로 장소 검색
+     * 키워드로 장소 검색 (가까운 순 최대 limit개, 필요한 페이지까지만 조회)
      */
-    public List<KakaoPlaceDto> searchPlacesByKeyword(String keyword, BigDecimal latitude, BigDecimal longitude, Integer radius) {
+    public List<KakaoPlaceDto> searchPlacesByKeyword(String keyword, BigDecimal latitude, BigDecimal longitude, Integer radius, int limit) {
         log.info("Searching places by keyword: {} at ({}, {}) within {}m",
                 keyword, latitude, longitude, radius);
         
@@ -166,12 +203,24 @@ public class KakaoLocationService {
             return Collections.emptyList();
         }
 
+        int searchRadius = radius != null ? radius : 5000; // 기본 5km
+        if (latitude == null || longitude == null) {
+            return requestPlacesByKeyword(keyword, latitude, longitude, searchRadius);
+        }
+
+        // 타일 캐시 경유 (같은 타일/반경 구간의 요청은 캐시된 결과를 거리순 재정렬하여 응답)
+        return placeSearchCacheService.search(PlaceSearchCacheService.keywordKey(keyword), latitude, longitude, searchRadius, limit,
+                (centerLat, centerLon, fetchRadius, firstPage, lastPage) -> fetchPlacePages(
+                        keywordSearchUri(keyword, centerLat, centerLon, fetchRadius), "keyword " + keyword, firstPage, lastPage));
+    }
+
+    private List<KakaoPlaceDto> requestPlacesByKeyword(String keyword, BigDecimal latitude, BigDecimal longitude, int radius) {
         try {
             URI uri = UriComponentsBuilder.fromUriString(KAKAO_API_BASE_URL + "/search/keyword.json")
                     .queryParam("query", keyword)
                     .queryParam("x", longitude)
                     .queryParam("y", latitude)
-                    .queryParam("radius", radius != null ? radius : 5000) // 기본 5km
+                    .queryParam("radius", radius)
                     .queryParam("page", 1)
                     .queryParam("size", 15)
                     .queryParam("sort", "distance")
@@ -199,9 +248,9 @@ public class KakaoLocationService {
     }
 
     /**
-     * 카테고리로 장소 검색
+     * 카테고리로 장소 검색 (가까운 순 최대 limit개, 필요한 페이지까지만 조회)
      */
-    public List<KakaoPlaceDto> searchPlacesByCategory(String categoryCode, BigDecimal latitude, BigDecimal longitude, Integer radius) {
+    public List<KakaoPlaceDto> searchPlacesByCategory(String categoryCode, BigDecimal latitude, BigDecimal longitude, Integer radius, int limit) {
         log.info("Searching places by category: {} at ({}, {}) within {}m",
                 categoryCode, latitude, longitude, radius);
         
@@ -211,12 +260,24 @@ public class KakaoLocationService {
             return Collections.emptyList();
         }
 
+        int searchRadius = radius != null ? radius : 5000;
+        if (latitude == null || longitude == null) {
+            return requestPlacesByCategory(categoryCode, latitude, longitude, searchRadius);
+        }
+
+        // 타일 캐시 경유 (같은 타일/반경 구간의 요청은 캐시된 결과를 거리순 재정렬하여 응답)
+        return placeSearchCacheService.search(PlaceSearchCacheService.categoryKey(categoryCode), latitude, longitude, searchRadius, limit,
+                (centerLat, centerLon, fetchRadius, firstPage, lastPage) -> fetchPlacePages(
+                        categorySearchUri(categoryCode, centerLat, centerLon, fetchRadius), "category " + categoryCode, firstPage, lastPage));
+    }
+
+    private List<KakaoPlaceDto> requestPlacesByCategory(String categoryCode, BigDecimal latitude, BigDecimal longitude, int radius) {
         try {
             URI uri = UriComponentsBuilder.fromUriString(KAKAO_API_BASE_URL + "/search/category.json")
                     .queryParam("category_group_code", categoryCode)
                     .queryParam("x", longitude)
                     .queryParam("y", latitude)
-                    .queryParam("radius", radius != null ? radius : 5000)
+                    .queryParam("radius", radius)
                     .queryParam("page", 1)
                     .queryParam("size", 15)
                     .queryParam("sort", "distance")
@@ -244,22 +305,86 @@ public class KakaoLocationService {
     }
 
     /**
-     * 활동명으로 적합한 장소 검색
+     * 활동명으로 적합한 장소 검색 (가까운 순 최대 limit개)
      */
-    public List<KakaoPlaceDto> searchPlacesByActivity(String activityName, BigDecimal latitude, BigDecimal longitude, Integer radius) {
+    public List<KakaoPlaceDto> searchPlacesByActivity(String activityName, BigDecimal latitude, BigDecimal longitude, Integer radius, int limit) {
         log.info("Searching places for activity: {}", activityName);
 
         // 1. 카테고리 매핑이 있으면 카테고리로 검색
         String categoryCode = ACTIVITY_CATEGORY_MAP.get(activityName);
         if (categoryCode != null) {
-            List<KakaoPlaceDto> categoryResults = searchPlacesByCategory(categoryCode, latitude, longitude, radius);
+            List<KakaoPlaceDto> categoryResults = searchPlacesByCategory(categoryCode, latitude, longitude, radius, limit);
             if (!categoryResults.isEmpty()) {
                 return categoryResults;
             }
         }
 
         // 2. 카테고리 검색 결과가 없으면 키워드로 검색
-        return searchPlacesByKeyword(activityName, latitude, longitude, radius);
+        return searchPlacesByKeyword(activityName, latitude, longitude, radius, limit);
+    }
+
+    private UriComponentsBuilder keywordSearchUri(String keyword, BigDecimal latitude, BigDecimal longitude, Integer radius) {
+        return UriComponentsBuilder.fromUriString(KAKAO_API_BASE_URL + "/search/keyword.json")
+                .queryParam("query", keyword)
+                .queryParam("x", longitude)
+                .queryParam("y", latitude)
+                .queryParam("radius", Math.min(radius != null ? radius : 5000, KAKAO_MAX_RADIUS))
+                .queryParam("sort", "distance");
+    }
+
+    private UriComponentsBuilder categorySearchUri(String categoryCode, BigDecimal latitude, BigDecimal longitude, Integer radius) {
+        return UriComponentsBuilder.fromUriString(KAKAO_API_BASE_URL + "/search/category.json")
+                .queryParam("category_group_code", categoryCode)
+                .queryParam("x", longitude)
+                .queryParam("y", latitude)
+                .queryParam("radius", Math.min(radius != null ? radius : 5000, KAKAO_MAX_RADIUS))
+                .queryParam("sort", "distance");
+    }
+
+    /**
+     * 장소 검색 결과의 firstPage ~ lastPage 페이지만 조회 (타일 캐시용, 마지막 페이지에 도달하면 중단)
+     */
+    private PlaceSearchCacheService.FetchResult fetchPlacePages(UriComponentsBuilder baseUri, String description,
+                                                                int firstPage, int lastPage) {
+        try (PrefetchingPageIterator<KakaoPlaceDto> pages = new PrefetchingPageIterator<>(
+                page -> requestPlacePage(baseUri, page, description), kakaoPrefetchExecutor,
+                firstPage, Math.min(lastPage, KAKAO_MAX_PAGE))) {
+            List<KakaoPlaceDto> places = new ArrayList<>();
+            pages.forEachRemaining(places::add);
+            return new PlaceSearchCacheService.FetchResult(places, pages.isLastPageReached());
+        }
+    }
+
+    /**
+     * 장소 검색 결과 한 페이지 조회
+     */
+    private PrefetchingPageIterator.Page<KakaoPlaceDto> requestPlacePage(UriComponentsBuilder baseUri, int page, String description) {
+        try {
+            URI uri = baseUri.cloneBuilder()
+                    .queryParam("page", page)
+                    .queryParam("size", KAKAO_PAGE_SIZE)
+                    .build()
+                    .encode()
+                    .toUri();
+
+            HttpEntity<?> entity = new HttpEntity<>(createKakaoHeaders());
+
+            ResponseEntity<KakaoSearchResponse> response = restTemplate.exchange(
+                    uri, HttpMethod.GET, entity, KakaoSearchResponse.class);
+
+            KakaoSearchResponse body = response.getBody();
+            if (body == null || body.getDocuments() == null) {
+                return new PrefetchingPageIterator.Page<>(Collections.emptyList(), true);
+            }
+
+            boolean last = body.getMeta() == null || Boolean.TRUE.equals(body.getMeta().getIsEnd());
+            log.info("Found {} places for {} (page {}, is_end={})", body.getDocuments().size(), description, page, last);
+            return new PrefetchingPageIterator.Page<>(body.getDocuments(), last);
+
+        } catch (Exception e) {
+            log.error("Error searching places ({}, page {}): {}", description, page, e.getMessage(), e);
+            throw new BadRequestException("장소 검색 중 오류가 발생했습니다: " + e.getMessage());
+        }
     }
 
     /**
@@ -267,7 +392,59 @@ public class KakaoLocationService {
      */
     public CoordinateDto geocodeAddress(String address) {
         log.info("Geocoding address: {}", address);
-        
+
+        // 오프라인 지명 사전 우선 조회 (지하철역/주요 랜드마크)
+        Optional<GazetteerPlaceDto> gazetteerPlace = gazetteerService.lookup(address);
+        if (gazetteerPlace.isPresent()) {
+            log.info("지명 사전 적중: {} -> {}", address, gazetteerPlace.get().getName());
+            return gazetteerPlace.get().toCoordinate();
+        }
+
+        // 캐시 조회 (메모리 → DB)
+        GeocodeCacheService.CachedGeocode cached = geocodeCacheService.lookup(address);
+        if (cached != null) {
+            if (cached.isNegative()) {
+                log.info("지오코딩 부정 캐시 적중: {}", address);
+                throw new BadRequestException("해당 주소 또는 장소를 찾을 수 없습니다: " + address);
+            }
+            log.info("지오코딩 캐시 적중: {}", address);
+            return cached.getCoordinate();
+        }
+
+        GeocodeResult result = requestGeocode(address);
+        if (result.coordinate() == null) {
+            // 카카오가 0건을 확정 응답한 경우에만 부정 캐시 (비정상 응답/일부 검색 실패는 다음 요청에서 재조회)
+            if (result.definitive()) {
+                geocodeCacheService.putNegative(address);
+            } else {
+                log.warn("지오코딩 결과 없음 (확정 응답 아님, 부정 캐시 생략): {}", address);
+            }
+            throw new BadRequestException("해당 주소 또는 장소를 찾을 수 없습니다: " + address);
+        }
+
+        geocodeCacheService.putPositive(address, result.coordinate());
+        return result.coordinate();
+    }
+
+    /**
+     * 카카오 지오코딩 결과
+     * coordinate가 null이면 검색 결과 없음이며, definitive는 모든 검색이 정상 응답으로 0건을 돌려준 경우에만 true입니다.
+     */
+    private record GeocodeResult(CoordinateDto coordinate, boolean definitive) {
+
+        static GeocodeResult found(CoordinateDto coordinate) {
+            return new GeocodeResult(coordinate, true);
+        }
+
+        static GeocodeResult notFound(boolean definitive) {
+            return new GeocodeResult(null, definitive);
+        }
+    }
+
+    /**
+     * 카카오 API로 지오코딩 수행
+     */
+    private GeocodeResult requestGeocode(String address) {
         // API 키 유효성 검사 먼저 수행
         if (!isApiKeyValid()) {
             log.error("❌ 카카오 API 키가 설정되지 않았거나 유효하지 않습니다. 현재 키: [{}]", 
@@ -275,13 +452,15 @@ public class KakaoLocationService {
             throw new BadRequestException("카카오 API 키가 설정되지 않았습니다. 관리자에게 문의하세요.");
         }
 
-        // 지하철역 검색 우선 처리
+        // 지하철역 검색 우선 처리 (시간 초과/오류로 끝나지 못한 경우 결과 없음을 확정하지 않음)
+        boolean stationSearchDefinitive = true;
         if (address.contains("역")) {
             log.info("지하철역 키워드 감지, 카테고리 검색 우선 적용: {}", address);
-            CoordinateDto stationResult = searchSubwayStation(address);
-            if (stationResult != null) {
+            GeocodeResult stationResult = searchSubwayStation(address);
+            if (stationResult.coordinate() != null) {
                 return stationResult;
             }
+            stationSearchDefinitive = stationResult.definitive();
         }
 
         URI uri = null;
@@ -317,15 +496,19 @@ public class KakaoLocationService {
 
                 KakaoPlaceDto place = response.getBody().getDocuments().get(0);
 
-                return CoordinateDto.builder()
+                return GeocodeResult.found(CoordinateDto.builder()
                         .latitude(place.getLatitude())
                         .longitude(place.getLongitude())
                         .address(place.getAddressName())
                         .roadAddress(place.getRoadAddressName())
-                        .build();
+                        .build());
             }
+            // 본문/documents가 없는 응답은 0건 확정으로 보지 않음
+            boolean definitive = stationSearchDefinitive
+                    && response.getBody() != null && response.getBody().getDocuments() != null;
 
             // 주소 검색 실패 시 키워드 검색으로 fallback (역명 등을 위해)
+            // 키워드 검색의 비정상 응답/오류는 예외로 전파되어 부정 캐시되지 않음
             log.info("주소 검색 실패, 스마트 키워드 검색으로 재시도: {}", address);
             List<KakaoPlaceDto> keywordResults = searchWithSmartStrategy(address);
 
@@ -343,15 +526,15 @@ public class KakaoLocationService {
                 log.info("선택된 장소: {} - ({}, {})", 
                         selectedPlace.getPlaceName(), selectedPlace.getLatitude(), selectedPlace.getLongitude());
                 
-                return CoordinateDto.builder()
+                return GeocodeResult.found(CoordinateDto.builder()
                         .latitude(selectedPlace.getLatitude())
                         .longitude(selectedPlace.getLongitude())
                         .address(selectedPlace.getAddressName())
                         .roadAddress(selectedPlace.getRoadAddressName())
-                        .build();
+                        .build());
             }
 
-            throw new BadRequestException("해당 주소 또는 장소를 찾을 수 없습니다: " + address);
+            return GeocodeResult.notFound(definitive);
 
         } catch (Exception e) {
             log.error("Error geocoding address: {} | Request URI: {} | Error: {}",
@@ -372,6 +555,13 @@ public class KakaoLocationService {
      */
     public CoordinateDto reverseGeocode(BigDecimal latitude, BigDecimal longitude) {
         log.info("Reverse geocoding coordinates: ({}, {})", latitude, longitude);
+
+        // 양자화된 좌표 캐시 우선 조회 (근접 좌표는 같은 주소로 응답)
+        CoordinateDto cached = geocodeCacheService.lookupReverse(latitude, longitude);
+        if (cached != null) {
+            log.info("역지오코딩 캐시 적중: ({}, {})", latitude, longitude);
+            return cached;
+        }
         
         // API 키 유효성 검사
         if (!isApiKeyValid()) {
@@ -391,25 +581,25 @@ public class KakaoLocationService {
 
             HttpEntity<?> entity = new HttpEntity<>(createKakaoHeaders());
 
-            // 역지오코딩은 다른 응답 형식이므로 직접 Map으로 처리
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    uri, HttpMethod.GET, entity, Map.class);
+            // 역지오코딩 전용 응답 DTO로 처리
+            ResponseEntity<KakaoAddressResponse> response = restTemplate.exchange(
+                    uri, HttpMethod.GET, entity, KakaoAddressResponse.class);
 
             if (response.getBody() != null) {
-                Map<String, Object> body = response.getBody();
-                List<Map<String, Object>> documents = (List<Map<String, Object>>) body.get("documents");
+                List<KakaoAddressResponse.Document> documents = response.getBody().getDocuments();
 
                 if (documents != null && !documents.isEmpty()) {
-                    Map<String, Object> document = documents.get(0);
-                    Map<String, Object> address = (Map<String, Object>) document.get("address");
-                    Map<String, Object> roadAddress = (Map<String, Object>) document.get("road_address");
+                    KakaoAddressResponse.Document document = documents.get(0);
 
-                    return CoordinateDto.builder()
+                    CoordinateDto coordinate = CoordinateDto.builder()
                             .latitude(latitude)
                             .longitude(longitude)
-                            .address(address != null ? (String) address.get("address_name") : null)
-                            .roadAddress(roadAddress != null ? (String) roadAddress.get("address_name") : null)
+                            .address(document.getAddress() != null ? document.getAddress().getAddressName() : null)
+                            .roadAddress(document.getRoadAddress() != null ? document.getRoadAddress().getAddressName() : null)
                             .build();
+
+                    geocodeCacheService.putReverse(latitude, longitude, coordinate);
+                    return coordinate;
                 }
             }
 
@@ -559,14 +749,15 @@ public class KakaoLocationService {
 
     /**
      * 지하철역 전용 검색
+     * 병렬 검색이 시간 초과/오류로 끝나지 못했거나 검색 중 오류가 나면 결과 없음을 확정하지 않습니다 (부정 캐시 방지).
      */
-    private CoordinateDto searchSubwayStation(String stationName) {
+    private GeocodeResult searchSubwayStation(String stationName) {
         log.info("지하철역 전용 검색 시작: {}", stationName);
         
         try {
             String searchKeyword = stationName.replace("역", "").trim();
             
-            // 1. 다중 검색 키워드로 시도
+            // 1. 다중 검색 키워드로 시도 (우선순위 순)
             String[] searchQueries = {
                 searchKeyword + "역",           // 강남역
                 searchKeyword + " 지하철역",     // 강남 지하철역  
@@ -575,43 +766,18 @@ public class KakaoLocationService {
                 "서울지하철 " + searchKeyword + "역" // 서울지하철 강남역
             };
             
-            for (String query : searchQueries) {
-                log.info("지하철역 스마트 검색 시도: {}", query);
-                
-                List<KakaoPlaceDto> keywordResults = searchWithSmartStrategy(query);
+            // 모든 검색어를 병렬로 요청하고, 우선순위가 가장 높은 매칭 결과 사용
+            KakaoPlaceDto matchedPlace = searchStationQueriesInParallel(stationName, searchKeyword, searchQueries);
+            if (matchedPlace != null) {
+                log.info("지하철역 매칭 성공: {} -> {} (카테고리: {})", 
+                        stationName, matchedPlace.getPlaceName(), matchedPlace.getCategoryName());
                 
-                if (!keywordResults.isEmpty()) {
-                    log.info("'{}' 스마트 검색 결과 {}개:", query, keywordResults.size());
-                    
-                    // 지하철역 관련 키워드가 포함된 결과 우선 필터링
-                    for (KakaoPlaceDto place : keywordResults) {
-                        String placeName = place.getPlaceName().toLowerCase();
-                        String placeCategory = place.getCategoryName() != null ? place.getCategoryName().toLowerCase() : "";
-                        
-                        // 지하철역 관련 키워드 체크
-                        if (containsSubwayKeywords(placeName, placeCategory) && 
-                            containsStationKeyword(placeName, searchKeyword)) {
-                            
-                            log.info("지하철역 매칭 성공: {} -> {} (카테고리: {})", 
-                                    stationName, place.getPlaceName(), place.getCategoryName());
-                            
-                            return CoordinateDto.builder()
-                                    .latitude(place.getLatitude())
-                                    .longitude(place.getLongitude())
-                                    .address(place.getAddressName())
-                                    .roadAddress(place.getRoadAddressName())
-                                    .build();
-                        }
-                    }
-                    
-                    // 지하철역 키워드 매칭이 실패하면 첫 번째 결과라도 로깅
-                    log.info("지하철역 키워드 매칭 실패, 상위 3개 결과:");
-                    for (int i = 0; i < Math.min(3, keywordResults.size()); i++) {
-                        KakaoPlaceDto result = keywordResults.get(i);
-                        log.info("  {}. {} - {} (카테고리: {})", 
-                                i+1, result.getPlaceName(), result.getAddressName(), result.getCategoryName());
-                    }
-                }
+                return GeocodeResult.found(CoordinateDto.builder()
+                        .latitude(matchedPlace.getLatitude())
+                        .longitude(matchedPlace.getLongitude())
+                        .address(matchedPlace.getAddressName())
+                        .roadAddress(matchedPlace.getRoadAddressName())
+                        .build());
             }
             
             // 2. 모든 검색이 실패한 경우, 마지막으로 기본 스마트 검색 결과 사용
@@ -625,25 +791,106 @@ public class KakaoLocationService {
                         place.getPlaceName().contains(stationName)) {
                         
                         log.info("Fallback 검색으로 선택: {}", place.getPlaceName());
-                        return CoordinateDto.builder()
+                        return GeocodeResult.found(CoordinateDto.builder()
                                 .latitude(place.getLatitude())
                                 .longitude(place.getLongitude())
                                 .address(place.getAddressName())
                                 .roadAddress(place.getRoadAddressName())
-                                .build();
+                                .build());
                     }
                 }
             }
             
             log.warn("지하철역 전용 검색 완전 실패: {}", stationName);
-            return null;
+            return GeocodeResult.notFound(true);
             
         } catch (Exception e) {
             log.error("지하철역 검색 중 오류 발생: {} - {}", stationName, e.getMessage());
+            return GeocodeResult.notFound(false);
+        }
+    }
+    
+    /**
+     * 지하철역 검색어 병렬 요청
+     * 검색어별 요청을 전용 스레드 풀에 동시에 제출한 뒤 우선순위 순으로 결과를 확인하고,
+     * 매칭 결과가 확정되면 아직 끝나지 않은 나머지 요청은 취소합니다.
+     * 취소 시 인터럽트로 진행 중인 HTTP 요청도 중단됩니다 (RestTemplateConfig의 JDK HttpClient 기반 요청 팩토리).
+     * 모든 검색어가 정상 응답으로 매칭 없이 끝난 경우에만 null을 반환하고,
+     * 시간 초과/오류로 끝나지 못한 검색어가 있으면 예외를 던집니다.
+     */
+    private KakaoPlaceDto searchStationQueriesInParallel(String stationName, String searchKeyword, String[] searchQueries) {
+        List<Future<KakaoPlaceDto>> futures = new ArrayList<>(searchQueries.length);
+        for (String query : searchQueries) {
+            futures.add(kakaoSearchExecutor.submit(() -> findStationMatch(query, searchKeyword)));
+        }
+        
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(subwaySearchTimeoutMs);
+        int failed = 0;
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    long remaining = Math.max(deadline - System.nanoTime(), 0);
+                    KakaoPlaceDto place = futures.get(i).get(remaining, TimeUnit.NANOSECONDS);
+                    if (place != null) {
+                        return place;
+                    }
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    log.warn("지하철역 검색어 요청 실패: {} - {}", searchQueries[i], cause.getMessage());
+                    failed++;
+                }
+            }
+            if (failed > 0) {
+                throw new IllegalStateException("지하철역 검색어 " + failed + "개 요청 실패");
+            }
             return null;
+            
+        } catch (TimeoutException e) {
+            log.warn("지하철역 병렬 검색 시간 초과 ({}ms): {}", subwaySearchTimeoutMs, stationName);
+            throw new IllegalStateException("지하철역 병렬 검색 시간 초과", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("지하철역 병렬 검색 중단", e);
+        } finally {
+            // 결과가 확정되었거나 실패한 경우 남은 요청 취소
+            futures.forEach(future -> future.cancel(true));
         }
     }
     
+    /**
+     * 단일 검색어로 스마트 검색 후 지하철역 조건을 만족하는 첫 번째 장소 반환 (없으면 null)
+     */
+    private KakaoPlaceDto findStationMatch(String query, String searchKeyword) {
+        log.info("지하철역 스마트 검색 시도: {}", query);
+        
+        List<KakaoPlaceDto> keywordResults = searchWithSmartStrategy(query);
+        if (keywordResults.isEmpty()) {
+            return null;
+        }
+        
+        log.info("'{}' 스마트 검색 결과 {}개:", query, keywordResults.size());
+        
+        // 지하철역 관련 키워드가 포함된 결과 우선 필터링
+        for (KakaoPlaceDto place : keywordResults) {
+            String placeName = place.getPlaceName().toLowerCase();
+            String placeCategory = place.getCategoryName() != null ? place.getCategoryName().toLowerCase() : "";
+            
+            if (containsSubwayKeywords(placeName, placeCategory) && 
+                containsStationKeyword(placeName, searchKeyword)) {
+                return place;
+            }
+        }
+        
+        // 지하철역 키워드 매칭이 실패하면 상위 결과 로깅
+        log.info("'{}' 지하철역 키워드 매칭 실패, 상위 3개 결과:", query);
+        for (int i = 0; i < Math.min(3, keywordResults.size()); i++) {
+            KakaoPlaceDto result = keywordResults.get(i);
+            log.info("  {}. {} - {} (카테고리: {})", 
+                    i+1, result.getPlaceName(), result.getAddressName(), result.getCategoryName());
+        }
+        return null;
+    }
+    
     /**
      * 스마트 키워드 검색 전략 (exact → similar)
      */
@@ -770,22 +1017,4 @@ public class KakaoLocationService {
         
         return matched;
     }
-
-    /**
-     * 두 좌표 간의 거리 계산 (km)
-     */
-    private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        final int R = 6371; // 지구 반지름 (km)
-        
-        double latDistance = Math.toRadians(lat2 - lat1);
-        double lonDistance = Math.toRadians(lon2 - lon1);
-        
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
-        
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        
-        return R * c;
-    }
 }
\ No newline at end of file
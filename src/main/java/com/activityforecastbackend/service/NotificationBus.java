@@ -0,0 +1,27 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.admin.NotificationBusStatsResponse;
+import com.activityforecastbackend.dto.notification.NotificationMessage;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 알림 실시간 전달용 메시지 버스
+ * 발행된 메시지 묶음은 모든 인스턴스의 구독자에게 전달되며, 각 인스턴스는 자기에게 연결된 SSE 클라이언트에게만 전송합니다.
+ * notification.bus.type으로 구현을 선택합니다. (memory: 단일 인스턴스/테스트, db: 다중 인스턴스)
+ */
+public interface NotificationBus {
+
+    /**
+     * 메시지 묶음 발행 (한 번의 호출이 하나의 배치)
+     */
+    void publish(List<NotificationMessage> messages);
+
+    /**
+     * 이 인스턴스에 전달되는 메시지 묶음 구독
+     */
+    void subscribe(Consumer<List<NotificationMessage>> subscriber);
+
+    NotificationBusStatsResponse getStats();
+}
@@ -0,0 +1,152 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.admin.NotificationDispatchStatsResponse;
+import com.activityforecastbackend.dto.notification.NotificationMessage;
+import com.activityforecastbackend.dto.notification.NotificationResponse;
+import com.activityforecastbackend.entity.Notification;
+import com.activityforecastbackend.event.NotificationRequestedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 비동기 발송 파이프라인
+ * 크루 작업 트랜잭션이 커밋된 뒤 알림 요청을 제한된 크기의 대기열에 넣고, 전용 스레드 풀에서 저장(일괄 INSERT)과 실시간 전달을 수행합니다.
+ * 실시간 전달은 알림마다 한 번 직렬화한 메시지를 요청 단위 배치로 NotificationBus에 발행하며, 각 인스턴스가 자기 SSE 연결에 전송합니다.
+ * 크루 API는 알림 처리를 기다리지 않고 응답하며, 롤백된 작업의 알림은 발송되지 않습니다.
+ * 저장 실패는 지수 백오프로 재시도하고(트랜잭션 단위라 중복 저장 없음), 대기열이 가득 차면 요청 스레드에서 직접 처리하여 유입 속도를 늦춥니다.
+ * 한계: 대기열은 메모리에만 있으므로 정상 종료 시에는 shutdown-timeout-seconds 동안 마저 처리하지만,
+ * 프로세스가 비정상 종료되면 대기 중이던 요청(최대 queue-capacity건)의 알림은 저장되지 않습니다. (크루 작업 자체는 이미 커밋됨)
+ * 알림은 부가 정보라 이 손실을 허용하며, 유실이 허용되지 않게 되면 크루 작업 트랜잭션 안에서 요청을 테이블에 기록(outbox)하는 방식으로 바꿔야 합니다.
+ */
+@Slf4j
+@Service
+public class NotificationDispatcher {
+
+    private final NotificationService notificationService;
+    private final NotificationBus notificationBus;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor executor;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+
+    private final AtomicLong requestedCount = new AtomicLong();
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong notificationCount = new AtomicLong();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong callerRunsCount = new AtomicLong();
+
+    public NotificationDispatcher(
+            NotificationService notificationService,
+            NotificationBus notificationBus,
+            ObjectMapper objectMapper,
+            @Qualifier("notificationDispatchExecutor") ThreadPoolTaskExecutor executor,
+            @Value("${notification.dispatch.max-attempts:3}") int maxAttempts,
+            @Value("${notification.dispatch.retry-backoff-ms:200}") long retryBackoffMs) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("알림 발송 시도 횟수는 1 이상이어야 합니다: " + maxAttempts);
+        }
+        this.notificationService = notificationService;
+        this.notificationBus = notificationBus;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationRequested(NotificationRequestedEvent event) {
+        if (event.getRecipientUserIds().isEmpty()) {
+            return;
+        }
+        requestedCount.incrementAndGet();
+        try {
+            executor.execute(() -> dispatch(event));
+        } catch (TaskRejectedException e) {
+            // 대기열이 가득 찬 경우 - 요청 스레드에서 직접 처리 (역압)
+            callerRunsCount.incrementAndGet();
+            log.warn("알림 발송 대기열 포화, 요청 스레드에서 처리: type={}, 수신자 {}명",
+                    event.getNotificationType(), event.getRecipientUserIds().size());
+            dispatch(event);
+        }
+    }
+
+    /**
+     * 알림 저장(재시도 포함) 후 메시지 버스로 배치 발행
+     */
+    void dispatch(NotificationRequestedEvent event) {
+        List<Notification> notifications = saveWithRetry(event);
+        if (notifications == null) {
+            return;
+        }
+
+        List<NotificationMessage> messages = new ArrayList<>(notifications.size());
+        for (Notification notification : notifications) {
+            try {
+                messages.add(new NotificationMessage(
+                        notification.getUser().getUserId(),
+                        notification.getNotificationId(),
+                        objectMapper.writeValueAsString(NotificationResponse.from(notification))));
+            } catch (JsonProcessingException e) {
+                log.warn("알림 직렬화 실패: notificationId={} - {}", notification.getNotificationId(), e.getMessage());
+            }
+        }
+        try {
+            notificationBus.publish(messages);
+        } catch (Exception e) {
+            // 실시간 전달 실패는 저장된 알림 조회로 복구 가능하므로 재시도하지 않음
+            log.warn("알림 메시지 발행 실패: type={}, {}건 - {}", event.getNotificationType(), messages.size(), e.getMessage());
+        }
+        notificationCount.addAndGet(notifications.size());
+        completedCount.incrementAndGet();
+    }
+
+    private List<Notification> saveWithRetry(NotificationRequestedEvent event) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return notificationService.createNotifications(event);
+            } catch (Exception e) {
+                if (attempt >= maxAttempts) {
+                    failedCount.incrementAndGet();
+                    log.error("알림 저장 실패 ({}회 시도): type={}, relatedId={}, 수신자 {}명",
+                            attempt, event.getNotificationType(), event.getRelatedId(), event.getRecipientUserIds().size(), e);
+                    return null;
+                }
+                retryCount.incrementAndGet();
+                log.warn("알림 저장 실패, 재시도 {}/{}: {}", attempt, maxAttempts - 1, e.getMessage());
+                try {
+                    Thread.sleep(retryBackoffMs << (attempt - 1));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    failedCount.incrementAndGet();
+                    return null;
+                }
+            }
+        }
+    }
+
+    public NotificationDispatchStatsResponse getStats() {
+        return NotificationDispatchStatsResponse.builder()
+                .queueDepth(executor.getQueueSize())
+                .queueCapacity(executor.getQueueCapacity())
+                .activeWorkers(executor.getActiveCount())
+                .requestedCount(requestedCount.get())
+                .completedCount(completedCount.get())
+                .notificationCount(notificationCount.get())
+                .retryCount(retryCount.get())
+                .failedCount(failedCount.get())
+                .callerRunsCount(callerRunsCount.get())
+                .build();
+    }
+}
@@ -2,76 +2,61 @@ package com.activityforecastbackend.service;
 
 import com.activityforecastbackend.dto.notification.NotificationResponse;
 import com.activityforecastbackend.entity.*;
-import com.activityforecastbackend.repository.CrewMemberRepository;
+import com.activityforecastbackend.event.NotificationRequestedEvent;
 import com.activityforecastbackend.repository.NotificationRepository;
 import com.activityforecastbackend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import static com.activityforecastbackend.entity.Notification.NotificationType.CREW_MEMBER_JOIN;
 import static com.activityforecastbackend.entity.Notification.NotificationType.CREW_SCHEDULE;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
-    private final CrewMemberRepository crewMemberRepository; // 멤버 조회를 위해 추가
-    private final SseNotificationService sseNotificationService; // SSE 서비스 주입
 
-    // --- 1. 알림 생성 및 푸시 로직 ---
-
-    @Transactional
-    private void saveAndSend(Notification notification) {
-        notificationRepository.save(notification);
-        NotificationResponse response = NotificationResponse.from(notification);
-        sseNotificationService.sendNotification(notification.getUser().getUserId(), response);
-    }
-
-
-    // 크루 가입 완료 알림, (예,"활동하조 크루에 가입되었습니다.")
-    @Transactional
-    public void notifyCrewMemberJoin(Long targetUserId, Crew crew) {
-        User targetUser = userRepository.findById(targetUserId).orElse(null);
-        if (targetUser == null) return;
-
-        // 임시 로직을 제거 , 엔티티의 팩토리 메서드를 사용하여 알림 객체를 생성합니다.
-        Notification notification = Notification.createCrewMemberJoinNotification(
-                targetUser,
-                crew.getCrewName(),
-                crew.getCrewId()
+    // --- 1. 알림 생성 로직 ---
+    // 알림 요청은 CrewService가 NotificationRequestedEvent로 발행하고, 커밋 후 NotificationDispatcher가 비동기로 저장/푸시합니다.
+
+    // 같은 알림을 요청된 모든 수신자에게 INSERT ... SELECT 1회로 저장한 뒤, 저장된 알림을 한 번에 조회하여 반환
+    // 수신자 수와 무관하게 DB 왕복 2회. 커밋 후 리스너/비동기 스레드에서 호출되므로 항상 새 트랜잭션에서 실행
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<Notification> createNotifications(NotificationRequestedEvent event) {
+        if (event.getRecipientUserIds().isEmpty()) return List.of();
+
+        // 이번 배치에서 만든 행만 다시 읽도록 배치 식별자를 함께 저장 (생성 시각 정밀도와 무관)
+        String batchId = UUID.randomUUID().toString();
+
+        int inserted = notificationRepository.insertForUsers(
+                event.getRecipientUserIds(),
+                event.getNotificationType().name(),
+                event.getTitle(),
+                event.getContent(),
+                event.getRelatedId(),
+                event.getRelatedType().name(),
+                LocalDateTime.now(),
+                batchId
         );
+        if (inserted == 0) return List.of();
 
-        // 알림 저장 및 실시간 푸시
-        saveAndSend(notification);
-    }
-
-
-    // 일정 생성 알림 (예, "농구하조 크루에서 10월 20일 일정이 생성되었습니다.")
-    @Transactional
-    public void notifyScheduleCreated(Long crewId, Schedule schedule, String activityName) {
-        // 1. 크루의 모든 활성 멤버 조회
-        Crew crew = schedule.getCrew();
-        List<CrewMember> activeMemberships = crewMemberRepository.findByCrewAndIsActiveTrue(crew);
-
-        // 2. 각 멤버에게 알림 생성 및 푸시
-        for (CrewMember membership : activeMemberships) {
-            User user = membership.getUser();
-
-            // Notification.java의 createCrewScheduleNotification 팩토리 메서드 활용
-            Notification notification = Notification.createCrewScheduleNotification(
-                    user,
-                    crew.getCrewName(),
-                    activityName,
-                    schedule.getScheduleId() // relatedId로 scheduleId 대신 crewScheduleId를 사용해야 할 수 있음
-            );
-            saveAndSend(notification);
+        List<Notification> created = notificationRepository.findByBatchId(batchId);
+        if (created.size() != inserted) {
+            log.warn("일괄 생성한 알림 수와 다시 조회한 알림 수가 다릅니다: batchId={}, inserted={}, found={}",
+                    batchId, inserted, created.size());
         }
+        return created;
     }
 
     // --- 2. 알림 조회 및 읽음 처리 로직 ---
@@ -90,86 +75,6 @@ public class NotificationService {
     }
 
 
-    // 크루 해제 알림 (예,"농구하조 크루가 해체되었습니다.")
-    //크루의 모든 활성 멤버(리더 포함)에게 알림
-    @Transactional
-    public void notifyCrewDisbanded(Crew crew) {
-        // 1. 크루의 모든 활성 멤버 조회 (리더 포함)
-        List<CrewMember> activeMemberships = crewMemberRepository.findByCrewAndIsActiveTrue(crew);
-
-        // 2. 각 멤버에게 알림 생성 및 푸시
-        for (CrewMember membership : activeMemberships) {
-            User user = membership.getUser();
-
-            Notification notification = Notification.createCrewDisbandedNotification(
-                    user,
-                    crew.getCrewName()
-                    // relatedId는 null 또는 crewId
-            );
-            saveAndSend(notification);
-        }
-    }
-
-    // --- 1.2. 크루 생성 완료 알림 추가 (리더에게만) ---
-    @Transactional
-    public void notifyCrewCreated(Long targetUserId, Crew crew) {
-        User targetUser = userRepository.findById(targetUserId).orElse(null);
-        if (targetUser == null) return;
-
-        // Notification.java의 새로운 팩토리 메서드 호출 (빨간불 해결)
-        Notification notification = Notification.createCrewCreatedNotification(
-                targetUser,
-                crew.getCrewName(),
-                crew.getCrewId()
-        );
-
-        // 알림 저장 및 실시간 푸시
-        saveAndSend(notification);
-    }
-
-    //일정 수정 추가
-    @Transactional
-    public void notifyScheduleUpdated(CrewSchedule crewSchedule, String activityName) {
-        Crew crew = crewSchedule.getCrew();
-        // 1. 크루의 모든 활성 멤버 조회
-        List<CrewMember> activeMemberships = crewMemberRepository.findByCrewAndIsActiveTrue(crew);
-
-        // 2. 각 멤버에게 알림 생성 및 푸시
-        for (CrewMember membership : activeMemberships) {
-            User user = membership.getUser();
-
-            Notification notification = Notification.createCrewScheduleUpdateNotification(
-                    user,
-                    crew.getCrewName(),
-                    activityName,
-                    crewSchedule.getCrewScheduleId() // 수정된 일정 ID
-            );
-            saveAndSend(notification); // 저장 및 SSE 전송
-        }
-    }
-
-    //일정 삭제 추가
-    @Transactional
-    public void notifyScheduleDeleted(CrewSchedule crewSchedule, String activityName) {
-        Crew crew = crewSchedule.getCrew();
-        // 1. 크루의 모든 활성 멤버 조회
-        List<CrewMember> activeMemberships = crewMemberRepository.findByCrewAndIsActiveTrue(crew);
-
-        // 2. 각 멤버에게 알림 생성 및 푸시
-        for (CrewMember membership : activeMemberships) {
-            User user = membership.getUser();
-
-            Notification notification = Notification.createCrewScheduleDeleteNotification(
-                    user,
-                    crew.getCrewName(),
-                    activityName,
-                    crew.getCrewId() // 일정 대신 크루 ID
-            );
-            saveAndSend(notification); // 저장 및 SSE 전송
-        }
-    }
-
-
     // 특정 알림 ID로 알림을 삭제, notificationId 삭제할 알림의 ID,
     // userId 현재 요청을 보낸 사용자의 ID
     @Transactional
@@ -0,0 +1,364 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.activity.ActivityLocationDto;
+import com.activityforecastbackend.dto.activity.KakaoPlaceDto;
+import com.activityforecastbackend.dto.admin.CacheStatsResponse;
+import com.activityforecastbackend.entity.ActivityLocation;
+import com.activityforecastbackend.entity.ExternalPlace;
+import com.activityforecastbackend.entity.PlaceHarvestCoverage;
+import com.activityforecastbackend.repository.ActivityLocationRepository;
+import com.activityforecastbackend.repository.ExternalPlaceRepository;
+import com.activityforecastbackend.repository.PlaceHarvestCoverageRepository;
+import com.activityforecastbackend.util.DistanceCalculator;
+import com.activityforecastbackend.util.GeoHash;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카카오 장소 수집 서비스
+ * 타일 캐시가 조회한 외부 검색 결과를 장소 ID와 근접도로 중복 제거하여 로컬 카탈로그(external_places)에 일괄 반영하고,
+ * 근처 활동 장소와 연결합니다. 주변 장소는 가까운 결과끼리 묶은 작은 경계 상자로만 조회하고,
+ * 반영은 카카오 장소 ID 기준 일괄 upsert로 수행합니다. 마지막 페이지까지 조회한 타일만 수집 범위로 기록하며,
+ * 수집 범위가 신선한 검색은 카카오 호출 없이 그때 카카오가 돌려준 장소 목록으로 로컬에서 응답합니다.
+ */
+@Slf4j
+@Service
+public class PlaceHarvestService {
+
+    // 위도 1도당 거리 (m)
+    private static final double METERS_PER_DEGREE = 111_320.0;
+    // 이름이 같고 이 거리 이내면 같은 장소로 간주 (m)
+    private static final int DEDUPE_RADIUS_METERS = 30;
+    // 활동 장소 연결 기준 거리 (활동 장소 중복 판정 기준과 동일, m)
+    private static final int LINK_RADIUS_METERS = 100;
+
+    private final ExternalPlaceRepository externalPlaceRepository;
+    private final PlaceHarvestCoverageRepository coverageRepository;
+    private final ActivityLocationRepository activityLocationRepository;
+    private final Duration staleAfter;
+    private final int tilePrecision;
+
+    private final AtomicLong localHitCount = new AtomicLong();
+    private final AtomicLong localMissCount = new AtomicLong();
+
+    public PlaceHarvestService(
+            ExternalPlaceRepository externalPlaceRepository,
+            PlaceHarvestCoverageRepository coverageRepository,
+            ActivityLocationRepository activityLocationRepository,
+            @Value("${kakao.place-harvest.stale-days:7}") long staleDays,
+            @Value("${kakao.place-search-cache.tile-precision:6}") int tilePrecision) {
+        this.externalPlaceRepository = externalPlaceRepository;
+        this.coverageRepository = coverageRepository;
+        this.activityLocationRepository = activityLocationRepository;
+        this.staleAfter = Duration.ofDays(staleDays);
+        this.tilePrecision = tilePrecision;
+    }
+
+    // --- 1. 로컬 우선 조회 ---
+
+    /**
+     * 신선한 수집 범위가 있으면 그 범위에서 수집된 장소 중 반경 내 장소를 거리순으로 반환하고, 없거나 오래되었으면 null
+     * 키워드 일치 여부를 다시 판정하지 않고 카카오가 그 검색 조건으로 돌려준 장소 목록을 그대로 사용합니다.
+     *
+     * @param queryKey {@link PlaceSearchCacheService#categoryKey} 또는 {@link PlaceSearchCacheService#keywordKey} 형식의 검색 키
+     */
+    @Transactional(readOnly = true)
+    public List<ActivityLocationDto> findLocal(String queryKey, BigDecimal latitude, BigDecimal longitude,
+                                               int radius, int limit) {
+        String tile = GeoHash.encode(latitude.doubleValue(), longitude.doubleValue(), tilePrecision);
+        int bucket = PlaceSearchCacheService.toRadiusBucket(radius);
+
+        PlaceHarvestCoverage coverage = coverageRepository.findByQueryKeyAndTileAndRadiusBucket(queryKey, tile, bucket)
+                .filter(c -> c.isFresh(LocalDateTime.now().minus(staleAfter)))
+                .orElse(null);
+        if (coverage == null) {
+            localMissCount.incrementAndGet();
+            return null;
+        }
+        localHitCount.incrementAndGet();
+
+        List<Long> placeIds = coverage.getExternalPlaceIds();
+        if (placeIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        record Candidate(ExternalPlace place, double distance) {
+        }
+        double originLat = latitude.doubleValue();
+        double originLon = longitude.doubleValue();
+        List<Candidate> candidates = new ArrayList<>();
+        for (ExternalPlace place : externalPlaceRepository.findByExternalPlaceIdIn(placeIds)) {
+            double placeLat = place.getLatitude().doubleValue();
+            double placeLon = place.getLongitude().doubleValue();
+            if (DistanceCalculator.isWithinRadiusMeters(originLat, originLon, placeLat, placeLon, radius)) {
+                candidates.add(new Candidate(place,
+                        DistanceCalculator.distanceMeters(originLat, originLon, placeLat, placeLon)));
+            }
+        }
+
+        log.info("로컬 장소 카탈로그 응답: {} (tile={}, {}건)", queryKey, tile, candidates.size());
+        return candidates.stream()
+                .sorted(Comparator.comparingDouble(Candidate::distance))
+                .limit(limit)
+                .map(candidate -> toLocationDto(candidate.place()))
+                .toList();
+    }
+
+    /**
+     * 카카오 장소 ID 중 활동 장소와 연결된 장소 (카카오 장소 ID → 활동 장소 DTO)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, ActivityLocationDto> findLinkedLocations(Collection<String> kakaoPlaceIds) {
+        if (kakaoPlaceIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, ActivityLocationDto> linked = new HashMap<>();
+        for (ExternalPlace place : externalPlaceRepository.findByKakaoPlaceIdIn(kakaoPlaceIds)) {
+            if (place.isLinked()) {
+                linked.put(place.getKakaoPlaceId(), ActivityLocationDto.from(place.getLocation()));
+            }
+        }
+        return linked;
+    }
+
+    // --- 2. 수집 (일괄 upsert) ---
+
+    /**
+     * 타일 검색 결과를 로컬 카탈로그에 반영하고, 마지막 페이지까지 조회한 결과면 수집 범위로 기록
+     * 호출자의 읽기 전용 트랜잭션과 분리된 새 트랜잭션에서 실행합니다.
+     *
+     * @param queryKey     검색 키 (null이면 범위 기록 없이 장소만 반영)
+     * @param tile         검색한 geohash 타일
+     * @param radiusBucket 검색한 반경 구간
+     * @param complete     마지막 페이지까지 조회했는지 여부 (페이지 한도에서 잘린 결과는 범위로 기록하지 않음)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void harvest(String queryKey, String tile, int radiusBucket, List<KakaoPlaceDto> kakaoPlaces, boolean complete) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. 장소 ID 기준 중복 제거
+        Map<String, KakaoPlaceDto> byId = new LinkedHashMap<>();
+        for (KakaoPlaceDto kakaoPlace : kakaoPlaces) {
+            if (kakaoPlace.getId() != null && kakaoPlace.getLatitude() != null && kakaoPlace.getLongitude() != null) {
+                byId.putIfAbsent(kakaoPlace.getId(), kakaoPlace);
+            }
+        }
+
+        // 카카오 장소 ID → 반영된 로컬 장소
+        Map<String, ExternalPlace> resolved = new LinkedHashMap<>();
+        if (!byId.isEmpty()) {
+            Map<String, ExternalPlace> existing = new HashMap<>();
+            for (ExternalPlace place : externalPlaceRepository.findByKakaoPlaceIdIn(byId.keySet())) {
+                existing.put(place.getKakaoPlaceId(), place);
+            }
+
+            // 카카오 장소 ID로 upsert할 장소 (새 장소 + ID가 같은 기존 장소의 복사본), 근접도 비교용 정규화 이름 → 장소
+            Map<String, ExternalPlace> upserts = new LinkedHashMap<>();
+            for (ExternalPlace current : existing.values()) {
+                upserts.put(current.getKakaoPlaceId(), ExternalPlace.copyForUpsert(current));
+            }
+            Map<String, List<ExternalPlace>> nearbyByName = new HashMap<>();
+
+            // 같은 타일의 결과끼리 묶어 묶음을 감싸는 작은 경계 상자로만 주변 기존 장소/활동 장소 조회
+            for (List<KakaoPlaceDto> cluster : clusterByTile(byId.values())) {
+                List<KakaoPlaceDto> unmatched = cluster.stream()
+                        .filter(kakaoPlace -> !existing.containsKey(kakaoPlace.getId()))
+                        .toList();
+                if (!unmatched.isEmpty()) {
+                    BigDecimal[] box = boundingBoxOf(unmatched, DEDUPE_RADIUS_METERS);
+                    for (ExternalPlace candidate : externalPlaceRepository.findInBoundingBox(box[0], box[1], box[2], box[3])) {
+                        // 이번 결과에 같은 ID로 들어 있는 장소는 upsert할 복사본으로 합침
+                        nearbyByName.computeIfAbsent(normalizeName(candidate.getPlaceName()), name -> new ArrayList<>())
+                                .add(upserts.getOrDefault(candidate.getKakaoPlaceId(), candidate));
+                    }
+                }
+
+                List<ActivityLocation> nearbyLocations = null;
+                for (KakaoPlaceDto kakaoPlace : cluster) {
+                    ExternalPlace place;
+                    if (existing.containsKey(kakaoPlace.getId())) {
+                        // 1. 같은 ID의 기존 장소는 upsert로 갱신 (연결된 활동 장소는 유지)
+                        place = upserts.get(kakaoPlace.getId());
+                    } else {
+                        // 2. 근접도 기준 중복 제거 (ID가 달라도 같은 이름이 30m 이내면 기존 장소 갱신)
+                        String name = normalizeName(kakaoPlace.getPlaceName());
+                        place = findNearbyDuplicate(kakaoPlace, nearbyByName.getOrDefault(name, List.of()));
+                        if (place == null) {
+                            place = ExternalPlace.createPlace(kakaoPlace.getId());
+                            nearbyByName.computeIfAbsent(name, key -> new ArrayList<>()).add(place);
+                            upserts.put(kakaoPlace.getId(), place);
+                        }
+                    }
+
+                    place.updateDetails(kakaoPlace.getPlaceName(), kakaoPlace.getCategoryGroupCode(),
+                            kakaoPlace.getCategoryGroupName(), kakaoPlace.getCategoryName(),
+                            kakaoPlace.getAddressName(), kakaoPlace.getRoadAddressName(), kakaoPlace.getPhone(),
+                            kakaoPlace.getPlaceUrl(), kakaoPlace.getLatitude(), kakaoPlace.getLongitude(), now);
+
+                    if (!place.isLinked()) {
+                        if (nearbyLocations == null) {
+                            BigDecimal[] box = boundingBoxOf(cluster, LINK_RADIUS_METERS);
+                            nearbyLocations = activityLocationRepository.findInBoundingBoxAndIsDeletedFalse(box[0], box[1], box[2], box[3]);
+                        }
+                        place.linkLocation(findNearestLocation(place, nearbyLocations));
+                    }
+                    resolved.put(kakaoPlace.getId(), place);
+                }
+            }
+
+            // 근접도로 합쳐진 기존 장소는 변경 감지로, 나머지는 카카오 장소 ID 기준 일괄 upsert로 반영
+            externalPlaceRepository.upsertByKakaoPlaceId(upserts.values());
+        }
+
+        if (queryKey != null && complete) {
+            recordCoverage(queryKey, tile, radiusBucket, resolvePlaceIds(resolved.values()), now);
+        }
+
+        log.info("카카오 장소 수집 완료: {} (tile={}, 결과 {}건, 반영 {}건, 범위 기록 {})",
+                queryKey, tile, kakaoPlaces.size(), resolved.size(), queryKey != null && complete);
+    }
+
+    private void recordCoverage(String queryKey, String tile, int radiusBucket, Set<Long> placeIds, LocalDateTime now) {
+        PlaceHarvestCoverage coverage = coverageRepository.findByQueryKeyAndTileAndRadiusBucket(queryKey, tile, radiusBucket)
+                .orElseGet(() -> PlaceHarvestCoverage.createCoverage(queryKey, tile, radiusBucket));
+        coverage.markHarvested(placeIds, now);
+        coverageRepository.save(coverage);
+    }
+
+    /**
+     * 반영된 장소의 로컬 장소 ID (upsert로 추가된 장소는 카카오 장소 ID로 다시 조회)
+     */
+    private Set<Long> resolvePlaceIds(Collection<ExternalPlace> places) {
+        Set<String> kakaoPlaceIds = new LinkedHashSet<>();
+        for (ExternalPlace place : places) {
+            kakaoPlaceIds.add(place.getKakaoPlaceId());
+        }
+        Map<String, Long> idByKakaoId = new HashMap<>();
+        if (!kakaoPlaceIds.isEmpty()) {
+            for (ExternalPlace place : externalPlaceRepository.findByKakaoPlaceIdIn(kakaoPlaceIds)) {
+                idByKakaoId.put(place.getKakaoPlaceId(), place.getExternalPlaceId());
+            }
+        }
+        Set<Long> placeIds = new LinkedHashSet<>();
+        for (String kakaoPlaceId : kakaoPlaceIds) {
+            Long placeId = idByKakaoId.get(kakaoPlaceId);
+            if (placeId != null) {
+                placeIds.add(placeId);
+            }
+        }
+        return placeIds;
+    }
+
+    /**
+     * 이름이 같은 후보 중 30m 이내의 장소
+     */
+    private ExternalPlace findNearbyDuplicate(KakaoPlaceDto kakaoPlace, List<ExternalPlace> sameNamePlaces) {
+        for (ExternalPlace place : sameNamePlaces) {
+            if (distanceMeters(kakaoPlace.getLatitude(), kakaoPlace.getLongitude(),
+                    place.getLatitude(), place.getLongitude()) <= DEDUPE_RADIUS_METERS) {
+                return place;
+            }
+        }
+        return null;
+    }
+
+    private ActivityLocation findNearestLocation(ExternalPlace place, List<ActivityLocation> nearbyLocations) {
+        ActivityLocation nearest = null;
+        int nearestDistance = Integer.MAX_VALUE;
+        for (ActivityLocation location : nearbyLocations) {
+            int distance = distanceMeters(place.getLatitude(), place.getLongitude(),
+                    location.getLatitude(), location.getLongitude());
+            if (distance <= LINK_RADIUS_METERS && distance < nearestDistance) {
+                nearest = location;
+                nearestDistance = distance;
+            }
+        }
+        return nearest;
+    }
+
+    // --- 3. 변환 및 유틸리티 ---
+
+    /**
+     * 수집 장소를 응답 DTO로 변환 (활동 장소와 연결되어 있으면 활동 장소 정보로 응답)
+     */
+    public ActivityLocationDto toLocationDto(ExternalPlace place) {
+        if (place.isLinked()) {
+            return ActivityLocationDto.from(place.getLocation());
+        }
+        return ActivityLocationDto.builder()
+                .locationId(null) // 활동 장소와 연결되지 않은 외부 장소
+                .locationName(place.getPlaceName())
+                .address(place.getRoadAddress() != null ? place.getRoadAddress() : place.getAddress())
+                .latitude(place.getLatitude())
+                .longitude(place.getLongitude())
+                .activityId(null)
+                .activityName("외부 검색")
+                .categoryName(place.getCategoryGroupName())
+                .createdAt(null)
+                .build();
+    }
+
+    private static String normalizeName(String name) {
+        return name == null ? "" : name.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static int distanceMeters(BigDecimal lat1, BigDecimal lon1, BigDecimal lat2, BigDecimal lon2) {
+        return (int) DistanceCalculator.distanceMeters(
+                lat1.doubleValue(), lon1.doubleValue(), lat2.doubleValue(), lon2.doubleValue());
+    }
+
+    /**
+     * 같은 타일(수집 범위 타일 정밀도)의 장소끼리 묶음 (입력 순서 유지)
+     */
+    private Collection<List<KakaoPlaceDto>> clusterByTile(Collection<KakaoPlaceDto> places) {
+        Map<String, List<KakaoPlaceDto>> clusters = new LinkedHashMap<>();
+        for (KakaoPlaceDto place : places) {
+            String tile = GeoHash.encode(place.getLatitude().doubleValue(), place.getLongitude().doubleValue(), tilePrecision);
+            clusters.computeIfAbsent(tile, key -> new ArrayList<>()).add(place);
+        }
+        return clusters.values();
+    }
+
+    /**
+     * 장소 목록 전체를 감싸고 marginMeters만큼 여유를 둔 경계 상자
+     */
+    private static BigDecimal[] boundingBoxOf(Iterable<KakaoPlaceDto> places, int marginMeters) {
+        double minLat = Double.MAX_VALUE, maxLat = -Double.MAX_VALUE;
+        double minLon = Double.MAX_VALUE, maxLon = -Double.MAX_VALUE;
+        for (KakaoPlaceDto place : places) {
+            minLat = Math.min(minLat, place.getLatitude().doubleValue());
+            maxLat = Math.max(maxLat, place.getLatitude().doubleValue());
+            minLon = Math.min(minLon, place.getLongitude().doubleValue());
+            maxLon = Math.max(maxLon, place.getLongitude().doubleValue());
+        }
+        double latMargin = marginMeters / METERS_PER_DEGREE;
+        double lonMargin = marginMeters / (METERS_PER_DEGREE * Math.max(Math.cos(Math.toRadians(maxLat)), 0.01));
+        return new BigDecimal[]{
+                BigDecimal.valueOf(minLat - latMargin), BigDecimal.valueOf(maxLat + latMargin),
+                BigDecimal.valueOf(minLon - lonMargin), BigDecimal.valueOf(maxLon + lonMargin)
+        };
+    }
+
+    public CacheStatsResponse getStats() {
+        return CacheStatsResponse.of("place-harvest.local", localHitCount.get(), localMissCount.get());
+    }
+}
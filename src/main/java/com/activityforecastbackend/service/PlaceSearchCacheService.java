@@ -0,0 +1,297 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.activity.KakaoPlaceDto;
+import com.activityforecastbackend.dto.admin.CacheStatsResponse;
+import com.activityforecastbackend.util.DistanceCalculator;
+import com.activityforecastbackend.util.GeoHash;
+import com.activityforecastbackend.util.LruCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 카카오 장소 검색 타일 캐시
+ * (카테고리 또는 정규화된 키워드, geohash 타일, 반경 구간)을 키로 타일 중심 기준 검색 결과를 보관하고,
+ * 조회 시 호출자 좌표 기준 실제 거리로 필터링/재정렬하여 같은 타일의 여러 사용자 요청에 재사용합니다.
+ * 타일 검색은 호출자가 요청한 결과 수(limit)를 채우는 데 필요한 페이지까지만 조회하고, 이후 더 많은 결과나
+ * 타일 중심에서 떨어진 호출자의 요청이 오면 이어지는 페이지만 추가로 조회합니다.
+ * 타일을 넓히는 비용이 호출자 위치(geohash 8자리 셀) 기준 조회보다 큰 밀집 타일에서는 셀 기준으로 따로 조회합니다.
+ * 조회한 결과는 로컬 카탈로그에 수집하며, 마지막 페이지까지 조회한 타일만 수집 범위로 기록됩니다.
+ */
+@Slf4j
+@Service
+public class PlaceSearchCacheService {
+
+    // 카카오 장소 검색 API 제한 (최대 반경 m, 페이지 크기, 최대 페이지)
+    private static final int KAKAO_MAX_RADIUS = 20000;
+    private static final int KAKAO_PAGE_SIZE = 15;
+    private static final int KAKAO_MAX_PAGE = 45;
+
+    // 반경 구간 (요청 반경을 올림하여 키를 공유)
+    private static final int[] RADIUS_BUCKETS = {500, 1000, 2000, 3000, 5000, 10000, 20000};
+
+    // 밀집 타일에서 호출자 위치를 묶는 geohash 정밀도 (8 ≈ 38m x 19m)
+    private static final int POINT_PRECISION = 8;
+
+    // 한 요청에서 타일을 넓힐 때 limit 분량 외에 더 조회할 수 있는 페이지 (초과하면 셀 기준 조회가 더 저렴)
+    private static final int TILE_EXTRA_PAGES = 2;
+
+    private final PlaceHarvestService placeHarvestService;
+    private final LruCache<String, SearchArea> cache;
+    private final int tilePrecision;
+
+    public PlaceSearchCacheService(
+            PlaceHarvestService placeHarvestService,
+            @Value("${kakao.place-search-cache.max-size:5000}") int maxSize,
+            @Value("${kakao.place-search-cache.ttl-minutes:360}") long ttlMinutes,
+            @Value("${kakao.place-search-cache.tile-precision:6}") int tilePrecision) {
+        this.placeHarvestService = placeHarvestService;
+        this.cache = new LruCache<>(maxSize, Duration.ofMinutes(ttlMinutes));
+        this.tilePrecision = tilePrecision;
+    }
+
+    /**
+     * 중심 좌표와 반경으로 카카오 검색의 firstPage ~ lastPage 페이지를 조회하는 함수 (거리순 정렬 결과)
+     * 마지막 페이지에 도달하면 lastPage 전이라도 중단합니다.
+     */
+    @FunctionalInterface
+    public interface TileFetcher {
+        FetchResult fetch(BigDecimal centerLatitude, BigDecimal centerLongitude, int radius, int firstPage, int lastPage);
+    }
+
+    /**
+     * 검색 결과와 마지막 페이지 도달 여부 (false면 lastPage에서 멈춘 결과로 이어지는 페이지가 더 있음)
+     */
+    public record FetchResult(List<KakaoPlaceDto> places, boolean complete) {
+    }
+
+    /**
+     * 지금까지 조회한 페이지의 장소와 그 결과가 빠짐없이 포함하는 중심으로부터의 거리
+     */
+    private record SearchArea(double centerLatitude, double centerLongitude, int fetchRadius,
+                              List<KakaoPlaceDto> places, int pages, boolean complete, double coveredRadius) {
+
+        static SearchArea empty(double centerLatitude, double centerLongitude, int fetchRadius) {
+            return new SearchArea(centerLatitude, centerLongitude, fetchRadius, List.of(), 0, false, 0);
+        }
+
+        /**
+         * 이어서 조회한 페이지를 덧붙인 영역 (잘린 결과는 실제로 조회된 가장 먼 장소까지만 유효)
+         */
+        SearchArea extend(FetchResult result, int lastPage) {
+            List<KakaoPlaceDto> merged = new ArrayList<>(places.size() + result.places().size());
+            merged.addAll(places);
+            merged.addAll(result.places());
+            double covered = result.complete()
+                    ? fetchRadius
+                    : farthestDistance(merged, centerLatitude, centerLongitude);
+            return new SearchArea(centerLatitude, centerLongitude, fetchRadius, List.copyOf(merged),
+                    lastPage, result.complete(), covered);
+        }
+
+        /**
+         * 호출자에게 가장 가까운 limit개(반경 내 장소가 그보다 적으면 반경 전체)가 조회된 범위 안에 있는지 여부
+         */
+        boolean answers(double latitude, double longitude, int radius, int limit) {
+            if (complete) {
+                return true;
+            }
+            double[] distances = distancesWithin(latitude, longitude, radius);
+            double needed = distances.length >= limit ? distances[limit - 1] : radius;
+            return distanceFromCenter(latitude, longitude) + needed <= coveredRadius;
+        }
+
+        /**
+         * 호출자 요청을 채우는 데 필요한 예상 페이지 수 (조회된 범위의 장소 밀도가 균일하다고 가정)
+         */
+        int estimatePages(double latitude, double longitude, int radius, int limit) {
+            int pagesForLimit = (limit + KAKAO_PAGE_SIZE - 1) / KAKAO_PAGE_SIZE;
+            if (places.isEmpty() || coveredRadius <= 0) {
+                return Math.max(pagesForLimit, pages + 1);
+            }
+            // 호출자 주변 limit개가 들어가는 반경: 조회된 장소로 확인되면 그 거리, 아니면 밀도로 추정
+            double[] distances = distancesWithin(latitude, longitude, radius);
+            double estimated = coveredRadius * Math.sqrt((double) limit / places.size());
+            double needed = Math.min(radius, distances.length >= limit ? Math.min(distances[limit - 1], estimated) : estimated);
+            double ratio = (distanceFromCenter(latitude, longitude) + needed) / coveredRadius;
+            return (int) Math.ceil(places.size() * ratio * ratio / KAKAO_PAGE_SIZE);
+        }
+
+        private double[] distancesWithin(double latitude, double longitude, int radius) {
+            return places.stream()
+                    .filter(place -> place.getLatitude() != null && place.getLongitude() != null)
+                    .mapToDouble(place -> DistanceCalculator.distanceMeters(latitude, longitude,
+                            place.getLatitude().doubleValue(), place.getLongitude().doubleValue()))
+                    .filter(distance -> distance <= radius)
+                    .sorted()
+                    .toArray();
+        }
+
+        private double distanceFromCenter(double latitude, double longitude) {
+            return DistanceCalculator.distanceMeters(centerLatitude, centerLongitude, latitude, longitude);
+        }
+
+        boolean exhausted() {
+            return complete || pages >= KAKAO_MAX_PAGE;
+        }
+    }
+
+    public static String categoryKey(String categoryCode) {
+        return "C|" + categoryCode;
+    }
+
+    public static String keywordKey(String keyword) {
+        return "K|" + keyword.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 타일 캐시를 거쳐 장소 검색 (호출자 반경 내 장소 중 가까운 순으로 최대 limit개 반환)
+     * 캐시 미스 시 타일 중심에서 (반경 구간 + 타일 반대각선)만큼 검색하여 타일 내 모든 호출자를 포함하도록 합니다.
+     */
+    public List<KakaoPlaceDto> search(String queryKey, BigDecimal latitude, BigDecimal longitude,
+                                      int radius, int limit, TileFetcher fetcher) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("장소 검색 결과 수는 1 이상이어야 합니다: " + limit);
+        }
+        double lat = latitude.doubleValue();
+        double lon = longitude.doubleValue();
+        int bucket = toRadiusBucket(radius);
+        String tile = GeoHash.encode(lat, lon, tilePrecision);
+
+        int pagesForLimit = (limit + KAKAO_PAGE_SIZE - 1) / KAKAO_PAGE_SIZE;
+
+        SearchArea area = getOrFetch(queryKey + "|" + tile + "|" + bucket, queryKey, tile, bucket,
+                lat, lon, radius, limit, pagesForLimit + TILE_EXTRA_PAGES, fetcher);
+        if (!area.answers(lat, lon, radius, limit)) {
+            // 밀집 타일 - 타일을 호출자 범위까지 넓히는 것보다 호출자 위치 기준 조회가 저렴함 (수집 범위는 기록하지 않음)
+            String cell = GeoHash.encode(lat, lon, POINT_PRECISION);
+            area = getOrFetch(queryKey + "|@" + cell + "|" + bucket, null, cell, bucket,
+                    lat, lon, radius, limit, KAKAO_MAX_PAGE, fetcher);
+        }
+        return sortByDistance(area.places(), latitude, longitude, radius, limit);
+    }
+
+    /**
+     * 캐시된 영역이 호출자 요청을 채우지 못하면 이어지는 페이지만 추가로 조회
+     * 첫 조회는 limit을 채우는 페이지 수만큼, 이후에는 장소 밀도로 추정한 페이지까지 늘리며,
+     * 이번 요청에서 조회할 페이지가 pageBudget을 넘으면 더 조회하지 않고 그대로 반환합니다.
+     *
+     * @param coverageKey 수집 범위로 기록할 검색 키 (호출자 위치 기준 조회는 null)
+     */
+    private SearchArea getOrFetch(String key, String coverageKey, String geohash, int radiusBucket,
+                                  double latitude, double longitude, int radius, int limit, int pageBudget,
+                                  TileFetcher fetcher) {
+        SearchArea area = cache.get(key);
+        if (area != null && (area.exhausted() || area.answers(latitude, longitude, radius, limit))) {
+            log.debug("장소 검색 타일 캐시 적중: {}", key);
+            return area;
+        }
+
+        if (area == null) {
+            double[] bounds = GeoHash.decodeBounds(geohash);
+            double centerLat = (bounds[0] + bounds[1]) / 2;
+            double centerLon = (bounds[2] + bounds[3]) / 2;
+            int halfDiagonal = (int) Math.ceil(DistanceCalculator.distanceMeters(centerLat, centerLon, bounds[1], bounds[3]));
+            area = SearchArea.empty(centerLat, centerLon, Math.min(radiusBucket + halfDiagonal, KAKAO_MAX_RADIUS));
+        }
+
+        int cachedCount = area.places().size();
+        int fetchedPages = 0;
+        while (!area.exhausted() && !area.answers(latitude, longitude, radius, limit)) {
+            int firstPage = area.pages() + 1;
+            int lastPage = Math.min(Math.max(firstPage, area.estimatePages(latitude, longitude, radius, limit)), KAKAO_MAX_PAGE);
+            if (fetchedPages + lastPage - firstPage + 1 > pageBudget) {
+                break;
+            }
+            FetchResult result = fetcher.fetch(BigDecimal.valueOf(area.centerLatitude()),
+                    BigDecimal.valueOf(area.centerLongitude()), area.fetchRadius(), firstPage, lastPage);
+            area = area.extend(result, lastPage);
+            fetchedPages += lastPage - firstPage + 1;
+        }
+        if (fetchedPages == 0) {
+            return area;
+        }
+
+        // 새로 조회한 장소만 수집하고, 마지막 페이지까지 조회했으면 전체 결과로 수집 범위 기록
+        List<KakaoPlaceDto> harvested = area.complete() ? area.places() : area.places().subList(cachedCount, area.places().size());
+        harvestQuietly(coverageKey, geohash, radiusBucket, harvested, area.complete());
+
+        cache.put(key, area);
+        log.debug("장소 검색 타일 캐시 저장: {} ({}건, {}페이지, 검색 반경 {}m, 유효 반경 {}m)",
+                key, area.places().size(), area.pages(), area.fetchRadius(), Math.round(area.coveredRadius()));
+        return area;
+    }
+
+    /**
+     * 수집 실패는 검색 응답에 영향을 주지 않도록 로그만 남김
+     */
+    private void harvestQuietly(String coverageKey, String geohash, int radius, List<KakaoPlaceDto> places, boolean complete) {
+        try {
+            placeHarvestService.harvest(coverageKey, geohash, radius, places, complete);
+        } catch (Exception e) {
+            log.warn("카카오 장소 수집 실패: {} ({}) - {}", coverageKey, geohash, e.getMessage());
+        }
+    }
+
+    private static double farthestDistance(List<KakaoPlaceDto> places, double latitude, double longitude) {
+        double farthest = 0;
+        for (KakaoPlaceDto place : places) {
+            if (place.getLatitude() != null && place.getLongitude() != null) {
+                farthest = Math.max(farthest, DistanceCalculator.distanceMeters(
+                        latitude, longitude, place.getLatitude().doubleValue(), place.getLongitude().doubleValue()));
+            }
+        }
+        return farthest;
+    }
+
+    /**
+     * 호출자 좌표 기준으로 반경 내 장소만 남기고 가까운 순으로 정렬하여 최대 limit개 반환
+     * 캐시된 객체를 공유하지 않도록 거리 값을 채운 복사본을 반환합니다.
+     */
+    private List<KakaoPlaceDto> sortByDistance(List<KakaoPlaceDto> places, BigDecimal latitude,
+                                               BigDecimal longitude, int radius, int limit) {
+        double originLat = latitude.doubleValue();
+        double originLon = longitude.doubleValue();
+        List<KakaoPlaceDto> results = new ArrayList<>(places.size());
+        for (KakaoPlaceDto place : places) {
+            if (place.getLatitude() == null || place.getLongitude() == null) {
+                continue;
+            }
+            double distanceMeters = DistanceCalculator.distanceMeters(
+                    originLat, originLon, place.getLatitude().doubleValue(), place.getLongitude().doubleValue());
+            if ((int) distanceMeters > radius) {
+                continue;
+            }
+            results.add(place.toBuilder()
+                    .distance(String.valueOf(Math.round(distanceMeters)))
+                    .build());
+        }
+        results.sort(Comparator.comparing(KakaoPlaceDto::getDistanceInMeters));
+        return results.size() > limit ? new ArrayList<>(results.subList(0, limit)) : results;
+    }
+
+    static int toRadiusBucket(int radius) {
+        for (int bucket : RADIUS_BUCKETS) {
+            if (radius <= bucket) {
+                return bucket;
+            }
+        }
+        return KAKAO_MAX_RADIUS;
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+        log.info("장소 검색 타일 캐시 전체 제거 완료");
+    }
+
+    public CacheStatsResponse getStats() {
+        return CacheStatsResponse.from("place-search.tile", cache);
+    }
+}
@@ -0,0 +1,79 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.repository.SchedulerLockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 예약 작업 단일 노드 실행
+ * 모든 노드의 @Scheduled 작업이 같은 시각에 실행되므로, scheduler_locks 행을 조건부 UPDATE로 선점한 노드만 작업을 실행합니다.
+ * 잠금은 각자의 짧은 트랜잭션으로 획득/해제하므로 작업 트랜잭션과 무관하며,
+ * 노드가 작업 중 종료되어도 lockAtMostFor가 지나면 다른 노드가 다시 실행할 수 있습니다.
+ */
+@Slf4j
+@Service
+public class SchedulerLockService {
+
+    private final SchedulerLockRepository lockRepository;
+    private final TransactionTemplate newTransaction;
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName();
+
+    public SchedulerLockService(SchedulerLockRepository lockRepository, PlatformTransactionManager transactionManager) {
+        this.lockRepository = lockRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 잠금을 획득한 경우만 작업 실행 (실행했으면 true, 다른 노드가 실행 중이거나 최근에 실행했으면 false)
+     *
+     * @param lockAtMostFor  작업 최대 예상 시간 (노드가 작업 중 종료된 경우 이 시간 이후 잠금 만료)
+     * @param lockAtLeastFor 작업이 빨리 끝나도 시작 후 이 시간 동안은 다른 노드가 실행하지 않음 (노드 간 시계 오차 흡수)
+     */
+    public boolean runExclusively(String lockName, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable task) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        if (!tryAcquire(lockName, startedAt, startedAt.plus(lockAtMostFor))) {
+            log.info("다른 노드에서 실행 중이거나 최근 실행된 작업이라 건너뜀: {}", lockName);
+            return false;
+        }
+        try {
+            task.run();
+        } finally {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime minimumUntil = startedAt.plus(lockAtLeastFor);
+            LocalDateTime lockedUntil = minimumUntil.isAfter(now) ? minimumUntil : now;
+            newTransaction.executeWithoutResult(status -> lockRepository.release(lockName, lockedUntil, nodeId));
+        }
+        return true;
+    }
+
+    private boolean tryAcquire(String lockName, LocalDateTime now, LocalDateTime lockedUntil) {
+        if (acquire(lockName, now, lockedUntil)) {
+            return true;
+        }
+        if (lockRepository.existsById(lockName)) {
+            return false;
+        }
+
+        // 처음 실행되는 작업 - 잠금 행을 만든 뒤 다시 획득 (동시에 만든 노드와 충돌하면 그 행을 사용)
+        try {
+            newTransaction.executeWithoutResult(status -> lockRepository.insertLock(lockName, now));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("작업 잠금 행이 다른 노드에서 먼저 생성됨: {}", lockName);
+        }
+        return acquire(lockName, now, lockedUntil);
+    }
+
+    private boolean acquire(String lockName, LocalDateTime now, LocalDateTime lockedUntil) {
+        Integer updated = newTransaction.execute(status -> lockRepository.acquire(lockName, now, lockedUntil, nodeId));
+        return updated != null && updated == 1;
+    }
+}
@@ -1,60 +1,345 @@
 package com.activityforecastbackend.service;
 
-import com.activityforecastbackend.dto.notification.NotificationResponse;
-import lombok.RequiredArgsConstructor;
+import com.activityforecastbackend.dto.admin.SseStatsResponse;
+import com.activityforecastbackend.dto.notification.NotificationMessage;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * SSE 실시간 알림 브로드캐스터
+ * 사용자당 여러 연결(탭/기기)을 유지하고, 연결마다 크기가 제한된 송신 대기열을 두어 전용 스레드 풀에서 비동기로 전송합니다.
+ * 발행 스레드는 대기열에 넣기만 하므로 느린 클라이언트가 알림 발행을 막지 않으며, 대기열이 가득 찬 연결의 메시지는 버려집니다.
+ * (버려진 알림은 DB에 저장되어 있어 목록 조회로 확인 가능)
+ * 주기적인 heartbeat 주석 전송으로 끊어진 연결을 찾아 정리하고, 프록시 유휴 타임아웃을 방지합니다.
+ * heartbeat도 일반 메시지처럼 각 연결의 송신 대기열로 보내므로 한 연결의 느린 쓰기가 다른 연결의 heartbeat를 막지 않습니다.
+ * 알림은 NotificationBus를 구독하여 받으므로, 다른 인스턴스에서 발행된 알림도 이 인스턴스에 연결된 클라이언트에게 전달됩니다.
+ * emitter.send는 소켓 쓰기에서 블로킹될 수 있으므로 느린 클라이언트가 전송 스레드를 독점하지 않도록 합니다.
+ * - 한 번의 전송 작업은 최대 MAX_EVENTS_PER_DRAIN건만 보내고 양보하여, 대기열이 긴 연결 뒤의 다른 연결도 차례를 받습니다.
+ * - 한 건의 전송이 send-timeout-ms를 넘기면 감시 작업이 연결을 정리하여 더 이상 메시지를 쌓지 않고,
+ *   블로킹된 쓰기 자체는 서블릿 컨테이너의 소켓 쓰기 타임아웃으로 풀립니다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class SseNotificationService {
 
     private static final Long DEFAULT_TIMEOUT = 10 * 60 * 1000L;
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+    // 한 번의 전송 작업에서 한 연결에 보내는 최대 메시지 수 (이후 다른 연결에 스레드를 양보)
+    static final int MAX_EVENTS_PER_DRAIN = 16;
 
-    // 1. 클라이언트와 연결을 생성하고 SseEmitter를 맵에 등록
+    private final Map<Long, List<Connection>> connectionsByUser = new ConcurrentHashMap<>();
+    private final ThreadPoolTaskExecutor sendExecutor;
+    private final int queueCapacity;
+    private final int maxConnectionsPerUser;
+    private final long sendTimeoutNanos;
+    private final long heartbeatIntervalNanos;
+    private final Set<ResponseBodyEmitter.DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+
+    private final AtomicLong connectionSequence = new AtomicLong();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong reapedCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+    private final AtomicLong stalledCount = new AtomicLong();
+
+    public SseNotificationService(
+            NotificationBus notificationBus,
+            @Qualifier("sseSendExecutor") ThreadPoolTaskExecutor sendExecutor,
+            @Value("${notification.sse.queue-capacity:32}") int queueCapacity,
+            @Value("${notification.sse.max-connections-per-user:5}") int maxConnectionsPerUser,
+            @Value("${notification.sse.send-timeout-ms:5000}") long sendTimeoutMs,
+            @Value("${notification.sse.heartbeat-interval-ms:15000}") long heartbeatIntervalMs) {
+        if (queueCapacity < 1 || maxConnectionsPerUser < 1) {
+            throw new IllegalArgumentException("SSE 송신 대기열 크기와 사용자당 연결 수는 1 이상이어야 합니다.");
+        }
+        this.sendExecutor = sendExecutor;
+        this.queueCapacity = queueCapacity;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.sendTimeoutNanos = sendTimeoutMs * 1_000_000L;
+        this.heartbeatIntervalNanos = heartbeatIntervalMs * 1_000_000L;
+        notificationBus.subscribe(this::deliver);
+    }
+
+    // 1. 클라이언트와 연결을 생성하고 사용자의 연결 목록에 등록 (사용자당 최대 연결 수 초과 시 가장 오래된 연결 종료)
     public SseEmitter subscribe(Long userId) {
-        SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-        emitters.put(userId, emitter);
+        SseEmitter emitter = createEmitter();
+        Connection connection = new Connection(connectionSequence.incrementAndGet(), userId, emitter);
 
-        emitter.onCompletion(() -> emitters.remove(userId));
+        emitter.onCompletion(() -> unregister(connection));
         emitter.onTimeout(() -> {
             emitter.complete();
-            emitters.remove(userId);
+            unregister(connection);
         });
-        emitter.onError((e) -> emitters.remove(userId)); // 에러 발생 시 제거
+        emitter.onError((e) -> unregister(connection)); // 에러 발생 시 제거
 
         // 더미 데이터 전송 (503 방지)
-        try {
-            emitter.send(SseEmitter.event().id("0").name("connect").data("Connected"));
-        } catch (IOException e) {
-            log.error("SSE 연결 초기화 실패", e);
-        }
+        connection.enqueue(SseEmitter.event().id("0").name("connect").data("Connected").build());
+        register(connection);
 
         return emitter;
     }
 
-    // 2. 특정 사용자에게 알림 데이터를 실시간으로 전송
-    public void sendNotification(Long userId, NotificationResponse notification) {
-        SseEmitter emitter = emitters.get(userId);
+    // 2. 메시지 버스로 받은 알림을 이 인스턴스에 연결된 수신자의 모든 연결에 전송 (대기열에 넣고 즉시 반환)
+    private void deliver(List<NotificationMessage> messages) {
+        for (NotificationMessage message : messages) {
+            List<Connection> connections = connectionsByUser.get(message.userId());
+            if (connections == null) {
+                continue;
+            }
+
+            // 이벤트는 이미 직렬화된 JSON으로 한 번만 만들어 모든 연결이 공유
+            Set<ResponseBodyEmitter.DataWithMediaType> event = SseEmitter.event()
+                    .id(String.valueOf(message.notificationId()))
+                    .name("notification")
+                    .data(message.payload(), MediaType.APPLICATION_JSON)
+                    .build();
+            for (Connection connection : connections) {
+                if (!connection.enqueue(event)) {
+                    droppedCount.incrementAndGet();
+                    log.warn("SSE 송신 대기열 포화로 알림 누락: User {}, connection {}", message.userId(), connection.id);
+                }
+            }
+        }
+    }
+
+    /**
+     * heartbeat 주기 동안 아무것도 보내지 않은 연결의 송신 대기열에 heartbeat 주석 추가 (전송 실패한 연결은 정리됨)
+     * 전송 중이거나 대기 중인 메시지가 있는 연결은 곧 전송이 일어나므로 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.sse.heartbeat-interval-ms:15000}",
+            initialDelayString = "${notification.sse.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        long sentBefore = System.nanoTime() - heartbeatIntervalNanos / 2;
+        for (List<Connection> connections : connectionsByUser.values()) {
+            for (Connection connection : connections) {
+                if (connection.isIdle() && connection.lastSentNanos - sentBefore <= 0) {
+                    // 그 사이 대기열이 찼다면 곧 전송될 메시지가 heartbeat를 대신함
+                    connection.enqueue(heartbeat);
+                }
+            }
+        }
+    }
 
-        if (emitter != null) {
+    /**
+     * 한 건의 전송이 send-timeout-ms를 넘긴 연결 정리 (느린 클라이언트)
+     * 블로킹된 전송 중에는 emitter를 건드리지 않고 연결만 닫아 새 메시지가 쌓이지 않게 하며,
+     * 전송이 풀리면(성공 또는 쓰기 타임아웃) 전송 스레드가 응답을 종료합니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.sse.send-timeout-ms:5000}",
+            initialDelayString = "${notification.sse.send-timeout-ms:5000}")
+    public void evictStalledConnections() {
+        long now = System.nanoTime();
+        for (List<Connection> connections : connectionsByUser.values()) {
+            for (Connection connection : connections) {
+                long startedAt = connection.sendStartedNanos;
+                if (startedAt != 0 && now - startedAt > sendTimeoutNanos && unregister(connection)) {
+                    stalledCount.incrementAndGet();
+                    log.info("SSE 전송 지연으로 연결 정리: User {}, connection {}, {}ms 이상 전송 중",
+                            connection.userId, connection.id, (now - startedAt) / 1_000_000);
+                }
+            }
+        }
+    }
+
+    /**
+     * 종료 시 모든 연결을 닫아 클라이언트가 다른 인스턴스로 재연결하도록 함
+     */
+    @PreDestroy
+    public void closeAll() {
+        for (List<Connection> connections : connectionsByUser.values()) {
+            for (Connection connection : connections) {
+                connection.emitter.complete();
+                unregister(connection);
+            }
+        }
+    }
+
+    public SseStatsResponse getStats() {
+        long queued = 0;
+        for (List<Connection> connections : connectionsByUser.values()) {
+            for (Connection connection : connections) {
+                queued += connection.queue.size();
+            }
+        }
+        return SseStatsResponse.builder()
+                .connectedUsers(connectionsByUser.size())
+                .connections(connectionCount.get())
+                .queuedMessages(queued)
+                .sentCount(sentCount.get())
+                .droppedCount(droppedCount.get())
+                .reapedCount(reapedCount.get())
+                .evictedCount(evictedCount.get())
+                .stalledCount(stalledCount.get())
+                .build();
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(DEFAULT_TIMEOUT);
+    }
+
+    private void register(Connection connection) {
+        Connection[] evicted = new Connection[1];
+        connectionsByUser.compute(connection.userId, (userId, connections) -> {
+            List<Connection> updated = connections != null ? connections : new CopyOnWriteArrayList<>();
+            updated.add(connection);
+            if (updated.size() > maxConnectionsPerUser) {
+                evicted[0] = updated.remove(0);
+            }
+            return updated;
+        });
+        connectionCount.incrementAndGet();
+
+        if (evicted[0] != null) {
+            evictedCount.incrementAndGet();
+            log.info("사용자당 최대 SSE 연결 수 초과로 가장 오래된 연결 종료: User {}, connection {}", connection.userId, evicted[0].id);
+            evicted[0].emitter.complete();
+            evicted[0].close();
+        }
+    }
+
+    /**
+     * 연결 목록에서 제거 (처음 닫은 경우만 true)
+     */
+    private boolean unregister(Connection connection) {
+        if (!connection.close()) {
+            return false;
+        }
+        connectionsByUser.computeIfPresent(connection.userId, (userId, connections) -> {
+            connections.remove(connection);
+            return connections.isEmpty() ? null : connections;
+        });
+        return true;
+    }
+
+    /**
+     * 하나의 SSE 연결과 송신 대기열
+     * draining 플래그를 가진 대기열 비우기 작업만 전송하므로 같은 연결에 대한 send는 동시에 일어나지 않습니다.
+     */
+    private final class Connection {
+
+        private final long id;
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        // 진행 중인 전송의 시작 시각 (전송 중이 아니면 0), 마지막 전송 완료 시각
+        private volatile long sendStartedNanos;
+        private volatile long lastSentNanos = System.nanoTime();
+
+        private Connection(long id, Long userId, SseEmitter emitter) {
+            this.id = id;
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        /**
+         * 송신 대기열에 추가 (닫혔거나 대기열이 가득 차면 false)
+         */
+        boolean enqueue(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+            if (closed.get()) {
+                return true;
+            }
+            if (!queue.offer(event)) {
+                return false;
+            }
+            scheduleDrain();
+            return true;
+        }
+
+        boolean isIdle() {
+            return queue.isEmpty() && !draining.get();
+        }
+
+        /**
+         * 연결 종료 표시 (처음 닫은 경우만 true)
+         */
+        boolean close() {
+            if (!closed.compareAndSet(false, true)) {
+                return false;
+            }
+            connectionCount.decrementAndGet();
+            queue.clear();
+            return true;
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
             try {
-                emitter.send(SseEmitter.event()
-                        .id(String.valueOf(notification.getId()))
-                        .name("notification")
-                        .data(notification));
-                log.info("알림 전송 성공: User {}", userId);
-            } catch (IOException e) {
-                log.error("알림 전송 실패: User {}", userId, e);
+                sendExecutor.execute(this::drain);
+            } catch (TaskRejectedException e) {
+                // 종료 중 - 대기열은 다음 발행 시 다시 시도
+                draining.set(false);
+            }
+        }
+
+        private void drain() {
+            int sent = 0;
+            while (true) {
+                if (sent >= MAX_EVENTS_PER_DRAIN) {
+                    // 남은 메시지는 다시 예약하여 다른 연결의 전송 작업 뒤에서 이어서 전송
+                    draining.set(false);
+                    scheduleDrain();
+                    return;
+                }
+                Set<ResponseBodyEmitter.DataWithMediaType> event = queue.poll();
+                if (event == null) {
+                    draining.set(false);
+                    // 플래그를 내리는 사이에 들어온 메시지는 직접 이어서 처리
+                    if (queue.isEmpty() || !draining.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                if (closed.get()) {
+                    continue;
+                }
+                send(event);
+                sent++;
+            }
+        }
+
+        private void send(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+            sendStartedNanos = System.nanoTime();
+            try {
+                emitter.send(event);
+                sentCount.incrementAndGet();
+                lastSentNanos = System.nanoTime();
+            } catch (Exception e) {
+                // 끊어진 연결 정리 (쓰기 타임아웃 포함)
+                log.debug("SSE 전송 실패, 연결 정리: User {}, connection {} - {}", userId, id, e.getMessage());
+                reapedCount.incrementAndGet();
                 emitter.completeWithError(e);
-                emitters.remove(userId);
+                unregister(this);
+                return;
+            } finally {
+                sendStartedNanos = 0;
+            }
+            if (closed.get()) {
+                // 전송이 지연되는 동안 정리된 연결 - 블로킹이 풀렸으므로 응답 종료 (이미 종료된 경우 무시됨)
+                emitter.complete();
             }
         }
     }
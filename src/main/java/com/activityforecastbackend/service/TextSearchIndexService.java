@@ -0,0 +1,184 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.event.ActivityLocationChangedEvent;
+import com.activityforecastbackend.event.CrewChangedEvent;
+import com.activityforecastbackend.repository.ActivityLocationRepository;
+import com.activityforecastbackend.repository.CrewRepository;
+import com.activityforecastbackend.util.NgramIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 활동 장소/크루 이름 텍스트 검색 색인 서비스
+ * LIKE '%keyword%' 전체 스캔 대신 2-gram 역색인으로 장소명·주소·크루명을 검색하여
+ * 테이블이 커져도 검색 비용이 후보 문서 수에만 비례하도록 합니다.
+ * 생성/수정/삭제는 커밋 후 반영되며, 다른 인스턴스에서 생성된 장소와 변경된 크루는 마지막 동기화 이후 행만
+ * 짧은 주기로 DB에서 다시 읽어 반영하고, 그 밖의 변경(다른 인스턴스의 장소 수정/삭제)은 주기적 재적재로 반영됩니다.
+ * 재적재 중(조회 ~ 교체 사이)에 커밋된 변경은 따로 모아 두었다가 교체 직후 다시 적용하여 유실되지 않도록 합니다.
+ * 다른 인스턴스 기준으로는 동기화/재적재 주기만큼 늦을 수 있으므로 호출자는 검색 결과를 DB에서 다시 확인합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TextSearchIndexService {
+
+    // 장소명 일치가 주소 일치보다 우선
+    private static final double LOCATION_NAME_WEIGHT = 2.0;
+    private static final double LOCATION_ADDRESS_WEIGHT = 1.0;
+    // 증분 동기화 시 이전 동기화 시작 시각보다 앞당겨 다시 읽는 구간 (인스턴스 간 시계 차이와 늦게 커밋된 트랜잭션 흡수)
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final ActivityLocationRepository activityLocationRepository;
+    private final CrewRepository crewRepository;
+
+    private final NgramIndex locationIndex = new NgramIndex(LOCATION_NAME_WEIGHT, LOCATION_ADDRESS_WEIGHT);
+    private final NgramIndex crewIndex = new NgramIndex(1.0);
+
+    // 색인 변경과 재적재 교체를 직렬화하는 잠금, 재적재 중이면 그 사이 커밋된 변경 (재적재 중이 아니면 null)
+    private final Object changeLock = new Object();
+    private List<ActivityLocationChangedEvent> pendingLocationChanges;
+    private List<CrewChangedEvent> pendingCrewChanges;
+    // 마지막 적재/동기화를 시작한 시각 (적재 전이면 null)
+    private LocalDateTime syncedAt;
+
+    /**
+     * 장소명/주소 검색 (관련도순)
+     */
+    public NgramIndex.Result searchLocations(String keyword, int offset, int limit) {
+        return locationIndex.search(keyword, offset, limit);
+    }
+
+    /**
+     * 크루명 검색 (관련도순)
+     */
+    public NgramIndex.Result searchCrews(String keyword, int offset, int limit) {
+        return crewIndex.search(keyword, offset, limit);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLocationChanged(ActivityLocationChangedEvent event) {
+        synchronized (changeLock) {
+            if (pendingLocationChanges != null) {
+                pendingLocationChanges.add(event);
+            }
+            apply(event);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCrewChanged(CrewChangedEvent event) {
+        synchronized (changeLock) {
+            if (pendingCrewChanges != null) {
+                pendingCrewChanges.add(event);
+            }
+            apply(event);
+        }
+    }
+
+    private void apply(ActivityLocationChangedEvent event) {
+        if (event.isDeleted()) {
+            locationIndex.remove(event.getLocationId());
+            return;
+        }
+        locationIndex.put(event.getLocationId(), event.getLocationName(), event.getAddress());
+    }
+
+    private void apply(CrewChangedEvent event) {
+        if (event.isDeleted()) {
+            crewIndex.remove(event.getCrewId());
+            return;
+        }
+        crewIndex.put(event.getCrewId(), event.getCrewName());
+    }
+
+    /**
+     * 시작 시 적재 및 주기적 재적재 (다른 인스턴스에서 변경된 데이터 반영)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${search.text-index.rebuild-interval-ms:120000}",
+            initialDelayString = "${search.text-index.rebuild-interval-ms:120000}")
+    public synchronized void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        // 조회 시작 전부터 변경을 모아 두어야 스냅샷에 없는 커밋을 놓치지 않음
+        synchronized (changeLock) {
+            pendingLocationChanges = new ArrayList<>();
+            pendingCrewChanges = new ArrayList<>();
+        }
+        try {
+            Map<Long, String[]> locations = new HashMap<>();
+            for (Object[] row : activityLocationRepository.findActiveTextFields()) {
+                locations.put(((Number) row[0]).longValue(), new String[]{(String) row[1], (String) row[2]});
+            }
+            Map<Long, String[]> crews = new HashMap<>();
+            for (Object[] row : crewRepository.findActiveCrewNames()) {
+                crews.put(((Number) row[0]).longValue(), new String[]{(String) row[1]});
+            }
+
+            int replayed;
+            synchronized (changeLock) {
+                locationIndex.rebuild(locations);
+                crewIndex.rebuild(crews);
+                replayed = pendingLocationChanges.size() + pendingCrewChanges.size();
+                pendingLocationChanges.forEach(this::apply);
+                pendingCrewChanges.forEach(this::apply);
+            }
+            syncedAt = startedAt;
+            log.info("텍스트 검색 색인 적재 완료: 장소 {}개, 크루 {}개 (재적재 중 변경 {}건 재적용)",
+                    locations.size(), crews.size(), replayed);
+        } finally {
+            synchronized (changeLock) {
+                pendingLocationChanges = null;
+                pendingCrewChanges = null;
+            }
+        }
+    }
+
+    /**
+     * 증분 동기화: 마지막 적재/동기화 이후 생성된 장소와 변경(삭제 포함)된 크루만 DB에서 읽어 색인에 반영
+     * 다른 인스턴스에서 생성된 장소/크루가 전체 재적재를 기다리지 않고 검색되도록 합니다.
+     */
+    @Scheduled(fixedDelayString = "${search.text-index.sync-interval-ms:5000}",
+            initialDelayString = "${search.text-index.sync-interval-ms:5000}")
+    public synchronized void syncRecentChanges() {
+        if (syncedAt == null) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = syncedAt.minus(SYNC_OVERLAP);
+        List<Object[]> locations = activityLocationRepository.findTextFieldsCreatedAfter(since);
+        List<Object[]> crews = crewRepository.findCrewNamesUpdatedAfter(since);
+
+        synchronized (changeLock) {
+            for (Object[] row : locations) {
+                long locationId = ((Number) row[0]).longValue();
+                if (Boolean.TRUE.equals(row[3])) {
+                    locationIndex.remove(locationId);
+                } else {
+                    locationIndex.put(locationId, (String) row[1], (String) row[2]);
+                }
+            }
+            for (Object[] row : crews) {
+                long crewId = ((Number) row[0]).longValue();
+                if (Boolean.TRUE.equals(row[2])) {
+                    crewIndex.remove(crewId);
+                } else {
+                    crewIndex.put(crewId, (String) row[1]);
+                }
+            }
+        }
+        syncedAt = startedAt;
+        log.debug("텍스트 검색 색인 증분 동기화: 장소 {}건, 크루 {}건", locations.size(), crews.size());
+    }
+}
\ No newline at end of file
@@ -9,9 +9,17 @@ import java.math.RoundingMode;
 public class DistanceCalculator {
     
     private static final double EARTH_RADIUS_KM = 6371.0;
+    public static final double EARTH_RADIUS_METERS = EARTH_RADIUS_KM * 1000.0;
+    
+    // 근사 사전 필터를 적용하는 최대 반경 (m)과 최대 위도 - 이 범위에서 근사 오차는 0.01% 미만
+    private static final double PREFILTER_MAX_RADIUS_METERS = 50_000.0;
+    private static final double PREFILTER_MAX_LATITUDE = 70.0;
+    // 근사 거리로 바로 판정하지 않고 하버사인으로 재확인하는 경계 폭 (반경 대비 비율)
+    private static final double PREFILTER_TOLERANCE = 1e-3;
     
     /**
      * Haversine 공식을 사용하여 두 지점 간의 거리를 계산합니다.
+     * 반복 계산에는 BigDecimal 변환이 없는 {@link #distanceMeters(double, double, double, double)}를 사용하세요.
      * 
      * @param lat1 첫 번째 지점의 위도
      * @param lon1 첫 번째 지점의 경도
@@ -21,29 +29,8 @@ public class DistanceCalculator {
      */
     public static BigDecimal calculateDistance(BigDecimal lat1, BigDecimal lon1, BigDecimal lat2, BigDecimal lon2) {
         try {
-            // BigDecimal을 double로 변환
-            double latitude1 = lat1.doubleValue();
-            double longitude1 = lon1.doubleValue();
-            double latitude2 = lat2.doubleValue();
-            double longitude2 = lon2.doubleValue();
-            
-            // 위도와 경도를 라디안으로 변환
-            double lat1Rad = Math.toRadians(latitude1);
-            double lon1Rad = Math.toRadians(longitude1);
-            double lat2Rad = Math.toRadians(latitude2);
-            double lon2Rad = Math.toRadians(longitude2);
-            
-            // 위도와 경도 차이 계산
-            double deltaLat = lat2Rad - lat1Rad;
-            double deltaLon = lon2Rad - lon1Rad;
-            
-            // Haversine 공식 적용
-            double a = Math.sin(deltaLat / 2) * Math.sin(deltaLat / 2) +
-                      Math.cos(lat1Rad) * Math.cos(lat2Rad) *
-                      Math.sin(deltaLon / 2) * Math.sin(deltaLon / 2);
-            
-            double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-            double distance = EARTH_RADIUS_KM * c;
+            double distance = distanceMeters(lat1.doubleValue(), lon1.doubleValue(),
+                    lat2.doubleValue(), lon2.doubleValue()) / 1000.0;
             
             // BigDecimal로 변환하여 정확도 유지
             return BigDecimal.valueOf(distance).setScale(3, RoundingMode.HALF_UP);
@@ -55,6 +42,119 @@ public class DistanceCalculator {
         }
     }
     
+    /**
+     * Haversine 공식으로 두 지점 간의 거리를 계산합니다. (primitive, 예외 처리 없음)
+     * 
+     * @return 두 지점 간의 거리 (m)
+     */
+    public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double lat1Rad = Math.toRadians(lat1);
+        double lat2Rad = Math.toRadians(lat2);
+        double sinHalfDeltaLat = Math.sin((lat2Rad - lat1Rad) / 2);
+        double sinHalfDeltaLon = Math.sin(Math.toRadians(lon2 - lon1) / 2);
+        double a = sinHalfDeltaLat * sinHalfDeltaLat
+                + Math.cos(lat1Rad) * Math.cos(lat2Rad) * sinHalfDeltaLon * sinHalfDeltaLon;
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+    
+    /**
+     * 정거원통(equirectangular) 근사 거리를 계산합니다.
+     * 삼각함수 호출이 한 번뿐이라 하버사인보다 빠르며, 위도 70도 이내 수십 km 거리에서 상대 오차는 0.01% 미만입니다.
+     * 
+     * @return 근사 거리 (m)
+     */
+    public static double approximateDistanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double x = normalizeLongitudeDelta(lon2 - lon1) * Math.cos(Math.toRadians((lat1 + lat2) / 2));
+        double y = lat2 - lat1;
+        return EARTH_RADIUS_METERS * Math.toRadians(Math.sqrt(x * x + y * y));
+    }
+    
+    /**
+     * 두 지점이 반경(m) 이내인지 확인합니다.
+     * 근사 거리로 판정이 명확한 경우 하버사인 계산을 생략하고, 경계 근처에서만 하버사인으로 확인합니다.
+     * 결과는 항상 {@code distanceMeters(...) <= radiusMeters}와 같습니다.
+     */
+    public static boolean isWithinRadiusMeters(double lat1, double lon1, double lat2, double lon2, double radiusMeters) {
+        if (radiusMeters > PREFILTER_MAX_RADIUS_METERS || Math.abs(lat1) > PREFILTER_MAX_LATITUDE) {
+            return distanceMeters(lat1, lon1, lat2, lon2) <= radiusMeters;
+        }
+        double maxLatDelta = Math.toDegrees(radiusMeters / EARTH_RADIUS_METERS);
+        if (Math.abs(lat2 - lat1) > maxLatDelta) {
+            // 위도 차이만으로도 반경을 넘음 (구면 거리는 위도 차이 이상)
+            return false;
+        }
+        double approximate = approximateDistanceMeters(lat1, lon1, lat2, lon2);
+        if (approximate <= radiusMeters * (1 - PREFILTER_TOLERANCE)) {
+            return true;
+        }
+        if (approximate > radiusMeters * (1 + PREFILTER_TOLERANCE)) {
+            return false;
+        }
+        return distanceMeters(lat1, lon1, lat2, lon2) <= radiusMeters;
+    }
+    
+    /**
+     * 한 기준점에서 여러 지점까지의 거리를 일괄 계산합니다.
+     * 좌표는 병렬 배열(latitudes[i], longitudes[i])로 전달하며, 기준점의 삼각함수 값은 한 번만 계산합니다.
+     * 
+     * @param distances 결과를 담을 배열 (m, 길이는 좌표 수 이상)
+     */
+    public static void distancesMeters(double originLat, double originLon,
+                                       double[] latitudes, double[] longitudes, double[] distances) {
+        int count = checkBatchArguments(latitudes, longitudes, distances.length);
+        double originLatRad = Math.toRadians(originLat);
+        double cosOriginLat = Math.cos(originLatRad);
+        for (int i = 0; i < count; i++) {
+            double latRad = Math.toRadians(latitudes[i]);
+            double sinHalfDeltaLat = Math.sin((latRad - originLatRad) / 2);
+            double sinHalfDeltaLon = Math.sin(Math.toRadians(longitudes[i] - originLon) / 2);
+            double a = sinHalfDeltaLat * sinHalfDeltaLat
+                    + cosOriginLat * Math.cos(latRad) * sinHalfDeltaLon * sinHalfDeltaLon;
+            distances[i] = 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+        }
+    }
+    
+    /**
+     * 한 기준점에서 반경(m) 이내인 지점의 인덱스를 일괄 선별합니다.
+     * 
+     * @param indexes 선별된 인덱스를 앞에서부터 채울 배열 (길이는 좌표 수 이상)
+     * @return 선별된 지점 수
+     */
+    public static int filterWithinRadius(double originLat, double originLon, double[] latitudes, double[] longitudes,
+                                         double radiusMeters, int[] indexes) {
+        int count = checkBatchArguments(latitudes, longitudes, indexes.length);
+        int matched = 0;
+        for (int i = 0; i < count; i++) {
+            if (isWithinRadiusMeters(originLat, originLon, latitudes[i], longitudes[i], radiusMeters)) {
+                indexes[matched++] = i;
+            }
+        }
+        return matched;
+    }
+    
+    private static int checkBatchArguments(double[] latitudes, double[] longitudes, int outputLength) {
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("위도/경도 배열 길이가 다릅니다: " + latitudes.length + ", " + longitudes.length);
+        }
+        if (outputLength < latitudes.length) {
+            throw new IllegalArgumentException("결과 배열 길이가 좌표 수보다 작습니다: " + outputLength);
+        }
+        return latitudes.length;
+    }
+    
+    /**
+     * 경도 차이를 [-180, 180] 범위로 보정 (날짜 변경선을 가로지르는 경우)
+     */
+    private static double normalizeLongitudeDelta(double deltaLon) {
+        if (deltaLon > 180) {
+            return deltaLon - 360;
+        }
+        if (deltaLon < -180) {
+            return deltaLon + 360;
+        }
+        return deltaLon;
+    }
+    
     /**
      * 주어진 중심점과 반경 내에 있는지 확인합니다.
      * 
@@ -0,0 +1,132 @@
+package com.activityforecastbackend.util;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * 크기 제한과 항목별 TTL을 가진 스레드 안전 LRU 캐시
+ * 외부 API 응답 등 자주 반복되는 조회 결과를 메모리에 보관하고 적중률을 집계합니다.
+ *
+ * @param <K> 캐시 키 타입
+ * @param <V> 캐시 값 타입 (null 불가)
+ */
+public class LruCache<K, V> {
+
+    private final int maxSize;
+    private final Duration defaultTtl;
+    private final LinkedHashMap<K, CacheEntry<V>> entries;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public LruCache(int maxSize, Duration defaultTtl) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("캐시 최대 크기는 1 이상이어야 합니다: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.defaultTtl = defaultTtl;
+        // accessOrder = true: 조회 시 가장 최근 항목으로 이동 (LRU)
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                if (size() > LruCache.this.maxSize) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시 조회 (없거나 만료된 경우 null)
+     */
+    public synchronized V get(K key) {
+        CacheEntry<V> entry = entries.get(key);
+        if (entry == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            entries.remove(key);
+            evictionCount.incrementAndGet();
+            missCount.incrementAndGet();
+            return null;
+        }
+        hitCount.incrementAndGet();
+        return entry.value;
+    }
+
+    public void put(K key, V value) {
+        put(key, value, defaultTtl);
+    }
+
+    public synchronized void put(K key, V value, Duration ttl) {
+        if (value == null) {
+            throw new IllegalArgumentException("캐시 값은 null일 수 없습니다.");
+        }
+        entries.put(key, new CacheEntry<>(value, System.nanoTime() + ttl.toNanos()));
+    }
+
+    public synchronized V invalidate(K key) {
+        CacheEntry<V> removed = entries.remove(key);
+        return removed != null ? removed.value : null;
+    }
+
+    /**
+     * 조건에 맞는 키를 모두 제거하고 제거된 항목 수를 반환
+     */
+    public synchronized int invalidateIf(Predicate<K> keyPredicate) {
+        int before = entries.size();
+        entries.keySet().removeIf(keyPredicate);
+        return before - entries.size();
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public double getHitRatio() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    private static final class CacheEntry<V> {
+        private final V value;
+        private final long expiresAtNanos;
+
+        private CacheEntry(V value, long expiresAtNanos) {
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.activityforecastbackend.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 2-gram 역색인 기반 메모리 전문 검색 색인 (한국어 부분 문자열 검색용)
+ * 문서의 각 필드를 정규화(NFKC, 소문자, 공백 제거)한 뒤 2글자 단위로 쪼개 색인합니다.
+ * 검색 시 질의의 모든 2-gram을 가진 문서만 후보로 삼고(가장 짧은 목록부터 교집합),
+ * 정규화된 필드에 질의가 실제로 포함되는지 확인하여 LIKE '%keyword%'와 같은 결과를 관련도순으로 반환합니다.
+ * 읽기는 동시에, 쓰기는 배타적으로 수행합니다.
+ */
+public class NgramIndex {
+
+    private static final int GRAM_SIZE = 2;
+
+    /**
+     * 검색 결과 항목
+     */
+    public record Hit(long id, double score) {
+    }
+
+    /**
+     * 검색 결과 페이지 (total은 페이지와 무관한 전체 일치 수)
+     */
+    public record Result(List<Hit> hits, int total) {
+    }
+
+    private final double[] fieldWeights;
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, String[]> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * @param fieldWeights 필드별 관련도 가중치 (문서 필드 순서와 동일)
+     */
+    public NgramIndex(double... fieldWeights) {
+        if (fieldWeights.length == 0) {
+            throw new IllegalArgumentException("필드 가중치가 하나 이상 필요합니다.");
+        }
+        this.fieldWeights = fieldWeights.clone();
+    }
+
+    /**
+     * 텍스트 정규화: NFKC, 소문자화, 모든 공백 제거 ("올림픽 공원" == "올림픽공원")
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", "");
+    }
+
+    /**
+     * 문서 추가 또는 갱신 (fields는 생성자의 가중치 순서, null 허용)
+     */
+    public void put(long id, String... fields) {
+        String[] normalized = new String[fieldWeights.length];
+        for (int i = 0; i < normalized.length; i++) {
+            normalized[i] = i < fields.length ? normalize(fields[i]) : "";
+        }
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            putInternal(id, normalized);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 문서 교체 (값: 가중치 순서의 필드 배열)
+     */
+    public void rebuild(Map<Long, String[]> newDocuments) {
+        Map<Long, String[]> normalizedDocuments = new HashMap<>();
+        newDocuments.forEach((id, fields) -> {
+            String[] normalized = new String[fieldWeights.length];
+            for (int i = 0; i < normalized.length; i++) {
+                normalized[i] = i < fields.length ? normalize(fields[i]) : "";
+            }
+            normalizedDocuments.put(id, normalized);
+        });
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            normalizedDocuments.forEach(this::putInternal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 질의를 포함하는 문서를 관련도 내림차순(동점이면 ID 오름차순)으로 반환
+     * 관련도: 질의를 포함하는 필드마다 가중치 × (1 + 접두 일치 0.5 + 필드 대비 질의 길이 비율)
+     */
+    public Result search(String query, int offset, int limit) {
+        String normalizedQuery = normalize(query);
+        if (normalizedQuery.isEmpty() || limit < 1) {
+            return new Result(List.of(), 0);
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (long id : findCandidates(normalizedQuery)) {
+                double score = score(documents.get(id), normalizedQuery);
+                if (score > 0) {
+                    hits.add(new Hit(id, score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed().thenComparingLong(Hit::id));
+        int from = Math.min(Math.max(offset, 0), hits.size());
+        int to = (int) Math.min((long) from + limit, hits.size());
+        return new Result(new ArrayList<>(hits.subList(from, to)), hits.size());
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 질의의 모든 2-gram을 가진 문서 (1글자 질의는 해당 글자를 포함하는 모든 2-gram과 단일 글자 필드)
+     */
+    private Set<Long> findCandidates(String normalizedQuery) {
+        if (normalizedQuery.length() < GRAM_SIZE) {
+            Set<Long> candidates = new HashSet<>();
+            postings.forEach((gram, ids) -> {
+                if (gram.contains(normalizedQuery)) {
+                    candidates.addAll(ids);
+                }
+            });
+            return candidates;
+        }
+
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : grams(normalizedQuery)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return Set.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> candidates = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(lists.get(i));
+        }
+        return candidates;
+    }
+
+    private double score(String[] fields, String normalizedQuery) {
+        double score = 0;
+        for (int i = 0; i < fields.length; i++) {
+            String field = fields[i];
+            if (!field.contains(normalizedQuery)) {
+                continue;
+            }
+            double fieldScore = 1.0 + (double) normalizedQuery.length() / field.length();
+            if (field.startsWith(normalizedQuery)) {
+                fieldScore += 0.5;
+            }
+            score += fieldWeights[i] * fieldScore;
+        }
+        return score;
+    }
+
+    private void putInternal(long id, String[] normalizedFields) {
+        documents.put(id, normalizedFields);
+        for (String field : normalizedFields) {
+            for (String gram : grams(field)) {
+                postings.computeIfAbsent(gram, k -> new HashSet<>()).add(id);
+            }
+        }
+    }
+
+    private void removeInternal(long id) {
+        String[] previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String field : previous) {
+            for (String gram : grams(field)) {
+                Set<Long> ids = postings.get(gram);
+                if (ids != null) {
+                    ids.remove(id);
+                    if (ids.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 2-gram 집합 (1글자 텍스트는 그 글자 자체를 gram으로 사용)
+     */
+    private static Set<String> grams(String text) {
+        if (text.isEmpty()) {
+            return Set.of();
+        }
+        if (text.length() < GRAM_SIZE) {
+            return Set.of(text);
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+}
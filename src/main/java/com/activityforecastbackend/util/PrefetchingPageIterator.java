@@ -0,0 +1,136 @@
+package com.activityforecastbackend.util;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.IntFunction;
+
+/**
+ * 페이지 단위 외부 API 결과를 지연 조회하는 반복자
+ * 소비자가 현재 페이지를 순회하는 동안 다음 한 페이지만 미리 요청하고,
+ * 마지막 페이지 표시 또는 최대 페이지에 도달하면 더 이상 요청하지 않습니다.
+ * 단일 소비자 스레드에서 사용하며, 중간에 순회를 멈추면 close()로 선요청을 취소해야 합니다.
+ *
+ * @param <T> 항목 타입
+ */
+public class PrefetchingPageIterator<T> implements Iterator<T>, AutoCloseable {
+
+    /**
+     * 한 페이지 조회 결과
+     */
+    public record Page<T>(List<T> items, boolean last) {
+    }
+
+    private final IntFunction<Page<T>> pageFetcher;
+    private final Executor executor;
+    private final int lastPage;
+
+    private Iterator<T> current = Collections.emptyIterator();
+    private CompletableFuture<Page<T>> next;
+    private int nextPageNumber;
+    private boolean finished;
+    private boolean lastPageReached;
+
+    /**
+     * @param pageFetcher 1부터 시작하는 페이지 번호로 페이지를 조회하는 함수
+     * @param executor    다음 페이지 선요청에 사용할 실행기
+     * @param maxPages    조회할 최대 페이지 수
+     */
+    public PrefetchingPageIterator(IntFunction<Page<T>> pageFetcher, Executor executor, int maxPages) {
+        this(pageFetcher, executor, 1, maxPages);
+    }
+
+    /**
+     * 이미 조회한 페이지에 이어서 firstPage ~ lastPage 범위만 조회
+     *
+     * @param pageFetcher 1부터 시작하는 페이지 번호로 페이지를 조회하는 함수
+     * @param executor    다음 페이지 선요청에 사용할 실행기
+     * @param firstPage   처음 조회할 페이지 번호
+     * @param lastPage    조회할 마지막 페이지 번호
+     */
+    public PrefetchingPageIterator(IntFunction<Page<T>> pageFetcher, Executor executor, int firstPage, int lastPage) {
+        if (firstPage < 1 || lastPage < firstPage) {
+            throw new IllegalArgumentException("잘못된 페이지 범위: " + firstPage + "~" + lastPage);
+        }
+        this.pageFetcher = pageFetcher;
+        this.executor = executor;
+        this.nextPageNumber = firstPage;
+        this.lastPage = lastPage;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (finished) {
+                return false;
+            }
+            Page<T> page = awaitNextPage();
+            if (page == null || page.items() == null || page.items().isEmpty()) {
+                finished = true;
+                lastPageReached = true;
+                return false;
+            }
+            current = page.items().iterator();
+            if (page.last() || nextPageNumber > lastPage) {
+                finished = true;
+                lastPageReached = page.last();
+            } else {
+                prefetch();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * 결과의 마지막 페이지까지 조회했는지 여부 (false면 최대 페이지 수 또는 close()로 중단됨)
+     */
+    public boolean isLastPageReached() {
+        return lastPageReached;
+    }
+
+    /**
+     * 아직 완료되지 않은 선요청 취소
+     */
+    @Override
+    public void close() {
+        finished = true;
+        if (next != null) {
+            next.cancel(true);
+            next = null;
+        }
+    }
+
+    private Page<T> awaitNextPage() {
+        // 첫 페이지는 호출 스레드에서 바로 조회
+        if (next == null) {
+            return pageFetcher.apply(nextPageNumber++);
+        }
+        try {
+            return next.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        } finally {
+            next = null;
+        }
+    }
+
+    private void prefetch() {
+        int pageNumber = nextPageNumber++;
+        next = CompletableFuture.supplyAsync(() -> pageFetcher.apply(pageNumber), executor);
+    }
+}
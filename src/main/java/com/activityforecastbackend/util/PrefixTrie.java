@@ -0,0 +1,76 @@
+package com.activityforecastbackend.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 문자 단위 접두사 트라이
+ * 정규화된 키로 값을 저장하고, 주어진 접두사로 시작하는 값을 짧은 키부터 조회합니다.
+ * 로딩 후 읽기 전용으로 사용하는 것을 전제로 하며 동기화하지 않습니다.
+ *
+ * @param <V> 저장 값 타입
+ */
+public class PrefixTrie<V> {
+
+    private final Node<V> root = new Node<>();
+    private int size;
+
+    public void put(String key, V value) {
+        Node<V> node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node<>());
+        }
+        if (node.value == null) {
+            size++;
+        }
+        node.value = value;
+    }
+
+    public V get(String key) {
+        Node<V> node = find(key);
+        return node != null ? node.value : null;
+    }
+
+    /**
+     * 접두사로 시작하는 값을 최대 limit개 반환 (짧은 키 우선)
+     */
+    public List<V> findByPrefix(String prefix, int limit) {
+        List<V> results = new ArrayList<>();
+        Node<V> start = find(prefix);
+        if (start == null || limit <= 0) {
+            return results;
+        }
+
+        Deque<Node<V>> queue = new ArrayDeque<>();
+        queue.add(start);
+        while (!queue.isEmpty() && results.size() < limit) {
+            Node<V> node = queue.poll();
+            if (node.value != null) {
+                results.add(node.value);
+            }
+            queue.addAll(node.children.values());
+        }
+        return results;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private Node<V> find(String key) {
+        Node<V> node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        return node;
+    }
+
+    private static final class Node<V> {
+        private final Map<Character, Node<V>> children = new HashMap<>(4);
+        private V value;
+    }
+}
@@ -0,0 +1,172 @@
+package com.activityforecastbackend.repository;
+
+import com.activityforecastbackend.config.SpatialSchemaInitializer;
+import com.activityforecastbackend.entity.Activity;
+import com.activityforecastbackend.entity.ActivityCategory;
+import com.activityforecastbackend.entity.ActivityLocation;
+import com.activityforecastbackend.util.DistanceCalculator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.BeforeTransaction;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * MySQL 공간 인덱스 경로(MBRContains + ST_Distance_Sphere)가 하버사인 거리 기준 결과와 같은 결과를 같은 순서로 반환하는지 검증
+ * H2에서는 위도/경도 범위 검색 경로만 실행되므로 실제 MySQL 컨테이너에서 실행합니다. (Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(SpatialSchemaInitializer.class)
+class ActivityLocationRepositoryMySqlRadiusTest {
+
+    private static final double CENTER_LAT = 37.5665;
+    private static final double CENTER_LON = 126.9780;
+    // 부동소수점 오차로 판정이 갈릴 수 있는 경계 근처 좌표는 생성하지 않음 (m)
+    private static final double BOUNDARY_TOLERANCE_METERS = 1.0;
+
+    @Container
+    @ServiceConnection
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ActivityLocationRepository activityLocationRepository;
+
+    @Autowired
+    private SpatialSchemaInitializer spatialSchemaInitializer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<ActivityLocation> activeLocations = new ArrayList<>();
+
+    /**
+     * ALTER TABLE은 암묵적으로 커밋되므로 테스트 트랜잭션 밖에서 공간 컬럼/인덱스를 생성 (멱등)
+     */
+    @BeforeTransaction
+    void createSpatialColumn() {
+        spatialSchemaInitializer.migrate();
+    }
+
+    @BeforeEach
+    void setUp() {
+        ActivityCategory category = entityManager.persist(ActivityCategory.createCategory("구기스포츠", null));
+        Activity activity = entityManager.persist(Activity.createActivity(
+                category, "축구", "SPORTS", null, 2, Activity.LocationType.OUTDOOR));
+
+        Random random = new Random(42);
+        int created = 0;
+        while (created < 400) {
+            // 중심에서 약 ±8km 범위의 좌표
+            BigDecimal lat = scale(CENTER_LAT + (random.nextDouble() - 0.5) * 0.15);
+            BigDecimal lon = scale(CENTER_LON + (random.nextDouble() - 0.5) * 0.19);
+            double distance = distanceMeters(lat.doubleValue(), lon.doubleValue());
+            if (isNearBoundary(distance, 1000.0) || isNearBoundary(distance, 3000.0) || isNearBoundary(distance, 5000.0)) {
+                continue;
+            }
+            ActivityLocation location = entityManager.persist(
+                    ActivityLocation.createLocation(activity, "장소 " + created, null, lat, lon));
+            activeLocations.add(location);
+            created++;
+        }
+
+        // 반경 안에 있지만 삭제된 장소는 결과에서 제외되어야 함
+        ActivityLocation deleted = ActivityLocation.createLocation(
+                activity, "삭제된 장소", null, scale(CENTER_LAT + 0.001), scale(CENTER_LON + 0.001));
+        deleted.setIsDeleted(true);
+        entityManager.persist(deleted);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void spatialColumnIsGeneratedFromCoordinates() {
+        Integer indexCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = DATABASE() " +
+                "AND TABLE_NAME = 'activity_locations' AND INDEX_NAME = 'idx_activity_location_point'", Integer.class);
+        assertThat(indexCount).isPositive();
+
+        ActivityLocation sample = activeLocations.get(0);
+        // SRID 4326 POINT는 위도가 첫 번째 축
+        Double storedLat = jdbcTemplate.queryForObject(
+                "SELECT ST_Latitude(location_point) FROM activity_locations WHERE location_id = ?",
+                Double.class, sample.getLocationId());
+        assertThat(storedLat).isCloseTo(sample.getLatitude().doubleValue(), within(1e-9));
+    }
+
+    @Test
+    void spatialRadiusSearchMatchesHaversineDistance() {
+        for (double radiusKm : new double[]{1.0, 3.0, 5.0}) {
+            List<Long> expected = activeLocations.stream()
+                    .filter(location -> distanceMeters(location) <= radiusKm * 1000.0)
+                    .sorted(Comparator.comparingDouble(this::distanceMeters))
+                    .map(ActivityLocation::getLocationId)
+                    .toList();
+
+            List<Long> actual = activityLocationRepository.findLocationsByDistanceAndIsDeletedFalse(
+                            BigDecimal.valueOf(CENTER_LAT), BigDecimal.valueOf(CENTER_LON), radiusKm)
+                    .stream()
+                    .map(ActivityLocation::getLocationId)
+                    .toList();
+
+            assertThat(expected).isNotEmpty();
+            assertThat(actual).as("radius %.1fkm", radiusKm).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void spatialRadiusSearchFetchesActivityAndCategory() {
+        List<ActivityLocation> results = activityLocationRepository.findLocationsByDistanceAndIsDeletedFalse(
+                BigDecimal.valueOf(CENTER_LAT), BigDecimal.valueOf(CENTER_LON), 1.0);
+
+        assertThat(results).isNotEmpty();
+        assertThat(results).allSatisfy(location -> {
+            assertThat(location.getActivity().getActivityName()).isEqualTo("축구");
+            assertThat(location.getActivity().getCategory().getCategoryName()).isEqualTo("구기스포츠");
+        });
+    }
+
+    private double distanceMeters(ActivityLocation location) {
+        return distanceMeters(location.getLatitude().doubleValue(), location.getLongitude().doubleValue());
+    }
+
+    private static double distanceMeters(double lat, double lon) {
+        return DistanceCalculator.distanceMeters(CENTER_LAT, CENTER_LON, lat, lon);
+    }
+
+    private static boolean isNearBoundary(double distanceMeters, double radiusMeters) {
+        return Math.abs(distanceMeters - radiusMeters) < BOUNDARY_TOLERANCE_METERS;
+    }
+
+    private static BigDecimal scale(double value) {
+        return BigDecimal.valueOf(value).setScale(8, RoundingMode.HALF_UP);
+    }
+}
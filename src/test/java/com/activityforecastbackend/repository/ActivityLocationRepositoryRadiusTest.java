@@ -0,0 +1,136 @@
+package com.activityforecastbackend.repository;
+
+import com.activityforecastbackend.entity.Activity;
+import com.activityforecastbackend.entity.ActivityCategory;
+import com.activityforecastbackend.entity.ActivityLocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 반경 검색이 기존 전체 스캔 쿼리(acos 구면 코사인 거리)와 같은 결과를 같은 순서로 반환하는지 검증
+ */
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+class ActivityLocationRepositoryRadiusTest {
+
+    private static final double CENTER_LAT = 37.5665;
+    private static final double CENTER_LON = 126.9780;
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    // 부동소수점 오차로 판정이 갈릴 수 있는 경계 근처 좌표는 생성하지 않음 (km)
+    private static final double BOUNDARY_TOLERANCE_KM = 0.001;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ActivityLocationRepository activityLocationRepository;
+
+    private final List<ActivityLocation> activeLocations = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ActivityCategory category = entityManager.persist(ActivityCategory.createCategory("구기스포츠", null));
+        Activity activity = entityManager.persist(Activity.createActivity(
+                category, "축구", "SPORTS", null, 2, Activity.LocationType.OUTDOOR));
+
+        Random random = new Random(42);
+        int created = 0;
+        while (created < 400) {
+            // 중심에서 약 ±8km 범위의 좌표
+            BigDecimal lat = scale(CENTER_LAT + (random.nextDouble() - 0.5) * 0.15);
+            BigDecimal lon = scale(CENTER_LON + (random.nextDouble() - 0.5) * 0.19);
+            double distance = legacyDistanceKm(lat.doubleValue(), lon.doubleValue());
+            if (isNearBoundary(distance, 1.0) || isNearBoundary(distance, 3.0) || isNearBoundary(distance, 5.0)) {
+                continue;
+            }
+            ActivityLocation location = entityManager.persist(
+                    ActivityLocation.createLocation(activity, "장소 " + created, null, lat, lon));
+            activeLocations.add(location);
+            created++;
+        }
+
+        // 반경 안에 있지만 삭제된 장소는 결과에서 제외되어야 함
+        ActivityLocation deleted = ActivityLocation.createLocation(
+                activity, "삭제된 장소", null, scale(CENTER_LAT + 0.001), scale(CENTER_LON + 0.001));
+        deleted.setIsDeleted(true);
+        entityManager.persist(deleted);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void radiusSearchMatchesLegacyFullScan() {
+        for (double radiusKm : new double[]{1.0, 3.0, 5.0}) {
+            List<Long> expected = activeLocations.stream()
+                    .filter(location -> legacyDistanceKm(location) <= radiusKm)
+                    .sorted(Comparator.comparingDouble(this::legacyDistanceKm))
+                    .map(ActivityLocation::getLocationId)
+                    .toList();
+
+            List<Long> actual = activityLocationRepository.findLocationsByDistanceAndIsDeletedFalse(
+                            BigDecimal.valueOf(CENTER_LAT), BigDecimal.valueOf(CENTER_LON), radiusKm)
+                    .stream()
+                    .map(ActivityLocation::getLocationId)
+                    .toList();
+
+            assertThat(expected).isNotEmpty();
+            assertThat(actual).as("radius %.1fkm", radiusKm).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void radiusSearchFetchesActivityAndCategory() {
+        List<ActivityLocation> results = activityLocationRepository.findLocationsByDistanceAndIsDeletedFalse(
+                BigDecimal.valueOf(CENTER_LAT), BigDecimal.valueOf(CENTER_LON), 1.0);
+
+        assertThat(results).isNotEmpty();
+        assertThat(results).allSatisfy(location -> {
+            assertThat(location.getActivity().getActivityName()).isEqualTo("축구");
+            assertThat(location.getActivity().getCategory().getCategoryName()).isEqualTo("구기스포츠");
+        });
+    }
+
+    @Test
+    void radiusSearchReturnsEmptyWhenNothingInRange() {
+        List<ActivityLocation> results = activityLocationRepository.findLocationsByDistanceAndIsDeletedFalse(
+                BigDecimal.valueOf(35.1796), BigDecimal.valueOf(129.0756), 5.0);
+
+        assertThat(results).isEmpty();
+    }
+
+    private double legacyDistanceKm(ActivityLocation location) {
+        return legacyDistanceKm(location.getLatitude().doubleValue(), location.getLongitude().doubleValue());
+    }
+
+    /**
+     * 기존 네이티브 쿼리와 같은 구면 코사인 법칙 거리
+     */
+    private static double legacyDistanceKm(double lat, double lon) {
+        double cos = Math.cos(Math.toRadians(CENTER_LAT)) * Math.cos(Math.toRadians(lat))
+                * Math.cos(Math.toRadians(lon) - Math.toRadians(CENTER_LON))
+                + Math.sin(Math.toRadians(CENTER_LAT)) * Math.sin(Math.toRadians(lat));
+        return EARTH_RADIUS_KM * Math.acos(Math.min(1.0, cos));
+    }
+
+    private static boolean isNearBoundary(double distanceKm, double radiusKm) {
+        return Math.abs(distanceKm - radiusKm) < BOUNDARY_TOLERANCE_KM;
+    }
+
+    private static BigDecimal scale(double value) {
+        return BigDecimal.valueOf(value).setScale(8, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,43 @@
+package com.activityforecastbackend.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * gzip 본문과 원본 본문이 서로 다른 ETag로 구분되고, Accept-Encoding에 맞는 본문이 선택되는지 검증
+ */
+class ActivityCatalogResponseCacheTest {
+
+    private static final String VERSION = "v42";
+
+    @Test
+    void etagDiffersByResponseEncoding() {
+        String identity = ActivityCatalogResponseCache.etag(VERSION, null);
+        String gzip = ActivityCatalogResponseCache.etag(VERSION, "gzip, deflate, br");
+
+        assertThat(identity).isEqualTo(VERSION);
+        assertThat(gzip).isNotEqualTo(identity);
+        // gzip을 명시적으로 거부하면 원본 본문과 같은 ETag
+        assertThat(ActivityCatalogResponseCache.etag(VERSION, "gzip;q=0, identity")).isEqualTo(identity);
+    }
+
+    @Test
+    void responseBodyMatchesEtagEncoding() {
+        byte[] json = "[]".getBytes(StandardCharsets.UTF_8);
+        byte[] gzip = new byte[]{31, -117, 8};
+        ActivityCatalogResponseCache.SerializedBody body = new ActivityCatalogResponseCache.SerializedBody(json, gzip);
+
+        ResponseEntity<byte[]> gzipped = body.toResponse("gzip");
+        ResponseEntity<byte[]> plain = body.toResponse("identity");
+
+        assertThat(gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzipped.getBody()).isSameAs(gzip);
+        assertThat(plain.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(plain.getBody()).isSameAs(json);
+    }
+}
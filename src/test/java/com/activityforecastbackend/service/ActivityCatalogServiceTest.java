@@ -0,0 +1,110 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.entity.Activity;
+import com.activityforecastbackend.entity.ActivityCategory;
+import com.activityforecastbackend.repository.ActivityCategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 카탈로그 스냅샷이 읽기 전용 트랜잭션 안에서 만들어지고, 버전이 같으면 기존 스냅샷을 유지하며
+ * 내용이 바뀌어 버전이 달라질 때만 교체되는지 검증
+ */
+class ActivityCatalogServiceTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    private final ActivityCategoryRepository activityCategoryRepository = mock(ActivityCategoryRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final ActivityCatalogService activityCatalogService =
+            new ActivityCatalogService(activityCategoryRepository, transactionManager);
+
+    @Test
+    void firstSnapshotIsBuiltOnceInReadOnlyTransaction() {
+        when(activityCategoryRepository.findAllWithActivities()).thenReturn(catalog("축구", UPDATED_AT));
+
+        ActivityCatalogSnapshot first = activityCatalogService.getSnapshot();
+        ActivityCatalogSnapshot second = activityCatalogService.getSnapshot();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getActivities()).extracting("activityName").containsExactly("축구", "테니스");
+        verify(activityCategoryRepository, times(1)).findAllWithActivities();
+        // getSnapshot()의 자기 호출에서도 프록시를 거치지 않고 읽기 전용 새 트랜잭션으로 조회
+        verify(transactionManager).getTransaction(argThat(definition -> definition.isReadOnly()
+                && definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void versionIsStableForSameContentAndSnapshotIsKept() {
+        when(activityCategoryRepository.findAllWithActivities())
+                .thenReturn(catalog("축구", UPDATED_AT), catalog("축구", UPDATED_AT));
+
+        ActivityCatalogSnapshot first = activityCatalogService.refresh();
+        ActivityCatalogSnapshot second = activityCatalogService.refresh();
+
+        // 새로 읽은 엔티티가 달라도 내용이 같으면 같은 버전이며 기존 스냅샷 유지
+        assertThat(second).isSameAs(first);
+        assertThat(ActivityCatalogSnapshot.build(catalog("축구", UPDATED_AT)).getVersion())
+                .isEqualTo(first.getVersion());
+        assertThat(activityCatalogService.getStatus().getSwapCount()).isEqualTo(1);
+    }
+
+    @Test
+    void snapshotIsSwappedOnlyWhenVersionChanges() {
+        when(activityCategoryRepository.findAllWithActivities()).thenReturn(
+                catalog("축구", UPDATED_AT),
+                catalog("풋살", UPDATED_AT.plusMinutes(1)),
+                catalog("풋살", UPDATED_AT.plusMinutes(1)));
+
+        ActivityCatalogSnapshot original = activityCatalogService.refresh();
+        ActivityCatalogSnapshot changed = activityCatalogService.refresh();
+        ActivityCatalogSnapshot unchanged = activityCatalogService.refresh();
+
+        assertThat(changed).isNotSameAs(original);
+        assertThat(changed.getVersion()).isNotEqualTo(original.getVersion());
+        assertThat(changed.getActivities()).extracting("activityName").containsExactly("테니스", "풋살");
+        assertThat(unchanged).isSameAs(changed);
+        assertThat(activityCatalogService.getSnapshot()).isSameAs(changed);
+        assertThat(activityCatalogService.getStatus().getSwapCount()).isEqualTo(2);
+    }
+
+    /**
+     * 카테고리 2개(활동 1개씩)와 삭제된 활동 1개로 이루어진 카탈로그 - 첫 카테고리 활동명/수정 시각만 바꿔 가며 사용
+     */
+    private static List<ActivityCategory> catalog(String ballGameName, LocalDateTime ballGameUpdatedAt) {
+        ActivityCategory ballGames = category(1L, "구기스포츠");
+        activity(ballGames, 10L, ballGameName, ballGameUpdatedAt);
+        activity(ballGames, 11L, "삭제된 활동", UPDATED_AT).softDelete();
+
+        ActivityCategory racket = category(2L, "라켓스포츠");
+        activity(racket, 20L, "테니스", UPDATED_AT);
+        return List.of(ballGames, racket);
+    }
+
+    private static ActivityCategory category(Long id, String name) {
+        ActivityCategory category = ActivityCategory.createCategory(name, null);
+        category.setCategoryId(id);
+        return category;
+    }
+
+    private static Activity activity(ActivityCategory category, Long id, String name, LocalDateTime updatedAt) {
+        Activity activity = Activity.createActivity(category, name, "SPORTS", null, 2, Activity.LocationType.OUTDOOR);
+        activity.setActivityId(id);
+        activity.setUpdatedAt(updatedAt);
+        category.getActivities().add(activity);
+        return activity;
+    }
+}
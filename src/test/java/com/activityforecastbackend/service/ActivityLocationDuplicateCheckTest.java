@@ -0,0 +1,81 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.activity.ActivityLocationCreateRequest;
+import com.activityforecastbackend.entity.Activity;
+import com.activityforecastbackend.entity.ActivityCategory;
+import com.activityforecastbackend.entity.ActivityLocation;
+import com.activityforecastbackend.exception.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 중복 위치 검증이 메모리 색인이 아닌 DB 기준으로 판정되는지 검증
+ * (색인 서비스는 목으로 대체되어 항상 비어 있음 - 다른 인스턴스에서 등록된 장소를 아직 모르는 상태)
+ */
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+@Import(ActivityLocationService.class)
+class ActivityLocationDuplicateCheckTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ActivityLocationService activityLocationService;
+
+    @MockitoBean
+    private KakaoLocationService kakaoLocationService;
+
+    @MockitoBean
+    private PlaceHarvestService placeHarvestService;
+
+    @MockitoBean
+    private TextSearchIndexService textSearchIndexService;
+
+    private Activity activity;
+
+    @BeforeEach
+    void setUp() {
+        ActivityCategory category = entityManager.persist(ActivityCategory.createCategory("구기스포츠", null));
+        activity = entityManager.persist(Activity.createActivity(
+                category, "축구", "SPORTS", null, 2, Activity.LocationType.OUTDOOR));
+        entityManager.persist(ActivityLocation.createLocation(
+                activity, "한강 축구장", null, new BigDecimal("37.52800000"), new BigDecimal("126.93300000")));
+        entityManager.flush();
+    }
+
+    @Test
+    void rejectsLocationWithin100MetersOfExistingOne() {
+        // 약 55m 북쪽
+        assertThatThrownBy(() -> activityLocationService.createLocation(request("37.52850000", "126.93300000")))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("한강 축구장");
+    }
+
+    @Test
+    void acceptsLocationOutside100Meters() {
+        // 약 167m 북쪽
+        assertThat(activityLocationService.createLocation(request("37.52950000", "126.93300000")).getLocationId())
+                .isNotNull();
+    }
+
+    private ActivityLocationCreateRequest request(String latitude, String longitude) {
+        return ActivityLocationCreateRequest.builder()
+                .activityId(activity.getActivityId())
+                .locationName("새 축구장")
+                .latitude(new BigDecimal(latitude))
+                .longitude(new BigDecimal(longitude))
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.activity.ActivityLocationDto;
+import com.activityforecastbackend.dto.activity.KakaoPlaceDto;
+import com.activityforecastbackend.dto.activity.LocationSearchRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 외부 장소 검색의 모든 페이지가 같은 거리순 목록을 잘라 응답하고 (중복/누락 없음),
+ * 요청한 페이지까지의 결과만 조회하는지 검증
+ */
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+@Import(ActivityLocationService.class)
+class ActivityLocationExternalSearchTest {
+
+    private static final String KEYWORD = "풋살";
+    private static final int RADIUS_METERS = 3000;
+
+    @Autowired
+    private ActivityLocationService activityLocationService;
+
+    @MockitoBean
+    private KakaoLocationService kakaoLocationService;
+
+    @MockitoBean
+    private PlaceHarvestService placeHarvestService;
+
+    @MockitoBean
+    private TextSearchIndexService textSearchIndexService;
+
+    @Test
+    void pagesOverOneDistanceSortedKakaoResult() {
+        List<KakaoPlaceDto> places = IntStream.range(0, 40)
+                .mapToObj(i -> KakaoPlaceDto.builder()
+                        .id(String.valueOf(i))
+                        .placeName("풋살장 " + i)
+                        .y(String.valueOf(37.5 + i * 0.0001))
+                        .x("127.0")
+                        .distance(String.valueOf(i * 11))
+                        .build())
+                .toList();
+        when(placeHarvestService.findLocal(anyString(), any(), any(), anyInt(), anyInt())).thenReturn(null);
+        // 타일 캐시 검색처럼 가까운 순으로 최대 limit건만 응답
+        when(kakaoLocationService.searchPlacesByKeyword(eq(KEYWORD), any(), any(), eq(RADIUS_METERS), anyInt()))
+                .thenAnswer(invocation -> places.subList(0, Math.min(invocation.<Integer>getArgument(4), places.size())));
+
+        List<String> names = new ArrayList<>();
+        for (int page = 1; page <= 3; page++) {
+            List<ActivityLocationDto> results = activityLocationService.searchExternalLocations(request(page, 15));
+            assertThat(results).hasSizeLessThanOrEqualTo(15);
+            results.forEach(location -> names.add(location.getLocationName()));
+        }
+
+        assertThat(names).isEqualTo(places.stream().map(KakaoPlaceDto::getPlaceName).toList());
+        assertThat(activityLocationService.searchExternalLocations(request(4, 15))).isEmpty();
+        // 각 페이지는 그 페이지까지의 결과만 요청
+        verify(kakaoLocationService).searchPlacesByKeyword(eq(KEYWORD), any(), any(), eq(RADIUS_METERS), eq(15));
+        verify(kakaoLocationService).searchPlacesByKeyword(eq(KEYWORD), any(), any(), eq(RADIUS_METERS), eq(30));
+        verify(kakaoLocationService).searchPlacesByKeyword(eq(KEYWORD), any(), any(), eq(RADIUS_METERS), eq(45));
+        verify(kakaoLocationService).searchPlacesByKeyword(eq(KEYWORD), any(), any(), eq(RADIUS_METERS), eq(60));
+    }
+
+    @Test
+    void pagesOverLocalCatalogWhenCoverageIsFresh() {
+        List<ActivityLocationDto> catalog = IntStream.range(0, 25)
+                .mapToObj(i -> ActivityLocationDto.builder().locationName("수집 장소 " + i).build())
+                .toList();
+        when(placeHarvestService.findLocal(anyString(), any(), any(), eq(RADIUS_METERS), anyInt()))
+                .thenAnswer(invocation -> catalog.subList(0, Math.min(invocation.<Integer>getArgument(4), catalog.size())));
+
+        List<ActivityLocationDto> first = activityLocationService.searchExternalLocations(request(1, 10));
+        List<ActivityLocationDto> second = activityLocationService.searchExternalLocations(request(2, 10));
+        List<ActivityLocationDto> third = activityLocationService.searchExternalLocations(request(3, 10));
+
+        assertThat(first).isEqualTo(catalog.subList(0, 10));
+        assertThat(second).isEqualTo(catalog.subList(10, 20));
+        assertThat(third).isEqualTo(catalog.subList(20, 25));
+        verify(kakaoLocationService, never()).searchPlacesByKeyword(any(), any(), any(), any(), anyInt());
+        verify(placeHarvestService, never()).findLinkedLocations(any());
+    }
+
+    private static LocationSearchRequest request(int page, int size) {
+        return LocationSearchRequest.builder()
+                .latitude(new BigDecimal("37.5"))
+                .longitude(new BigDecimal("127.0"))
+                .radiusKm(new BigDecimal("3"))
+                .keyword(KEYWORD)
+                .page(page)
+                .size(size)
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.activity.ActivityLocationDto;
+import com.activityforecastbackend.entity.Activity;
+import com.activityforecastbackend.entity.ActivityCategory;
+import com.activityforecastbackend.entity.ActivityLocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 키워드 장소 검색이 장소명/주소 일치를 관련도순으로 반환하고, 결과 수 상한과 DB 재확인을 지키는지 검증
+ */
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+@Import({ActivityLocationService.class, TextSearchIndexService.class})
+class ActivityLocationKeywordSearchTest {
+
+    private static final BigDecimal LAT = new BigDecimal("37.50000000");
+    private static final BigDecimal LON = new BigDecimal("127.00000000");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ActivityLocationService activityLocationService;
+
+    @Autowired
+    private TextSearchIndexService textSearchIndexService;
+
+    @MockitoBean
+    private KakaoLocationService kakaoLocationService;
+
+    @MockitoBean
+    private PlaceHarvestService placeHarvestService;
+
+    private Activity activity;
+
+    @BeforeEach
+    void setUp() {
+        ActivityCategory category = entityManager.persist(ActivityCategory.createCategory("구기스포츠", null));
+        activity = entityManager.persist(Activity.createActivity(
+                category, "축구", "SPORTS", null, 2, Activity.LocationType.OUTDOOR));
+    }
+
+    @Test
+    void matchesNameBeforeAddress() {
+        ActivityLocation byAddress = persist("마포 체육공원", "서울 마포구 한강로");
+        ActivityLocation byName = persist("한강 축구장", null);
+        persist("잠실 야구장", "서울 송파구");
+        textSearchIndexService.rebuild();
+
+        List<ActivityLocationDto> results = activityLocationService.searchLocationsByKeyword("한강");
+
+        assertThat(results).extracting(ActivityLocationDto::getLocationId)
+                .containsExactly(byName.getLocationId(), byAddress.getLocationId());
+    }
+
+    @Test
+    void capsResultsAtOneHundred() {
+        for (int i = 0; i < 120; i++) {
+            persist("축구장 " + i, null);
+        }
+        textSearchIndexService.rebuild();
+
+        assertThat(activityLocationService.searchLocationsByKeyword("축구장")).hasSize(100);
+    }
+
+    @Test
+    void excludesLocationsChangedOutsideTheIndex() {
+        ActivityLocation renamed = persist("한강 축구장", null);
+        ActivityLocation deleted = persist("한강 풋살장", null);
+        ActivityLocation unchanged = persist("한강 농구장", null);
+        textSearchIndexService.rebuild();
+
+        // 다른 인스턴스에서의 변경처럼 색인 이벤트 없이 DB만 수정
+        renamed.setLocationName("잠실 축구장");
+        deleted.setIsDeleted(true);
+        entityManager.flush();
+
+        assertThat(activityLocationService.searchLocationsByKeyword("한강"))
+                .extracting(ActivityLocationDto::getLocationId)
+                .containsExactly(unchanged.getLocationId());
+    }
+
+    private ActivityLocation persist(String name, String address) {
+        ActivityLocation location = entityManager.persist(ActivityLocation.createLocation(activity, name, address, LAT, LON));
+        entityManager.flush();
+        return location;
+    }
+}
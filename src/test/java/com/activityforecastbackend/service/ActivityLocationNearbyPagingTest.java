@@ -0,0 +1,187 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.activity.NearbyLocationDto;
+import com.activityforecastbackend.dto.activity.NearbyLocationPageResponse;
+import com.activityforecastbackend.entity.Activity;
+import com.activityforecastbackend.entity.ActivityCategory;
+import com.activityforecastbackend.entity.ActivityLocation;
+import com.activityforecastbackend.exception.BadRequestException;
+import com.activityforecastbackend.util.DistanceCalculator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 주변 장소 커서 페이지 조회가 DB 기준으로 거리순을 지키고, 페이지 사이에 중복/누락이 없으며,
+ * 마지막 페이지에서 다음 커서 없이 끝나는지 검증
+ */
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+@Import(ActivityLocationService.class)
+class ActivityLocationNearbyPagingTest {
+
+    private static final double CENTER_LAT = 37.5665;
+    private static final double CENTER_LON = 126.9780;
+    private static final BigDecimal MAX_RADIUS_KM = new BigDecimal("5");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ActivityLocationService activityLocationService;
+
+    @MockitoBean
+    private KakaoLocationService kakaoLocationService;
+
+    @MockitoBean
+    private PlaceHarvestService placeHarvestService;
+
+    @MockitoBean
+    private TextSearchIndexService textSearchIndexService;
+
+    private Activity soccer;
+    private final List<ActivityLocation> activeLocations = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ActivityCategory category = entityManager.persist(ActivityCategory.createCategory("구기스포츠", null));
+        soccer = entityManager.persist(Activity.createActivity(
+                category, "축구", "SPORTS", null, 2, Activity.LocationType.OUTDOOR));
+        Activity futsal = entityManager.persist(Activity.createActivity(
+                category, "풋살", "SPORTS", null, 2, Activity.LocationType.OUTDOOR));
+
+        // 중심에서 약 ±7km 범위 (최대 반경 밖의 장소와 첫 검색 반경(1km) 밖의 장소가 모두 섞이도록)
+        Random random = new Random(7);
+        for (int i = 0; i < 120; i++) {
+            Activity activity = i % 3 == 0 ? futsal : soccer;
+            persist(activity, "장소 " + i,
+                    CENTER_LAT + (random.nextDouble() - 0.5) * 0.12,
+                    CENTER_LON + (random.nextDouble() - 0.5) * 0.15);
+        }
+        // 같은 좌표의 장소는 거리가 같으므로 ID 순서로 이어져야 함
+        for (int i = 0; i < 5; i++) {
+            persist(soccer, "같은 좌표 " + i, CENTER_LAT + 0.004, CENTER_LON + 0.004);
+        }
+
+        ActivityLocation deleted = ActivityLocation.createLocation(
+                soccer, "삭제된 장소", null, scale(CENTER_LAT + 0.0005), scale(CENTER_LON));
+        deleted.setIsDeleted(true);
+        entityManager.persist(deleted);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void pagesThroughAllLocationsInDistanceOrderWithoutDuplicates() {
+        List<Long> expected = expectedOrder(null);
+        List<NearbyLocationDto> collected = pageThrough(null, 7);
+
+        assertThat(expected).hasSizeGreaterThan(7 * 3);
+        assertThat(collected).extracting(item -> item.getLocation().getLocationId())
+                .containsExactlyElementsOf(expected)
+                .doesNotHaveDuplicates();
+        assertThat(collected).extracting(NearbyLocationDto::getDistanceMeters)
+                .isSortedAccordingTo(Comparator.naturalOrder())
+                .allSatisfy(distance -> assertThat(distance).isLessThanOrEqualTo(5_000.0));
+    }
+
+    @Test
+    void pagesOnlyTheRequestedActivity() {
+        List<Long> expected = expectedOrder(soccer.getActivityId());
+        List<NearbyLocationDto> collected = pageThrough(soccer.getActivityId(), 10);
+
+        assertThat(collected).extracting(item -> item.getLocation().getLocationId())
+                .containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void lastPageHasNoNextCursor() {
+        int total = expectedOrder(null).size();
+        NearbyLocationPageResponse first = activityLocationService.getNearbyLocations(
+                BigDecimal.valueOf(CENTER_LAT), BigDecimal.valueOf(CENTER_LON), null, total - 1, MAX_RADIUS_KM, null);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextCursor()).isNotNull();
+
+        NearbyLocationPageResponse last = activityLocationService.getNearbyLocations(
+                BigDecimal.valueOf(CENTER_LAT), BigDecimal.valueOf(CENTER_LON), null, total - 1, MAX_RADIUS_KM,
+                first.getNextCursor());
+        assertThat(last.getItems()).hasSize(1);
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+
+        // 정확히 남은 개수만큼 요청해도 다음 페이지가 없어야 함
+        NearbyLocationPageResponse exact = activityLocationService.getNearbyLocations(
+                BigDecimal.valueOf(CENTER_LAT), BigDecimal.valueOf(CENTER_LON), null, total, MAX_RADIUS_KM, null);
+        assertThat(exact.getItems()).hasSize(total);
+        assertThat(exact.isHasNext()).isFalse();
+        assertThat(exact.getNextCursor()).isNull();
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> activityLocationService.getNearbyLocations(
+                BigDecimal.valueOf(CENTER_LAT), BigDecimal.valueOf(CENTER_LON), null, 10, MAX_RADIUS_KM, "not-a-cursor"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private List<NearbyLocationDto> pageThrough(Long activityId, int size) {
+        List<NearbyLocationDto> collected = new ArrayList<>();
+        String cursor = null;
+        for (int pages = 0; pages < 100; pages++) {
+            NearbyLocationPageResponse page = activityLocationService.getNearbyLocations(
+                    BigDecimal.valueOf(CENTER_LAT), BigDecimal.valueOf(CENTER_LON), activityId, size, MAX_RADIUS_KM,
+                    cursor);
+            collected.addAll(page.getItems());
+            if (!page.isHasNext()) {
+                assertThat(page.getNextCursor()).isNull();
+                assertThat(page.getItems()).hasSizeLessThanOrEqualTo(size);
+                return collected;
+            }
+            assertThat(page.getItems()).hasSize(size);
+            cursor = page.getNextCursor();
+        }
+        throw new AssertionError("마지막 페이지에 도달하지 못함");
+    }
+
+    /**
+     * 최대 반경 이내의 삭제되지 않은 장소를 (거리, ID) 순으로 정렬한 기대 결과
+     */
+    private List<Long> expectedOrder(Long activityId) {
+        return activeLocations.stream()
+                .filter(location -> activityId == null || location.getActivity().getActivityId().equals(activityId))
+                .filter(location -> distance(location) <= MAX_RADIUS_KM.doubleValue() * 1000)
+                .sorted(Comparator.comparingDouble(this::distance).thenComparing(ActivityLocation::getLocationId))
+                .map(ActivityLocation::getLocationId)
+                .toList();
+    }
+
+    private double distance(ActivityLocation location) {
+        return DistanceCalculator.distanceMeters(CENTER_LAT, CENTER_LON,
+                location.getLatitude().doubleValue(), location.getLongitude().doubleValue());
+    }
+
+    private void persist(Activity activity, String name, double lat, double lon) {
+        activeLocations.add(entityManager.persist(
+                ActivityLocation.createLocation(activity, name, null, scale(lat), scale(lon))));
+    }
+
+    private static BigDecimal scale(double value) {
+        return BigDecimal.valueOf(value).setScale(8, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,158 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.admin.TrainingDataStatisticsResponse;
+import com.activityforecastbackend.entity.AiTrainingData;
+import com.activityforecastbackend.entity.AiTrainingDataSummary;
+import com.activityforecastbackend.event.AiTrainingDataCountChangedEvent;
+import com.activityforecastbackend.repository.AiTrainingDataRepository;
+import com.activityforecastbackend.repository.AiTrainingDataSummaryRepository;
+import com.activityforecastbackend.repository.SchedulerLockRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AI 학습 데이터 통계가 요약 테이블에서 조회되고(다른 노드의 반영 포함), 커밋 후 upsert로 증분되며,
+ * 대사 시 원본 기준으로 재계산되는지 검증
+ * 증분은 커밋 후 새 트랜잭션에서 반영되므로 테스트 트랜잭션을 사용하지 않으며,
+ * 운영 DB(MySQL)의 INSERT ... ON DUPLICATE KEY UPDATE를 H2 MySQL 호환 모드로 실행합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.datasource.url=jdbc:h2:mem:ai-training-statistics;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=60000",
+        "spring.datasource.hikari.maximum-pool-size=20"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({AiTrainingStatisticsService.class, SchedulerLockService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AiTrainingStatisticsServiceTest {
+
+    private static final int CONCURRENT_RECORDS = 32;
+
+    @Autowired
+    private AiTrainingStatisticsService statisticsService;
+
+    @Autowired
+    private AiTrainingDataRepository aiTrainingDataRepository;
+
+    @Autowired
+    private AiTrainingDataSummaryRepository summaryRepository;
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        aiTrainingDataRepository.deleteAllInBatch();
+        summaryRepository.deleteAllInBatch();
+        schedulerLockRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentFirstCountsForSameActivityTypeAreMergedIntoOneRow() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_RECORDS);
+        CountDownLatch start = new CountDownLatch(1);
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < CONCURRENT_RECORDS; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    statisticsService.onCountChanged(new AiTrainingDataCountChangedEvent("RUNNING", 1, 0));
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(failures).isEmpty();
+        assertThat(summaryRepository.findAll())
+                .singleElement()
+                .satisfies(summary -> {
+                    assertThat(summary.getUsedCount()).isEqualTo(CONCURRENT_RECORDS);
+                    assertThat(summary.getUnusedCount()).isZero();
+                });
+        assertThat(statisticsService.getStatistics().getUsedCount()).isEqualTo(CONCURRENT_RECORDS);
+    }
+
+    @Test
+    void statisticsAreReadFromSummaryTableIncludingOtherNodesWrites() {
+        // 다른 노드가 반영한 행
+        summaryRepository.save(AiTrainingDataSummary.createSummary("HIKING", 5, 2));
+        statisticsService.onCountChanged(new AiTrainingDataCountChangedEvent("HIKING", 0, 1));
+        statisticsService.onCountChanged(new AiTrainingDataCountChangedEvent(null, 0, 1));
+
+        TrainingDataStatisticsResponse statistics = statisticsService.getStatistics();
+        assertThat(statistics.getUsedCount()).isEqualTo(5);
+        assertThat(statistics.getUnusedCount()).isEqualTo(4);
+        // 학습에 사용된 데이터가 없는 활동 유형은 제외
+        assertThat(statistics.getUsedCountByActivityType()).isEqualTo(Map.of("HIKING", 5L));
+    }
+
+    @Test
+    void countsAreAppliedOnlyAfterCommit() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            statisticsService.recordCreated(manualData("HIKING", false));
+            status.setRollbackOnly();
+        });
+        assertThat(summaryRepository.count()).isZero();
+
+        transaction.executeWithoutResult(status -> statisticsService.recordCreated(manualData("HIKING", true)));
+        assertThat(statisticsService.getStatistics().getUsedCountByActivityType()).isEqualTo(Map.of("HIKING", 1L));
+    }
+
+    @Test
+    void reconcileRecomputesCountsFromTrainingData() {
+        aiTrainingDataRepository.save(manualData("HIKING", true));
+        aiTrainingDataRepository.save(manualData("HIKING", true));
+        aiTrainingDataRepository.save(manualData("HIKING", false));
+        aiTrainingDataRepository.save(manualData(null, false));
+        // 어긋난 카운터와 원본이 사라진 활동 유형
+        summaryRepository.save(AiTrainingDataSummary.createSummary("HIKING", 100, 100));
+        summaryRepository.save(AiTrainingDataSummary.createSummary("SWIMMING", 1, 1));
+
+        assertThat(statisticsService.reconcile()).isTrue();
+
+        assertThat(summaryRepository.findActivityTypes())
+                .containsExactlyInAnyOrder("HIKING", AiTrainingStatisticsService.UNSPECIFIED_ACTIVITY_TYPE);
+        TrainingDataStatisticsResponse statistics = statisticsService.getStatistics();
+        assertThat(statistics.getUsedCount()).isEqualTo(2);
+        assertThat(statistics.getUnusedCount()).isEqualTo(2);
+        assertThat(statistics.getUsedCountByActivityType()).isEqualTo(Map.of("HIKING", 2L));
+    }
+
+    private static AiTrainingData manualData(String activityType, boolean used) {
+        AiTrainingData trainingData = AiTrainingData.createManualData(
+                BigDecimal.valueOf(20), "맑음", 30, activityType, BigDecimal.valueOf(4), true);
+        if (used) {
+            trainingData.markAsUsedForTraining();
+        }
+        return trainingData;
+    }
+}
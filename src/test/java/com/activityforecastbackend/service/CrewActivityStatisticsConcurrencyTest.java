@@ -0,0 +1,202 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.entity.Activity;
+import com.activityforecastbackend.entity.ActivityCategory;
+import com.activityforecastbackend.entity.Crew;
+import com.activityforecastbackend.entity.CrewActivityStatistic;
+import com.activityforecastbackend.entity.Schedule;
+import com.activityforecastbackend.entity.User;
+import com.activityforecastbackend.repository.ActivityCategoryRepository;
+import com.activityforecastbackend.repository.ActivityRepository;
+import com.activityforecastbackend.repository.CrewActivityStatisticRepository;
+import com.activityforecastbackend.repository.CrewRepository;
+import com.activityforecastbackend.repository.ScheduleRepository;
+import com.activityforecastbackend.repository.SchedulerLockRepository;
+import com.activityforecastbackend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 (크루, 활동)의 첫 완료 일정이 동시에 기록되어도 유니크 키 충돌 없이 한 행에 모두 합산되는지,
+ * 여러 노드의 대사 작업이 동시에 실행되어도 한 번만 실행되어 원본 기준으로 재계산되는지 검증
+ * 각 기록이 실제로 커밋되어야 하므로 테스트 트랜잭션을 사용하지 않으며,
+ * 운영 DB(MySQL)의 INSERT ... ON DUPLICATE KEY UPDATE를 H2 MySQL 호환 모드로 실행합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.datasource.url=jdbc:h2:mem:crew-statistics;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=60000",
+        "spring.datasource.hikari.maximum-pool-size=20"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({CrewActivityStatisticsService.class, SchedulerLockService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CrewActivityStatisticsConcurrencyTest {
+
+    private static final long CREW_ID = 1L;
+    private static final long ACTIVITY_ID = 10L;
+    private static final int CONCURRENT_RECORDS = 32;
+
+    @Autowired
+    private CrewActivityStatisticsService crewActivityStatisticsService;
+
+    @Autowired
+    private CrewActivityStatisticRepository statisticRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private CrewRepository crewRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private ActivityCategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @AfterEach
+    void tearDown() {
+        statisticRepository.deleteAllInBatch();
+        scheduleRepository.deleteAllInBatch();
+        crewRepository.deleteAllInBatch();
+        activityRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        schedulerLockRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentFirstRecordsAreMergedIntoOneRow() throws InterruptedException {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_RECORDS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(CONCURRENT_RECORDS);
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        for (int i = 0; i < CONCURRENT_RECORDS; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    crewActivityStatisticsService.recordScheduleAdded(CREW_ID, ACTIVITY_ID, yesterday);
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(failures).isEmpty();
+        List<CrewActivityStatistic> rows = statisticRepository.findAll();
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getCompletedCount()).isEqualTo(CONCURRENT_RECORDS);
+    }
+
+    @Test
+    void removalDecrementsAndNeverCreatesRow() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+
+        // 행이 없는 상태의 감소는 무시 (롤포워드/대사에서 보정)
+        crewActivityStatisticsService.recordScheduleRemoved(CREW_ID, ACTIVITY_ID, yesterday);
+        assertThat(statisticRepository.count()).isZero();
+
+        crewActivityStatisticsService.recordScheduleAdded(CREW_ID, ACTIVITY_ID, yesterday);
+        crewActivityStatisticsService.recordScheduleAdded(CREW_ID, ACTIVITY_ID, yesterday);
+        crewActivityStatisticsService.recordScheduleRemoved(CREW_ID, ACTIVITY_ID, yesterday);
+        // 아직 완료되지 않은(오늘 이후) 일정은 반영하지 않음
+        crewActivityStatisticsService.recordScheduleAdded(CREW_ID, ACTIVITY_ID, LocalDate.now());
+
+        assertThat(statisticRepository.findAll())
+                .singleElement()
+                .extracting(CrewActivityStatistic::getCompletedCount)
+                .isEqualTo(1L);
+    }
+
+    @Test
+    void concurrentReconcilesRunOnceAndRestoreCountsFromSchedules() throws InterruptedException {
+        User user = userRepository.save(User.createUser("leader@test.com", null, "리더"));
+        ActivityCategory category = categoryRepository.save(ActivityCategory.createCategory("구기스포츠", null));
+        Activity soccer = activityRepository.save(Activity.createActivity(
+                category, "축구", "SPORTS", null, 2, Activity.LocationType.OUTDOOR));
+        Crew crew = crewRepository.save(Crew.createCrew("통계 크루", null, null, user, 5));
+        LocalDate today = LocalDate.now();
+        for (int day = 1; day <= 3; day++) {
+            scheduleRepository.save(Schedule.createCrewSchedule(user, soccer, crew, today.minusDays(day), LocalTime.NOON));
+        }
+        // 아직 완료되지 않은 일정은 집계하지 않음
+        scheduleRepository.save(Schedule.createCrewSchedule(user, soccer, crew, today, LocalTime.NOON));
+
+        // 어긋난 카운터와 원본이 사라진 활동의 행
+        statisticRepository.save(CrewActivityStatistic.createStatistic(crew.getCrewId(), soccer.getActivityId(), 10));
+        statisticRepository.save(CrewActivityStatistic.createStatistic(crew.getCrewId(), soccer.getActivityId() + 1000, 2));
+
+        // 두 노드의 예약 작업이 같은 시각에 실행
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < 2; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    crewActivityStatisticsService.scheduledReconcile();
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(failures).isEmpty();
+        assertThat(statisticRepository.findAll())
+                .singleElement()
+                .satisfies(statistic -> {
+                    assertThat(statistic.getActivityId()).isEqualTo(soccer.getActivityId());
+                    assertThat(statistic.getCompletedCount()).isEqualTo(3L);
+                });
+
+        // 예약 실행 후 최소 잠금 시간 동안은 다른 노드의 실행을 건너뜀
+        statisticRepository.deleteAllInBatch();
+        crewActivityStatisticsService.scheduledReconcile();
+        assertThat(crewActivityStatisticsService.reconcile()).isFalse();
+        assertThat(statisticRepository.count()).isZero();
+
+        // 잠금이 만료되면 다시 실행
+        schedulerLockRepository.deleteAllInBatch();
+        assertThat(crewActivityStatisticsService.reconcile()).isTrue();
+        assertThat(statisticRepository.findAll())
+                .singleElement()
+                .extracting(CrewActivityStatistic::getCompletedCount)
+                .isEqualTo(3L);
+    }
+}
@@ -0,0 +1,78 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.crew.CrewScheduleResponse;
+import com.activityforecastbackend.event.CrewCalendarChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 중 무효화가 같은 크루의 결과만 캐싱하지 않고, 다른 크루의 캐시 채우기는 막지 않는지 검증
+ */
+class CrewCalendarCacheServiceTest {
+
+    private static final long CREW_A = 1L;
+    private static final long CREW_B = 2L;
+
+    private final CrewCalendarCacheService cacheService = new CrewCalendarCacheService(100, 1);
+
+    @Test
+    void writeToSameCrewDuringLoadSkipsCaching() {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<List<CrewScheduleResponse>> loader = () -> {
+            loads.incrementAndGet();
+            if (loads.get() == 1) {
+                // 조회 도중 같은 크루의 일정 변경이 커밋됨
+                cacheService.onCalendarChanged(CrewCalendarChangedEvent.ofDates(CREW_A, LocalDate.of(2026, 3, 10)));
+            }
+            return List.of();
+        };
+
+        cacheService.get(CREW_A, 2026, 3, loader);
+        cacheService.get(CREW_A, 2026, 3, loader);
+        cacheService.get(CREW_A, 2026, 3, loader);
+
+        // 첫 결과는 무효화와 겹쳐 버려지고, 두 번째 결과부터 캐싱
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void writeToOtherCrewDuringLoadDoesNotBlockCaching() {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<List<CrewScheduleResponse>> loader = () -> {
+            loads.incrementAndGet();
+            cacheService.onCalendarChanged(CrewCalendarChangedEvent.ofCrew(CREW_B));
+            return List.of();
+        };
+
+        cacheService.get(CREW_A, 2026, 3, loader);
+        cacheService.get(CREW_A, 2026, 3, loader);
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void dateChangeInvalidatesEveryMonthThatDisplaysTheDate() {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<List<CrewScheduleResponse>> loader = () -> {
+            loads.incrementAndGet();
+            return List.of();
+        };
+        // 2026-04-02는 3월 달력(4월 첫 주까지 표시)과 4월 달력에 보이고, 5월 달력(4월 26일부터 표시)에는 보이지 않음
+        cacheService.get(CREW_A, 2026, 3, loader);
+        cacheService.get(CREW_A, 2026, 4, loader);
+        cacheService.get(CREW_A, 2026, 5, loader);
+
+        cacheService.onCalendarChanged(CrewCalendarChangedEvent.ofDates(CREW_A, LocalDate.of(2026, 4, 2)));
+        cacheService.get(CREW_A, 2026, 3, loader);
+        cacheService.get(CREW_A, 2026, 4, loader);
+        cacheService.get(CREW_A, 2026, 5, loader);
+
+        assertThat(loads.get()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,123 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.entity.Crew;
+import com.activityforecastbackend.entity.CrewMember;
+import com.activityforecastbackend.entity.Notification;
+import com.activityforecastbackend.entity.User;
+import com.activityforecastbackend.event.NotificationRequestedEvent;
+import com.activityforecastbackend.repository.CrewMemberRepository;
+import com.activityforecastbackend.repository.CrewRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 크루 해체가 멤버 수와 무관하게 고정된 문장 수로 끝나는지 검증
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@Import(CrewService.class)
+@RecordApplicationEvents
+class CrewDisbandQueryCountTest {
+
+    // 크루 최대 인원 (CrewService.GLOBAL_MAX_CAPACITY)
+    private static final int MAX_CAPACITY = 50;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CrewService crewService;
+
+    @Autowired
+    private CrewRepository crewRepository;
+
+    @Autowired
+    private CrewMemberRepository crewMemberRepository;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @MockitoBean
+    private TextSearchIndexService textSearchIndexService;
+
+    @MockitoBean
+    private CrewActivityStatisticsService crewActivityStatisticsService;
+
+    @MockitoBean
+    private CrewCalendarCacheService crewCalendarCacheService;
+
+    @MockitoBean
+    private CrewLookupCacheService crewLookupCacheService;
+
+    @Test
+    void disbandUsesConstantStatementCount() {
+        Crew small = createCrew("작은 크루", 2);
+        Crew full = createCrew("꽉 찬 크루", MAX_CAPACITY);
+        entityManager.flush();
+        entityManager.clear();
+
+        long smallCrewStatements = disband(small);
+        long fullCrewStatements = disband(full);
+
+        // 권한 확인 3 + 알림 수신자 조회 1 + 크루 UPDATE 1 + 멤버십 UPDATE 1 (알림 저장은 커밋 후 비동기)
+        assertThat(fullCrewStatements).isLessThanOrEqualTo(6);
+        assertThat(fullCrewStatements).isEqualTo(smallCrewStatements);
+
+        assertThat(crewRepository.findById(full.getCrewId())).hasValueSatisfying(crew -> {
+            assertThat(crew.getIsDeleted()).isTrue();
+            assertThat(crew.getActiveMemberCount()).isZero();
+        });
+        assertThat(crewMemberRepository.findByCrewAndIsActiveTrue(full)).isEmpty();
+
+        // 해체 전 활성 멤버 전원이 알림 수신자로 확정되어야 함
+        List<NotificationRequestedEvent> requests = applicationEvents.stream(NotificationRequestedEvent.class)
+                .filter(request -> full.getCrewId().equals(request.getRelatedId()))
+                .toList();
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).getNotificationType()).isEqualTo(Notification.NotificationType.CREW_DISBANDED);
+        assertThat(requests.get(0).getRecipientUserIds()).hasSize(MAX_CAPACITY);
+    }
+
+    private Crew createCrew(String name, int memberCount) {
+        User leader = entityManager.persist(User.createUser(name + "-leader@test.com", null, name + " 리더"));
+        Crew crew = Crew.createCrew(name, null, null, leader, MAX_CAPACITY);
+        crew.setActiveMemberCount(memberCount);
+        entityManager.persist(crew);
+        entityManager.persist(CrewMember.createLeader(crew, leader));
+        for (int i = 1; i < memberCount; i++) {
+            User member = entityManager.persist(User.createUser(name + "-member" + i + "@test.com", null, name + " 멤버" + i));
+            entityManager.persist(CrewMember.createMember(crew, member, CrewMember.CrewRole.MEMBER));
+        }
+        return crew;
+    }
+
+    private long disband(Crew crew) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        crewService.disbandCrew(crew.getCrewId(), crew.getCreatedBy().getUserId());
+        long statements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        return statements;
+    }
+}
@@ -0,0 +1,162 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.entity.Crew;
+import com.activityforecastbackend.entity.CrewMember;
+import com.activityforecastbackend.entity.User;
+import com.activityforecastbackend.repository.CrewMemberRepository;
+import com.activityforecastbackend.repository.CrewRepository;
+import com.activityforecastbackend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 초대 코드 동시 가입 폭주 시 정원을 넘겨 가입되지 않는지 검증
+ * 각 가입이 실제로 커밋되어야 하므로 테스트 트랜잭션을 사용하지 않습니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.datasource.url=jdbc:h2:mem:crew-join;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=60000",
+        "spring.datasource.hikari.maximum-pool-size=20"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({CrewService.class, CrewLookupCacheService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CrewJoinConcurrencyTest {
+
+    private static final int MAX_CAPACITY = 50;
+    private static final int CONCURRENT_JOINS = 200;
+
+    @Autowired
+    private CrewService crewService;
+
+    @Autowired
+    private CrewRepository crewRepository;
+
+    @Autowired
+    private CrewMemberRepository crewMemberRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private TextSearchIndexService textSearchIndexService;
+
+    @MockitoBean
+    private CrewActivityStatisticsService crewActivityStatisticsService;
+
+    @MockitoBean
+    private CrewCalendarCacheService crewCalendarCacheService;
+
+    private Crew crew;
+    private final List<Long> joinerIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User leader = userRepository.save(User.createUser("leader@test.com", null, "리더"));
+        Crew newCrew = Crew.createCrew("가입 폭주 크루", null, null, leader, MAX_CAPACITY);
+        newCrew.setActiveMemberCount(1);
+        crew = crewRepository.save(newCrew);
+        crewMemberRepository.save(CrewMember.createLeader(crew, leader));
+
+        for (int i = 0; i < CONCURRENT_JOINS; i++) {
+            joinerIds.add(userRepository.save(User.createUser("joiner" + i + "@test.com", null, "가입자" + i)).getUserId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        crewMemberRepository.deleteAllInBatch();
+        crewRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentJoinsNeverExceedCapacity() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch ready = new CountDownLatch(CONCURRENT_JOINS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(CONCURRENT_JOINS);
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger rejectedAsFull = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        for (Long userId : joinerIds) {
+            executor.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    crewService.joinCrewByInviteCode(crew.getInviteCode(), userId);
+                    admitted.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    rejectedAsFull.incrementAndGet();
+                } catch (Throwable e) {
+                    unexpected.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        assertThat(done.await(120, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(unexpected).isEmpty();
+        // 리더 1명을 제외한 남은 좌석만큼만 가입
+        assertThat(admitted.get()).isEqualTo(MAX_CAPACITY - 1);
+        assertThat(rejectedAsFull.get()).isEqualTo(CONCURRENT_JOINS - (MAX_CAPACITY - 1));
+
+        Crew reloaded = crewRepository.findById(crew.getCrewId()).orElseThrow();
+        assertThat(reloaded.getActiveMemberCount()).isEqualTo(MAX_CAPACITY);
+        assertThat(crewMemberRepository.countActiveMembers(reloaded)).isEqualTo(MAX_CAPACITY);
+    }
+
+    @Test
+    void duplicateJoinIsRejectedWithoutTakingASeat() {
+        Long userId = joinerIds.get(0);
+        crewService.joinCrewByInviteCode(crew.getInviteCode(), userId);
+
+        assertThatThrownBy(() -> crewService.joinCrewByInviteCode(crew.getInviteCode(), userId))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(crewRepository.findById(crew.getCrewId()).orElseThrow().getActiveMemberCount()).isEqualTo(2);
+    }
+
+    @Test
+    void rejoinSucceedsAfterLeavingOnAnotherInstance() {
+        Long userId = joinerIds.get(0);
+        crewService.joinCrewByInviteCode(crew.getInviteCode(), userId);
+
+        // 다른 인스턴스에서의 탈퇴처럼 이 인스턴스의 캐시 이벤트 없이 DB만 변경
+        User user = userRepository.findById(userId).orElseThrow();
+        CrewMember membership = crewMemberRepository.findByCrewAndUser(crew, user).orElseThrow();
+        membership.leaveCrew();
+        crewMemberRepository.save(membership);
+
+        crewService.joinCrewByInviteCode(crew.getInviteCode(), userId);
+
+        assertThat(crewMemberRepository.findByCrewAndUserAndIsActiveTrue(crew, user)).isPresent();
+    }
+}
@@ -0,0 +1,149 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.crew.CrewResponse;
+import com.activityforecastbackend.entity.Crew;
+import com.activityforecastbackend.entity.CrewMember;
+import com.activityforecastbackend.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 크루 목록/상세 조회가 크루 수·멤버 수와 무관하게 고정된 쿼리 수로 끝나는지 검증
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@Import(CrewService.class)
+class CrewServiceQueryCountTest {
+
+    // 크루 최대 인원 (CrewService.GLOBAL_MAX_CAPACITY)
+    private static final int MAX_CAPACITY = 50;
+    private static final int CREW_COUNT = 10;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CrewService crewService;
+
+    @MockitoBean
+    private TextSearchIndexService textSearchIndexService;
+
+    @MockitoBean
+    private CrewActivityStatisticsService crewActivityStatisticsService;
+
+    @MockitoBean
+    private CrewCalendarCacheService crewCalendarCacheService;
+
+    @MockitoBean
+    private CrewLookupCacheService crewLookupCacheService;
+
+    private User viewer;
+    private User soloUser;
+    private final List<Crew> crews = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        viewer = entityManager.persist(User.createUser("viewer@test.com", null, "조회자"));
+        soloUser = entityManager.persist(User.createUser("solo@test.com", null, "혼자"));
+
+        List<User> fillers = new ArrayList<>();
+        for (int i = 0; i < MAX_CAPACITY - 2; i++) {
+            fillers.add(entityManager.persist(User.createUser("member" + i + "@test.com", null, "멤버" + i)));
+        }
+
+        for (int c = 0; c < CREW_COUNT; c++) {
+            User leader = entityManager.persist(User.createUser("leader" + c + "@test.com", null, "리더" + c));
+            Crew crew = entityManager.persist(Crew.createCrew("크루" + c, null, null, leader, MAX_CAPACITY));
+            entityManager.persist(CrewMember.createLeader(crew, leader));
+            entityManager.persist(CrewMember.createMember(crew, viewer, CrewMember.CrewRole.MEMBER));
+            for (User filler : fillers) {
+                entityManager.persist(CrewMember.createMember(crew, filler, CrewMember.CrewRole.MEMBER));
+            }
+            crews.add(crew);
+        }
+
+        // 탈퇴한 멤버십과 해체된 크루는 결과에 포함되지 않아야 함
+        User former = entityManager.persist(User.createUser("former@test.com", null, "탈퇴자"));
+        CrewMember left = CrewMember.createMember(crews.get(0), former, CrewMember.CrewRole.MEMBER);
+        left.leaveCrew();
+        entityManager.persist(left);
+
+        Crew disbanded = Crew.createCrew("해체된 크루", null, null, soloUser, MAX_CAPACITY);
+        disbanded.softDelete();
+        entityManager.persist(disbanded);
+        entityManager.persist(CrewMember.createMember(disbanded, viewer, CrewMember.CrewRole.MEMBER));
+
+        Crew soloCrew = entityManager.persist(Crew.createCrew("혼자 크루", null, null, soloUser, MAX_CAPACITY));
+        entityManager.persist(CrewMember.createLeader(soloCrew, soloUser));
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void crewListUsesConstantQueryCount() {
+        Statistics statistics = statistics();
+
+        statistics.clear();
+        List<CrewResponse> single = crewService.getCrewsByUserId(soloUser.getUserId());
+        long singleCrewQueries = statistics.getPrepareStatementCount();
+        entityManager.clear();
+
+        statistics.clear();
+        List<CrewResponse> many = crewService.getCrewsByUserId(viewer.getUserId());
+        long manyCrewQueries = statistics.getPrepareStatementCount();
+
+        assertThat(single).hasSize(1);
+        assertThat(many).hasSize(CREW_COUNT);
+        assertThat(many).allSatisfy(crew -> {
+            assertThat(crew.getActiveMemberCount()).isEqualTo(MAX_CAPACITY);
+            assertThat(crew.getCreatedBy().getName()).startsWith("리더");
+            assertThat(crew.getMembers()).allSatisfy(member -> assertThat(member.getUser().getName()).isNotNull());
+        });
+
+        // 사용자 1 + 크루 1 + 멤버 1
+        assertThat(manyCrewQueries).isLessThanOrEqualTo(3);
+        assertThat(manyCrewQueries).isEqualTo(singleCrewQueries);
+    }
+
+    @Test
+    void crewDetailsUsesConstantQueryCount() {
+        Statistics statistics = statistics();
+
+        statistics.clear();
+        CrewResponse details = crewService.getCrewDetails(crews.get(0).getCrewId());
+
+        assertThat(details.getActiveMemberCount()).isEqualTo(MAX_CAPACITY);
+        assertThat(details.getCreatedBy().getName()).isEqualTo("리더0");
+        assertThat(details.getMembers()).filteredOn(member -> member.isLeader()).hasSize(1);
+
+        // 크루 + 생성자 1, 멤버 + 사용자 1
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        return statistics;
+    }
+}
@@ -0,0 +1,198 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.notification.NotificationMessage;
+import com.activityforecastbackend.entity.NotificationBusMessage;
+import com.activityforecastbackend.repository.NotificationBusMessageRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DB 폴링 메시지 버스가 배치를 한 행으로 발행하고, 발행 순서대로 구독자에게 전달하는지 검증
+ * ID 공백 대기/재조회 테스트는 커밋이 늦은 행을 지웠다가 같은 ID로 다시 넣어 흉내냅니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "notification.bus.type=db",
+        "notification.bus.gap-timeout-ms=0"
+})
+@ActiveProfiles("test")
+@Import(DbPollingNotificationBus.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class DbPollingNotificationBusTest {
+
+    @Autowired
+    private DbPollingNotificationBus notificationBus;
+
+    @Autowired
+    private NotificationBusMessageRepository messageRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<List<NotificationMessage>> received = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        notificationBus.subscribe(received::add);
+        notificationBus.start();
+    }
+
+    @Test
+    void publishesEachBatchAsOneRowAndDeliversInOrder() {
+        List<NotificationMessage> first = List.of(
+                new NotificationMessage(1L, 10L, "{\"id\":10}"),
+                new NotificationMessage(2L, 11L, "{\"id\":11}"));
+        List<NotificationMessage> second = List.of(new NotificationMessage(3L, 12L, "{\"id\":12}"));
+
+        notificationBus.publish(first);
+        notificationBus.publish(second);
+        assertThat(messageRepository.count()).isEqualTo(2);
+
+        notificationBus.poll();
+        assertThat(received).containsExactly(first, second);
+
+        // 이미 처리한 메시지는 다시 전달하지 않음
+        notificationBus.poll();
+        assertThat(received).hasSize(2);
+        assertThat(notificationBus.getStats().getReceivedMessageCount()).isEqualTo(3);
+    }
+
+    @Test
+    void skipsIdGapLeftByRolledBackInsert() {
+        List<NotificationMessage> first = List.of(new NotificationMessage(1L, 20L, "{\"id\":20}"));
+        List<NotificationMessage> rolledBack = List.of(new NotificationMessage(2L, 21L, "{\"id\":21}"));
+        List<NotificationMessage> third = List.of(new NotificationMessage(3L, 22L, "{\"id\":22}"));
+
+        notificationBus.publish(first);
+        notificationBus.poll();
+        notificationBus.publish(rolledBack);
+        notificationBus.publish(third);
+        messageRepository.deleteById(messageRepository.findMaxMessageId() - 1);
+
+        notificationBus.poll();
+        assertThat(received).containsExactly(first, third);
+        assertThat(notificationBus.getStats().getSkippedGapCount()).isEqualTo(1);
+    }
+
+    @Test
+    void holdsBackRowsBehindGapUntilGapRowCommits() {
+        DbPollingNotificationBus bus = startedBus(60_000, 60_000);
+        List<NotificationMessage> first = List.of(new NotificationMessage(1L, 30L, "{\"id\":30}"));
+        List<NotificationMessage> slow = List.of(new NotificationMessage(2L, 31L, "{\"id\":31}"));
+        List<NotificationMessage> third = List.of(new NotificationMessage(3L, 32L, "{\"id\":32}"));
+
+        bus.publish(first);
+        bus.poll();
+        bus.publish(slow);
+        bus.publish(third);
+        NotificationBusMessage slowRow = uncommit(messageRepository.findMaxMessageId() - 1);
+
+        // 앞선 ID가 커밋되기 전에는 뒤의 행도 전달하지 않음
+        bus.poll();
+        bus.poll();
+        assertThat(received).containsExactly(first);
+
+        commit(slowRow);
+        bus.poll();
+        assertThat(received).containsExactly(first, slow, third);
+        assertThat(bus.getStats().getSkippedGapCount()).isZero();
+        assertThat(bus.getStats().getLateDeliveredCount()).isZero();
+    }
+
+    @Test
+    void deliversGapRowThatCommitsAfterGapTimeout() throws InterruptedException {
+        DbPollingNotificationBus bus = startedBus(50, 60_000);
+        List<NotificationMessage> first = List.of(new NotificationMessage(1L, 40L, "{\"id\":40}"));
+        List<NotificationMessage> late = List.of(new NotificationMessage(2L, 41L, "{\"id\":41}"));
+        List<NotificationMessage> third = List.of(new NotificationMessage(3L, 42L, "{\"id\":42}"));
+
+        bus.publish(first);
+        bus.poll();
+        bus.publish(late);
+        bus.publish(third);
+        NotificationBusMessage lateRow = uncommit(messageRepository.findMaxMessageId() - 1);
+
+        bus.poll();
+        assertThat(received).containsExactly(first);
+        Thread.sleep(100);
+        bus.poll();
+        assertThat(received).containsExactly(first, third);
+        assertThat(bus.getStats().getSkippedGapCount()).isEqualTo(1);
+
+        // 대기 시간이 지난 뒤 커밋된 행도 다시 조회하여 한 번만 전달
+        commit(lateRow);
+        bus.poll();
+        bus.poll();
+        assertThat(received).containsExactly(first, third, late);
+        assertThat(bus.getStats().getLateDeliveredCount()).isEqualTo(1);
+        assertThat(bus.getStats().getExpiredGapIdCount()).isZero();
+    }
+
+    @Test
+    void stopsRecheckingGapIdsAfterRecheckWindow() throws InterruptedException {
+        DbPollingNotificationBus bus = startedBus(0, 50);
+        List<NotificationMessage> first = List.of(new NotificationMessage(1L, 50L, "{\"id\":50}"));
+        List<NotificationMessage> rolledBack = List.of(new NotificationMessage(2L, 51L, "{\"id\":51}"));
+        List<NotificationMessage> third = List.of(new NotificationMessage(3L, 52L, "{\"id\":52}"));
+
+        bus.publish(first);
+        bus.poll();
+        bus.publish(rolledBack);
+        bus.publish(third);
+        NotificationBusMessage rolledBackRow = uncommit(messageRepository.findMaxMessageId() - 1);
+        bus.poll();
+
+        Thread.sleep(100);
+        bus.poll();
+        assertThat(bus.getStats().getExpiredGapIdCount()).isEqualTo(1);
+        commit(rolledBackRow);
+        bus.poll();
+        assertThat(received).containsExactly(first, third);
+        assertThat(bus.getStats().getLateDeliveredCount()).isZero();
+    }
+
+    /**
+     * gap-timeout과 재조회 기간을 지정한 버스 (구독자는 received에 기록)
+     */
+    private DbPollingNotificationBus startedBus(long gapTimeoutMs, long gapRecheckMs) {
+        DbPollingNotificationBus bus = new DbPollingNotificationBus(
+                messageRepository, objectMapper, 100, gapTimeoutMs, gapRecheckMs, 10);
+        bus.subscribe(received::add);
+        bus.start();
+        return bus;
+    }
+
+    /**
+     * 아직 커밋되지 않은 것처럼 행을 숨김
+     */
+    private NotificationBusMessage uncommit(Long messageId) {
+        NotificationBusMessage row = messageRepository.findById(messageId).orElseThrow();
+        messageRepository.delete(row);
+        messageRepository.flush();
+        return row;
+    }
+
+    /**
+     * 숨긴 행을 원래 ID로 다시 넣어 늦게 커밋된 것처럼 만듦
+     */
+    private void commit(NotificationBusMessage row) {
+        jdbcTemplate.update("INSERT INTO notification_bus_messages (message_id, payload, message_count, created_at) " +
+                "VALUES (?, ?, ?, CURRENT_TIMESTAMP)", row.getMessageId(), row.getPayload(), row.getMessageCount());
+    }
+}
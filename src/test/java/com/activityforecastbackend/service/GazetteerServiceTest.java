@@ -0,0 +1,90 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.activity.GazetteerPlaceDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지명 사전의 정확 일치 조회(역/랜드마크 의도 구분, 같은 키로 정규화되는 지명 보존)와 접두사 자동완성을 검증
+ */
+class GazetteerServiceTest {
+
+    private static final String DATASET = """
+            # version=v1
+            # names,type,latitude,longitude,address
+            강남역,STATION,37.497942,127.027621,서울 강남구 역삼동 858
+            강남구청역,STATION,37.517186,127.041280,서울 강남구 삼성동 1
+            시청역,STATION,37.565715,126.977088,서울 중구 태평로1가 31
+            시청|서울시청,LANDMARK,37.566295,126.977945,서울 중구 태평로1가 31
+            양평역,STATION,37.525648,126.885778,서울 영등포구 양평동
+            양평역,STATION,37.492770,127.491870,경기 양평군 양평읍
+            남산서울타워|N서울타워|남산타워,LANDMARK,37.551169,126.988227,서울 용산구 용산동2가 산1-3
+            형식오류,STATION
+            """;
+
+    private GazetteerService gazetteerService;
+
+    @BeforeEach
+    void setUp() {
+        gazetteerService = new GazetteerService(new ByteArrayResource(DATASET.getBytes(StandardCharsets.UTF_8)), true);
+        gazetteerService.load();
+    }
+
+    @Test
+    void exactLookupNormalizesStationNamesAndAliases() {
+        assertThat(gazetteerService.lookup("강남역")).map(GazetteerPlaceDto::getName).hasValue("강남역");
+        assertThat(gazetteerService.lookup(" 지하철 강남 역 ")).map(GazetteerPlaceDto::getName).hasValue("강남역");
+        assertThat(gazetteerService.lookup("강남 전철역")).map(GazetteerPlaceDto::getName).hasValue("강남역");
+        assertThat(gazetteerService.lookup("n서울타워")).map(GazetteerPlaceDto::getName).hasValue("남산서울타워");
+        // 역 의도가 없는 질의는 역 항목에 응답하지 않음
+        assertThat(gazetteerService.lookup("강남")).isEmpty();
+        assertThat(gazetteerService.lookup("남산서울타워역")).isEmpty();
+        assertThat(gazetteerService.lookup("잠실역")).isEmpty();
+    }
+
+    @Test
+    void collidingKeysKeepBothStationAndLandmark() {
+        // "시청역"과 "시청"은 같은 키로 정규화되지만 둘 다 보관되어 질의 의도에 맞는 항목으로 응답
+        assertThat(gazetteerService.lookup("시청역")).map(GazetteerPlaceDto::getType).hasValue("STATION");
+        assertThat(gazetteerService.lookup("시청")).map(GazetteerPlaceDto::getType).hasValue("LANDMARK");
+        assertThat(gazetteerService.suggest("시청", 10)).hasSize(2);
+    }
+
+    @Test
+    void sameNamedStationsAreKeptButLeftToKakaoOnExactLookup() {
+        assertThat(gazetteerService.lookup("양평역")).isEmpty();
+        assertThat(gazetteerService.suggest("양평", 10))
+                .extracting(GazetteerPlaceDto::getAddress)
+                .containsExactlyInAnyOrder("서울 영등포구 양평동", "경기 양평군 양평읍");
+    }
+
+    @Test
+    void suggestReturnsShortestNamesFirstWithinLimit() {
+        assertThat(gazetteerService.suggest("강남", 10))
+                .extracting(GazetteerPlaceDto::getName)
+                .containsExactly("강남역", "강남구청역");
+        assertThat(gazetteerService.suggest("강남구", 10))
+                .extracting(GazetteerPlaceDto::getName)
+                .containsExactly("강남구청역");
+        assertThat(gazetteerService.suggest("강", 1)).hasSize(1);
+        assertThat(gazetteerService.suggest(" ", 10)).isEmpty();
+    }
+
+    @Test
+    void statusCountsPlacesKeysAndLookups() {
+        gazetteerService.lookup("강남역");
+        gazetteerService.lookup("잠실역");
+
+        // 형식 오류 행은 건너뜀, 별칭은 키로만 추가
+        assertThat(gazetteerService.getStatus().getVersion()).isEqualTo("v1");
+        assertThat(gazetteerService.getStatus().getPlaceCount()).isEqualTo(7);
+        assertThat(gazetteerService.getStatus().getKeyCount()).isEqualTo(8);
+        assertThat(gazetteerService.getStatus().getLookupStats().getHitCount()).isEqualTo(1);
+        assertThat(gazetteerService.getStatus().getLookupStats().getMissCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,180 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.activity.CoordinateDto;
+import com.activityforecastbackend.dto.admin.CacheStatsResponse;
+import com.activityforecastbackend.entity.GeocodeCacheEntry;
+import com.activityforecastbackend.repository.GeocodeCacheRepository;
+import com.activityforecastbackend.util.DistanceCalculator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 지오코딩 2단계 캐시의 TTL(긍정/부정), DB 캐시의 메모리 승격, 메모리 LRU 제거 후 DB 재조회와
+ * 역지오코딩 캐시의 좌표 양자화 경계 및 적중을 검증
+ * 인스턴스마다 메모리 캐시가 따로 있으므로, 새 인스턴스는 다른 노드(또는 재시작된 노드)를 흉내냅니다.
+ */
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+class GeocodeCacheServiceTest {
+
+    private static final String ADDRESS = "서울 중구 세종대로 110";
+    private static final double PRECISION_METERS = 50;
+    private static final double METERS_PER_DEGREE = 111_320.0;
+
+    @Autowired
+    private GeocodeCacheRepository geocodeCacheRepository;
+
+    @Test
+    void negativeResultExpiresAfterNegativeTtlWhilePositiveResultStays() {
+        GeocodeCacheService cacheService = cacheService(100, 60);
+        LocalDateTime before = LocalDateTime.now();
+        cacheService.putNegative("없는 주소");
+        cacheService.putPositive(ADDRESS, coordinate());
+
+        assertThat(cacheService.lookup("없는 주소").isNegative()).isTrue();
+        GeocodeCacheEntry negative = geocodeCacheRepository.findByNormalizedAddress("없는 주소").orElseThrow();
+        GeocodeCacheEntry positive = geocodeCacheRepository.findByNormalizedAddress(GeocodeCacheService.normalize(ADDRESS)).orElseThrow();
+        assertThat(negative.getExpiresAt()).isBetween(before.plusMinutes(60), before.plusMinutes(61));
+        assertThat(positive.getExpiresAt()).isAfter(before.plusDays(29));
+
+        // 부정 TTL이 0이면 메모리/DB 모두 즉시 만료되어 다시 카카오를 조회하게 됨
+        GeocodeCacheService expiring = cacheService(100, 0);
+        expiring.putNegative("없는 주소");
+        assertThat(expiring.lookup("없는 주소")).isNull();
+        assertThat(expiring.lookup(ADDRESS).getCoordinate().getAddress()).isEqualTo("서울 중구 태평로1가 31");
+    }
+
+    @Test
+    void dbEntryIsPromotedToMemoryOnFirstLookup() {
+        cacheService(100, 60).putPositive(ADDRESS, coordinate());
+        GeocodeCacheService otherNode = cacheService(100, 60);
+
+        // 주소 표기가 달라도 정규화 후 같은 키
+        CoordinateDto fromDb = otherNode.lookup("  서울 중구   세종대로 110 ").getCoordinate();
+        CoordinateDto fromMemory = otherNode.lookup(ADDRESS).getCoordinate();
+
+        assertThat(fromDb.getLatitude()).isEqualByComparingTo("37.56667");
+        assertThat(fromMemory).isEqualTo(fromDb);
+        assertThat(stats(otherNode, "geocode.db").getHitCount()).isEqualTo(1);
+        assertThat(stats(otherNode, "geocode.memory").getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void expiredDbEntryIsIgnored() {
+        GeocodeCacheEntry entry = GeocodeCacheEntry.createEntry(GeocodeCacheService.normalize(ADDRESS));
+        entry.updateResult(new BigDecimal("37.56667"), new BigDecimal("126.97806"), null, null,
+                LocalDateTime.now().minusMinutes(1));
+        geocodeCacheRepository.save(entry);
+        GeocodeCacheService cacheService = cacheService(100, 60);
+
+        assertThat(cacheService.lookup(ADDRESS)).isNull();
+        assertThat(stats(cacheService, "geocode.db").getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void entryEvictedFromMemoryIsReloadedFromDb() {
+        GeocodeCacheService cacheService = cacheService(1, 60);
+        cacheService.putPositive(ADDRESS, coordinate());
+        cacheService.putNegative("없는 주소");
+
+        assertThat(stats(cacheService, "geocode.memory").getEvictionCount()).isEqualTo(1);
+        assertThat(cacheService.lookup(ADDRESS).getCoordinate().getAddress()).isEqualTo("서울 중구 태평로1가 31");
+        assertThat(stats(cacheService, "geocode.db").getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void reverseKeyChangesOnlyAcrossHalfCellBoundaries() {
+        GeocodeCacheService cacheService = cacheService(100, 60);
+        double latStep = PRECISION_METERS / METERS_PER_DEGREE;
+        double latCenter = Math.round(37.5 / latStep) * latStep;
+        double lonStep = PRECISION_METERS / (METERS_PER_DEGREE * Math.cos(Math.toRadians(latCenter)));
+        double lonCenter = Math.round(127.0 / lonStep) * lonStep;
+        String key = quantize(cacheService, latCenter, lonCenter);
+
+        // 셀 중심에서 반 칸 미만은 같은 셀, 반 칸을 넘으면 이웃 셀
+        for (double offset : new double[]{-0.49, 0.49}) {
+            assertThat(quantize(cacheService, latCenter + offset * latStep, lonCenter)).isEqualTo(key);
+            assertThat(quantize(cacheService, latCenter, lonCenter + offset * lonStep)).isEqualTo(key);
+        }
+        for (double offset : new double[]{-0.51, 0.51}) {
+            assertThat(quantize(cacheService, latCenter + offset * latStep, lonCenter)).isNotEqualTo(key);
+            assertThat(quantize(cacheService, latCenter, lonCenter + offset * lonStep)).isNotEqualTo(key);
+        }
+    }
+
+    @Test
+    void reverseCellWidthStaysNearPrecisionAtHighLatitude() {
+        GeocodeCacheService cacheService = cacheService(100, 60);
+        for (double latitude : new double[]{33.2, 37.5, 60.0}) {
+            double latStep = PRECISION_METERS / METERS_PER_DEGREE;
+            double latCenter = Math.round(latitude / latStep) * latStep;
+            double lonStep = PRECISION_METERS / (METERS_PER_DEGREE * Math.cos(Math.toRadians(latCenter)));
+            double lonCenter = Math.round(127.0 / lonStep) * lonStep;
+
+            // 경도 간격을 위도로 보정하므로 동서 방향 셀 폭도 정밀도와 비슷함
+            double westEdge = lonCenter - 0.49 * lonStep;
+            double eastEdge = lonCenter + 0.49 * lonStep;
+            assertThat(quantize(cacheService, latCenter, westEdge)).isEqualTo(quantize(cacheService, latCenter, eastEdge));
+            assertThat(DistanceCalculator.distanceMeters(latCenter, westEdge, latCenter, eastEdge))
+                    .isCloseTo(0.98 * PRECISION_METERS, within(1.0));
+        }
+        // 극점 근처에서도 경도 간격이 발산하지 않음
+        assertThat(quantize(cacheService, 90.0, 180.0)).isEqualTo(quantize(cacheService, 90.0, 179.9999));
+    }
+
+    @Test
+    void reverseLookupHitsWithinCellAndKeepsRequestedCoordinate() {
+        GeocodeCacheService cacheService = cacheService(100, 60);
+        double latStep = PRECISION_METERS / METERS_PER_DEGREE;
+        double latCenter = Math.round(37.5 / latStep) * latStep;
+        cacheService.putReverse(bd(latCenter), bd(127.0), coordinate());
+
+        BigDecimal nearbyLat = bd(latCenter + 0.3 * latStep);
+        CoordinateDto hit = cacheService.lookupReverse(nearbyLat, bd(127.0));
+
+        assertThat(hit.getAddress()).isEqualTo("서울 중구 태평로1가 31");
+        assertThat(hit.getLatitude()).isEqualTo(nearbyLat);
+        assertThat(hit.getLongitude()).isEqualTo(bd(127.0));
+        assertThat(cacheService.lookupReverse(bd(latCenter + 0.6 * latStep), bd(127.0))).isNull();
+        assertThat(stats(cacheService, "reverse-geocode.memory").getHitCount()).isEqualTo(1);
+        assertThat(stats(cacheService, "reverse-geocode.memory").getMissCount()).isEqualTo(1);
+    }
+
+    private GeocodeCacheService cacheService(int maxSize, long negativeTtlMinutes) {
+        return new GeocodeCacheService(geocodeCacheRepository, maxSize, 720, negativeTtlMinutes, 100, 720, 50);
+    }
+
+    private static CoordinateDto coordinate() {
+        return CoordinateDto.builder()
+                .latitude(new BigDecimal("37.56667"))
+                .longitude(new BigDecimal("126.97806"))
+                .address("서울 중구 태평로1가 31")
+                .roadAddress(ADDRESS)
+                .build();
+    }
+
+    private static String quantize(GeocodeCacheService cacheService, double latitude, double longitude) {
+        return cacheService.quantize(bd(latitude), bd(longitude));
+    }
+
+    private static BigDecimal bd(double value) {
+        return BigDecimal.valueOf(value);
+    }
+
+    private static CacheStatsResponse stats(GeocodeCacheService cacheService, String cacheName) {
+        List<CacheStatsResponse> stats = cacheService.getStats();
+        return stats.stream()
+                .filter(s -> s.getCacheName().equals(cacheName))
+                .findFirst()
+                .orElseThrow();
+    }
+}
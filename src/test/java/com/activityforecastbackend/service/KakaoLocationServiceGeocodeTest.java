@@ -0,0 +1,240 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.activity.CoordinateDto;
+import com.activityforecastbackend.dto.activity.KakaoAddressResponse;
+import com.activityforecastbackend.dto.activity.KakaoPlaceDto;
+import com.activityforecastbackend.dto.activity.KakaoSearchResponse;
+import com.activityforecastbackend.exception.BadRequestException;
+import com.activityforecastbackend.repository.GeocodeCacheRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 지오코딩 결과 없음은 카카오가 정상 응답으로 0건을 확정한 경우에만 부정 캐시되는지 검증
+ * (본문/documents가 없는 응답, 키워드 검색 오류는 캐시하지 않고 다음 요청에서 재조회)
+ * 지하철역 병렬 검색이 시간 초과/오류로 끝나지 못하면 부정 캐시하지 않고 남은 요청을 인터럽트로 중단하는지,
+ * 및 역지오코딩이 같은 격자 셀의 근접 좌표에 대해 캐시로 응답하는지 검증
+ */
+class KakaoLocationServiceGeocodeTest {
+
+    private static final String ADDRESS = "없는 주소 999";
+    private static final String STATION = "없는역";
+    private static final String SEARCH_THREAD_PREFIX = "kakao-search-";
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private final GeocodeCacheService geocodeCacheService = mock(GeocodeCacheService.class);
+    private final GazetteerService gazetteerService = mock(GazetteerService.class);
+    private final ThreadPoolTaskExecutor searchExecutor = new ThreadPoolTaskExecutor();
+    private KakaoLocationService kakaoLocationService;
+
+    @BeforeEach
+    void setUp() {
+        searchExecutor.setCorePoolSize(5);
+        searchExecutor.setMaxPoolSize(5);
+        searchExecutor.setThreadNamePrefix(SEARCH_THREAD_PREFIX);
+        searchExecutor.initialize();
+        when(gazetteerService.lookup(anyString())).thenReturn(Optional.empty());
+        kakaoLocationService = kakaoLocationService(geocodeCacheService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        searchExecutor.shutdown();
+    }
+
+    @Test
+    void definitiveZeroResultIsNegativelyCached() {
+        respond(uri -> documents(List.of()));
+
+        assertThatThrownBy(() -> kakaoLocationService.geocodeAddress(ADDRESS))
+                .isInstanceOf(BadRequestException.class);
+        verify(geocodeCacheService).putNegative(ADDRESS);
+    }
+
+    @Test
+    void responseWithoutDocumentsIsNotNegativelyCached() {
+        respond(uri -> uri.getPath().endsWith("/search/address.json")
+                ? new KakaoSearchResponse()
+                : documents(List.of()));
+
+        assertThatThrownBy(() -> kakaoLocationService.geocodeAddress(ADDRESS))
+                .isInstanceOf(BadRequestException.class);
+        verify(geocodeCacheService, never()).putNegative(anyString());
+    }
+
+    @Test
+    void keywordSearchFailureIsNotNegativelyCached() {
+        respond(uri -> {
+            if (uri.getPath().endsWith("/search/keyword.json")) {
+                throw new ResourceAccessException("Read timed out");
+            }
+            return documents(List.of());
+        });
+
+        assertThatThrownBy(() -> kakaoLocationService.geocodeAddress(ADDRESS))
+                .isInstanceOf(BadRequestException.class);
+        verify(geocodeCacheService, never()).putNegative(anyString());
+    }
+
+    @Test
+    void keywordResponseWithoutDocumentsIsNotNegativelyCached() {
+        respond(uri -> uri.getPath().endsWith("/search/keyword.json")
+                ? new KakaoSearchResponse()
+                : documents(List.of()));
+
+        assertThatThrownBy(() -> kakaoLocationService.geocodeAddress(ADDRESS))
+                .isInstanceOf(BadRequestException.class);
+        verify(geocodeCacheService, never()).putNegative(anyString());
+    }
+
+    @Test
+    void foundAddressIsPositivelyCached() {
+        respond(uri -> documents(List.of(KakaoPlaceDto.builder()
+                .addressName("서울 중구 태평로1가 31")
+                .y("37.56667")
+                .x("126.97806")
+                .build())));
+
+        CoordinateDto coordinate = kakaoLocationService.geocodeAddress(ADDRESS);
+
+        assertThat(coordinate.getAddress()).isEqualTo("서울 중구 태평로1가 31");
+        verify(geocodeCacheService).putPositive(ADDRESS, coordinate);
+        verify(geocodeCacheService, never()).putNegative(anyString());
+    }
+
+    @Test
+    void stationSearchWithoutMatchIsNegativelyCached() {
+        respond(uri -> documents(List.of()));
+
+        assertThatThrownBy(() -> kakaoLocationService.geocodeAddress(STATION))
+                .isInstanceOf(BadRequestException.class);
+        verify(geocodeCacheService).putNegative(STATION);
+    }
+
+    @Test
+    void stationSearchTimeoutIsNotNegativelyCachedAndCancelsRunningRequests() throws InterruptedException {
+        AtomicInteger interrupted = new AtomicInteger();
+        // 병렬 검색 스레드의 요청만 응답하지 않음 (호출 스레드의 주소/키워드 검색은 0건 응답)
+        respond(uri -> {
+            if (Thread.currentThread().getName().startsWith(SEARCH_THREAD_PREFIX)) {
+                try {
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+                } catch (InterruptedException e) {
+                    interrupted.incrementAndGet();
+                    throw new ResourceAccessException("Request was interrupted");
+                }
+            }
+            return documents(List.of());
+        });
+
+        assertThatThrownBy(() -> kakaoLocationService.geocodeAddress(STATION))
+                .isInstanceOf(BadRequestException.class);
+        verify(geocodeCacheService, never()).putNegative(anyString());
+        // 시간 초과 후 취소된 검색어 요청 5개가 모두 중단되어 스레드를 돌려줌
+        waitUntil(() -> interrupted.get() == 5);
+        waitUntil(() -> searchExecutor.getActiveCount() == 0);
+    }
+
+    @Test
+    void stationSearchFailureIsNotNegativelyCached() {
+        respond(uri -> {
+            if (Thread.currentThread().getName().startsWith(SEARCH_THREAD_PREFIX)) {
+                throw new ResourceAccessException("Connection reset");
+            }
+            return documents(List.of());
+        });
+
+        assertThatThrownBy(() -> kakaoLocationService.geocodeAddress(STATION))
+                .isInstanceOf(BadRequestException.class);
+        verify(geocodeCacheService, never()).putNegative(anyString());
+    }
+
+    @Test
+    void nearbyReverseGeocodeIsServedFromQuantizedCache() {
+        GeocodeCacheService reverseCache = new GeocodeCacheService(
+                mock(GeocodeCacheRepository.class), 100, 720, 60, 100, 720, 50);
+        KakaoLocationService service = kakaoLocationService(reverseCache);
+        when(restTemplate.exchange(any(URI.class), eq(HttpMethod.GET), any(HttpEntity.class), eq(KakaoAddressResponse.class)))
+                .thenReturn(ResponseEntity.ok(KakaoAddressResponse.builder()
+                        .documents(List.of(KakaoAddressResponse.Document.builder()
+                                .address(KakaoAddressResponse.AddressName.builder().addressName("서울 중구 태평로1가 31").build())
+                                .build()))
+                        .build()));
+        // 50m 격자 셀 중심과 같은 셀 안의 약 10m 떨어진 좌표
+        double latStep = 50 / 111_320.0;
+        double latCenter = Math.round(37.56667 / latStep) * latStep;
+        double lonStep = 50 / (111_320.0 * Math.cos(Math.toRadians(latCenter)));
+        double lonCenter = Math.round(126.97806 / lonStep) * lonStep;
+        BigDecimal nearbyLat = BigDecimal.valueOf(latCenter + 0.2 * latStep);
+
+        service.reverseGeocode(BigDecimal.valueOf(latCenter), BigDecimal.valueOf(lonCenter));
+        CoordinateDto cached = service.reverseGeocode(nearbyLat, BigDecimal.valueOf(lonCenter));
+
+        assertThat(cached.getAddress()).isEqualTo("서울 중구 태평로1가 31");
+        assertThat(cached.getLatitude()).isEqualTo(nearbyLat);
+        verify(restTemplate, times(1))
+                .exchange(any(URI.class), eq(HttpMethod.GET), any(HttpEntity.class), eq(KakaoAddressResponse.class));
+
+        // 이웃 셀의 좌표는 다시 카카오를 조회
+        service.reverseGeocode(BigDecimal.valueOf(latCenter + 0.6 * latStep), BigDecimal.valueOf(lonCenter));
+        verify(restTemplate, times(2))
+                .exchange(any(URI.class), eq(HttpMethod.GET), any(HttpEntity.class), eq(KakaoAddressResponse.class));
+    }
+
+    private KakaoLocationService kakaoLocationService(GeocodeCacheService cacheService) {
+        KakaoLocationService service = new KakaoLocationService(
+                restTemplate, cacheService, gazetteerService, mock(PlaceSearchCacheService.class));
+        ReflectionTestUtils.setField(service, "environment",
+                new MockEnvironment().withProperty("kakao.api.key", "test-key"));
+        ReflectionTestUtils.setField(service, "kakaoSearchExecutor", searchExecutor);
+        ReflectionTestUtils.setField(service, "subwaySearchTimeoutMs", 200L);
+        service.initializeKakaoApiSettings();
+        return service;
+    }
+
+    private void respond(Function<URI, KakaoSearchResponse> responses) {
+        when(restTemplate.exchange(any(URI.class), eq(HttpMethod.GET), any(HttpEntity.class), eq(KakaoSearchResponse.class)))
+                .thenAnswer(invocation -> ResponseEntity.ok(responses.apply(invocation.getArgument(0))));
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static KakaoSearchResponse documents(List<KakaoPlaceDto> documents) {
+        return KakaoSearchResponse.builder().documents(documents).build();
+    }
+}
@@ -0,0 +1,173 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.admin.NotificationDispatchStatsResponse;
+import com.activityforecastbackend.dto.notification.NotificationMessage;
+import com.activityforecastbackend.entity.Notification;
+import com.activityforecastbackend.entity.User;
+import com.activityforecastbackend.event.NotificationRequestedEvent;
+import com.activityforecastbackend.repository.NotificationRepository;
+import com.activityforecastbackend.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 알림 발송 파이프라인이 INSERT ... SELECT로 수신자별 알림을 저장하고, 저장 실패를 재시도하며,
+ * 대기열 포화 시 요청 스레드에서 처리하며, 저장한 배치의 행만 다시 조회하는지 검증
+ * 알림 저장은 REQUIRES_NEW 트랜잭션이라 수신자가 커밋되어 있어야 하므로 테스트 트랜잭션을 사용하지 않습니다.
+ */
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+@Import(NotificationService.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NotificationDispatcherTest {
+
+    private static final long CREW_ID = 77L;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final NotificationService flakyNotificationService = mock(NotificationService.class);
+    private final ThreadPoolTaskExecutor executor = mock(ThreadPoolTaskExecutor.class);
+    private final InMemoryNotificationBus notificationBus = new InMemoryNotificationBus();
+    private final List<NotificationMessage> published = new ArrayList<>();
+
+    private final List<Long> recipientIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        notificationBus.subscribe(published::addAll);
+        for (int i = 0; i < 3; i++) {
+            recipientIds.add(userRepository.save(User.createUser("member" + i + "@test.com", null, "멤버" + i)).getUserId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void dispatchPersistsOneRowPerRecipientAfterRetry() {
+        // 첫 시도는 일시 장애로 실패, 두 번째 시도는 실제 저장
+        when(flakyNotificationService.createNotifications(any()))
+                .thenThrow(new TransientDataAccessResourceException("일시 장애"))
+                .thenAnswer(invocation -> notificationService.createNotifications(invocation.getArgument(0)));
+        NotificationDispatcher dispatcher = dispatcher(3);
+
+        // 존재하지 않는 사용자는 INSERT ... SELECT에서 제외됨
+        List<Long> requested = new ArrayList<>(recipientIds);
+        requested.add(Long.MAX_VALUE);
+        dispatcher.dispatch(disbandRequest(requested));
+
+        List<Notification> saved = notificationRepository.findByRelatedEntity(Notification.RelatedType.CREW, CREW_ID);
+        assertThat(saved).hasSize(recipientIds.size());
+        assertThat(saved).extracting(notification -> notification.getUser().getUserId())
+                .containsExactlyInAnyOrderElementsOf(recipientIds);
+        assertThat(saved).allSatisfy(notification -> {
+            assertThat(notification.getNotificationType()).isEqualTo(Notification.NotificationType.CREW_DISBANDED);
+            assertThat(notification.getIsRead()).isFalse();
+        });
+
+        assertThat(published).extracting(NotificationMessage::userId).containsExactlyInAnyOrderElementsOf(recipientIds);
+        assertThat(published).extracting(NotificationMessage::notificationId)
+                .containsExactlyInAnyOrderElementsOf(saved.stream().map(Notification::getNotificationId).toList());
+
+        NotificationDispatchStatsResponse stats = dispatcher.getStats();
+        assertThat(stats.getRetryCount()).isEqualTo(1);
+        assertThat(stats.getFailedCount()).isZero();
+        assertThat(stats.getCompletedCount()).isEqualTo(1);
+        assertThat(stats.getNotificationCount()).isEqualTo(recipientIds.size());
+    }
+
+    @Test
+    void dispatchGivesUpAfterMaxAttempts() {
+        when(flakyNotificationService.createNotifications(any()))
+                .thenThrow(new TransientDataAccessResourceException("장애 지속"));
+        NotificationDispatcher dispatcher = dispatcher(3);
+
+        dispatcher.dispatch(disbandRequest(recipientIds));
+
+        verify(flakyNotificationService, times(3)).createNotifications(any());
+        assertThat(published).isEmpty();
+        NotificationDispatchStatsResponse stats = dispatcher.getStats();
+        assertThat(stats.getRetryCount()).isEqualTo(2);
+        assertThat(stats.getFailedCount()).isEqualTo(1);
+        assertThat(stats.getCompletedCount()).isZero();
+    }
+
+    @Test
+    void saturatedQueueDispatchesOnCallerThread() {
+        when(flakyNotificationService.createNotifications(any()))
+                .thenAnswer(invocation -> notificationService.createNotifications(invocation.getArgument(0)));
+        doThrow(new TaskRejectedException("대기열 포화")).when(executor).execute(any(Runnable.class));
+        NotificationDispatcher dispatcher = dispatcher(3);
+
+        dispatcher.onNotificationRequested(disbandRequest(recipientIds));
+
+        assertThat(notificationRepository.findByRelatedEntity(Notification.RelatedType.CREW, CREW_ID))
+                .hasSize(recipientIds.size());
+        NotificationDispatchStatsResponse stats = dispatcher.getStats();
+        assertThat(stats.getCallerRunsCount()).isEqualTo(1);
+        assertThat(stats.getCompletedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void identicalBatchesReadBackOnlyTheirOwnRows() {
+        // 같은 유형/관련 ID/수신자의 알림을 연달아 만들어도 각 배치는 자기가 저장한 행만 돌려받음
+        List<Notification> first = notificationService.createNotifications(disbandRequest(recipientIds));
+        List<Notification> second = notificationService.createNotifications(disbandRequest(recipientIds));
+
+        assertThat(first).hasSize(recipientIds.size());
+        assertThat(second).hasSize(recipientIds.size());
+        assertThat(first).extracting(Notification::getBatchId).containsOnly(first.get(0).getBatchId());
+        assertThat(second).extracting(Notification::getBatchId).doesNotContain(first.get(0).getBatchId());
+        assertThat(first).extracting(Notification::getNotificationId)
+                .doesNotContainAnyElementsOf(second.stream().map(Notification::getNotificationId).toList());
+        assertThat(notificationRepository.findByRelatedEntity(Notification.RelatedType.CREW, CREW_ID))
+                .hasSize(2 * recipientIds.size());
+    }
+
+    private NotificationDispatcher dispatcher(int maxAttempts) {
+        return new NotificationDispatcher(flakyNotificationService, notificationBus, objectMapper, executor, maxAttempts, 1);
+    }
+
+    private static NotificationRequestedEvent disbandRequest(List<Long> recipientUserIds) {
+        return NotificationRequestedEvent.of(
+                Notification.createCrewDisbandedNotification(null, "해체된 크루", CREW_ID), recipientUserIds);
+    }
+}
@@ -0,0 +1,121 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.activity.ActivityLocationDto;
+import com.activityforecastbackend.dto.activity.KakaoPlaceDto;
+import com.activityforecastbackend.entity.ExternalPlace;
+import com.activityforecastbackend.repository.ExternalPlaceRepository;
+import com.activityforecastbackend.util.GeoHash;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 마지막 페이지까지 수집한 타일만 수집 범위로 기록되고, 로컬 응답이 카카오가 돌려준 장소 목록과 같으며,
+ * 장소 ID와 근접도 기준 중복 제거가 일괄 반영에서도 유지되는지 검증
+ * (수집은 별도 트랜잭션에서 커밋되므로 테스트마다 다른 장소 ID와 타일을 사용)
+ */
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+@Import(PlaceHarvestService.class)
+class PlaceHarvestServiceTest {
+
+    private static final String KEYWORD_KEY = PlaceSearchCacheService.keywordKey("풋살");
+
+    @Autowired
+    private PlaceHarvestService placeHarvestService;
+
+    @Autowired
+    private ExternalPlaceRepository externalPlaceRepository;
+
+    @Test
+    void truncatedHarvestStoresPlacesWithoutCoverage() {
+        BigDecimal latitude = new BigDecimal("37.5000");
+        BigDecimal longitude = new BigDecimal("127.0000");
+        String tile = GeoHash.encode(latitude.doubleValue(), longitude.doubleValue(), 6);
+
+        placeHarvestService.harvest(KEYWORD_KEY, tile, 1000, List.of(
+                place("t1", "풋살파크", "37.5001", "127.0001"),
+                place("t2", "하늘풋살장", "37.5003", "127.0002")), false);
+
+        assertThat(externalPlaceRepository.findByKakaoPlaceIdIn(List.of("t1", "t2"))).hasSize(2);
+        assertThat(placeHarvestService.findLocal(KEYWORD_KEY, latitude, longitude, 1000, 15)).isNull();
+    }
+
+    @Test
+    void completeHarvestAnswersWithKakaoResultSetInDistanceOrder() {
+        BigDecimal latitude = new BigDecimal("37.5500");
+        BigDecimal longitude = new BigDecimal("127.0500");
+        String tile = GeoHash.encode(latitude.doubleValue(), longitude.doubleValue(), 6);
+
+        // 다른 검색 조건으로 수집된, 이름에 키워드가 들어 있는 장소 (카카오는 "풋살" 검색에서 돌려주지 않음)
+        placeHarvestService.harvest(PlaceSearchCacheService.categoryKey("SW8"), tile, 1000, List.of(
+                place("c1", "풋살 교실 안내소", "37.5501", "127.0500")), true);
+        // 이름에 키워드가 없어도 카카오가 돌려준 장소(카테고리/주소 일치)는 그대로 응답
+        placeHarvestService.harvest(KEYWORD_KEY, tile, 1000, List.of(
+                place("c2", "한강 스포츠센터", "37.5502", "127.0500"),
+                place("c3", "풋살파크", "37.5510", "127.0500"),
+                place("c4", "먼 풋살장", "37.5700", "127.0500")), true);
+
+        List<ActivityLocationDto> results = placeHarvestService.findLocal(KEYWORD_KEY, latitude, longitude, 1000, 15);
+
+        assertThat(results).extracting(ActivityLocationDto::getLocationName)
+                .containsExactly("한강 스포츠센터", "풋살파크");
+    }
+
+    @Test
+    void emptyCompleteHarvestIsRecordedAsEmptyCoverage() {
+        BigDecimal latitude = new BigDecimal("37.6000");
+        BigDecimal longitude = new BigDecimal("127.1000");
+        String tile = GeoHash.encode(latitude.doubleValue(), longitude.doubleValue(), 6);
+
+        placeHarvestService.harvest(PlaceSearchCacheService.categoryKey("CT1"), tile, 2000, List.of(), true);
+
+        assertThat(placeHarvestService.findLocal(PlaceSearchCacheService.categoryKey("CT1"), latitude, longitude, 1500, 15))
+                .isEmpty();
+    }
+
+    @Test
+    void reharvestUpdatesByKakaoIdAndMergesSameNamePlacesNearby() {
+        BigDecimal latitude = new BigDecimal("37.6500");
+        BigDecimal longitude = new BigDecimal("127.1500");
+        String tile = GeoHash.encode(latitude.doubleValue(), longitude.doubleValue(), 6);
+
+        placeHarvestService.harvest(null, tile, 1000, List.of(place("m1", "풋살 파크", "37.6500", "127.1500")), false);
+        // ID가 달라도 공백/대소문자를 무시한 이름이 같고 30m 이내면 기존 장소로 합치고, 같은 배치 안의 중복도 합침
+        placeHarvestService.harvest(KEYWORD_KEY, tile, 1000, List.of(
+                place("m2", "풋살파크", "37.6501", "127.1500"),
+                place("m3", "Sky 풋살장", "37.6520", "127.1500"),
+                place("m4", "sky풋살장", "37.6521", "127.1500"),
+                place("m5", "풋살파크", "37.6540", "127.1500")), true);
+        // 같은 ID의 재수집은 기존 행 갱신
+        KakaoPlaceDto updated = place("m5", "풋살파크", "37.6540", "127.1500");
+        updated.setPhone("02-123-4567");
+        placeHarvestService.harvest(null, tile, 1000, List.of(updated), false);
+
+        List<ExternalPlace> stored = externalPlaceRepository.findByKakaoPlaceIdIn(List.of("m1", "m2", "m3", "m4", "m5"));
+        assertThat(stored).extracting(ExternalPlace::getKakaoPlaceId).containsExactlyInAnyOrder("m1", "m3", "m5");
+        assertThat(stored).filteredOn(place -> place.getKakaoPlaceId().equals("m5"))
+                .singleElement().extracting(ExternalPlace::getPhone).isEqualTo("02-123-4567");
+        // 수집 범위는 합쳐진 장소를 한 번씩만 가리킴
+        assertThat(placeHarvestService.findLocal(KEYWORD_KEY, latitude, longitude, 1000, 15))
+                .extracting(ActivityLocationDto::getLocationName)
+                .containsExactly("풋살파크", "sky풋살장", "풋살파크");
+    }
+
+    private static KakaoPlaceDto place(String id, String name, String latitude, String longitude) {
+        return KakaoPlaceDto.builder()
+                .id(id)
+                .placeName(name)
+                .categoryGroupCode("CT1")
+                .y(latitude)
+                .x(longitude)
+                .build();
+    }
+}
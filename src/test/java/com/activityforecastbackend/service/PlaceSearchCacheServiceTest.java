@@ -0,0 +1,224 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.activity.KakaoPlaceDto;
+import com.activityforecastbackend.util.DistanceCalculator;
+import com.activityforecastbackend.util.GeoHash;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 타일 캐시가 타일 중심이 아닌 호출자(타일 가장자리, 작은 반경)에게도 직접 검색한 것과 같은 결과를 주고,
+ * 호출자가 요청한 결과 수를 채우는 데 필요한 페이지만 조회하는지 검증
+ */
+class PlaceSearchCacheServiceTest {
+
+    private static final int PAGE_SIZE = 15;
+    private static final String QUERY_KEY = PlaceSearchCacheService.categoryKey("CT1");
+    private static final String TILE = GeoHash.encode(37.5, 127.0, 6);
+    private static final double[] TILE_CENTER = GeoHash.decodeCenter(TILE);
+    // 위도 1도당 거리 (m)
+    private static final double METERS_PER_DEGREE = 6371000 * Math.PI / 180;
+
+    private final PlaceHarvestService placeHarvestService = mock(PlaceHarvestService.class);
+    private final PlaceSearchCacheService cacheService = new PlaceSearchCacheService(placeHarvestService, 100, 60, 6);
+
+    @Test
+    void callerNearTileEdgeGetsAllPlacesWithinItsRadius() {
+        double[] bounds = GeoHash.decodeBounds(TILE);
+        // 타일 북동쪽 모서리 안쪽의 호출자 - 타일 중심에서 가장 먼 위치
+        double callerLat = bounds[1] - 0.0002;
+        double callerLon = bounds[3] - 0.0002;
+        // 타일 중심 주변에 장소를 많이 두어, 중심 기준 첫 페이지만 캐시하면 가장자리 근처 장소가 빠지도록 구성
+        List<KakaoPlaceDto> world = new ArrayList<>(grid(TILE_CENTER[0], TILE_CENTER[1], 8, 0.0003));
+        world.addAll(grid(callerLat, callerLon, 3, 0.001));
+        FakeKakao kakao = new FakeKakao(world);
+
+        // 타일 중심의 사용자가 먼저 캐시를 채움 (73건 = 5페이지에서 마지막 페이지 도달)
+        cacheService.search(QUERY_KEY, BigDecimal.valueOf(TILE_CENTER[0]), BigDecimal.valueOf(TILE_CENTER[1]), 500, 100, kakao);
+        List<KakaoPlaceDto> results = cacheService.search(QUERY_KEY, BigDecimal.valueOf(callerLat),
+                BigDecimal.valueOf(callerLon), 300, 100, kakao);
+
+        assertThat(ids(results)).isNotEmpty()
+                .containsExactlyInAnyOrderElementsOf(ids(kakao.nearest(callerLat, callerLon, 300)));
+        assertThat(results).isSortedAccordingTo(Comparator.comparing(KakaoPlaceDto::getDistanceInMeters));
+        assertThat(kakao.calls.get()).isEqualTo(1);
+        assertThat(kakao.pages.get()).isEqualTo(5);
+        // 마지막 페이지까지 조회한 타일 결과는 수집 범위로 기록
+        verify(placeHarvestService).harvest(eq(QUERY_KEY), eq(TILE), eq(500), anyList(), eq(true));
+    }
+
+    @Test
+    void missFetchesOnlyThePagesTheCallerNeedsAndExtendsWithoutRefetching() {
+        FakeKakao kakao = new FakeKakao(sunflower(TILE_CENTER[0], TILE_CENTER[1], 600, 20));
+        BigDecimal latitude = BigDecimal.valueOf(TILE_CENTER[0]);
+        BigDecimal longitude = BigDecimal.valueOf(TILE_CENTER[1]);
+
+        // 20건 요청은 2페이지만 조회
+        List<KakaoPlaceDto> first = cacheService.search(QUERY_KEY, latitude, longitude, 500, 20, kakao);
+        assertThat(ids(first)).containsExactlyInAnyOrderElementsOf(ids(kakao.nearest(TILE_CENTER[0], TILE_CENTER[1], 500)).subList(0, 20));
+        assertThat(kakao.ranges).containsExactly(List.of(1, 2));
+
+        // 같은 타일의 20건 요청은 캐시로 응답
+        cacheService.search(QUERY_KEY, latitude, longitude, 500, 20, kakao);
+        assertThat(kakao.calls.get()).isEqualTo(1);
+
+        // 40건 요청은 이미 조회한 페이지에 이어서 3페이지만 추가 조회
+        List<KakaoPlaceDto> second = cacheService.search(QUERY_KEY, latitude, longitude, 500, 40, kakao);
+        assertThat(ids(second)).containsExactlyInAnyOrderElementsOf(ids(kakao.nearest(TILE_CENTER[0], TILE_CENTER[1], 500)).subList(0, 40));
+        assertThat(kakao.ranges).containsExactly(List.of(1, 2), List.of(3, 3));
+
+        // 새로 조회한 페이지만 수집하고, 잘린 결과는 수집 범위로 기록하지 않음
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<KakaoPlaceDto>> harvested = ArgumentCaptor.forClass(List.class);
+        verify(placeHarvestService, times(2)).harvest(eq(QUERY_KEY), eq(TILE), eq(500), harvested.capture(), eq(false));
+        assertThat(harvested.getAllValues()).extracting(List::size).containsExactly(30, 15);
+    }
+
+    @Test
+    void callerNearTileCenterExtendsTileInsteadOfFallingBackToItsCell() {
+        FakeKakao kakao = new FakeKakao(sunflower(TILE_CENTER[0], TILE_CENTER[1], 600, 20));
+        cacheService.search(QUERY_KEY, BigDecimal.valueOf(TILE_CENTER[0]), BigDecimal.valueOf(TILE_CENTER[1]), 500, 15, kakao);
+        assertThat(kakao.ranges).containsExactly(List.of(1, 1));
+
+        // 타일 중심에서 40m 떨어진 호출자 - 첫 페이지 범위로는 부족하지만 몇 페이지만 더 조회하면 됨
+        double callerLat = TILE_CENTER[0] + 40 / METERS_PER_DEGREE;
+        List<KakaoPlaceDto> results = cacheService.search(QUERY_KEY, BigDecimal.valueOf(callerLat),
+                BigDecimal.valueOf(TILE_CENTER[1]), 500, 15, kakao);
+
+        assertThat(ids(results)).containsExactlyInAnyOrderElementsOf(ids(kakao.nearest(callerLat, TILE_CENTER[1], 500)).subList(0, 15));
+        assertThat(results).isSortedAccordingTo(Comparator.comparing(KakaoPlaceDto::getDistanceInMeters));
+        assertThat(kakao.centers).allSatisfy(center -> assertThat(center).containsExactly(TILE_CENTER[0], TILE_CENTER[1]));
+        assertThat(kakao.ranges.get(1).get(0)).isEqualTo(2);
+        assertThat(kakao.pages.get()).isLessThanOrEqualTo(1 + 1 + 2);
+        verify(placeHarvestService, never()).harvest(isNull(), anyString(), anyInt(), anyList(), anyBoolean());
+    }
+
+    @Test
+    void callerFarFromTileCenterFallsBackToItsCellWithoutWideningTile() {
+        FakeKakao kakao = new FakeKakao(sunflower(TILE_CENTER[0], TILE_CENTER[1], 1500, 20));
+        cacheService.search(QUERY_KEY, BigDecimal.valueOf(TILE_CENTER[0]), BigDecimal.valueOf(TILE_CENTER[1]), 500, 15, kakao);
+
+        // 타일 중심에서 200m 떨어진 호출자 - 타일을 넓히려면 십여 페이지가 필요하므로 셀 기준으로 조회
+        String cell = GeoHash.encode(TILE_CENTER[0] + 200 / METERS_PER_DEGREE, TILE_CENTER[1], 8);
+        double[] callerCell = GeoHash.decodeCenter(cell);
+        List<KakaoPlaceDto> results = cacheService.search(QUERY_KEY, BigDecimal.valueOf(callerCell[0]),
+                BigDecimal.valueOf(callerCell[1]), 500, 15, kakao);
+
+        assertThat(ids(results)).containsExactlyInAnyOrderElementsOf(ids(kakao.nearest(callerCell[0], callerCell[1], 500)).subList(0, 15));
+        // 타일은 첫 페이지에서 더 넓히지 않고, 이후 조회는 모두 호출자 셀 중심 기준
+        assertThat(kakao.ranges.get(0)).containsExactly(1, 1);
+        assertThat(kakao.centers.subList(1, kakao.centers.size()))
+                .isNotEmpty()
+                .allSatisfy(center -> assertThat(center).containsExactly(callerCell[0], callerCell[1]));
+        assertThat(kakao.pages.get()).isLessThanOrEqualTo(1 + 3);
+        // 호출자 위치 기준 결과는 수집 범위로 기록하지 않음
+        verify(placeHarvestService).harvest(isNull(), eq(cell), eq(500), anyList(), eq(false));
+
+        // 같은 셀의 다음 요청은 캐시로 응답
+        int calls = kakao.calls.get();
+        cacheService.search(QUERY_KEY, BigDecimal.valueOf(callerCell[0]), BigDecimal.valueOf(callerCell[1]), 500, 15, kakao);
+        assertThat(kakao.calls.get()).isEqualTo(calls);
+    }
+
+    /**
+     * 중심 좌표 기준 (size x size) 격자 장소
+     */
+    private static List<KakaoPlaceDto> grid(double centerLat, double centerLon, int size, double step) {
+        List<KakaoPlaceDto> places = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                places.add(place(centerLat + ":" + centerLon + ":" + i + ":" + j,
+                        centerLat + (i - size / 2.0) * step, centerLon + (j - size / 2.0) * step));
+            }
+        }
+        return places;
+    }
+
+    /**
+     * 중심 좌표 주변에 면적당 밀도가 균일하고 중심으로부터의 거리가 서로 다른 장소 (해바라기 배열, k번째 장소는 spacing * sqrt(k) m)
+     */
+    private static List<KakaoPlaceDto> sunflower(double centerLat, double centerLon, int count, double spacingMeters) {
+        double goldenAngle = Math.PI * (3 - Math.sqrt(5));
+        List<KakaoPlaceDto> places = new ArrayList<>();
+        for (int k = 1; k <= count; k++) {
+            double distance = spacingMeters * Math.sqrt(k);
+            double angle = k * goldenAngle;
+            places.add(place("S" + k,
+                    centerLat + distance * Math.cos(angle) / METERS_PER_DEGREE,
+                    centerLon + distance * Math.sin(angle) / (METERS_PER_DEGREE * Math.cos(Math.toRadians(centerLat)))));
+        }
+        return places;
+    }
+
+    private static KakaoPlaceDto place(String id, double latitude, double longitude) {
+        return KakaoPlaceDto.builder()
+                .id(id)
+                .placeName("장소 " + id)
+                .y(String.valueOf(latitude))
+                .x(String.valueOf(longitude))
+                .build();
+    }
+
+    private static List<String> ids(List<KakaoPlaceDto> places) {
+        return places.stream().map(KakaoPlaceDto::getId).toList();
+    }
+
+    /**
+     * 반경 내 장소를 거리순으로 페이지당 15건씩 돌려주는 카카오 검색 대역 (조회한 중심, 페이지 범위, 페이지 수 기록)
+     */
+    private static final class FakeKakao implements PlaceSearchCacheService.TileFetcher {
+
+        private final List<KakaoPlaceDto> world;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger pages = new AtomicInteger();
+        private final List<List<Integer>> ranges = new ArrayList<>();
+        private final List<double[]> centers = new ArrayList<>();
+
+        private FakeKakao(List<KakaoPlaceDto> world) {
+            this.world = world;
+        }
+
+        @Override
+        public PlaceSearchCacheService.FetchResult fetch(BigDecimal centerLatitude, BigDecimal centerLongitude,
+                                                         int radius, int firstPage, int lastPage) {
+            calls.incrementAndGet();
+            ranges.add(List.of(firstPage, lastPage));
+            centers.add(new double[]{centerLatitude.doubleValue(), centerLongitude.doubleValue()});
+            List<KakaoPlaceDto> all = nearest(centerLatitude.doubleValue(), centerLongitude.doubleValue(), radius);
+            int from = Math.min((firstPage - 1) * PAGE_SIZE, all.size());
+            int to = Math.min(lastPage * PAGE_SIZE, all.size());
+            pages.addAndGet(Math.max(1, (to - from + PAGE_SIZE - 1) / PAGE_SIZE));
+            return new PlaceSearchCacheService.FetchResult(all.subList(from, to), to >= all.size());
+        }
+
+        private List<KakaoPlaceDto> nearest(double latitude, double longitude, int radius) {
+            return world.stream()
+                    .filter(place -> distance(place, latitude, longitude) <= radius)
+                    .sorted(Comparator.comparingDouble(place -> distance(place, latitude, longitude)))
+                    .toList();
+        }
+
+        private static double distance(KakaoPlaceDto place, double latitude, double longitude) {
+            return DistanceCalculator.distanceMeters(latitude, longitude,
+                    place.getLatitude().doubleValue(), place.getLongitude().doubleValue());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.repository.SchedulerLockRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 여러 노드가 같은 예약 작업을 동시에 시작해도 한 노드만 실행하는지 검증 (처음 실행되어 잠금 행이 없는 경우 포함)
+ * 잠금은 각자 커밋되는 트랜잭션으로 획득하므로 테스트 트랜잭션을 사용하지 않습니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.datasource.url=jdbc:h2:mem:scheduler-lock;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=60000",
+        "spring.datasource.hikari.maximum-pool-size=20"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(SchedulerLockService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SchedulerLockServiceTest {
+
+    private static final String LOCK_NAME = "test-job";
+    private static final int NODES = 8;
+
+    @Autowired
+    private SchedulerLockService schedulerLockService;
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @AfterEach
+    void tearDown() {
+        schedulerLockRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void onlyOneNodeRunsConcurrentlyStartedJob() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(NODES);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        for (int i = 0; i < NODES; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    boolean ran = schedulerLockService.runExclusively(LOCK_NAME, Duration.ofMinutes(5), Duration.ofMinutes(1),
+                            runs::incrementAndGet);
+                    if (!ran) {
+                        skipped.incrementAndGet();
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(failures).isEmpty();
+        assertThat(runs.get()).isEqualTo(1);
+        assertThat(skipped.get()).isEqualTo(NODES - 1);
+        assertThat(schedulerLockRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void lockIsHeldAtLeastForMinimumDurationAfterJobEnds() {
+        AtomicInteger runs = new AtomicInteger();
+
+        assertThat(schedulerLockService.runExclusively(LOCK_NAME, Duration.ofMinutes(5), Duration.ofMinutes(1),
+                runs::incrementAndGet)).isTrue();
+        // 시계 오차로 조금 늦게 시작한 다른 노드는 건너뜀
+        assertThat(schedulerLockService.runExclusively(LOCK_NAME, Duration.ofMinutes(5), Duration.ofMinutes(1),
+                runs::incrementAndGet)).isFalse();
+        assertThat(runs.get()).isEqualTo(1);
+
+        // 최소 잠금 시간이 없는 작업은 끝나는 즉시 다시 실행 가능
+        assertThat(schedulerLockService.runExclusively("other-job", Duration.ofMinutes(5), Duration.ZERO,
+                runs::incrementAndGet)).isTrue();
+        assertThat(schedulerLockService.runExclusively("other-job", Duration.ofMinutes(5), Duration.ZERO,
+                runs::incrementAndGet)).isTrue();
+        assertThat(runs.get()).isEqualTo(3);
+    }
+
+    @Test
+    void failedJobReleasesLock() {
+        // 작업 예외는 호출자에게 전달되고 잠금은 해제됨
+        assertThatThrownBy(() -> schedulerLockService.runExclusively(LOCK_NAME, Duration.ofMinutes(5), Duration.ZERO,
+                () -> {
+                    throw new IllegalStateException("작업 실패");
+                })).isInstanceOf(IllegalStateException.class);
+
+        AtomicInteger runs = new AtomicInteger();
+        assertThat(schedulerLockService.runExclusively(LOCK_NAME, Duration.ofMinutes(5), Duration.ZERO,
+                runs::incrementAndGet)).isTrue();
+        assertThat(runs.get()).isEqualTo(1);
+    }
+}
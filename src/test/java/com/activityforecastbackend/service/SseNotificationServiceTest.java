@@ -0,0 +1,263 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.dto.notification.NotificationMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SSE 송신 대기열의 전송 작업 인계(drain/handoff)가 메시지를 빠뜨리거나 동시에 전송하지 않고,
+ * 한 연결이 전송 스레드를 독점하지 않으며(heartbeat 포함), 전송이 지연된 연결은 정리되는지 검증
+ */
+class SseNotificationServiceTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\d+)");
+
+    private final InMemoryNotificationBus notificationBus = new InMemoryNotificationBus();
+    // 모든 연결의 전송 순서 ("userId:notificationId")
+    private final List<String> sendOrder = new CopyOnWriteArrayList<>();
+    // 테스트마다 사용자 1, 2 순서로 연결하므로 생성 순번이 사용자 ID
+    private final AtomicInteger emitterSequence = new AtomicInteger();
+    private ThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void concurrentPublishersNeverStrandOrInterleaveMessages() throws Exception {
+        int publishers = 8;
+        int messagesPerPublisher = 200;
+        SseNotificationService service = service(4, publishers * messagesPerPublisher, 60_000);
+        RecordingEmitter emitter = (RecordingEmitter) service.subscribe(1L);
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < publishers; p++) {
+            int publisher = p;
+            Thread thread = new Thread(() -> {
+                await(start);
+                for (int seq = 1; seq <= messagesPerPublisher; seq++) {
+                    long notificationId = publisher * 1000L + seq;
+                    notificationBus.publish(List.of(new NotificationMessage(1L, notificationId, "{}")));
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // 발행이 끝난 직후 플래그를 내리는 전송 작업과 겹쳐도 모든 메시지가 전송되어야 함
+        waitUntil(() -> emitter.notificationIds.size() == publishers * messagesPerPublisher);
+        assertThat(emitter.maxConcurrentSends.get()).isEqualTo(1);
+
+        // 같은 발행자의 메시지는 발행 순서대로 전송
+        Map<Long, Long> lastSeqByPublisher = new HashMap<>();
+        for (Long notificationId : emitter.notificationIds) {
+            long publisher = notificationId / 1000;
+            long seq = notificationId % 1000;
+            assertThat(seq).isGreaterThan(lastSeqByPublisher.getOrDefault(publisher, 0L));
+            lastSeqByPublisher.put(publisher, seq);
+        }
+        assertThat(service.getStats().getDroppedCount()).isZero();
+        assertThat(service.getStats().getQueuedMessages()).isZero();
+    }
+
+    @Test
+    void busyConnectionYieldsSendThreadToOtherConnections() throws Exception {
+        // 전송 스레드 1개: 대기열이 긴 연결이 스레드를 독점하면 다른 연결은 그 연결이 끝날 때까지 기다림
+        SseNotificationService service = service(1, 64, 60_000);
+        RecordingEmitter busy = (RecordingEmitter) service.subscribe(1L);
+        waitUntil(() -> busy.sends.get() == 1);
+        RecordingEmitter other = (RecordingEmitter) service.subscribe(2L);
+        waitUntil(() -> other.sends.get() == 1);
+
+        // 첫 전송을 붙잡아 둔 채 두 연결의 대기열을 채움
+        CountDownLatch release = busy.blockNextSend();
+        notificationBus.publish(List.of(new NotificationMessage(1L, 1L, "{}")));
+        waitUntil(() -> busy.blocked.getCount() == 0);
+        int busyMessages = 3 * SseNotificationService.MAX_EVENTS_PER_DRAIN;
+        for (long id = 2; id <= busyMessages; id++) {
+            notificationBus.publish(List.of(new NotificationMessage(1L, id, "{}")));
+        }
+        notificationBus.publish(List.of(new NotificationMessage(2L, 1000L, "{}")));
+        release.countDown();
+
+        waitUntil(() -> busy.notificationIds.size() == busyMessages && other.notificationIds.size() == 1);
+        // 다른 연결의 메시지는 첫 연결의 한 차례(MAX_EVENTS_PER_DRAIN건) 직후에 전송
+        assertThat(sendOrder.indexOf("2:1000")).isEqualTo(SseNotificationService.MAX_EVENTS_PER_DRAIN);
+        assertThat(busy.notificationIds).isSortedAccordingTo(Long::compare);
+    }
+
+    @Test
+    void stalledConnectionIsEvictedAndCompletedWhenSendReturns() throws Exception {
+        SseNotificationService service = service(2, 16, 50);
+        RecordingEmitter stalled = (RecordingEmitter) service.subscribe(1L);
+        RecordingEmitter healthy = (RecordingEmitter) service.subscribe(2L);
+        waitUntil(() -> stalled.sends.get() == 1 && healthy.sends.get() == 1);
+
+        CountDownLatch release = stalled.blockNextSend();
+        notificationBus.publish(List.of(new NotificationMessage(1L, 1L, "{}")));
+        waitUntil(() -> stalled.blocked.getCount() == 0);
+        Thread.sleep(100);
+
+        service.evictStalledConnections();
+        assertThat(service.getStats().getStalledCount()).isEqualTo(1);
+        assertThat(service.getStats().getConnections()).isEqualTo(1);
+        // 정리된 연결에는 더 이상 쌓이지 않고, 나머지 연결은 그대로 전송됨
+        notificationBus.publish(List.of(
+                new NotificationMessage(1L, 2L, "{}"),
+                new NotificationMessage(2L, 3L, "{}")));
+        waitUntil(() -> healthy.notificationIds.contains(3L));
+        assertThat(stalled.completed).isFalse();
+
+        // 블로킹된 전송이 풀리면 전송 스레드가 응답을 종료
+        release.countDown();
+        waitUntil(() -> stalled.completed);
+        assertThat(stalled.notificationIds).containsExactly(1L);
+        // 이미 정리된 연결은 다시 세지 않음
+        service.evictStalledConnections();
+        assertThat(service.getStats().getStalledCount()).isEqualTo(1);
+    }
+
+    @Test
+    void heartbeatBlockedOnOneConnectionDoesNotDelayOthers() throws Exception {
+        // heartbeat 주기 0: 유휴 연결이면 매번 heartbeat 대상
+        SseNotificationService service = service(2, 16, 60_000, 0);
+        RecordingEmitter stalled = (RecordingEmitter) service.subscribe(1L);
+        RecordingEmitter healthy = (RecordingEmitter) service.subscribe(2L);
+        waitUntil(() -> stalled.sends.get() == 1 && healthy.sends.get() == 1);
+
+        // 첫 연결의 heartbeat 쓰기가 블로킹되어도 다른 연결의 heartbeat는 자기 전송 작업으로 전송됨
+        CountDownLatch release = stalled.blockNextSend();
+        waitUntil(() -> {
+            service.sendHeartbeats();
+            return stalled.blocked.getCount() == 0;
+        });
+        int healthySends = healthy.sends.get();
+        waitUntil(() -> {
+            service.sendHeartbeats();
+            return healthy.sends.get() > healthySends;
+        });
+        assertThat(stalled.sends.get()).isEqualTo(1);
+
+        release.countDown();
+        waitUntil(() -> stalled.sends.get() == 2);
+        assertThat(stalled.maxConcurrentSends.get()).isEqualTo(1);
+        assertThat(service.getStats().getDroppedCount()).isZero();
+    }
+
+    private SseNotificationService service(int workers, int queueCapacity, long sendTimeoutMs) {
+        return service(workers, queueCapacity, sendTimeoutMs, 15_000);
+    }
+
+    private SseNotificationService service(int workers, int queueCapacity, long sendTimeoutMs, long heartbeatIntervalMs) {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.initialize();
+        return new SseNotificationService(notificationBus, executor, queueCapacity, 5, sendTimeoutMs, heartbeatIntervalMs) {
+            @Override
+            SseEmitter createEmitter() {
+                return new RecordingEmitter(emitterSequence.incrementAndGet());
+            }
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * 전송된 알림 ID를 기록하고, 동시에 진행된 전송 수와 지정한 전송의 블로킹을 흉내내는 emitter
+     */
+    private final class RecordingEmitter extends SseEmitter {
+
+        private final long userId;
+        private final List<Long> notificationIds = new CopyOnWriteArrayList<>();
+        private final AtomicInteger sends = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxConcurrentSends = new AtomicInteger();
+        private volatile CountDownLatch release;
+        private volatile CountDownLatch blocked = new CountDownLatch(0);
+        private volatile boolean completed;
+
+        private RecordingEmitter(long userId) {
+            this.userId = userId;
+        }
+
+        /**
+         * 다음 전송을 반환된 래치가 열릴 때까지 블로킹
+         */
+        CountDownLatch blockNextSend() {
+            blocked = new CountDownLatch(1);
+            release = new CountDownLatch(1);
+            return release;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            maxConcurrentSends.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                CountDownLatch gate = release;
+                if (gate != null) {
+                    release = null;
+                    blocked.countDown();
+                    await(gate);
+                }
+                StringBuilder text = new StringBuilder();
+                for (DataWithMediaType item : items) {
+                    text.append(item.getData());
+                }
+                Matcher matcher = EVENT_ID.matcher(text);
+                // 연결 이벤트(id 0)와 heartbeat는 기록하지 않음
+                if (matcher.find() && !"0".equals(matcher.group(1))) {
+                    long id = Long.parseLong(matcher.group(1));
+                    notificationIds.add(id);
+                    sendOrder.add(userId + ":" + id);
+                }
+                sends.incrementAndGet();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
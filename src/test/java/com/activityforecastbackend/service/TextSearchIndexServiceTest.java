@@ -0,0 +1,117 @@
+package com.activityforecastbackend.service;
+
+import com.activityforecastbackend.event.ActivityLocationChangedEvent;
+import com.activityforecastbackend.event.CrewChangedEvent;
+import com.activityforecastbackend.repository.ActivityLocationRepository;
+import com.activityforecastbackend.repository.CrewRepository;
+import com.activityforecastbackend.util.NgramIndex;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 재적재 조회와 색인 교체 사이에 커밋된 장소/크루 변경이 교체 후에도 남아 있고,
+ * 다른 인스턴스에서 쓴 행이 증분 동기화로 반영되는지 검증
+ */
+class TextSearchIndexServiceTest {
+
+    private final ActivityLocationRepository activityLocationRepository = mock(ActivityLocationRepository.class);
+    private final CrewRepository crewRepository = mock(CrewRepository.class);
+    private final TextSearchIndexService textSearchIndexService =
+            new TextSearchIndexService(activityLocationRepository, crewRepository);
+
+    @Test
+    void changesCommittedDuringRebuildAreReplayedAfterSwap() {
+        when(activityLocationRepository.findActiveTextFields()).thenAnswer(invocation -> {
+            // 스냅샷 조회가 끝난 뒤, 교체 전에 다른 요청이 커밋한 생성/삭제
+            List<Object[]> snapshot = List.of(
+                    new Object[]{1L, "한강 축구장", null},
+                    new Object[]{2L, "잠실 축구장", "서울 송파구"});
+            textSearchIndexService.onLocationChanged(locationChanged(3L, "여의도 축구장", false));
+            textSearchIndexService.onLocationChanged(locationChanged(1L, "한강 축구장", true));
+            return snapshot;
+        });
+        when(crewRepository.findActiveCrewNames()).thenAnswer(invocation -> {
+            List<Object[]> snapshot = List.<Object[]>of(new Object[]{10L, "주말 축구 크루"});
+            textSearchIndexService.onCrewChanged(new CrewChangedEvent(11L, "평일 축구 크루", false));
+            textSearchIndexService.onCrewChanged(new CrewChangedEvent(10L, "주말 축구 크루", true));
+            return snapshot;
+        });
+
+        textSearchIndexService.rebuild();
+
+        assertThat(ids(textSearchIndexService.searchLocations("축구장", 0, 10))).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(ids(textSearchIndexService.searchCrews("축구", 0, 10))).containsExactly(11L);
+    }
+
+    @Test
+    void changesAfterRebuildAreAppliedDirectly() {
+        when(activityLocationRepository.findActiveTextFields())
+                .thenReturn(List.<Object[]>of(new Object[]{1L, "한강 축구장", null}));
+        when(crewRepository.findActiveCrewNames()).thenReturn(List.of());
+        textSearchIndexService.rebuild();
+
+        textSearchIndexService.onLocationChanged(locationChanged(1L, "한강 풋살장", false));
+        textSearchIndexService.onLocationChanged(locationChanged(2L, "잠실 축구장", false));
+
+        assertThat(ids(textSearchIndexService.searchLocations("축구장", 0, 10))).containsExactly(2L);
+        assertThat(ids(textSearchIndexService.searchLocations("풋살", 0, 10))).containsExactly(1L);
+    }
+
+    @Test
+    void syncPicksUpRowsWrittenByOtherInstancesSinceLastRebuild() {
+        when(activityLocationRepository.findActiveTextFields())
+                .thenReturn(List.<Object[]>of(new Object[]{1L, "한강 축구장", null}));
+        when(crewRepository.findActiveCrewNames())
+                .thenReturn(List.<Object[]>of(new Object[]{10L, "주말 축구 크루"}));
+        textSearchIndexService.rebuild();
+
+        // 다른 인스턴스에서 생성된 장소와 생성/삭제된 크루 (이 인스턴스에는 이벤트가 오지 않음)
+        when(activityLocationRepository.findTextFieldsCreatedAfter(any())).thenReturn(List.of(
+                new Object[]{2L, "잠실 축구장", "서울 송파구", false},
+                new Object[]{3L, "여의도 축구장", null, true}));
+        when(crewRepository.findCrewNamesUpdatedAfter(any())).thenReturn(List.of(
+                new Object[]{11L, "평일 축구 크루", false},
+                new Object[]{10L, "주말 축구 크루", true}));
+        textSearchIndexService.syncRecentChanges();
+
+        assertThat(ids(textSearchIndexService.searchLocations("축구장", 0, 10))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ids(textSearchIndexService.searchCrews("축구", 0, 10))).containsExactly(11L);
+
+        // 다음 동기화는 이전 동기화 시작 시각(겹침 구간 포함) 이후만 조회
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        LocalDateTime beforeSecondSync = LocalDateTime.now();
+        textSearchIndexService.syncRecentChanges();
+        verify(activityLocationRepository, times(2)).findTextFieldsCreatedAfter(since.capture());
+        assertThat(since.getAllValues().get(1)).isAfterOrEqualTo(since.getAllValues().get(0))
+                .isBefore(beforeSecondSync);
+    }
+
+    @Test
+    void syncIsSkippedUntilFirstRebuild() {
+        textSearchIndexService.syncRecentChanges();
+
+        verify(activityLocationRepository, never()).findTextFieldsCreatedAfter(any());
+        verify(crewRepository, never()).findCrewNamesUpdatedAfter(any());
+    }
+
+    private static List<Long> ids(NgramIndex.Result result) {
+        return result.hits().stream().map(NgramIndex.Hit::id).toList();
+    }
+
+    private static ActivityLocationChangedEvent locationChanged(long locationId, String name, boolean deleted) {
+        return new ActivityLocationChangedEvent(locationId, 10L, name, null,
+                new BigDecimal("37.50000000"), new BigDecimal("127.00000000"), deleted);
+    }
+}
@@ -0,0 +1,160 @@
+package com.activityforecastbackend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class DistanceCalculatorTest {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_000.0;
+
+    @Test
+    void distanceMetersMatchesReferenceHaversine() {
+        Random random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            double lat1 = random.nextDouble() * 180 - 90;
+            double lon1 = random.nextDouble() * 360 - 180;
+            double lat2 = random.nextDouble() * 180 - 90;
+            double lon2 = random.nextDouble() * 360 - 180;
+
+            double expected = referenceHaversine(lat1, lon1, lat2, lon2);
+            assertThat(DistanceCalculator.distanceMeters(lat1, lon1, lat2, lon2))
+                    .isCloseTo(expected, within(Math.max(1e-6, expected * 1e-12)));
+        }
+    }
+
+    @Test
+    void oneDegreeOfLatitudeMatchesSphereArcLength() {
+        double expected = EARTH_RADIUS_METERS * Math.PI / 180;
+
+        assertThat(DistanceCalculator.distanceMeters(37.0, 127.0, 38.0, 127.0)).isCloseTo(expected, within(1e-6));
+        assertThat(DistanceCalculator.distanceMeters(37.5665, 126.978, 37.5665, 126.978)).isZero();
+    }
+
+    @Test
+    void legacyBigDecimalApiKeepsKilometerScale() {
+        BigDecimal distance = DistanceCalculator.calculateDistance(
+                new BigDecimal("37.5665"), new BigDecimal("126.9780"),
+                new BigDecimal("37.4979"), new BigDecimal("127.0276"));
+
+        double expectedKm = referenceHaversine(37.5665, 126.9780, 37.4979, 127.0276) / 1000;
+        assertThat(distance.scale()).isEqualTo(3);
+        assertThat(distance.doubleValue()).isCloseTo(expectedKm, within(0.0005));
+    }
+
+    @Test
+    void approximateDistanceStaysWithinRelativeErrorBoundForShortDistances() {
+        Random random = new Random(11);
+        double maxRelativeError = 0;
+        for (int i = 0; i < 100_000; i++) {
+            double[] pair = randomPair(random, 70, 50_000);
+            double exact = DistanceCalculator.distanceMeters(pair[0], pair[1], pair[2], pair[3]);
+            double approximate = DistanceCalculator.approximateDistanceMeters(pair[0], pair[1], pair[2], pair[3]);
+            if (exact > 1) {
+                maxRelativeError = Math.max(maxRelativeError, Math.abs(approximate - exact) / exact);
+            }
+        }
+
+        assertThat(maxRelativeError).isLessThan(1e-4);
+    }
+
+    @Test
+    void approximateDistanceHandlesAntimeridian() {
+        double exact = DistanceCalculator.distanceMeters(10.0, 179.999, 10.0, -179.999);
+        double approximate = DistanceCalculator.approximateDistanceMeters(10.0, 179.999, 10.0, -179.999);
+
+        assertThat(approximate).isCloseTo(exact, within(exact * 1e-4));
+    }
+
+    @Test
+    void radiusCheckAgreesWithHaversine() {
+        Random random = new Random(13);
+        double[] radii = {100, 1_000, 5_000, 20_000, 50_000, 200_000};
+        for (int i = 0; i < 200_000; i++) {
+            double radius = radii[i % radii.length];
+            // 경계 근처, 고위도, 장거리 조합을 모두 포함
+            double[] pair = randomPair(random, i % 10 == 0 ? 89 : 70, radius * 2);
+            double distance = DistanceCalculator.distanceMeters(pair[0], pair[1], pair[2], pair[3]);
+            if (Math.abs(distance - radius) < 1e-6) {
+                continue;
+            }
+
+            assertThat(DistanceCalculator.isWithinRadiusMeters(pair[0], pair[1], pair[2], pair[3], radius))
+                    .as("distance=%f radius=%f", distance, radius)
+                    .isEqualTo(distance <= radius);
+        }
+    }
+
+    @Test
+    void batchDistancesMatchScalarApi() {
+        Random random = new Random(17);
+        int count = 1_000;
+        double originLat = 37.5665;
+        double originLon = 126.978;
+        double[] latitudes = new double[count];
+        double[] longitudes = new double[count];
+        for (int i = 0; i < count; i++) {
+            latitudes[i] = originLat + (random.nextDouble() - 0.5) * 0.5;
+            longitudes[i] = originLon + (random.nextDouble() - 0.5) * 0.5;
+        }
+
+        double[] distances = new double[count];
+        DistanceCalculator.distancesMeters(originLat, originLon, latitudes, longitudes, distances);
+        int[] indexes = new int[count];
+        int matched = DistanceCalculator.filterWithinRadius(originLat, originLon, latitudes, longitudes, 10_000, indexes);
+
+        int expectedMatched = 0;
+        for (int i = 0; i < count; i++) {
+            double expected = DistanceCalculator.distanceMeters(originLat, originLon, latitudes[i], longitudes[i]);
+            assertThat(distances[i]).isCloseTo(expected, within(1e-6));
+            if (expected <= 10_000) {
+                assertThat(indexes[expectedMatched++]).isEqualTo(i);
+            }
+        }
+        assertThat(matched).isEqualTo(expectedMatched);
+    }
+
+    @Test
+    void batchRejectsMismatchedArrays() {
+        assertThatThrownBy(() -> DistanceCalculator.distancesMeters(0, 0, new double[2], new double[3], new double[3]))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DistanceCalculator.filterWithinRadius(0, 0, new double[3], new double[3], 1, new int[2]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 기준점 위도 |lat| <= maxLatitude, 거리 maxDistance(m) 이내의 임의 좌표 쌍 {lat1, lon1, lat2, lon2}
+     */
+    private static double[] randomPair(Random random, double maxLatitude, double maxDistance) {
+        double lat1 = (random.nextDouble() * 2 - 1) * maxLatitude;
+        double lon1 = random.nextDouble() * 360 - 180;
+        double distance = random.nextDouble() * maxDistance;
+        double bearing = random.nextDouble() * 2 * Math.PI;
+        double lat2 = Math.max(-90, Math.min(90, lat1 + Math.toDegrees(distance * Math.cos(bearing) / EARTH_RADIUS_METERS)));
+        double lon2 = lon1 + Math.toDegrees(distance * Math.sin(bearing)
+                / (EARTH_RADIUS_METERS * Math.max(Math.cos(Math.toRadians(lat1)), 0.01)));
+        if (lon2 > 180) {
+            lon2 -= 360;
+        } else if (lon2 < -180) {
+            lon2 += 360;
+        }
+        return new double[]{lat1, lon1, lat2, lon2};
+    }
+
+    /**
+     * 기존 구현과 같은 atan2 형태의 하버사인 (m)
+     */
+    private static double referenceHaversine(double lat1, double lon1, double lat2, double lon2) {
+        double deltaLat = Math.toRadians(lat2 - lat1);
+        double deltaLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(deltaLat / 2) * Math.sin(deltaLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(deltaLon / 2) * Math.sin(deltaLon / 2);
+        return EARTH_RADIUS_METERS * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+}
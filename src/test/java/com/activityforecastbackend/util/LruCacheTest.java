@@ -0,0 +1,64 @@
+package com.activityforecastbackend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LruCacheTest {
+
+    @Test
+    void evictsLeastRecentlyUsedEntryWhenFull() {
+        LruCache<String, Integer> cache = new LruCache<>(2, Duration.ofHours(1));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        // 조회한 항목은 가장 최근 항목이 되어 제거 대상에서 밀려남
+        assertThat(cache.get("a")).isEqualTo(1);
+
+        cache.put("c", 3);
+
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isEqualTo(1);
+        assertThat(cache.get("c")).isEqualTo(3);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void expiredEntryIsRemovedAndCountedAsMiss() {
+        LruCache<String, Integer> cache = new LruCache<>(10, Duration.ofHours(1));
+        cache.put("fresh", 1);
+        cache.put("expired", 2, Duration.ZERO);
+
+        assertThat(cache.get("expired")).isNull();
+        assertThat(cache.get("fresh")).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+        assertThat(cache.getHitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    void invalidateIfRemovesMatchingKeysOnly() {
+        LruCache<String, Integer> cache = new LruCache<>(10, Duration.ofHours(1));
+        cache.put("keyword:a", 1);
+        cache.put("keyword:b", 2);
+        cache.put("category:a", 3);
+
+        assertThat(cache.invalidateIf(key -> key.startsWith("keyword:"))).isEqualTo(2);
+        assertThat(cache.get("category:a")).isEqualTo(3);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsNullValueAndNonPositiveSize() {
+        LruCache<String, Integer> cache = new LruCache<>(1, Duration.ofHours(1));
+
+        assertThatThrownBy(() -> cache.put("a", null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LruCache<String, Integer>(0, Duration.ofHours(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
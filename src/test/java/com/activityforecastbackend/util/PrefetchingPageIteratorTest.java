@@ -0,0 +1,117 @@
+package com.activityforecastbackend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PrefetchingPageIteratorTest {
+
+    private static final int PAGE_SIZE = 3;
+
+    @Test
+    void iteratesAllPagesInOrderAndStopsAtLastPage() {
+        List<Integer> requested = new CopyOnWriteArrayList<>();
+        try (PrefetchingPageIterator<Integer> iterator =
+                     new PrefetchingPageIterator<>(pages(10, requested), Runnable::run, 45)) {
+            List<Integer> items = new ArrayList<>();
+            iterator.forEachRemaining(items::add);
+
+            assertThat(items).isEqualTo(IntStream.range(0, 10).boxed().toList());
+            assertThat(requested).containsExactly(1, 2, 3, 4);
+            assertThat(iterator.isLastPageReached()).isTrue();
+        }
+    }
+
+    @Test
+    void prefetchesOnlyOnePageAhead() {
+        List<Integer> requested = new CopyOnWriteArrayList<>();
+        try (PrefetchingPageIterator<Integer> iterator =
+                     new PrefetchingPageIterator<>(pages(30, requested), Runnable::run, 45)) {
+            assertThat(iterator.next()).isZero();
+            assertThat(requested).containsExactly(1, 2);
+
+            // 첫 페이지를 다 읽고 두 번째 페이지로 넘어가면 세 번째 페이지만 추가 요청
+            for (int i = 1; i <= PAGE_SIZE; i++) {
+                iterator.next();
+            }
+            assertThat(requested).containsExactly(1, 2, 3);
+            assertThat(iterator.isLastPageReached()).isFalse();
+        }
+    }
+
+    @Test
+    void stopsAtMaxPagesWithoutReachingLastPage() {
+        List<Integer> requested = new CopyOnWriteArrayList<>();
+        try (PrefetchingPageIterator<Integer> iterator =
+                     new PrefetchingPageIterator<>(pages(30, requested), Runnable::run, 2)) {
+            List<Integer> items = new ArrayList<>();
+            iterator.forEachRemaining(items::add);
+
+            assertThat(items).hasSize(2 * PAGE_SIZE);
+            assertThat(requested).containsExactly(1, 2);
+            assertThat(iterator.isLastPageReached()).isFalse();
+        }
+    }
+
+    @Test
+    void requestsOnlyTheGivenPageRange() {
+        List<Integer> requested = new CopyOnWriteArrayList<>();
+        try (PrefetchingPageIterator<Integer> iterator =
+                     new PrefetchingPageIterator<>(pages(30, requested), Runnable::run, 3, 4)) {
+            List<Integer> items = new ArrayList<>();
+            iterator.forEachRemaining(items::add);
+
+            assertThat(items).isEqualTo(IntStream.range(2 * PAGE_SIZE, 4 * PAGE_SIZE).boxed().toList());
+            assertThat(requested).containsExactly(3, 4);
+            assertThat(iterator.isLastPageReached()).isFalse();
+        }
+    }
+
+    @Test
+    void emptyFirstPageEndsIteration() {
+        try (PrefetchingPageIterator<Integer> iterator =
+                     new PrefetchingPageIterator<>(pages(0, new ArrayList<>()), Runnable::run, 45)) {
+            assertThat(iterator.hasNext()).isFalse();
+            assertThat(iterator.isLastPageReached()).isTrue();
+        }
+    }
+
+    @Test
+    void prefetchFailureIsRethrownWhenPageIsConsumed() {
+        IntFunction<PrefetchingPageIterator.Page<Integer>> failingSecondPage = page -> {
+            if (page == 2) {
+                throw new IllegalStateException("page 2 failed");
+            }
+            return new PrefetchingPageIterator.Page<>(List.of(1, 2, 3), false);
+        };
+        try (PrefetchingPageIterator<Integer> iterator =
+                     new PrefetchingPageIterator<>(failingSecondPage, Runnable::run, 45)) {
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                iterator.next();
+            }
+            assertThatThrownBy(iterator::hasNext)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("page 2 failed");
+        }
+    }
+
+    /**
+     * 0부터 total-1까지를 페이지당 3개씩 돌려주는 페이지 함수 (요청한 페이지 번호 기록)
+     */
+    private static IntFunction<PrefetchingPageIterator.Page<Integer>> pages(int total, List<Integer> requested) {
+        return page -> {
+            requested.add(page);
+            int from = (page - 1) * PAGE_SIZE;
+            int to = Math.min(from + PAGE_SIZE, total);
+            List<Integer> items = from < to ? IntStream.range(from, to).boxed().toList() : List.of();
+            return new PrefetchingPageIterator.Page<>(items, to >= total);
+        };
+    }
+}
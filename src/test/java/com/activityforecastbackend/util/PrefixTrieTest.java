@@ -0,0 +1,37 @@
+package com.activityforecastbackend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixTrieTest {
+
+    @Test
+    void findsValuesByPrefixShortestKeyFirst() {
+        PrefixTrie<String> trie = new PrefixTrie<>();
+        trie.put("강남구청", "강남구청역");
+        trie.put("강남", "강남역");
+        trie.put("강동", "강동역");
+        trie.put("역삼", "역삼역");
+
+        assertThat(trie.findByPrefix("강남", 10)).containsExactly("강남역", "강남구청역");
+        assertThat(trie.findByPrefix("강", 10)).hasSize(3).startsWith("강남역");
+        assertThat(trie.findByPrefix("강", 1)).hasSize(1);
+        assertThat(trie.findByPrefix("잠실", 10)).isEmpty();
+        assertThat(trie.findByPrefix("강", 0)).isEmpty();
+    }
+
+    @Test
+    void getMatchesWholeKeyOnlyAndPutReplacesValue() {
+        PrefixTrie<String> trie = new PrefixTrie<>();
+        trie.put("강남", "강남역");
+
+        assertThat(trie.get("강남")).isEqualTo("강남역");
+        assertThat(trie.get("강")).isNull();
+        assertThat(trie.get("강남구")).isNull();
+
+        trie.put("강남", "강남역 (2호선)");
+        assertThat(trie.get("강남")).isEqualTo("강남역 (2호선)");
+        assertThat(trie.size()).isEqualTo(1);
+    }
+}